@@ -0,0 +1,369 @@
+package com.mvohm.quadruple;
+
+import static com.mvohm.quadruple.MantissaArithmetic.*;
+
+/**
+ * Package-private kernels of the arithmetic operations on {@code ImmutableQuadruple} values,
+ * that round the results toward positive or negative infinity, for {@link QuadrupleInterval}.<br>
+ * {@link #add(ImmutableQuadruple, ImmutableQuadruple, boolean, boolean)} and {@link #multiply(ImmutableQuadruple, ImmutableQuadruple, boolean)}
+ * compute the result as a 192-bit mantissa with a sticky bit, that indicates whether there are non-zero bits beyond it,
+ * and round it in the given direction.
+ * {@link #divide(ImmutableQuadruple, ImmutableQuadruple, boolean)} and {@link #sqrt(ImmutableQuadruple, boolean)}
+ * find the sign of the error of the result rounded to the nearest by comparing the exact product of it and the divisor
+ * (or its square) with the dividend (or the argument), and replace it with the adjacent value
+ * only if it is on the wrong side of the exact result.<br>
+ * Finite results beyond the range of {@code ImmutableQuadruple} become infinities when rounded away from zero,
+ * and {@code MAX_VALUE} with the respective sign otherwise. NaN and infinite operands give the same results
+ * as with the rounding to the nearest.
+ */
+final class DirectedRounding {
+
+  private DirectedRounding() {}
+
+  private static final int EXPONENT_OF_INFINITY = 0xFFFF_FFFF;
+  private static final long MAX_NORMAL_BIASED_EXPONENT = 0xFFFF_FFFEL;
+  private static final long EXPONENT_BIAS = Quadruple.EXPONENT_BIAS;
+  private static final ImmutableQuadruple NEGATIVE_ZERO = ImmutableQuadruple.ZERO.negate();
+  private static final ImmutableQuadruple NEGATIVE_MAX_VALUE = ImmutableQuadruple.MAX_VALUE.negate();
+
+  /**
+   * Computes {@code a + b}, or {@code a - b} if {@code negateB} is {@code true},
+   * rounded toward positive infinity if {@code upward} is {@code true}, or toward negative infinity otherwise
+   */
+  static ImmutableQuadruple add(ImmutableQuadruple a, ImmutableQuadruple b, boolean negateB, boolean upward) {
+    if (a.exponent() == EXPONENT_OF_INFINITY || b.exponent() == EXPONENT_OF_INFINITY) {
+      return negateB? a.subtract(b) : a.add(b);
+    }
+    boolean negativeA = a.isNegative(), negativeB = b.isNegative() ^ negateB;
+    if (b.isZero()) {
+      if (a.isZero()) { // Like in IEEE 754, the sum of zeros of different signs is -0 when rounded downward
+        return (negativeA && negativeB || !upward && (negativeA || negativeB))? NEGATIVE_ZERO : ImmutableQuadruple.ZERO;
+      }
+      return a;
+    }
+    if (a.isZero()) {
+      return negateB? b.negate() : b;
+    }
+
+    long exponentA = normalizedExponent(a), exponentB = normalizedExponent(b);
+    long ah = fractionHi(a), al = fractionLo(a), bh = fractionHi(b), bl = fractionLo(b);
+    if (exponentB > exponentA || exponentB == exponentA && (Long.compareUnsigned(bh, ah) > 0
+                                                            || bh == ah && Long.compareUnsigned(bl, al) > 0)) {
+      long t = exponentA; exponentA = exponentB; exponentB = t;
+      t = ah; ah = bh; bh = t;
+      t = al; al = bl; bl = t;
+      final boolean n = negativeA; negativeA = negativeB; negativeB = n;
+    }
+
+    // The mantissas as 192-bit numbers with the unity in the most significant bit, the smaller one shifted right
+    final long a2 = HIGH_BIT | (ah >>> 1), a1 = (ah << 63) | (al >>> 1), a0 = al << 63;
+    long b2 = HIGH_BIT | (bh >>> 1), b1 = (bh << 63) | (bl >>> 1), b0 = bl << 63;
+    final long shift = exponentA - exponentB;
+    boolean sticky = false;
+    if (shift >= 192) {
+      sticky = true;
+      b2 = b1 = b0 = 0;
+    } else if (shift >= 128) {
+      final int s = (int)shift - 128;
+      sticky = (b1 | b0) != 0 || s > 0 && (b2 << (64 - s)) != 0;
+      b0 = b2 >>> s;
+      b2 = b1 = 0;
+    } else if (shift >= 64) {
+      final int s = (int)shift - 64;
+      sticky = b0 != 0 || s > 0 && (b1 << (64 - s)) != 0;
+      b0 = (s == 0)? b1 : (b1 >>> s) | (b2 << (64 - s));
+      b1 = b2 >>> s;
+      b2 = 0;
+    } else if (shift > 0) {
+      final int s = (int)shift;
+      sticky = (b0 << (64 - s)) != 0;
+      b0 = (b0 >>> s) | (b1 << (64 - s));
+      b1 = (b1 >>> s) | (b2 << (64 - s));
+      b2 >>>= s;
+    }
+
+    long s2, s1, s0;
+    if (negativeA == negativeB) {
+      s0 = a0 + b0;
+      long carry = carryOf(s0, a0);
+      s1 = a1 + b1;
+      long nextCarry = carryOf(s1, a1);
+      s1 += carry;
+      nextCarry += carryOf(s1, carry);
+      s2 = a2 + b2;
+      carry = carryOf(s2, a2);
+      s2 += nextCarry;
+      carry += carryOf(s2, nextCarry);
+      if (carry != 0) {
+        sticky |= (s0 & 1) != 0;
+        s0 = (s0 >>> 1) | (s1 << 63);
+        s1 = (s1 >>> 1) | (s2 << 63);
+        s2 = (s2 >>> 1) | HIGH_BIT;
+        exponentA++;
+      }
+      return round(negativeA, exponentA, s2, s1, s0, sticky, upward);
+    }
+
+    // The exact difference is A - B - f, where 0 < f < 1 if the sticky bit is set, so that A - B - 1 is its floor.
+    // The sticky bit can be set only if the shift exceeds 63, and then the difference needs at most a 1-bit normalization,
+    // so that the unknown lowest bit remains below the rounding position
+    long borrow = sticky? 1 : 0;
+    s0 = a0 - b0 - borrow;
+    borrow = (Long.compareUnsigned(a0, b0) < 0 || a0 == b0 && borrow != 0)? 1 : 0;
+    s1 = a1 - b1 - borrow;
+    borrow = (Long.compareUnsigned(a1, b1) < 0 || a1 == b1 && borrow != 0)? 1 : 0;
+    s2 = a2 - b2 - borrow;
+    if ((s2 | s1 | s0) == 0) {
+      return upward? ImmutableQuadruple.ZERO : NEGATIVE_ZERO;
+    }
+    if (s2 == 0) {
+      if (s1 == 0) {
+        s2 = s0;
+        s0 = 0;
+        exponentA -= 128;
+      } else {
+        s2 = s1;
+        s1 = s0;
+        s0 = 0;
+        exponentA -= 64;
+      }
+    }
+    final int leadingZeros = Long.numberOfLeadingZeros(s2);
+    if (leadingZeros > 0) {
+      s2 = (s2 << leadingZeros) | (s1 >>> (64 - leadingZeros));
+      s1 = (s1 << leadingZeros) | (s0 >>> (64 - leadingZeros));
+      s0 <<= leadingZeros;
+      exponentA -= leadingZeros;
+    }
+    return round(negativeA, exponentA, s2, s1, s0, sticky, upward);
+  }
+
+  /** Computes {@code a * b}, rounded toward positive infinity if {@code upward} is {@code true}, or toward negative infinity otherwise */
+  static ImmutableQuadruple multiply(ImmutableQuadruple a, ImmutableQuadruple b, boolean upward) {
+    if (a.exponent() == EXPONENT_OF_INFINITY || b.exponent() == EXPONENT_OF_INFINITY || a.isZero() || b.isZero()) {
+      return a.multiply(b);
+    }
+    final long[] product = new long[5];
+    multiplyMantissas(a, b, product);
+    final long exponent = normalizedExponent(a) + normalizedExponent(b);
+    final long p4 = product[4], p3 = product[3], p2 = product[2], p1 = product[1], p0 = product[0];
+    if (p4 >= 2) {
+      return round(a.isNegative() != b.isNegative(), exponent + 1,
+                   (p4 << 62) | (p3 >>> 2), (p3 << 62) | (p2 >>> 2), (p2 << 62) | (p1 >>> 2), (p1 & 3 | p0) != 0, upward);
+    }
+    return round(a.isNegative() != b.isNegative(), exponent,
+                 (p4 << 63) | (p3 >>> 1), (p3 << 63) | (p2 >>> 1), (p2 << 63) | (p1 >>> 1), (p1 & 1 | p0) != 0, upward);
+  }
+
+  /** Computes {@code a / b}, rounded toward positive infinity if {@code upward} is {@code true}, or toward negative infinity otherwise */
+  static ImmutableQuadruple divide(ImmutableQuadruple a, ImmutableQuadruple b, boolean upward) {
+    if (a.exponent() == EXPONENT_OF_INFINITY || b.exponent() == EXPONENT_OF_INFINITY || a.isZero() || b.isZero()) {
+      return a.divide(b);
+    }
+    final ImmutableQuadruple quotient = a.divide(b);
+    final boolean awayFromZero = upward != quotient.isNegative();
+    if (quotient.isInfinite()) {
+      return awayFromZero? quotient : quotient.isNegative()? NEGATIVE_MAX_VALUE : ImmutableQuadruple.MAX_VALUE;
+    }
+    if (quotient.isZero()) {
+      return awayFromZero? nextAwayFromZero(quotient) : quotient;
+    }
+    return correct(quotient, compareProduct(quotient, b, a), awayFromZero);
+  }
+
+  /** Computes the square root of {@code a}, rounded toward positive infinity if {@code upward} is {@code true},
+   * or toward negative infinity otherwise */
+  static ImmutableQuadruple sqrt(ImmutableQuadruple a, boolean upward) {
+    final ImmutableQuadruple root = a.sqrt();
+    if (a.exponent() == EXPONENT_OF_INFINITY || a.isZero() || a.isNegative()) {
+      return root;
+    }
+    return correct(root, compareProduct(root, root, a), upward);
+  }
+
+  /** Given a value rounded to the nearest and the sign of the difference between its magnitude and that of the exact result,
+   * returns the value rounded in the required direction */
+  private static ImmutableQuadruple correct(ImmutableQuadruple nearest, int comparison, boolean awayFromZero) {
+    if (comparison < 0 && awayFromZero) {
+      return nextAwayFromZero(nearest);
+    }
+    if (comparison > 0 && !awayFromZero) {
+      return nextTowardZero(nearest);
+    }
+    return nearest;
+  }
+
+  /**
+   * Rounds the value {@code (-1)^negative * 1.w2w1w0 * 2^exponent}, where the most significant bit of {@code w2}
+   * is the unity, and {@code sticky} indicates that the exact magnitude of the value slightly exceeds that of {@code w2w1w0},
+   * toward positive infinity if {@code upward} is {@code true}, or toward negative infinity otherwise
+   */
+  private static ImmutableQuadruple round(boolean negative, long exponent, long w2, long w1, long w0, boolean sticky, boolean upward) {
+    final boolean awayFromZero = upward != negative;
+    final long biasedExponent = exponent + EXPONENT_BIAS;
+    if (biasedExponent >= 1) {
+      long mantHi = (w2 << 1) | (w1 >>> 63), mantLo = (w1 << 1) | (w0 >>> 63);
+      long resultExponent = biasedExponent;
+      if (awayFromZero && (sticky || (w0 << 1) != 0) && ++mantLo == 0 && ++mantHi == 0) {
+        resultExponent++;
+      }
+      if (resultExponent > MAX_NORMAL_BIASED_EXPONENT) {
+        return awayFromZero? (negative? ImmutableQuadruple.NEGATIVE_INFINITY : ImmutableQuadruple.POSITIVE_INFINITY)
+                           : (negative? NEGATIVE_MAX_VALUE : ImmutableQuadruple.MAX_VALUE);
+      }
+      return ImmutableQuadruple.construct(negative, (int)resultExponent, mantHi, mantLo);
+    }
+
+    // Subnormal, the 128 bits of the mantissa are w2w1w0 >>> (64 - biasedExponent)
+    final long shift = 64 - biasedExponent;
+    long mantHi, mantLo;
+    boolean inexact = sticky;
+    if (shift >= 192) {
+      mantHi = mantLo = 0;
+      inexact = true;
+    } else if (shift >= 128) {
+      final int s = (int)shift - 128;
+      mantHi = 0;
+      mantLo = w2 >>> s;
+      inexact |= (w1 | w0) != 0 || s > 0 && (w2 << (64 - s)) != 0;
+    } else {
+      final int s = (int)shift - 64;
+      mantHi = w2 >>> s;
+      mantLo = (s == 0)? w1 : (w1 >>> s) | (w2 << (64 - s));
+      inexact |= w0 != 0 || s > 0 && (w1 << (64 - s)) != 0;
+    }
+    int resultExponent = 0;
+    if (awayFromZero && inexact && ++mantLo == 0 && ++mantHi == 0) {
+      resultExponent = 1; // Rounded up to MIN_NORMAL
+    }
+    return ImmutableQuadruple.construct(negative, resultExponent, mantHi, mantLo);
+  }
+
+  /**
+   * Compares the magnitude of the exact product of {@code x} and {@code y} with the magnitude of {@code z}.
+   * The values must be finite and non-zero
+   * @return a negative integer, zero, or a positive integer as the magnitude of the product is less than, equal to,
+   * or greater than that of {@code z}
+   */
+  private static int compareProduct(ImmutableQuadruple x, ImmutableQuadruple y, ImmutableQuadruple z) {
+    final long[] product = new long[5];
+    multiplyMantissas(x, y, product);
+    final long productExponent = normalizedExponent(x) + normalizedExponent(y) + ((product[4] >= 2)? 1 : 0);
+    final long exponentZ = normalizedExponent(z);
+    if (productExponent != exponentZ) {
+      return Long.compare(productExponent, exponentZ);
+    }
+    // The mantissa of z, aligned with the product
+    final long zh = fractionHi(z), zl = fractionLo(z);
+    final long z4, z3, z2;
+    if (product[4] >= 2) {
+      z4 = 2 | (zh >>> 63);
+      z3 = (zh << 1) | (zl >>> 63);
+      z2 = zl << 1;
+    } else {
+      z4 = 1;
+      z3 = zh;
+      z2 = zl;
+    }
+    if (product[4] != z4) return Long.compare(product[4], z4);
+    if (product[3] != z3) return Long.compareUnsigned(product[3], z3);
+    if (product[2] != z2) return Long.compareUnsigned(product[2], z2);
+    return (product[1] | product[0]) != 0? 1 : 0;
+  }
+
+  /**
+   * Computes the exact 258-bit product of the normalized 129-bit mantissas of two finite non-zero values,
+   * {@code (2^128 + A) * (2^128 + B) = 2^256 + 2^128 * (A + B) + A * B}, and puts it to {@code product},
+   * the least significant word first
+   */
+  private static void multiplyMantissas(ImmutableQuadruple a, ImmutableQuadruple b, long[] product) {
+    final long ah = fractionHi(a), al = fractionLo(a), bh = fractionHi(b), bl = fractionLo(b);
+
+    // A * B
+    final long ll = al * bl, llHi = unsignedMultiplyHigh(al, bl);
+    final long lh = al * bh, lhHi = unsignedMultiplyHigh(al, bh);
+    final long hl = ah * bl, hlHi = unsignedMultiplyHigh(ah, bl);
+    final long hh = ah * bh, hhHi = unsignedMultiplyHigh(ah, bh);
+    long t1 = llHi + lh;
+    long carry = carryOf(t1, lh);
+    t1 += hl;
+    carry += carryOf(t1, hl);
+    long t2 = lhHi + carry;
+    carry = carryOf(t2, carry);
+    t2 += hlHi;
+    carry += carryOf(t2, hlHi);
+    t2 += hh;
+    carry += carryOf(t2, hh);
+    long t3 = hhHi + carry;  // Can't overflow, since A * B < 2^256
+
+    // + 2^128 * (A + B) + 2^256
+    final long s0 = al + bl;
+    final long c0 = carryOf(s0, al);
+    long s1 = ah + bh;
+    long s2 = carryOf(s1, ah);
+    s1 += c0;
+    s2 += carryOf(s1, c0);
+    t2 += s0;
+    carry = carryOf(t2, s0);
+    t3 += carry;
+    long t4 = carryOf(t3, carry);
+    t3 += s1;
+    t4 += carryOf(t3, s1);
+    product[0] = ll;
+    product[1] = t1;
+    product[2] = t2;
+    product[3] = t3;
+    product[4] = t4 + s2 + 1;
+  }
+
+  private static ImmutableQuadruple nextAwayFromZero(ImmutableQuadruple value) {
+    int exponent = value.exponent();
+    long mantHi = value.mantHi(), mantLo = value.mantLo();
+    if (++mantLo == 0 && ++mantHi == 0) {
+      exponent++; // From MAX_VALUE to infinity, as well as from the greatest subnormal value to MIN_NORMAL
+    }
+    return ImmutableQuadruple.construct(value.isNegative(), exponent, mantHi, mantLo);
+  }
+
+  private static ImmutableQuadruple nextTowardZero(ImmutableQuadruple value) {
+    int exponent = value.exponent();
+    long mantHi = value.mantHi(), mantLo = value.mantLo();
+    if (mantLo-- == 0 && mantHi-- == 0) {
+      exponent--;
+    }
+    return ImmutableQuadruple.construct(value.isNegative(), exponent, mantHi, mantLo);
+  }
+
+  /** The unbiased exponent of the most significant bit of the mantissa of a finite non-zero value, including subnormal ones */
+  private static long normalizedExponent(ImmutableQuadruple value) {
+    final long exponent = value.exponent() & 0xFFFF_FFFFL;
+    return (exponent != 0)? exponent - EXPONENT_BIAS : (long)ImmutableQuadruple.MIN_EXPONENT - subnormalShift(value);
+  }
+
+  /** The most significant 64 bits of the fractional part of the normalized mantissa of a finite non-zero value */
+  private static long fractionHi(ImmutableQuadruple value) {
+    final int shift = subnormalShift(value);
+    if (shift == 0) {
+      return value.mantHi();
+    }
+    if (shift >= 64) {
+      return (shift == 128)? 0 : value.mantLo() << (shift - 64);
+    }
+    return (value.mantHi() << shift) | (value.mantLo() >>> (64 - shift));
+  }
+
+  /** The least significant 64 bits of the fractional part of the normalized mantissa of a finite non-zero value */
+  private static long fractionLo(ImmutableQuadruple value) {
+    final int shift = subnormalShift(value);
+    return (shift >= 64)? 0 : value.mantLo() << shift;
+  }
+
+  /** The shift that makes the leading unity of the mantissa of a subnormal value implicit, or 0 for normal values */
+  private static int subnormalShift(ImmutableQuadruple value) {
+    if (value.exponent() != 0) {
+      return 0;
+    }
+    return (value.mantHi() != 0)? Long.numberOfLeadingZeros(value.mantHi()) + 1 : Long.numberOfLeadingZeros(value.mantLo()) + 65;
+  }
+
+}
@@ -0,0 +1,360 @@
+package com.mvohm.quadruple;
+
+/**
+ * An immutable floating-point value represented as an unevaluated sum of two {@code double} values,
+ * {@code hi + lo}, with {@code |lo| <= ulp(hi) / 2}, that provides about 106 bits of precision
+ * within the range of {@code double}.<br>
+ * The arithmetic operations are built on the error-free transformations of {@code double} arithmetic
+ * ({@code twoSum} and {@link Math#fma(double, double, double)}-based {@code twoProd}),
+ * and are several times faster than those of {@code ImmutableQuadruple}, at the cost of lower precision
+ * and the absence of correct rounding. The relative errors of {@code add()}, {@code multiply()}, {@code divide()} and {@code sqrt()}
+ * do not exceed {@code 3·2^-106}, {@code 4·2^-106}, {@code 15·2^-106} and {@code 4·2^-106} respectively,
+ * as long as the values and their intermediate results are normal.<br>
+ * The conversion to {@code ImmutableQuadruple} with {@link #toImmutableQuadruple()} is exact,
+ * unless the bits of the value span more than the 129 bits of the mantissa of an {@code ImmutableQuadruple},
+ * and the conversion from {@code ImmutableQuadruple} with {@link #valueOf(ImmutableQuadruple)}
+ * rounds both parts to the nearest, so that computations can run with {@code DoubleDouble} values
+ * and switch to {@code ImmutableQuadruple} only where more precision is needed.<br>
+ * If either part of a result is NaN or infinite, the result is {@code (hi, 0)},
+ * where {@code hi} is the result of the same operation in {@code double} arithmetic.
+ */
+public final class DoubleDouble implements Comparable<DoubleDouble> {
+
+  public static final DoubleDouble ZERO = new DoubleDouble(0, 0);
+  public static final DoubleDouble ONE  = new DoubleDouble(1, 0);
+  public static final DoubleDouble NaN  = new DoubleDouble(Double.NaN, 0);
+
+  /** The number of the bits of the mantissa of an {@code ImmutableQuadruple} below the 53 most significant ones */
+  private static final int LOWER_QUADRUPLE_BITS = 76;
+  /** The range of the exponents of {@code ImmutableQuadruple} values, within which {@link #valueOf(ImmutableQuadruple)}
+   * rounds both parts directly, since they can't overflow or be subnormal */
+  private static final int MIN_ROUNDING_EXPONENT = Double.MIN_EXPONENT + 128;
+  private static final int MAX_ROUNDING_EXPONENT = Double.MAX_EXPONENT - 1;
+  private static final long DOUBLE_FRACTION_MASK = 0x000F_FFFF_FFFF_FFFFL;
+  private static final int DOUBLE_EXPONENT_BIAS = 1023;
+
+  private final double hi, lo;
+
+  private DoubleDouble(double hi, double lo) {
+    this.hi = hi;
+    this.lo = lo;
+  }
+
+  /**
+   * Returns a {@code DoubleDouble} with the given {@code double} value.
+   * @param value the value of the new instance
+   * @return a {@code DoubleDouble} with the given value
+   */
+  public static DoubleDouble valueOf(double value) {
+    return new DoubleDouble(value, 0);
+  }
+
+  /**
+   * Returns a {@code DoubleDouble} with the value of the exact sum of the given {@code double} values,
+   * or, if the sum can't be represented exactly, of the sum rounded to the nearest {@code double} and the rounding error.
+   * The parts need not be normalized.
+   * @param hi the first summand
+   * @param lo the second summand
+   * @return a {@code DoubleDouble} with the value of {@code hi + lo}
+   */
+  public static DoubleDouble valueOf(double hi, double lo) {
+    final double s = hi + lo;
+    final double bb = s - hi;
+    return of(s, (hi - (s - bb)) + (lo - bb));
+  }
+
+  /**
+   * Returns a {@code DoubleDouble} with the value of the given {@code ImmutableQuadruple}, rounded to the nearest.
+   * The high part is the value rounded to the nearest {@code double},
+   * and the low part is the difference between the value and the high part, rounded to the nearest {@code double}.
+   * Values beyond the range of {@code double} get converted to infinities or zeros,
+   * and the low parts of values below {@code Double.MIN_NORMAL} are zero.
+   * @param value the value to convert
+   * @return a {@code DoubleDouble} with the value of the given {@code ImmutableQuadruple} rounded to the nearest
+   */
+  public static DoubleDouble valueOf(ImmutableQuadruple value) {
+    final int exponent = value.unbiasedExponent();
+    final boolean inRoundingRange = exponent >= MIN_ROUNDING_EXPONENT && exponent <= MAX_ROUNDING_EXPONENT;
+    final double hi = inRoundingRange ? roundToDouble(value.isNegative(), exponent, value.mantHi(), value.mantLo())
+                                      : value.doubleValue();
+    if (!Double.isFinite(hi) || Math.abs(hi) < Double.MIN_NORMAL) {
+      return new DoubleDouble(hi, 0);
+    }
+
+    // value - hi, in units of the least significant bit of the value, as a two's complement 128-bit number.
+    // hi has the same exponent as the value, or, if it got rounded up to a power of two, the next one
+    final long hiFraction = (Math.getExponent(hi) == exponent) ? Double.doubleToRawLongBits(hi) & DOUBLE_FRACTION_MASK : 0;
+    long diffHi = value.mantHi() - (hiFraction << (LOWER_QUADRUPLE_BITS - 64));
+    long diffLo = value.mantLo();
+    if (diffHi == 0 && diffLo == 0) {
+      return new DoubleDouble(hi, 0);
+    }
+
+    boolean negative = value.isNegative();
+    if (diffHi < 0) {
+      negative = !negative;
+      diffLo = -diffLo;
+      diffHi = (diffLo == 0) ? -diffHi : ~diffHi;
+    }
+    final int shift = (diffHi == 0) ? 64 + Long.numberOfLeadingZeros(diffLo) + 1 : Long.numberOfLeadingZeros(diffHi) + 1;
+    final long mantHi, mantLo;  // Without the implicit leading bit
+    if (shift < 64) {
+      mantHi = diffHi << shift | diffLo >>> (64 - shift);
+      mantLo = diffLo << shift;
+    } else {
+      mantHi = (shift == 128) ? 0 : diffLo << (shift - 64);
+      mantLo = 0;
+    }
+    final double lo = inRoundingRange ? roundToDouble(negative, exponent - shift, mantHi, mantLo)
+                                      : ImmutableQuadruple.construct(negative, value.exponent() - shift, mantHi, mantLo).doubleValue();
+    return new DoubleDouble(hi, lo);
+  }
+
+  /**
+   * Returns the high part of the value, that is the value rounded to a {@code double}.
+   * @return the high part of the value
+   */
+  public double hi() {
+    return hi;
+  }
+
+  /**
+   * Returns the low part of the value, that is the difference between the value and its high part.
+   * @return the low part of the value
+   */
+  public double lo() {
+    return lo;
+  }
+
+  /**
+   * Returns the value rounded to the nearest {@code double}.
+   * @return the value rounded to the nearest {@code double}
+   */
+  public double doubleValue() {
+    return hi;
+  }
+
+  /**
+   * Converts the value to an {@code ImmutableQuadruple}.
+   * The conversion is exact, unless the bits of the value span more than 129 bits, in which case
+   * the result is rounded half-even.
+   * @return an {@code ImmutableQuadruple} with the value of this {@code DoubleDouble}
+   * @see ImmutableQuadruple#exactSum(double, double)
+   */
+  public ImmutableQuadruple toImmutableQuadruple() {
+    return ImmutableQuadruple.exactSum(hi, lo);
+  }
+
+  public boolean isNaN() {
+    return Double.isNaN(hi);
+  }
+
+  public boolean isInfinite() {
+    return Double.isInfinite(hi);
+  }
+
+  public boolean isZero() {
+    return hi == 0;
+  }
+
+  /**
+   * Returns the sum of this value and the given one.
+   * @param summand the value to add
+   * @return the sum, with a relative error not exceeding {@code 3·2^-106}
+   */
+  public DoubleDouble add(DoubleDouble summand) {
+    double sh = hi + summand.hi;
+    if (!Double.isFinite(sh)) {
+      return new DoubleDouble(sh, 0);
+    }
+    double bb = sh - hi;
+    final double sl = (hi - (sh - bb)) + (summand.hi - bb);
+    final double th = lo + summand.lo;
+    bb = th - lo;
+    final double tl = (lo - (th - bb)) + (summand.lo - bb);
+    final double c = sl + th;
+    final double vh = sh + c;
+    final double vl = c - (vh - sh);
+    final double w = tl + vl;
+    sh = vh + w;
+    return of(sh, w - (sh - vh));
+  }
+
+  /**
+   * Returns the sum of this value and the given {@code double}.
+   * @param summand the value to add
+   * @return the sum, with a relative error not exceeding {@code 2·2^-106}
+   */
+  public DoubleDouble add(double summand) {
+    final double sh = hi + summand;
+    if (!Double.isFinite(sh)) {
+      return new DoubleDouble(sh, 0);
+    }
+    final double bb = sh - hi;
+    final double sl = (hi - (sh - bb)) + (summand - bb);
+    final double v = lo + sl;
+    final double zh = sh + v;
+    return of(zh, v - (zh - sh));
+  }
+
+  /**
+   * Returns the difference between this value and the given one.
+   * @param subtrahend the value to subtract
+   * @return the difference, with a relative error not exceeding {@code 3·2^-106}
+   */
+  public DoubleDouble subtract(DoubleDouble subtrahend) {
+    return add(subtrahend.negate());
+  }
+
+  /**
+   * Returns the difference between this value and the given {@code double}.
+   * @param subtrahend the value to subtract
+   * @return the difference, with a relative error not exceeding {@code 2·2^-106}
+   */
+  public DoubleDouble subtract(double subtrahend) {
+    return add(-subtrahend);
+  }
+
+  /**
+   * Returns the product of this value and the given one.
+   * @param factor the value to multiply by
+   * @return the product, with a relative error not exceeding {@code 4·2^-106}
+   */
+  public DoubleDouble multiply(DoubleDouble factor) {
+    final double ch = hi * factor.hi;
+    if (!Double.isFinite(ch)) {
+      return new DoubleDouble(ch, 0);
+    }
+    final double cl1 = Math.fma(hi, factor.hi, -ch);
+    final double tl = Math.fma(hi, factor.lo, lo * factor.lo);
+    final double cl = cl1 + Math.fma(lo, factor.hi, tl);
+    final double zh = ch + cl;
+    return of(zh, cl - (zh - ch));
+  }
+
+  /**
+   * Returns the product of this value and the given {@code double}.
+   * @param factor the value to multiply by
+   * @return the product, with a relative error not exceeding {@code 2·2^-106}
+   */
+  public DoubleDouble multiply(double factor) {
+    final double ch = hi * factor;
+    if (!Double.isFinite(ch)) {
+      return new DoubleDouble(ch, 0);
+    }
+    final double cl = Math.fma(lo, factor, Math.fma(hi, factor, -ch));
+    final double zh = ch + cl;
+    return of(zh, cl - (zh - ch));
+  }
+
+  /**
+   * Returns the quotient of this value divided by the given one.
+   * If the divisor is zero, the result is the same as that of the division of {@code hi} values in {@code double} arithmetic.
+   * @param divisor the value to divide by
+   * @return the quotient, with a relative error not exceeding {@code 15·2^-106}
+   */
+  public DoubleDouble divide(DoubleDouble divisor) {
+    final double th = hi / divisor.hi;
+    if (!Double.isFinite(th)) {
+      return new DoubleDouble(th, 0);
+    }
+    final double ph = divisor.hi * th;
+    final double pl = Math.fma(divisor.lo, th, Math.fma(divisor.hi, th, -ph));
+    final double delta = (hi - ph) + (lo - pl);
+    final double tl = delta / divisor.hi;
+    final double zh = th + tl;
+    return of(zh, tl - (zh - th));
+  }
+
+  /**
+   * Returns the quotient of this value divided by the given {@code double}.
+   * @param divisor the value to divide by
+   * @return the quotient, with a relative error not exceeding {@code 3·2^-106}
+   */
+  public DoubleDouble divide(double divisor) {
+    final double th = hi / divisor;
+    if (!Double.isFinite(th)) {
+      return new DoubleDouble(th, 0);
+    }
+    final double ph = divisor * th;
+    final double pl = Math.fma(divisor, th, -ph);
+    final double delta = ((hi - ph) - pl) + lo;
+    final double tl = delta / divisor;
+    final double zh = th + tl;
+    return of(zh, tl - (zh - th));
+  }
+
+  /**
+   * Returns the square root of this value, or NaN if the value is negative.
+   * @return the square root, with a relative error not exceeding {@code 4·2^-106}
+   */
+  public DoubleDouble sqrt() {
+    if (hi <= 0 || !Double.isFinite(hi)) {
+      return (hi == 0) ? this : new DoubleDouble(Math.sqrt(hi), 0);
+    }
+    final double s = Math.sqrt(hi);
+    final double ph = s * s;
+    final double pl = Math.fma(s, s, -ph);
+    final double r = ((hi - ph) - pl + lo) / (2 * s);
+    final double zh = s + r;
+    return of(zh, r - (zh - s));
+  }
+
+  public DoubleDouble negate() {
+    return new DoubleDouble(-hi, -lo);
+  }
+
+  public DoubleDouble abs() {
+    return (hi < 0 || hi == 0 && 1 / hi < 0) ? negate() : this;
+  }
+
+  /**
+   * Compares the value with the given one, like {@link Double#compare(double, double)} compares {@code double} values.
+   * @param other the value to compare with
+   * @return a negative integer, zero, or a positive integer as this value is less than,
+   * equal to, or greater than the given one.
+   */
+  @Override
+  public int compareTo(DoubleDouble other) {
+    final int result = Double.compare(hi, other.hi);
+    return (result != 0) ? result : Double.compare(lo, other.lo);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof DoubleDouble)) return false;
+    return compareTo((DoubleDouble)obj) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Double.hashCode(hi) + Double.hashCode(lo);
+  }
+
+  /**
+   * Returns a decimal representation of the value, with the precision of {@code ImmutableQuadruple}.
+   * @see ImmutableQuadruple#toString()
+   */
+  @Override
+  public String toString() {
+    return toImmutableQuadruple().toString();
+  }
+
+  /** Rounds the value with the given sign, unbiased exponent and fractional part of the mantissa
+   * to the nearest {@code double}, half-even. The exponent must be within the range of normal {@code double} values,
+   * and less than {@code Double.MAX_EXPONENT} */
+  private static double roundToDouble(boolean negative, int exponent, long mantHi, long mantLo) {
+    final long rest = mantHi & 0xFFF; // The bits of mantHi below the 52 bits of the fraction of a double
+    final long roundUp = (rest > 0x800 || rest == 0x800 && (mantLo != 0 || (mantHi & 0x1000) != 0)) ? 1 : 0;
+    // A carry from the fraction increments the exponent
+    final long bits = ((long)(exponent + DOUBLE_EXPONENT_BIAS) << 52) + (mantHi >>> 12) + roundUp;
+    return Double.longBitsToDouble(negative ? bits | 0x8000_0000_0000_0000L : bits);
+  }
+
+  /** Returns a new instance with the given parts, or {@code (hi, 0)} if either of them is NaN or infinite */
+  private static DoubleDouble of(double hi, double lo) {
+    return Double.isFinite(lo) ? new DoubleDouble(hi, lo) : new DoubleDouble(hi, 0);
+  }
+
+}
@@ -0,0 +1,389 @@
+package com.mvohm.quadruple;
+
+import static com.mvohm.quadruple.MantissaArithmetic.*;
+
+/**
+ * A package-private accumulator of sums of products of values held in arrays of {@link PackedQuadruples},
+ * that works without creating objects and rounds the result only once.<br>
+ * The sum is held as a 192-bit normalized mantissa with a {@code long} exponent. The products of normal values
+ * are computed from their mantissas and truncated to 192 bits, so that the error of each addition
+ * is less than {@code 2^-190} of the greater of the summands, and the result is the correctly rounded sum,
+ * unless the terms cancel each other out almost entirely.<br>
+ * Products with NaN, infinite or subnormal operands are computed with the {@code ImmutableQuadruple} arithmetic.
+ * Instances are mutable and not thread-safe; they are meant to be reused with {@link #reset()}.
+ */
+final class FusedMultiplyAccumulator {
+
+  private static final int WORDS = PackedQuadruples.WORDS;
+  private static final int EXPONENT_OF_INFINITY = 0xFFFF_FFFF;
+  private static final long MAX_NORMAL_BIASED_EXPONENT = 0xFFFF_FFFEL;
+  /** The number of bits of the mantissa of the sum */
+  private static final int SUM_BITS = 192;
+
+  private boolean negative;
+  /** The unbiased exponent of the most significant bit of the mantissa */
+  private long exponent;
+  /** The mantissa, with the most significant bit set, or all zeros if the sum is zero */
+  private long mant2, mant1, mant0;
+  /** The sum of the terms that are NaN or infinite, or {@code null} if there were none */
+  private ImmutableQuadruple specialSum;
+
+  FusedMultiplyAccumulator() {
+  }
+
+  /** Resets the sum to zero */
+  FusedMultiplyAccumulator reset() {
+    mant2 = mant1 = mant0 = 0;
+    negative = false;
+    specialSum = null;
+    return this;
+  }
+
+  /** Adds the value with index {@code index} of {@code words} */
+  FusedMultiplyAccumulator add(long[] words, int index) {
+    final int offset = index * WORDS;
+    final int biasedExponent = (int)words[offset];
+    if (biasedExponent == EXPONENT_OF_INFINITY) {
+      addSpecial(PackedQuadruples.get(words, index));
+    } else {
+      addValue(words[offset] < 0, biasedExponent, words[offset + 1], words[offset + 2]);
+    }
+    return this;
+  }
+
+  /** Adds the given value */
+  FusedMultiplyAccumulator add(ImmutableQuadruple value) {
+    if (value.isNaN() || value.isInfinite()) {
+      addSpecial(value);
+    } else {
+      addValue(value.isNegative(), value.exponent(), value.mantHi(), value.mantLo());
+    }
+    return this;
+  }
+
+  /** Subtracts the value with index {@code index} of {@code words} */
+  FusedMultiplyAccumulator subtract(long[] words, int index) {
+    final int offset = index * WORDS;
+    final int biasedExponent = (int)words[offset];
+    if (biasedExponent == EXPONENT_OF_INFINITY) {
+      addSpecial(PackedQuadruples.get(words, index).negate());
+    } else {
+      addValue(words[offset] >= 0, biasedExponent, words[offset + 1], words[offset + 2]);
+    }
+    return this;
+  }
+
+  /** Adds the magnitude of the value with index {@code index} of {@code words} */
+  FusedMultiplyAccumulator addMagnitude(long[] words, int index) {
+    final int offset = index * WORDS;
+    final int biasedExponent = (int)words[offset];
+    if (biasedExponent == EXPONENT_OF_INFINITY) {
+      addSpecial(PackedQuadruples.get(words, index).abs());
+    } else {
+      addValue(false, biasedExponent, words[offset + 1], words[offset + 2]);
+    }
+    return this;
+  }
+
+  /** Adds the sum held by another accumulator */
+  FusedMultiplyAccumulator add(FusedMultiplyAccumulator other) {
+    if (other.specialSum != null) {
+      addSpecial(other.specialSum);
+    }
+    if (other.mant2 != 0) {
+      accumulate(other.negative, other.exponent, other.mant2, other.mant1, other.mant0);
+    }
+    return this;
+  }
+
+  /** Adds the product of the value with index {@code indexA} of {@code a} and the value with index {@code indexB} of {@code b} */
+  FusedMultiplyAccumulator addProduct(long[] a, int indexA, long[] b, int indexB) {
+    addProduct(a, indexA, b, indexB, false);
+    return this;
+  }
+
+  /** Subtracts the product of the value with index {@code indexA} of {@code a} and the value with index {@code indexB} of {@code b} */
+  FusedMultiplyAccumulator subtractProduct(long[] a, int indexA, long[] b, int indexB) {
+    addProduct(a, indexA, b, indexB, true);
+    return this;
+  }
+
+  /** Adds the product of two values given by their signs, biased exponents and the fractional parts of their mantissas */
+  FusedMultiplyAccumulator addProduct(boolean negativeA, int exponentA, long mantHiA, long mantLoA,
+                                      boolean negativeB, int exponentB, long mantHiB, long mantLoB) {
+    addProduct(negativeA, exponentA, mantHiA, mantLoA, negativeB, exponentB, mantHiB, mantLoB, false);
+    return this;
+  }
+
+  /**
+   * Adds the products of {@code count} pairs of values, starting from the value with index {@code indexA} of {@code a},
+   * whose indices differ by {@code strideA}, and from the value with index {@code indexB} of {@code b},
+   * whose indices differ by {@code strideB}
+   */
+  FusedMultiplyAccumulator addProducts(long[] a, int indexA, int strideA, long[] b, int indexB, int strideB, int count) {
+    for (int i = 0; i < count; i++, indexA += strideA, indexB += strideB) {
+      addProduct(a, indexA, b, indexB, false);
+    }
+    return this;
+  }
+
+  /**
+   * Subtracts the products of {@code count} pairs of values, starting from the value with index {@code indexA} of {@code a},
+   * whose indices differ by {@code strideA}, and from the value with index {@code indexB} of {@code b},
+   * whose indices differ by {@code strideB}
+   */
+  FusedMultiplyAccumulator subtractProducts(long[] a, int indexA, int strideA, long[] b, int indexB, int strideB, int count) {
+    for (int i = 0; i < count; i++, indexA += strideA, indexB += strideB) {
+      addProduct(a, indexA, b, indexB, true);
+    }
+    return this;
+  }
+
+  /** Multiplies the sum by {@code 2^n}. The terms that are NaN or infinite remain unchanged */
+  FusedMultiplyAccumulator scale(long n) {
+    exponent += n;
+    return this;
+  }
+
+  /** Returns the unbiased exponent of the most significant bit of the sum,
+   * that makes sense only if the sum is finite and is not zero */
+  long exponent() {
+    return exponent;
+  }
+
+  /** Returns the sum, rounded half-even */
+  ImmutableQuadruple result() {
+    if (specialSum != null) {
+      return specialSum;
+    }
+    if (mant2 == 0) {
+      return ImmutableQuadruple.ZERO;
+    }
+    return ImmutableQuadruple.fromWords(negative, mant2, mant1, mant0, exponent - (SUM_BITS - 1));
+  }
+
+  /** Returns the square root of the sum, computed from the sum rounded half-even.
+   * The sum is scaled by an even power of two before the rounding, so that it can't overflow or underflow */
+  ImmutableQuadruple squareRoot() {
+    if (specialSum != null || mant2 == 0) {
+      return result().sqrt();
+    }
+    final long halfExponent = Math.floorDiv(exponent, 2);
+    final ImmutableQuadruple scaled = ImmutableQuadruple.fromWords(negative, mant2, mant1, mant0,
+                                                                   exponent - 2 * halfExponent - (SUM_BITS - 1));
+    return scaled.sqrt().scalb((int)Math.max(Math.min(halfExponent, Integer.MAX_VALUE), Integer.MIN_VALUE));
+  }
+
+  /** Rounds the sum half-even and puts it to the position with index {@code index} of {@code words} */
+  void store(long[] words, int index) {
+    if (specialSum != null) {
+      PackedQuadruples.set(words, index, specialSum);
+      return;
+    }
+    if (mant2 == 0) {
+      PackedQuadruples.set(words, index, false, 0, 0, 0);
+      return;
+    }
+    long biasedExponent = exponent + Quadruple.EXPONENT_BIAS;
+    long mantHi = (mant2 << 1) | (mant1 >>> 63), mantLo = (mant1 << 1) | (mant0 >>> 63);
+    final long rest = mant0 << 1;
+    if (Long.compareUnsigned(rest, HIGH_BIT) > 0 || (rest == HIGH_BIT && (mantLo & 1) != 0)) {
+      if (++mantLo == 0 && ++mantHi == 0) {
+        biasedExponent++;
+      }
+    }
+    if (biasedExponent < 1 || biasedExponent > MAX_NORMAL_BIASED_EXPONENT) { // Subnormal or overflow
+      PackedQuadruples.set(words, index, result());
+    } else {
+      PackedQuadruples.set(words, index, negative, (int)biasedExponent, mantHi, mantLo);
+    }
+  }
+
+  private void addProduct(long[] a, int indexA, long[] b, int indexB, boolean subtract) {
+    final int offsetA = indexA * WORDS, offsetB = indexB * WORDS;
+    addProduct(a[offsetA] < 0, (int)a[offsetA], a[offsetA + 1], a[offsetA + 2],
+               b[offsetB] < 0, (int)b[offsetB], b[offsetB + 1], b[offsetB + 2], subtract);
+  }
+
+  private void addProduct(boolean negativeA, int exponentA, long ah, long al,
+                          boolean negativeB, int exponentB, long bh, long bl, boolean subtract) {
+    final boolean productIsNegative = negativeA ^ negativeB ^ subtract;
+    if (exponentA == 0 || exponentB == 0 || exponentA == EXPONENT_OF_INFINITY || exponentB == EXPONENT_OF_INFINITY) {
+      if ((exponentA == 0 && (ah | al) == 0 || exponentB == 0 && (bh | bl) == 0)
+          && exponentA != EXPONENT_OF_INFINITY && exponentB != EXPONENT_OF_INFINITY) {
+        return; // Zero product
+      }
+      final ImmutableQuadruple product = ImmutableQuadruple.construct(negativeA, exponentA, ah, al)
+          .multiply(ImmutableQuadruple.construct(negativeB, exponentB, bh, bl));
+      add(subtract? product.negate() : product);
+      return;
+    }
+
+    // (2^128 + fa) * (2^128 + fb) = 2^256 + 2^128 * (fa + fb) + fa * fb, bits 64 to 257 of it in q4..q1
+    final long p01Lo = al * bh, p10Lo = ah * bl;
+    long q1 = unsignedMultiplyHigh(al, bl) + p01Lo;
+    long carry = carryOf(q1, p01Lo);
+    long t = q1 + p10Lo;
+    carry += carryOf(t, q1);
+    q1 = t;
+
+    final long p01Hi = unsignedMultiplyHigh(al, bh);
+    long q2 = p01Hi + carry;
+    carry = carryOf(q2, p01Hi);
+    t = q2 + unsignedMultiplyHigh(ah, bl);
+    carry += carryOf(t, q2);
+    q2 = t;
+    t = q2 + ah * bh;
+    carry += carryOf(t, q2);
+    q2 = t;
+    t = q2 + al;
+    carry += carryOf(t, q2);
+    q2 = t;
+    t = q2 + bl;
+    carry += carryOf(t, q2);
+    q2 = t;
+
+    final long p11Hi = unsignedMultiplyHigh(ah, bh);
+    long q3 = p11Hi + carry;
+    carry = carryOf(q3, p11Hi);
+    t = q3 + ah;
+    carry += carryOf(t, q3);
+    q3 = t;
+    t = q3 + bh;
+    carry += carryOf(t, q3);
+    q3 = t;
+    final long q4 = 1 + carry;
+
+    long productExponent = (exponentA & 0xFFFF_FFFFL) + (exponentB & 0xFFFF_FFFFL) - 2L * Quadruple.EXPONENT_BIAS;
+    if (q4 >= 2) {
+      productExponent++;
+      accumulate(productIsNegative, productExponent, (q4 << 62) | (q3 >>> 2), (q3 << 62) | (q2 >>> 2), (q2 << 62) | (q1 >>> 2));
+    } else {
+      accumulate(productIsNegative, productExponent, (q4 << 63) | (q3 >>> 1), (q3 << 63) | (q2 >>> 1), (q2 << 63) | (q1 >>> 1));
+    }
+  }
+
+  /** Adds a finite value given by its sign, biased exponent and the fractional part of the mantissa */
+  private void addValue(boolean valueIsNegative, int biasedExponent, long mantHi, long mantLo) {
+    if (biasedExponent != 0) {
+      accumulate(valueIsNegative, (biasedExponent & 0xFFFF_FFFFL) - Quadruple.EXPONENT_BIAS,
+                 HIGH_BIT | (mantHi >>> 1), (mantHi << 63) | (mantLo >>> 1), mantLo << 63);
+    } else if ((mantHi | mantLo) != 0) { // Subnormal, 0.mantHi mantLo * 2^MIN_EXPONENT
+      final long minExponent = ImmutableQuadruple.MIN_EXPONENT;
+      if (mantHi != 0) {
+        final int shift = Long.numberOfLeadingZeros(mantHi);
+        accumulate(valueIsNegative, minExponent - 1 - shift,
+                   (mantHi << shift) | (shift == 0? 0 : mantLo >>> (64 - shift)), mantLo << shift, 0);
+      } else {
+        final int shift = Long.numberOfLeadingZeros(mantLo);
+        accumulate(valueIsNegative, minExponent - 65 - shift, mantLo << shift, 0, 0);
+      }
+    }
+  }
+
+  private void addSpecial(ImmutableQuadruple value) {
+    specialSum = (specialSum == null)? value : specialSum.add(value);
+  }
+
+  /** Adds the value {@code (-1)^valueIsNegative * 0.w2w1w0 * 2^(valueExponent + 1)}, where the most significant bit of w2 is set */
+  private void accumulate(boolean valueIsNegative, long valueExponent, long w2, long w1, long w0) {
+    if (mant2 == 0) {
+      negative = valueIsNegative;
+      exponent = valueExponent;
+      mant2 = w2;
+      mant1 = w1;
+      mant0 = w0;
+      return;
+    }
+    if (valueExponent > exponent) { // Make the sum the greater one
+      final long e = exponent; exponent = valueExponent; valueExponent = e;
+      long w = mant2; mant2 = w2; w2 = w;
+      w = mant1; mant1 = w1; w1 = w;
+      w = mant0; mant0 = w0; w0 = w;
+      final boolean n = negative; negative = valueIsNegative; valueIsNegative = n;
+    }
+
+    final long shift = exponent - valueExponent;
+    if (shift >= SUM_BITS) {
+      return;
+    }
+    if (shift >= 128) {
+      w0 = w2 >>> (shift - 128);
+      w2 = w1 = 0;
+    } else if (shift >= 64) {
+      w0 = (shift == 64)? w1 : (w1 >>> (shift - 64)) | (w2 << (128 - shift));
+      w1 = w2 >>> (shift - 64);
+      w2 = 0;
+    } else if (shift > 0) {
+      w0 = (w0 >>> shift) | (w1 << (64 - shift));
+      w1 = (w1 >>> shift) | (w2 << (64 - shift));
+      w2 >>>= shift;
+    }
+
+    if (negative == valueIsNegative) {
+      final long s0 = mant0 + w0;
+      long carry = carryOf(s0, mant0);
+      long s1 = mant1 + w1;
+      long nextCarry = carryOf(s1, mant1);
+      s1 += carry;
+      nextCarry += carryOf(s1, carry);
+      long s2 = mant2 + w2;
+      carry = carryOf(s2, mant2);
+      s2 += nextCarry;
+      carry += carryOf(s2, nextCarry);
+      if (carry != 0) {
+        mant0 = (s0 >>> 1) | (s1 << 63);
+        mant1 = (s1 >>> 1) | (s2 << 63);
+        mant2 = (s2 >>> 1) | HIGH_BIT;
+        exponent++;
+      } else {
+        mant0 = s0;
+        mant1 = s1;
+        mant2 = s2;
+      }
+      return;
+    }
+
+    if (compare192(mant2, mant1, mant0, w2, w1, w0) < 0) {
+      long w = mant2; mant2 = w2; w2 = w;
+      w = mant1; mant1 = w1; w1 = w;
+      w = mant0; mant0 = w0; w0 = w;
+      negative = valueIsNegative;
+    }
+    final long borrow0 = Long.compareUnsigned(mant0, w0) < 0? 1 : 0;
+    mant0 -= w0;
+    final long d1 = mant1 - w1;
+    final long borrow1 = (Long.compareUnsigned(mant1, w1) < 0 || Long.compareUnsigned(d1, borrow0) < 0)? 1 : 0;
+    mant1 = d1 - borrow0;
+    mant2 = mant2 - w2 - borrow1;
+    normalize();
+  }
+
+  /** Shifts the mantissa left so that its most significant bit is set, and adjusts the exponent */
+  private void normalize() {
+    if (mant2 == 0) {
+      if (mant1 == 0) {
+        if (mant0 == 0) {
+          negative = false;
+          return;
+        }
+        mant2 = mant0;
+        mant0 = 0;
+        exponent -= 128;
+      } else {
+        mant2 = mant1;
+        mant1 = mant0;
+        mant0 = 0;
+        exponent -= 64;
+      }
+    }
+    final int shift = Long.numberOfLeadingZeros(mant2);
+    if (shift > 0) {
+      mant2 = (mant2 << shift) | (mant1 >>> (64 - shift));
+      mant1 = (mant1 << shift) | (mant0 >>> (64 - shift));
+      mant0 <<= shift;
+      exponent -= shift;
+    }
+  }
+
+}
@@ -0,0 +1,368 @@
+package com.mvohm.quadruple;
+
+/**
+ * An immutable complex number, whose real and imaginary parts are {@code ImmutableQuadruple} values.<br>
+ * The parts are held as primitive fields, and each operation computes them with fused operations
+ * on objects reused by the current thread, without creating intermediate objects, so that it allocates only its result.
+ * The parts of the results of {@link #multiply(ImmutableComplexQuadruple)} are computed from the exact products
+ * of the parts of the operands and are rounded only once, so that it is both faster and more accurate
+ * than the composition of four multiplications and two additions of {@code ImmutableQuadruple} values.
+ * The parts of the results of {@link #multiply(ImmutableComplexQuadruple)} and {@link #divide(ImmutableComplexQuadruple)}
+ * whose exact values are zero are positive zeros, while the other operations take the signs of zero parts from
+ * the {@code ImmutableQuadruple} arithmetic, e.g. the sum of two negative zeros is a negative zero.
+ * {@link #divide(ImmutableComplexQuadruple)} and {@link #abs()} scale their intermediate results by powers of two,
+ * so that they can't overflow or underflow unless the result itself does.<br>
+ * Operations with NaN or infinite parts follow the textbook formulas computed with the {@code ImmutableQuadruple} arithmetic,
+ * except for {@link #abs()}, that behaves like {@link ImmutableQuadruple#hypot(ImmutableQuadruple, ImmutableQuadruple)}.
+ */
+public final class ImmutableComplexQuadruple {
+
+  public static final ImmutableComplexQuadruple ZERO = new ImmutableComplexQuadruple(ImmutableQuadruple.ZERO, ImmutableQuadruple.ZERO);
+  public static final ImmutableComplexQuadruple ONE  = new ImmutableComplexQuadruple(ImmutableQuadruple.ONE, ImmutableQuadruple.ZERO);
+  /** The imaginary unit */
+  public static final ImmutableComplexQuadruple I    = new ImmutableComplexQuadruple(ImmutableQuadruple.ZERO, ImmutableQuadruple.ONE);
+
+  private static final int EXPONENT_OF_INFINITY = 0xFFFF_FFFF;
+  private static final long MAX_NORMAL_BIASED_EXPONENT = 0xFFFF_FFFEL;
+  /** The biased exponent of the greater part of an operand of {@link #divide(ImmutableComplexQuadruple)} or {@link #abs()},
+   * below which the operand gets scaled by {@code 2^SCALE_FACTOR}, so that the products of its parts can't underflow */
+  private static final long SCALING_THRESHOLD = 0x4000_0000L;
+  private static final int SCALE_FACTOR = 0x4000_0000;
+
+  /** The objects used by the operations of the current thread, so that they don't have to create them */
+  private static final ThreadLocal<Workspace> WORKSPACE = ThreadLocal.withInitial(Workspace::new);
+
+  private final boolean reNegative, imNegative;
+  /** The biased exponents of the parts */
+  private final int reExponent, imExponent;
+  private final long reMantHi, reMantLo, imMantHi, imMantLo;
+
+  /**
+   * Creates a new {@code ImmutableComplexQuadruple} with the given real and imaginary parts.
+   * @param re the real part
+   * @param im the imaginary part
+   */
+  public ImmutableComplexQuadruple(ImmutableQuadruple re, ImmutableQuadruple im) {
+    this(re.isNegative(), re.exponent(), re.mantHi(), re.mantLo(), im.isNegative(), im.exponent(), im.mantHi(), im.mantLo());
+  }
+
+  /**
+   * Creates a new {@code ImmutableComplexQuadruple} with the given real and imaginary parts.
+   * @param re the real part
+   * @param im the imaginary part
+   */
+  public ImmutableComplexQuadruple(double re, double im) {
+    this(new ImmutableQuadruple(re), new ImmutableQuadruple(im));
+  }
+
+  private ImmutableComplexQuadruple(boolean reNegative, int reExponent, long reMantHi, long reMantLo,
+                                    boolean imNegative, int imExponent, long imMantHi, long imMantLo) {
+    this.reNegative = reNegative;
+    this.reExponent = reExponent;
+    this.reMantHi = reMantHi;
+    this.reMantLo = reMantLo;
+    this.imNegative = imNegative;
+    this.imExponent = imExponent;
+    this.imMantHi = imMantHi;
+    this.imMantLo = imMantLo;
+  }
+
+  /** Creates an instance with the parts held in the two values of the given array of {@link PackedQuadruples} */
+  private static ImmutableComplexQuadruple of(long[] words) {
+    return new ImmutableComplexQuadruple(PackedQuadruples.isNegative(words, 0), PackedQuadruples.exponent(words, 0),
+                                         words[1], words[2],
+                                         PackedQuadruples.isNegative(words, 1), PackedQuadruples.exponent(words, 1),
+                                         words[4], words[5]);
+  }
+
+  /**
+   * Returns the real part of the value.
+   * @return a new instance of {@code ImmutableQuadruple} with the value of the real part
+   */
+  public ImmutableQuadruple re() {
+    return ImmutableQuadruple.construct(reNegative, reExponent, reMantHi, reMantLo);
+  }
+
+  /**
+   * Returns the imaginary part of the value.
+   * @return a new instance of {@code ImmutableQuadruple} with the value of the imaginary part
+   */
+  public ImmutableQuadruple im() {
+    return ImmutableQuadruple.construct(imNegative, imExponent, imMantHi, imMantLo);
+  }
+
+  /**
+   * Checks whether either part of the value is NaN.
+   * @return {@code true} if either part is NaN
+   */
+  public boolean isNaN() {
+    return reExponent == EXPONENT_OF_INFINITY && (reMantHi | reMantLo) != 0
+        || imExponent == EXPONENT_OF_INFINITY && (imMantHi | imMantLo) != 0;
+  }
+
+  /**
+   * Checks whether either part of the value is infinite, even if the other one is NaN.
+   * @return {@code true} if either part is infinite
+   */
+  public boolean isInfinite() {
+    return reExponent == EXPONENT_OF_INFINITY && (reMantHi | reMantLo) == 0
+        || imExponent == EXPONENT_OF_INFINITY && (imMantHi | imMantLo) == 0;
+  }
+
+  /**
+   * Checks whether both parts of the value are zeros.
+   * @return {@code true} if both parts are zeros, positive or negative
+   */
+  public boolean isZero() {
+    return (reExponent | reMantHi | reMantLo | imExponent | imMantHi | imMantLo) == 0;
+  }
+
+  /**
+   * Returns the sum of this value and the given one.
+   * @param summand the value to add
+   * @return a new instance with the value of the sum
+   */
+  public ImmutableComplexQuadruple add(ImmutableComplexQuadruple summand) {
+    return addOrSubtract(summand, false);
+  }
+
+  /**
+   * Returns the difference between this value and the given one.
+   * @param subtrahend the value to subtract
+   * @return a new instance with the value of the difference
+   */
+  public ImmutableComplexQuadruple subtract(ImmutableComplexQuadruple subtrahend) {
+    return addOrSubtract(subtrahend, true);
+  }
+
+  /**
+   * Returns the product of this value and the given one.
+   * Each part of the product is computed from the exact products of the parts of the operands and rounded once.
+   * @param factor the value to multiply by
+   * @return a new instance with the value of the product
+   */
+  public ImmutableComplexQuadruple multiply(ImmutableComplexQuadruple factor) {
+    final Workspace workspace = WORKSPACE.get();
+    final FusedMultiplyAccumulator accumulator = workspace.accumulator;
+    accumulator.reset()
+      .addProduct(reNegative, reExponent, reMantHi, reMantLo,
+                  factor.reNegative, factor.reExponent, factor.reMantHi, factor.reMantLo)
+      .addProduct(!imNegative, imExponent, imMantHi, imMantLo,
+                  factor.imNegative, factor.imExponent, factor.imMantHi, factor.imMantLo)
+      .store(workspace.words, 0);
+    accumulator.reset()
+      .addProduct(reNegative, reExponent, reMantHi, reMantLo,
+                  factor.imNegative, factor.imExponent, factor.imMantHi, factor.imMantLo)
+      .addProduct(imNegative, imExponent, imMantHi, imMantLo,
+                  factor.reNegative, factor.reExponent, factor.reMantHi, factor.reMantLo)
+      .store(workspace.words, 1);
+    return of(workspace.words);
+  }
+
+  /**
+   * Returns the product of this value and the given real value.
+   * @param factor the real value to multiply by
+   * @return a new instance with the value of the product
+   */
+  public ImmutableComplexQuadruple multiply(ImmutableQuadruple factor) {
+    final Workspace workspace = WORKSPACE.get();
+    final Quadruple quadrupleFactor = workspace.second.assign(factor.isNegative(), factor.exponent(), factor.mantHi(), factor.mantLo());
+    final Quadruple re = workspace.first.assign(reNegative, reExponent, reMantHi, reMantLo).multiply(quadrupleFactor);
+    PackedQuadruples.set(workspace.words, 0, re.isNegative(), re.exponent(), re.mantHi(), re.mantLo());
+    final Quadruple im = workspace.first.assign(imNegative, imExponent, imMantHi, imMantLo).multiply(quadrupleFactor);
+    PackedQuadruples.set(workspace.words, 1, im.isNegative(), im.exponent(), im.mantHi(), im.mantLo());
+    return of(workspace.words);
+  }
+
+  /**
+   * Returns the quotient of this value divided by the given one, computed as {@code this·conj(divisor) / |divisor|^2}.
+   * The numerator and the denominator are computed from the exact products of the parts of the operands,
+   * scaled so that the denominator is within {@code [1, 2)}, and rounded once before the division,
+   * so that the error of each part of the quotient doesn't exceed {@code 1.5} units in the last place
+   * of the magnitude of the quotient, unless the quotient is subnormal.
+   * @param divisor the value to divide by
+   * @return a new instance with the value of the quotient
+   */
+  public ImmutableComplexQuadruple divide(ImmutableComplexQuadruple divisor) {
+    if (reExponent == EXPONENT_OF_INFINITY || imExponent == EXPONENT_OF_INFINITY
+        || divisor.reExponent == EXPONENT_OF_INFINITY || divisor.imExponent == EXPONENT_OF_INFINITY || divisor.isZero()) {
+      return divideSpecial(divisor);
+    }
+    if (isTiny() && !isZero()) {
+      return scalb(SCALE_FACTOR).divide(divisor).scalb(-SCALE_FACTOR);
+    }
+    if (divisor.isTiny()) {
+      return divide(divisor.scalb(SCALE_FACTOR)).scalb(SCALE_FACTOR);
+    }
+    final Workspace workspace = WORKSPACE.get();
+    final FusedMultiplyAccumulator accumulator = workspace.accumulator;
+    final long[] words = workspace.words;
+
+    accumulator.reset()
+      .addProduct(divisor.reNegative, divisor.reExponent, divisor.reMantHi, divisor.reMantLo,
+                  divisor.reNegative, divisor.reExponent, divisor.reMantHi, divisor.reMantLo)
+      .addProduct(divisor.imNegative, divisor.imExponent, divisor.imMantHi, divisor.imMantLo,
+                  divisor.imNegative, divisor.imExponent, divisor.imMantHi, divisor.imMantLo);
+    final long scale = -accumulator.exponent();
+    accumulator.scale(scale).store(words, 0);
+    workspace.second.assign(false, PackedQuadruples.exponent(words, 0), words[1], words[2]);
+
+    accumulator.reset()
+      .addProduct(reNegative, reExponent, reMantHi, reMantLo,
+                  divisor.reNegative, divisor.reExponent, divisor.reMantHi, divisor.reMantLo)
+      .addProduct(imNegative, imExponent, imMantHi, imMantLo,
+                  divisor.imNegative, divisor.imExponent, divisor.imMantHi, divisor.imMantLo)
+      .scale(scale).store(words, 0);
+    accumulator.reset()
+      .addProduct(imNegative, imExponent, imMantHi, imMantLo,
+                  divisor.reNegative, divisor.reExponent, divisor.reMantHi, divisor.reMantLo)
+      .addProduct(!reNegative, reExponent, reMantHi, reMantLo,
+                  divisor.imNegative, divisor.imExponent, divisor.imMantHi, divisor.imMantLo)
+      .scale(scale).store(words, 1);
+
+    final Quadruple re = workspace.first.assign(PackedQuadruples.isNegative(words, 0), PackedQuadruples.exponent(words, 0),
+                                                words[1], words[2]).divide(workspace.second);
+    PackedQuadruples.set(words, 0, re.isNegative(), re.exponent(), re.mantHi(), re.mantLo());
+    final Quadruple im = workspace.first.assign(PackedQuadruples.isNegative(words, 1), PackedQuadruples.exponent(words, 1),
+                                                words[4], words[5]).divide(workspace.second);
+    PackedQuadruples.set(words, 1, im.isNegative(), im.exponent(), im.mantHi(), im.mantLo());
+    return of(words);
+  }
+
+  /**
+   * Returns the complex conjugate of the value.
+   * @return a new instance with the same real part and the opposite imaginary part
+   */
+  public ImmutableComplexQuadruple conjugate() {
+    return new ImmutableComplexQuadruple(reNegative, reExponent, reMantHi, reMantLo,
+                                         !imNegative, imExponent, imMantHi, imMantLo);
+  }
+
+  /**
+   * Returns the value with the opposite signs of both parts.
+   * @return a new instance with the value of {@code -this}
+   */
+  public ImmutableComplexQuadruple negate() {
+    return new ImmutableComplexQuadruple(!reNegative, reExponent, reMantHi, reMantLo,
+                                         !imNegative, imExponent, imMantHi, imMantLo);
+  }
+
+  /**
+   * Returns the magnitude of the value, {@code sqrt(re^2 + im^2)}, computed from the exact sum of the squares of the parts,
+   * rounded once before taking the square root.
+   * Like {@link ImmutableQuadruple#hypot(ImmutableQuadruple, ImmutableQuadruple)}, returns {@code POSITIVE_INFINITY}
+   * if either part is infinite, even if the other one is NaN.
+   * @return a new instance of {@code ImmutableQuadruple} with the magnitude of the value
+   */
+  public ImmutableQuadruple abs() {
+    if (isInfinite()) {
+      return ImmutableQuadruple.POSITIVE_INFINITY;
+    }
+    if (isNaN()) {
+      return ImmutableQuadruple.NaN;
+    }
+    if (isZero()) {
+      return ImmutableQuadruple.ZERO;
+    }
+    if (isTiny()) {
+      return scalb(SCALE_FACTOR).abs().scalb(-SCALE_FACTOR);
+    }
+    final Workspace workspace = WORKSPACE.get();
+    final long[] words = workspace.words;
+    final FusedMultiplyAccumulator accumulator = workspace.accumulator.reset()
+      .addProduct(reNegative, reExponent, reMantHi, reMantLo, reNegative, reExponent, reMantHi, reMantLo)
+      .addProduct(imNegative, imExponent, imMantHi, imMantLo, imNegative, imExponent, imMantHi, imMantLo);
+    // Scale the sum by an even power of two to within [1, 4), whose square root gets scaled by the half of it
+    final long halfExponent = Math.floorDiv(accumulator.exponent(), 2);
+    accumulator.scale(-2 * halfExponent).store(words, 0);
+    final Quadruple root = workspace.first.assign(false, PackedQuadruples.exponent(words, 0), words[1], words[2]).sqrt();
+    final long exponent = (root.exponent() & 0xFFFF_FFFFL) + halfExponent;
+    if (halfExponent > Integer.MAX_VALUE) { // The root is not less than 2^(2^31), which is beyond MAX_VALUE
+      return ImmutableQuadruple.POSITIVE_INFINITY;
+    }
+    if (exponent < 1 || exponent > MAX_NORMAL_BIASED_EXPONENT) { // Subnormal or overflow
+      return ImmutableQuadruple.construct(false, root.exponent(), root.mantHi(), root.mantLo()).scalb((int)halfExponent);
+    }
+    return ImmutableQuadruple.construct(false, (int)exponent, root.mantHi(), root.mantLo());
+  }
+
+  /**
+   * Indicates whether the other {@code ImmutableComplexQuadruple} is equal to this one,
+   * i.e. whether their real parts are equal and their imaginary parts are equal,
+   * in the sense of {@link ImmutableQuadruple#equals(Object)}.
+   * @param obj the object to compare with
+   * @return {@code true} if the given object is an {@code ImmutableComplexQuadruple} with the same value
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof ImmutableComplexQuadruple)) return false;
+    final ImmutableComplexQuadruple other = (ImmutableComplexQuadruple)obj;
+    return reNegative == other.reNegative && reExponent == other.reExponent
+        && reMantHi == other.reMantHi && reMantLo == other.reMantLo
+        && imNegative == other.imNegative && imExponent == other.imExponent
+        && imMantHi == other.imMantHi && imMantLo == other.imMantLo;
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Boolean.hashCode(reNegative);
+    result = 31 * result + reExponent;
+    result = 31 * result + Long.hashCode(reMantHi);
+    result = 31 * result + Long.hashCode(reMantLo);
+    result = 31 * result + Boolean.hashCode(imNegative);
+    result = 31 * result + imExponent;
+    result = 31 * result + Long.hashCode(imMantHi);
+    return 31 * result + Long.hashCode(imMantLo);
+  }
+
+  /**
+   * Returns a string representation of the value in the form {@code (re, im)},
+   * with the parts formatted by {@link ImmutableQuadruple#toString()}.
+   */
+  @Override
+  public String toString() {
+    return "(" + re() + ", " + im() + ")";
+  }
+
+  /** Adds the given value to this one or subtracts it from this one, part by part */
+  private ImmutableComplexQuadruple addOrSubtract(ImmutableComplexQuadruple other, boolean subtract) {
+    final Workspace workspace = WORKSPACE.get();
+    final Quadruple re = workspace.first.assign(reNegative, reExponent, reMantHi, reMantLo)
+        .add(workspace.second.assign(other.reNegative ^ subtract, other.reExponent, other.reMantHi, other.reMantLo));
+    PackedQuadruples.set(workspace.words, 0, re.isNegative(), re.exponent(), re.mantHi(), re.mantLo());
+    final Quadruple im = workspace.first.assign(imNegative, imExponent, imMantHi, imMantLo)
+        .add(workspace.second.assign(other.imNegative ^ subtract, other.imExponent, other.imMantHi, other.imMantLo));
+    PackedQuadruples.set(workspace.words, 1, im.isNegative(), im.exponent(), im.mantHi(), im.mantLo());
+    return of(workspace.words);
+  }
+
+  /** Divides by the textbook formula with the {@code ImmutableQuadruple} arithmetic,
+   * for the cases when either operand has NaN or infinite parts, or the divisor is zero */
+  private ImmutableComplexQuadruple divideSpecial(ImmutableComplexQuadruple divisor) {
+    final ImmutableQuadruple re = re(), im = im(), divisorRe = divisor.re(), divisorIm = divisor.im();
+    final ImmutableQuadruple denominator = divisorRe.multiply(divisorRe).add(divisorIm.multiply(divisorIm));
+    return new ImmutableComplexQuadruple(re.multiply(divisorRe).add(im.multiply(divisorIm)).divide(denominator),
+                                         im.multiply(divisorRe).subtract(re.multiply(divisorIm)).divide(denominator));
+  }
+
+  /** Returns {@code true} if both parts are less than {@code 2^(SCALING_THRESHOLD - EXPONENT_BIAS)} in magnitude */
+  private boolean isTiny() {
+    return (reExponent & 0xFFFF_FFFFL) < SCALING_THRESHOLD && (imExponent & 0xFFFF_FFFFL) < SCALING_THRESHOLD;
+  }
+
+  /** Returns the value multiplied by {@code 2^n} */
+  private ImmutableComplexQuadruple scalb(int n) {
+    return new ImmutableComplexQuadruple(re().scalb(n), im().scalb(n));
+  }
+
+  /** The objects reused by the operations of a thread */
+  private static final class Workspace {
+    private final FusedMultiplyAccumulator accumulator = new FusedMultiplyAccumulator();
+    /** Two values, the parts of a result */
+    private final long[] words = PackedQuadruples.newArray(2);
+    /** The operands of the operations of the {@code Quadruple} arithmetic, that modify the first of them */
+    private final Quadruple first = new Quadruple(), second = new Quadruple();
+  }
+
+}
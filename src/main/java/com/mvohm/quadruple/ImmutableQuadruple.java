@@ -1,6 +1,8 @@
 package com.mvohm.quadruple;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.util.Random;
 
 import com.mvohm.quadruple.Quadruple;
@@ -9,6 +11,29 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
 
   private static final long serialVersionUID = 1L;
   private final Quadruple value;
+  /**
+   * The value as a {@code long}, if {@link #isSmallInteger} is set.<br>
+   * Instances created from {@code long} values or integer {@code double} ones, and the results of the operations on them
+   * that fit in a {@code long}, carry the tag and get added, subtracted, multiplied, and compared with plain integer arithmetic.
+   * The {@code value} is always present, so that the tag is only a shortcut and never affects the results.
+   * Instances created by the copying constructor, whose values get modified afterwards, don't carry it
+   */
+  private final transient long smallInteger;
+  private final transient boolean isSmallInteger;
+  /**
+   * The cached hash code, computed on the first call to {@link #hashCode()}, like that of {@code String}.
+   * Both fields are written without synchronization, which is safe since they are always set to the same values.
+   * With the object header alignment, they don't increase the size of an instance
+   */
+  private transient int hash;
+  private transient boolean hashIsZero;
+
+  /**
+   * The cache of the strings returned by {@link #toString()}, or {@code null} if it's disabled.
+   * A direct-mapped table indexed by the hash codes of the values, whose slots get overwritten on collisions.
+   * The entries are immutable, so that they can be read and written without synchronization
+   */
+  private static volatile StringCacheEntry[] stringCache;
 
   /**
    * Creates a new {@code ImmutableQuadruple} instance with value of 0.0 .<br>
@@ -16,6 +41,8 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    */
   public ImmutableQuadruple() {
     value = new Quadruple();
+    smallInteger = 0;
+    isSmallInteger = true;
   }
 
   /**
@@ -26,6 +53,8 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    */
   private ImmutableQuadruple(ImmutableQuadruple iqValue) {
     value = new Quadruple(iqValue.value);
+    smallInteger = 0;
+    isSmallInteger = false;
   }
 
   /**
@@ -36,6 +65,8 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    */
   public ImmutableQuadruple(double dValue) {
     value = new Quadruple(dValue);
+    isSmallInteger = isExactLong(dValue);
+    smallInteger = isSmallInteger? (long)dValue : 0;
   }
 
   /**
@@ -45,6 +76,8 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    * @param lValue  the {@code long} value to be assigned */
   public ImmutableQuadruple(long lValue) {
     value = new Quadruple(lValue);
+    smallInteger = lValue;
+    isSmallInteger = true;
   }
 
   /**
@@ -57,6 +90,8 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    */
   public ImmutableQuadruple(String strValue) {
     value = new Quadruple(strValue);
+    smallInteger = 0;
+    isSmallInteger = false;
   }
 
   /**
@@ -67,27 +102,69 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    */
   public ImmutableQuadruple(BigDecimal bdValue) {
     value = new Quadruple(bdValue);
+    smallInteger = 0;
+    isSmallInteger = false;
   }
 
   public static ImmutableQuadruple construct(boolean sign, int exponent, long mantHi, long mantLo) {
     return new ImmutableQuadruple(new Quadruple(sign, exponent, mantHi, mantLo));
   }
 
-  private ImmutableQuadruple(Quadruple value) {
+  /** Wraps the given {@code Quadruple} without copying it, so that it must not be modified afterwards */
+  ImmutableQuadruple(Quadruple value) {
     this.value = value;
+    smallInteger = 0;
+    isSmallInteger = false;
   }
 
   public static final ImmutableQuadruple ZERO              = new ImmutableQuadruple();
   public static final ImmutableQuadruple NEGATIVE_INFINITY = new ImmutableQuadruple(Quadruple.negativeInfinity());
   public static final ImmutableQuadruple POSITIVE_INFINITY = new ImmutableQuadruple(Quadruple.positiveInfinity());
   public static final ImmutableQuadruple NaN               = new ImmutableQuadruple(Quadruple.nan());
-  public static final ImmutableQuadruple ONE               = new ImmutableQuadruple(Quadruple.one());
-  public static final ImmutableQuadruple TWO               = new ImmutableQuadruple(Quadruple.two());
-  public static final ImmutableQuadruple TEN               = new ImmutableQuadruple(Quadruple.ten());
+  public static final ImmutableQuadruple ONE               = new ImmutableQuadruple(1L);
+  public static final ImmutableQuadruple TWO               = new ImmutableQuadruple(2L);
+  public static final ImmutableQuadruple TEN               = new ImmutableQuadruple(10L);
   public static final ImmutableQuadruple MIN_VALUE         = new ImmutableQuadruple(Quadruple.minValue());
   public static final ImmutableQuadruple MIN_NORMAL        = new ImmutableQuadruple(Quadruple.minNormal());
   public static final ImmutableQuadruple MAX_VALUE         = new ImmutableQuadruple(Quadruple.maxValue());
   public static final ImmutableQuadruple PI                = new ImmutableQuadruple(Quadruple.pi());
+  /** The value of {@code e}, the base of the natural logarithms, rounded to the nearest {@code ImmutableQuadruple} value */
+  public static final ImmutableQuadruple E    = construct(false, 0x8000_0000, 0x5BF0_A8B1_4576_9535L, 0x5FB8_AC40_4E7A_79E4L);
+  /** The value of {@code ln(2)}, rounded to the nearest {@code ImmutableQuadruple} value */
+  public static final ImmutableQuadruple LN2  = construct(false, 0x7FFF_FFFE, 0x62E4_2FEF_A39E_F357L, 0x93C7_6730_07E5_ED5FL);
+  /** The value of {@code ln(10)}, rounded to the nearest {@code ImmutableQuadruple} value */
+  public static final ImmutableQuadruple LN10 = construct(false, 0x8000_0000, 0x26BB_1BBB_5551_582DL, 0xD4AD_AC57_05A6_1452L);
+
+  /** Maximum unbiased exponent a finite {@code ImmutableQuadruple} value can have (that of {@code MAX_VALUE}) */
+  public static final int MAX_EXPONENT = 0xFFFF_FFFE - Quadruple.EXPONENT_BIAS;
+  /** Minimum unbiased exponent a normal {@code ImmutableQuadruple} value can have (that of {@code MIN_NORMAL}) */
+  public static final int MIN_EXPONENT = 1 - Quadruple.EXPONENT_BIAS;
+
+  /** The number of bits of the fractional part of the mantissa */
+  private static final int FRACTION_BITS = 128;
+  private static final long MAX_NORMAL_BIASED_EXPONENT = 0xFFFF_FFFEL;
+  /** The greatest degree of a root, for which {@link #root(int)} finds the power of the approximation with successive multiplications */
+  private static final int MAX_LINEAR_POWER_DEGREE = 16;
+  /** The greatest degree of a root, for which {@link #root(int)} refines the approximation only once */
+  private static final int MAX_SINGLE_STEP_ROOT_DEGREE = 4096;
+  /** The biased exponent of the greater argument of {@link #hypot(ImmutableQuadruple, ImmutableQuadruple)},
+   * below which the arguments get scaled by {@code 2^HYPOT_SCALE_FACTOR} */
+  private static final long HYPOT_SCALING_THRESHOLD = 0x4000_0000L;
+  private static final int HYPOT_SCALE_FACTOR = 0x4000_0000;
+  /** The greatest number of decimal places, for which {@link #roundToDecimalPlaces(int, RoundingMode)} uses integer arithmetic.
+   * {@code 5^27 < 2^63} */
+  private static final int MAX_FAST_DECIMAL_PLACES = 27;
+  private static final double LOG2_OF_10 = Math.log(10) / Math.log(2);
+  /** The greatest exponent difference of the operands of {@link #exactSum(double, double)}, that is handled exactly.
+   * With greater differences, the smaller operand only affects the rounding of the 191-bit sum */
+  private static final int MAX_EXACT_SUM_SHIFT = 138;
+  private static final long DOUBLE_FRACTION_MASK = 0x000F_FFFF_FFFF_FFFFL;
+  private static final long DOUBLE_EXPONENT_MASK = 0x7FF0_0000_0000_0000L;
+  private static final int DOUBLE_EXPONENT_BIAS = 1023;
+  /** The greatest exponent difference, for which {@link #remainder(ImmutableQuadruple)} uses the plain shift-subtract loop */
+  private static final int MAX_SHIFT_SUBTRACT_STEPS = 4096;
+  private static final ImmutableQuadruple NEGATIVE_ZERO = new ImmutableQuadruple(new Quadruple().negate());
+  private static final ImmutableQuadruple MINUS_ONE = new ImmutableQuadruple(-1L);
 
   protected void ____Getters_for_private_fields____() {} // Just to put a visible mark of the section in the outline view of the IDE
 
@@ -157,7 +234,7 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    */
   @Override
   public long longValue() {
-    return value.longValue();
+    return isSmallInteger? smallInteger : value.longValue();
   } // public long longValue() {
 
   /** Converts the value of this {@code ImmutableQuadruple} to a {@code float} value in a way
@@ -176,7 +253,7 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    * */
   @Override
   public double doubleValue() {
-    return value.doubleValue();
+    return isSmallInteger? smallInteger : value.doubleValue();
   }
 
   /**
@@ -199,9 +276,47 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    */
   @Override
   public String toString() {
-    return value.toString();
+    final StringCacheEntry[] cache = stringCache;
+    if (cache == null) {
+      return value.toString();
+    }
+    final int index = hashCode() & (cache.length - 1);
+    final StringCacheEntry entry = cache[index];
+    if (entry != null && entry.value.equals(this)) {
+      return entry.string;
+    }
+    final String string = value.toString();
+    cache[index] = new StringCacheEntry(this, string);
+    return string;
   } // public String toString()
 
+  /**
+   * Enables the cache of the strings returned by {@link #toString()} with the given capacity, or disables it.<br>
+   * The cache holds up to the given number of the most recently converted values with their strings,
+   * replacing an entry when a value with the same slot gets converted.
+   * It saves the time of repeated conversions of the same values at the cost of about 200 bytes per entry.
+   * The cache is disabled by default. Any previously cached strings are discarded.
+   * @param capacity the number of entries, rounded up to a power of two, or 0 to disable the cache
+   * @throws IllegalArgumentException if the capacity is negative or exceeds 2^24
+   */
+  public static void setStringCacheCapacity(int capacity) {
+    if (capacity < 0 || capacity > 1 << 24) {
+      throw new IllegalArgumentException("The capacity of the string cache must be between 0 and 2^24: " + capacity);
+    }
+    stringCache = (capacity == 0)? null : new StringCacheEntry[(capacity == 1)? 1 : Integer.highestOneBit(capacity - 1) << 1];
+  }
+
+  /** A value with its string representation, held in {@link #stringCache} */
+  private static final class StringCacheEntry {
+    final ImmutableQuadruple value;
+    final String string;
+
+    StringCacheEntry(ImmutableQuadruple value, String string) {
+      this.value = value;
+      this.string = string;
+    }
+  }
+
   /**
    * Returns a {@code String} representing the value
    * of this instance in a form defined by the {@code format} parameter.
@@ -316,6 +431,9 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    */
   @Override
   public int compareTo(ImmutableQuadruple other) {
+    if (isSmallInteger && other.isSmallInteger) {
+      return Long.compare(smallInteger, other.smallInteger);
+    }
     return value.compareTo(other.value);
   }
 
@@ -328,7 +446,7 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    * equal to, or greater than the specified {@code long} value.
    */
   public int compareTo(long other) {
-    return value.compareTo(other);
+    return isSmallInteger? Long.compare(smallInteger, other) : value.compareTo(other);
   }
 
   /**
@@ -355,16 +473,67 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
   public boolean equals(Object obj) {
     if (this == obj) return true;
     if (!(obj instanceof ImmutableQuadruple)) return false;
-    return value.equals(((ImmutableQuadruple)obj).value);
+    final ImmutableQuadruple other = (ImmutableQuadruple)obj;
+    if (isSmallInteger && other.isSmallInteger) {
+      return smallInteger == other.smallInteger;
+    }
+    return value.equals(other.value);
   }
 
   /** Computes a hashcode for this {@code ImmutableQuadruple},
    * based on the values of its fields.
+   * It is the folded {@link #longHash()}, so that all its bits are well-mixed and fit for power-of-two hash tables.
+   * The hash code is computed once and cached in the instance.
    * @see java.lang.Object#hashCode()
    */
   @Override
   public int hashCode() {
-    return value.hashCode();
+    int h = hash;
+    if (h == 0 && !hashIsZero) {
+      final long longHash = longHash();
+      h = (int)(longHash ^ (longHash >>> 32));
+      if (h == 0) {
+        hashIsZero = true;
+      } else {
+        hash = h;
+      }
+    }
+    return h;
+  }
+
+  /**
+   * Computes a 64-bit hash code for this {@code ImmutableQuadruple}, for hash tables with 64-bit hashes.<br>
+   * Mixes the sign, the exponent and the mantissa with multiplications and xor-shifts, finalized like in SplitMix64,
+   * so that values differing in any bit have unrelated hashes, in both high and low bits.
+   * The hashes of {@code 0} and {@code -0} are equal, and so are the hashes of all NaNs.
+   * @return a 64-bit hash code of the value
+   */
+  public long longHash() {
+    return longHash(value.isNegative(), value.exponent(), value.mantHi(), value.mantLo());
+  }
+
+  /**
+   * Computes the same 64-bit hash as {@link #longHash()} of a value with the given fields,
+   * so that hash tables can find values by their components without creating instances.
+   * @param negative the sign of the value, {@code true} for negative values
+   * @param exponent the raw (biased) exponent, like that returned by {@link #exponent()}
+   * @param mantHi the 64 most significant bits of the fractional part of the mantissa
+   * @param mantLo the 64 least significant bits of the fractional part of the mantissa
+   * @return a 64-bit hash code of the value
+   */
+  public static long longHash(boolean negative, int exponent, long mantHi, long mantLo) {
+    if (exponent == Quadruple.EXPONENT_OF_INFINITY && (mantHi | mantLo) != 0) {
+      mantHi = 0x8000_0000_0000_0000L; // All NaNs, like Quadruple.nan(), distinct from the infinities
+      mantLo = 0;
+      negative = false;
+    } else if ((exponent | mantHi | mantLo) == 0) {
+      negative = false;    // Zeros
+    }
+    long h = ((exponent & 0xFFFF_FFFFL) | (negative? 1L << 32 : 0)) * 0x9E37_79B9_7F4A_7C15L;
+    h = (h ^ mantHi) * 0xC2B2_AE3D_27D4_EB4FL;
+    h = (Long.rotateLeft(h, 31) ^ mantLo) * 0xBF58_476D_1CE4_E5B9L;
+    h = (h ^ (h >>> 32)) * 0x94D0_49BB_1331_11EBL;
+    return h ^ (h >>> 29);
   }
 
   /**
@@ -444,6 +613,10 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    * @return the reference to a object, which holds the sum of this instance's value and the value of the summand
    */
   public ImmutableQuadruple add(ImmutableQuadruple summand) {
+    if (isSmallInteger && summand.isSmallInteger) {
+      final ImmutableQuadruple sum = addSmallIntegers(smallInteger, summand.smallInteger);
+      if (sum != null) return sum;
+    }
     final ImmutableQuadruple newInstance = new ImmutableQuadruple(this);
     newInstance.value.add(summand.value);
     return newInstance;
@@ -457,6 +630,10 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    * @return a new {@code ImmutableQuadruple} instance which holds the sum of this instance's value and the value of the summand
    */
   public ImmutableQuadruple  add(long summand) {
+    if (isSmallInteger) {
+      final ImmutableQuadruple sum = addSmallIntegers(smallInteger, summand);
+      if (sum != null) return sum;
+    }
     final ImmutableQuadruple newInstance = new ImmutableQuadruple(this);
     newInstance.value.add(summand);
     return newInstance;
@@ -519,6 +696,10 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    * the difference between its previous value and the value of the subtrahend
    */
   public ImmutableQuadruple subtract(ImmutableQuadruple subtrahend) {
+    if (isSmallInteger && subtrahend.isSmallInteger) {
+      final ImmutableQuadruple difference = subtractSmallIntegers(smallInteger, subtrahend.smallInteger);
+      if (difference != null) return difference;
+    }
     final ImmutableQuadruple newInstance = new ImmutableQuadruple(this);
     newInstance.value.subtract(subtrahend.value);
     return newInstance;
@@ -533,6 +714,10 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    * the difference between its previous value and the value of the subtrahend
    */
   public ImmutableQuadruple subtract(long subtrahend) {
+    if (isSmallInteger) {
+      final ImmutableQuadruple difference = subtractSmallIntegers(smallInteger, subtrahend);
+      if (difference != null) return difference;
+    }
     final ImmutableQuadruple newInstance = new ImmutableQuadruple(this);
     newInstance.value.subtract(subtrahend);
     return newInstance;
@@ -561,9 +746,7 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    * @return a new instance of Quadruple containing the difference
    */
   public static ImmutableQuadruple subtract(ImmutableQuadruple minuend, ImmutableQuadruple subtrahend) {
-    minuend = new ImmutableQuadruple(minuend);
-    minuend.value.subtract(subtrahend.value);
-    return minuend;
+    return minuend.subtract(subtrahend);
   } // public static Quadruple subtract(Quadruple minuend, Quadruple subtrahend) {
 
   /**
@@ -576,9 +759,7 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    * @return a new instance of Quadruple containing the difference
    */
   public static ImmutableQuadruple subtract(ImmutableQuadruple minuend, long subtrahend) {
-    minuend = new ImmutableQuadruple(minuend);
-    minuend.value.subtract(subtrahend);
-    return minuend;
+    return minuend.subtract(subtrahend);
   }
 
   /**
@@ -604,6 +785,10 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    * the product of its previous value and the value of the factor
    */
   public ImmutableQuadruple multiply(ImmutableQuadruple factor) {
+    if (isSmallInteger && factor.isSmallInteger) {
+      final ImmutableQuadruple product = multiplySmallIntegers(smallInteger, factor.smallInteger);
+      if (product != null) return product;
+    }
     final ImmutableQuadruple product = new ImmutableQuadruple(this);
     product.value.multiply(factor.value);
     return product;
@@ -618,6 +803,10 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    * the product of its previous value and the value of the factor
    */
   public ImmutableQuadruple multiply(long factor) {
+    if (isSmallInteger) {
+      final ImmutableQuadruple product = multiplySmallIntegers(smallInteger, factor);
+      if (product != null) return product;
+    }
     final ImmutableQuadruple product = new ImmutableQuadruple(this);
     product.value.multiply(factor);
     return product;
@@ -646,9 +835,7 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    * @return a new instance of Quadruple containing the value of the product
    */
   public static ImmutableQuadruple multiply(ImmutableQuadruple factor1, ImmutableQuadruple factor2) {
-    factor1 = new ImmutableQuadruple(factor1);
-    factor1.value.multiply(factor2.value);
-    return factor1;
+    return factor1.multiply(factor2);
   }
 
   /**
@@ -661,9 +848,7 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
    * @return a new instance of Quadruple containing the value of the product
    */
   public static ImmutableQuadruple multiply(ImmutableQuadruple factor1, long factor2) {
-    factor1 = new ImmutableQuadruple(factor1);
-    factor1.value.multiply(factor2);
-    return factor1;
+    return factor1.multiply(factor2);
   } // public static Quadruple multiply(Quadruple factor1, long factor2) {
 
   /**
@@ -766,6 +951,177 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
     return quotient;
   }
 
+  /**
+   * Divides the value of this instance by the value of the given prepared {@code QuadrupleDivisor}
+   * and returns a new instance containing the quotient.
+   * The result is the same as that of {@code divide(divisor.divisor())},
+   * but is computed by a multiplication by the precomputed reciprocal of the divisor.
+   * @param divisor the prepared divisor to divide the value of this instance by
+   * @return a new instance of {@code ImmutableQuadruple}, which holds the value of the quotient
+   * @see QuadrupleDivisor
+   */
+  public ImmutableQuadruple divide(QuadrupleDivisor divisor) {
+    return divisor.divide(this);
+  }
+
+  /**
+   * Divides the value of the given dividend by the value of the given prepared {@code QuadrupleDivisor},
+   * creates and returns a new instance of Quadruple containing the quotient.
+   * The result is the same as that of {@code divide(dividend, divisor.divisor())}.
+   * @param dividend the value to be divided by the divisor
+   * @param divisor the prepared divisor to divide the dividend by
+   * @return a new instance of Quadruple, which holds the value of the quotient
+   * @see QuadrupleDivisor
+   */
+  public static ImmutableQuadruple divide(ImmutableQuadruple dividend, QuadrupleDivisor divisor) {
+    return divisor.divide(dividend);
+  }
+
+  /* ***********************************************************************************
+   ****** Exact operations on doubles *************************************************
+   *********************************************************************************** */
+
+  /**
+   * Returns the exact product of two {@code double} values.<br>
+   * The product of two 53-bit mantissas takes not more than 106 bits and always fits in the mantissa
+   * of {@code ImmutableQuadruple}, so the result is built directly from the bit patterns of the operands,
+   * without converting them into {@code ImmutableQuadruple} values and without rounding.<br>
+   * If an operand is NaN or infinite, or if the product is zero, the result is the same as {@code new ImmutableQuadruple(a * b)}.
+   * @param a the first factor
+   * @param b the second factor
+   * @return an instance containing the exact value of {@code a * b}
+   */
+  public static ImmutableQuadruple exactProduct(double a, double b) {
+    if (!Double.isFinite(a) || !Double.isFinite(b) || a == 0 || b == 0) {
+      return new ImmutableQuadruple(a * b);
+    }
+    final long bitsA = Double.doubleToRawLongBits(a), bitsB = Double.doubleToRawLongBits(b);
+    final long mantA = doubleMantissa(bitsA), mantB = doubleMantissa(bitsB);
+    return fromWords((bitsA ^ bitsB) < 0, 0, Math.multiplyHigh(mantA, mantB), mantA * mantB,
+                     (long)doubleExponent(bitsA) + doubleExponent(bitsB));
+  }
+
+  /**
+   * Returns the exact sum of two {@code double} values, if it fits in 129 bits.<br>
+   * The result is built directly from the bit patterns of the operands, by adding or subtracting their mantissas
+   * aligned as integers. It is exact when the exponents of the operands differ by less than 76,
+   * and when the sum is a result of cancellation; otherwise it is rounded to the nearest {@code ImmutableQuadruple} value, half-even.<br>
+   * If an operand is NaN or infinite, or both are zeros, the result is the same as {@code new ImmutableQuadruple(a + b)};
+   * the zero sum of non-zero operands is {@code +0}.
+   * @param a the first summand
+   * @param b the second summand
+   * @return an instance containing the value of {@code a + b}
+   */
+  public static ImmutableQuadruple exactSum(double a, double b) {
+    if (!Double.isFinite(a) || !Double.isFinite(b) || (a == 0 && b == 0)) {
+      return new ImmutableQuadruple(a + b);
+    }
+    long bitsA = Double.doubleToRawLongBits(a), bitsB = Double.doubleToRawLongBits(b);
+    if (doubleExponent(bitsA) < doubleExponent(bitsB)) {
+      final long bits = bitsA;
+      bitsA = bitsB;
+      bitsB = bits;
+    }
+    int shift = doubleExponent(bitsA) - doubleExponent(bitsB);
+    final long mantA = doubleMantissa(bitsA);
+    long mantB = doubleMantissa(bitsB);
+    if (shift > MAX_EXACT_SUM_SHIFT) { // The smaller operand only affects the rounding, as a sticky bit
+      shift = MAX_EXACT_SUM_SHIFT;
+      mantB = (mantB == 0)? 0 : 1;
+    }
+
+    // mantA * 2^shift, up to 191 bits
+    long w2 = 0, w1 = 0, w0 = 0;
+    if (shift < 64) {
+      w0 = mantA << shift;
+      w1 = (shift == 0)? 0 : mantA >>> (64 - shift);
+    } else if (shift < 128) {
+      w1 = mantA << (shift - 64);
+      w2 = (shift == 64)? 0 : mantA >>> (128 - shift);
+    } else {
+      w2 = mantA << (shift - 128);
+    }
+
+    boolean negative = bitsA < 0;
+    if ((bitsA ^ bitsB) >= 0) {
+      w0 += mantB;
+      final long carry = MantissaArithmetic.carryOf(w0, mantB);
+      w1 += carry;
+      w2 += (carry != 0 && w1 == 0)? 1 : 0;
+    } else if (MantissaArithmetic.compare192(w2, w1, w0, 0, 0, mantB) < 0) {
+      w0 = mantB - w0;  // Here w1 == w2 == 0
+      negative = !negative;
+    } else {
+      final long borrow = Long.compareUnsigned(w0, mantB) < 0? 1 : 0;
+      w0 -= mantB;
+      w2 -= (borrow != 0 && w1 == 0)? 1 : 0;
+      w1 -= borrow;
+    }
+    if ((w2 | w1 | w0) == 0) {
+      return ZERO;
+    }
+    return fromWords(negative, w2, w1, w0, (long)doubleExponent(bitsA) - shift);
+  }
+
+  /**
+   * Returns the exact difference of two {@code double} values, if it fits in 129 bits.
+   * The result is the same as that of {@code exactSum(a, -b)}.
+   * @param a the minuend
+   * @param b the subtrahend
+   * @return an instance containing the value of {@code a - b}
+   * @see #exactSum(double, double)
+   */
+  public static ImmutableQuadruple exactDifference(double a, double b) {
+    return exactSum(a, -b);
+  }
+
+  /**
+   * Returns the sum of the values of the given array, correctly rounded to the nearest {@code ImmutableQuadruple} value.
+   * The values are added up exactly, without creating {@code ImmutableQuadruple} instances for them.
+   * @param values the values to add up
+   * @return an instance containing the sum of the values
+   * @see QuadrupleAccumulator
+   */
+  public static ImmutableQuadruple sum(double[] values) {
+    return QuadrupleAccumulator.sum(values);
+  }
+
+  /**
+   * Returns the dot product of the given vectors, correctly rounded to the nearest {@code ImmutableQuadruple} value.
+   * The products of the elements and their sum are found exactly, without creating {@code ImmutableQuadruple} instances for them.
+   * @param a the first vector
+   * @param b the second vector, of the same length
+   * @return an instance containing the dot product of the vectors
+   * @throws IllegalArgumentException if the lengths of the vectors differ
+   * @see QuadrupleAccumulator
+   */
+  public static ImmutableQuadruple dot(double[] a, double[] b) {
+    return QuadrupleAccumulator.dot(a, b);
+  }
+
+  /**
+   * Returns the Euclidean norm of the given vector, with an error not exceeding 1 ulp.
+   * The sum of the squares of the elements is found exactly, without creating {@code ImmutableQuadruple} instances for them.
+   * @param values the elements of the vector
+   * @return an instance containing the Euclidean norm of the vector
+   * @see QuadrupleAccumulator
+   */
+  public static ImmutableQuadruple norm2(double[] values) {
+    return QuadrupleAccumulator.norm2(values);
+  }
+
+  /** The mantissa of a finite {@code double} given by its bits, as an integer, including the implicit unity of normal values */
+  private static long doubleMantissa(long bits) {
+    final long fraction = bits & DOUBLE_FRACTION_MASK;
+    return ((bits & DOUBLE_EXPONENT_MASK) == 0)? fraction : fraction | (DOUBLE_FRACTION_MASK + 1);
+  }
+
+  /** The exponent of the least significant bit of the mantissa of a finite {@code double} given by its bits */
+  private static int doubleExponent(long bits) {
+    final int biasedExponent = (int)((bits & DOUBLE_EXPONENT_MASK) >>> 52);
+    return Math.max(biasedExponent, 1) - DOUBLE_EXPONENT_BIAS - 52;
+  }
+
   /* ***********************************************************************************
    ****** Square root ******************************************************************
    *********************************************************************************** */
@@ -796,30 +1152,1515 @@ public class ImmutableQuadruple extends Number implements Comparable<ImmutableQu
   } // public static Quadruple sqrt(Quadruple square) {
 
   /* ***********************************************************************************
-   ****** Miscellaneous utility methods ************************************************
+   ****** Other roots ******************************************************************
    *********************************************************************************** */
 
-  protected void ________Miscellaneous_utility_methods_________ () {} // Just to put a visible mark of the section in the outline view of the IDE
+  /**
+   * Computes the reciprocal of the square root of the value of this instance, {@code 1 / sqrt(x)},
+   * and returns a new instance containing the result.<br>
+   * An approximation found with {@code double} arithmetic is refined with a step of the Householder method
+   * of the second order, performed within the buffer of the result, so that the method creates no other objects
+   * (unless the value is subnormal).
+   * The error of the result does not exceed 1 unit in the last place (a relative error of 2.94e-39),
+   * while {@code ONE.divide(x.sqrt())} takes two roundings and an intermediate instance.<br>
+   * {@code rsqrt(0)} is {@code POSITIVE_INFINITY}, {@code rsqrt(-0)} is {@code NEGATIVE_INFINITY},
+   * {@code rsqrt(POSITIVE_INFINITY)} is 0, and the result for a negative value or NaN is NaN.
+   * @return a new instance containing the value of {@code 1 / sqrt(this)}
+   */
+  public ImmutableQuadruple rsqrt() {
+    if (isNaN()) {
+      return this;
+    }
+    if (isZero()) {
+      return isNegative()? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+    }
+    if (isNegative()) {
+      return NaN;
+    }
+    if (isInfinite()) {
+      return ZERO;
+    }
+    if (value.exponent() == 0) { // Subnormal, make it normal
+      return scalb(256).rsqrt().scalb(128);
+    }
+
+    final long e = (value.exponent() & 0xFFFF_FFFFL) - Quadruple.EXPONENT_BIAS;
+    final long q = Math.floorDiv(e, 2);
+    final int s = (int)(e - 2 * q);               // x = m * 2^s * 2^(2 * q), 1 <= m < 2
+    final double y = 1 / Math.sqrt(Math.scalb(approximateMantissa(), s));
+    final ImmutableQuadruple result = new ImmutableQuadruple(new Quadruple(y));
+    final Quadruple buffer = result.value;
+
+    // delta = 1 - x * y^2 * 2^(-2q). y^2 is exact, and the subtraction is exact, since x * y^2 * 2^(-2q) is close to 1
+    buffer.multiply(y).multiply(value);
+    shiftExponent(buffer, -2 * q);
+    buffer.negate().add(ONE.value);
+    final double delta = buffer.doubleValue();
+    // 1 / sqrt(m * 2^s) = y / sqrt(1 - delta) = y + y * delta/2 * (1 + 3/4 * delta + ...)
+    buffer.multiply(0.5 * y);
+    buffer.add(buffer.doubleValue() * (0.75 * delta)).add(y);
+    shiftExponent(buffer, -q);
+    return result;
+  }
 
   /**
-   * Changes the sign of this Quadruple.
-   * @return the reference to this object, which holds a new value that
-   * equals the previous value in magnitude, but with opposite sign
+   * Computes the reciprocal of the square root of the given value, like {@link #rsqrt()}.
+   * @param square the value to find the reciprocal of the square root of
+   * @return a new instance containing the value of {@code 1 / sqrt(square)}
    */
-  public ImmutableQuadruple negate() {
-    final ImmutableQuadruple result = new ImmutableQuadruple(this);
-    result.value.negate();
+  public static ImmutableQuadruple rsqrt(ImmutableQuadruple square) {
+    return square.rsqrt();
+  }
+
+  /**
+   * Computes the cube root of the value of this instance and returns a new instance containing the result.<br>
+   * The same as {@link #root(int) root(3)}, that creates no objects besides the result
+   * (unless the value is subnormal). The error of the result does not exceed 1 unit in the last place
+   * (a relative error of 2.94e-39).
+   * The cube root of a negative value is negative, zeros, infinities and NaN are returned unchanged.
+   * @return a new instance containing the cube root of the value of this instance
+   */
+  public ImmutableQuadruple cbrt() {
+    return root(3);
+  }
+
+  /**
+   * Computes the cube root of the given value, like {@link #cbrt()}.
+   * @param cube the value to find the cube root of
+   * @return a new instance containing the cube root of the given value
+   */
+  public static ImmutableQuadruple cbrt(ImmutableQuadruple cube) {
+    return cube.root(3);
+  }
+
+  /**
+   * Computes the root of the given degree {@code n} of the value of this instance
+   * and returns a new instance containing the result.<br>
+   * The value is represented as {@code a * 2^(n * q)}, {@code 1 <= a < 2^n}, and an approximation of {@code a^(1/n)}
+   * found with {@code double} arithmetic is refined with a step of Halley's method.
+   * {@code y^n} needed for it is found with successive multiplications by the {@code double} approximation {@code y}
+   * for {@code n <= 16}, so that the method creates no objects besides the result (unless the value is subnormal),
+   * and with binary exponentiation otherwise, which takes a temporary buffer.
+   * For {@code n > 4096}, the result gets refined once more, with a step of Newton's method.
+   * The error of the result does not exceed 1 unit in the last place (a relative error of 2.94e-39).<br>
+   * {@code x.root(1)} is {@code x}, and {@code x.root(2)} is the same as {@link #sqrt()}.
+   * The roots of odd degrees of negative values are negative, the roots of even degrees of negative values are NaN.
+   * Zeros, infinities (unless the root of a negative value is NaN), and NaN are returned unchanged.
+   * @param n the degree of the root, must be positive
+   * @return a new instance containing the value of {@code this^(1/n)}
+   * @throws IllegalArgumentException if {@code n} is not positive
+   */
+  public ImmutableQuadruple root(int n) {
+    if (n < 1) {
+      throw new IllegalArgumentException("The degree of a root must be positive, but it is " + n);
+    }
+    if (n == 1 || isNaN() || isZero()) {
+      return this;
+    }
+    if (n == 2) {
+      return sqrt();
+    }
+    if (isNegative() && (n & 1) == 0) {
+      return NaN;
+    }
+    if (isInfinite()) {
+      return this;
+    }
+    if (value.exponent() == 0) { // Subnormal, make it normal
+      final int k = (n > FRACTION_BITS)? 1 : (FRACTION_BITS + n) / n;  // n * k > FRACTION_BITS
+      return scalb(n * k).root(n).scalb(-k);
+    }
+
+    final long e = (value.exponent() & 0xFFFF_FFFFL) - Quadruple.EXPONENT_BIAS;
+    final long q = Math.floorDiv(e, n);
+    final int s = (int)(e - n * q);               // x = m * 2^s * 2^(n * q), 1 <= m < 2, 0 <= s < n
+    final double m = approximateMantissa();
+    final double y = (n == 3)? Math.cbrt(Math.scalb(m, s)) : Math.pow(m, 1.0 / n) * Math.pow(2, (double)s / n);
+
+    final Quadruple buffer;
+    if (n <= MAX_LINEAR_POWER_DEGREE) {
+      buffer = new Quadruple(y);
+      for (int i = 1; i < n; i++) {
+        buffer.multiply(y);
+      }
+    } else {
+      buffer = power(new Quadruple(y), n).value;
+    }
+    final double delta = relativeDifference(buffer, n * q).doubleValue(); // (|x| - y^n * 2^(n * q)) / |x|
+    // a^(1/n) = y * (1 - delta)^(-1/n) ~= y + y * delta / (n - (n + 1) * delta / 2) = y + y * delta/n * (1 + c + c^2 + ...),
+    // where c = (n + 1) * delta / (2 * n)
+    final double c = (n + 1) * delta / (2.0 * n);
+    buffer.multiply(y).divide(n);
+    buffer.add(buffer.doubleValue() * (c + c * c)).add(y);
+
+    if (n > MAX_SINGLE_STEP_ROOT_DEGREE) {
+      // The error of the initial approximation is magnified by a factor of about n^2, refine once more
+      final Quadruple correction = relativeDifference(power(buffer, n).value, n * q);
+      buffer.add(correction.multiply(buffer).divide(n));
+    }
+
+    shiftExponent(buffer, q);
+    if (isNegative()) {
+      buffer.negate();
+    }
+    return new ImmutableQuadruple(buffer);
+  }
+
+  /**
+   * Computes the root of the given degree {@code n} of the given value, like {@link #root(int)}.
+   * @param x the value to find the root of
+   * @param n the degree of the root, must be positive
+   * @return a new instance containing the value of {@code x^(1/n)}
+   * @throws IllegalArgumentException if {@code n} is not positive
+   */
+  public static ImmutableQuadruple root(ImmutableQuadruple x, int n) {
+    return x.root(n);
+  }
+
+  /**
+   * Computes {@code sqrt(a^2 + b^2)} without intermediate overflow or underflow,
+   * and returns a new instance containing the result.<br>
+   * With {@code |a| >= |b|}, the result is found as {@code |a| * sqrt(1 + t^2)}, where {@code t^2 = b * (b / a) / a},
+   * within the buffer of the result, so that the method creates no other objects
+   * (unless the arguments are less than {@code 2^-1073741823}).
+   * The error of the result does not exceed 2 units in the last place (a relative error of 5.88e-39).<br>
+   * Like {@link Math#hypot(double, double)}, returns {@code POSITIVE_INFINITY} if either argument is infinite,
+   * even if the other one is NaN, and NaN if either argument is NaN and neither is infinite.
+   * @param a the first argument
+   * @param b the second argument
+   * @return a new instance containing the value of {@code sqrt(a^2 + b^2)}
+   */
+  public static ImmutableQuadruple hypot(ImmutableQuadruple a, ImmutableQuadruple b) {
+    if (a.isInfinite() || b.isInfinite()) {
+      return POSITIVE_INFINITY;
+    }
+    if (a.isNaN() || b.isNaN()) {
+      return NaN;
+    }
+    final ImmutableQuadruple greater = (a.compareMagnitudeTo(b) >= 0)? a : b;
+    final ImmutableQuadruple less = (greater == a)? b : a;
+    if (less.isZero()) {
+      return greater.abs();
+    }
+    if ((greater.value.exponent() & 0xFFFF_FFFFL) < HYPOT_SCALING_THRESHOLD) {
+      // b * (b / a) could lose precision, being subnormal
+      return hypot(greater.scalb(HYPOT_SCALE_FACTOR), less.scalb(HYPOT_SCALE_FACTOR)).scalb(-HYPOT_SCALE_FACTOR);
+    }
+
+    final ImmutableQuadruple result = new ImmutableQuadruple(new Quadruple(less.value));
+    result.value.divide(greater.value).multiply(less.value).divide(greater.value)
+        .add(ONE.value).sqrt().multiply(greater.value).abs();
+    return result;
+  }
+
+  /** Returns the value of {@code 1 + (the upper 52 bits of the fractional part of the mantissa)} as a {@code double} */
+  private double approximateMantissa() {
+    return Double.longBitsToDouble(0x3FF0_0000_0000_0000L | (value.mantHi() >>> 12));
+  }
+
+  /** Replaces the value of {@code power}, that must be positive and close to {@code |this| * 2^(-shift)},
+   * with {@code delta = (|this| - power * 2^shift) / |this|}. The subtraction is exact, since the values are close */
+  private Quadruple relativeDifference(Quadruple power, long shift) {
+    power.assign(!isNegative(), (int)((power.exponent() & 0xFFFF_FFFFL) + shift), power.mantHi(), power.mantLo());
+    return power.add(value).divide(value);
+  }
+
+  /** Multiplies the value of the buffer by {@code 2^shift}, assuming that the result is normal */
+  private static void shiftExponent(Quadruple buffer, long shift) {
+    buffer.assign(buffer.isNegative(), (int)((buffer.exponent() & 0xFFFF_FFFFL) + shift), buffer.mantHi(), buffer.mantLo());
+  }
+
+  /* ***********************************************************************************
+   ****** Powers ***********************************************************************
+   *********************************************************************************** */
+
+  /**
+   * Raises the value of this instance to the given integer power
+   * and returns a new instance containing the result.<br>
+   * Uses binary exponentiation, so that it takes not more than {@code 2 * log2(|exponent|)} multiplications,
+   * which are performed in place, without creating intermediate instances.
+   * The relative error of the result does not exceed {@code |exponent|} units in the last place.<br>
+   * For negative exponents, computes the reciprocal of the positive power,
+   * or the positive power of the reciprocal if the former falls out of the range of the values.
+   * {@code x.pow(0)} is {@code ONE} for any {@code x}, including NaN.
+   * For other exponents, special values are handled in accordance with the rules of multiplication and division.
+   * @param exponent the power to raise the value to
+   * @return a new instance containing the value of {@code this^exponent}
+   */
+  public ImmutableQuadruple pow(int exponent) {
+    if (exponent == 0) {
+      return ONE;
+    }
+    final long magnitude = Math.abs((long)exponent);
+    final ImmutableQuadruple power = power(value, magnitude);
+    if (exponent > 0) {
+      return power;
+    }
+    if ((power.isInfinite() || power.isZero()) && !(isInfinite() || isZero() || isNaN())) {
+      return power(ONE.divide(this).value, magnitude); // 1 / x^n would be out of range, though (1 / x)^n may be not
+    }
+    return new ImmutableQuadruple(Quadruple.one().divide(power.value));
+  }
+
+  /**
+   * Raises the given value to the given integer power and returns a new instance containing the result.
+   * @param base the value to raise to the power
+   * @param exponent the power to raise the value to
+   * @return a new instance containing the value of {@code base^exponent}
+   * @see #pow(int)
+   */
+  public static ImmutableQuadruple pow(ImmutableQuadruple base, int exponent) {
+    return base.pow(exponent);
+  }
+
+  /**
+   * Raises the value of this instance to the power given by an {@code ImmutableQuadruple} value
+   * and returns a new instance containing the result.<br>
+   * If the exponent is an integer within the range of {@code int}, the result is the same as that of {@link #pow(int)}.
+   * Otherwise the result is computed as {@code e^(exponent * ln(this))}, and its error does not exceed
+   * {@code 0.6 + 6 * |exponent * ln(this)|} units in the last place, since the exponentiation magnifies
+   * the error of the product.<br>
+   * Special cases follow the rules of {@link Math#pow(double, double)}.
+   * @param exponent the power to raise the value to
+   * @return a new instance containing the value of {@code this^exponent}
+   */
+  public ImmutableQuadruple pow(ImmutableQuadruple exponent) {
+    return QuadrupleMath.pow(this, exponent);
+  }
+
+  /**
+   * Raises the given value to the power given by an {@code ImmutableQuadruple} value
+   * and returns a new instance containing the result.
+   * @param base the value to raise to the power
+   * @param exponent the power to raise the value to
+   * @return a new instance containing the value of {@code base^exponent}
+   * @see #pow(ImmutableQuadruple)
+   */
+  public static ImmutableQuadruple pow(ImmutableQuadruple base, ImmutableQuadruple exponent) {
+    return QuadrupleMath.pow(base, exponent);
+  }
+
+  /** Left-to-right binary exponentiation, {@code exponent > 0} */
+  private static ImmutableQuadruple power(Quadruple base, long exponent) {
+    final ImmutableQuadruple result = new ImmutableQuadruple(new Quadruple(base));
+    final Quadruple square = new Quadruple();
+    for (int bit = 62 - Long.numberOfLeadingZeros(exponent); bit >= 0; bit--) {
+      result.value.multiply(square.assign(result.value));
+      if (((exponent >>> bit) & 1) != 0) {
+        result.value.multiply(base);
+      }
+    }
     return result;
   }
 
   /**
-   * Returns a new instance of {@code Quadruple} with the value of the absolute value of this instance
-   * @return a new instance of {@code Quadruple} with the value of the absolute value of this instance
+   * Returns a new instance with the value of this instance multiplied by {@code 10^n}.<br>
+   * The powers of ten are taken from a table, that gets built the first time the method is called.
+   * For {@code -55 <= n <= 55}, the power of ten is exact, and the result is correctly rounded.
+   * Greater powers are composed of up to 25 table entries with 256 bits of precision,
+   * and the exact product of the value by the composed power is rounded once, half-even.
+   * Since the relative error of the composed power is less than {@code 2^-224}, the result is correctly rounded,
+   * unless the exact result is extremely close to a midpoint between two adjacent {@code ImmutableQuadruple} values,
+   * so that the error does not exceed {@code 0.5 + 2^-95} units in the last place.<br>
+   * Results with magnitudes exceeding {@code MAX_VALUE} are infinities.
+   * Zeros, infinities, and NaN are returned unchanged.
+   * @param n the power of ten to multiply the value by
+   * @return a new instance with the value of {@code this * 10^n}
    */
-  public ImmutableQuadruple abs() {
-    if (!value.isNegative()) {
+  public ImmutableQuadruple scaleByPowerOfTen(int n) {
+    if (n == 0 || isZero() || value.exponent() == Quadruple.EXPONENT_OF_INFINITY) {
       return this;
     }
+
+    if (Math.abs(n) > PowersOfTen.MAX_EXACT_POWER) {
+      return PowersOfTen.multiply(this, n);
+    }
+    // The power of ten is exact, so a single operation gives the correctly rounded result
+    final ImmutableQuadruple result = new ImmutableQuadruple(this);
+    if (n < 0) {
+      result.value.divide(PowersOfTen.POSITIVE_SMALL[-n].value);
+    } else {
+      result.value.multiply(PowersOfTen.POSITIVE_SMALL[n].value);
+    }
+    return result;
+  }
+
+  /* ***********************************************************************************
+   ****** Exponential and logarithms **************************************************
+   *********************************************************************************** */
+
+  /**
+   * Computes {@code e^x}, where {@code x} is the value of this instance, and returns a new instance containing the result.<br>
+   * Uses a table of {@code 2^(j/64)} to reduce the argument. The error of the result does not exceed
+   * 0.6 units in the last place, that is a relative error of 1.77e-39, compared to 1.47e-39 of the basic arithmetic operations,
+   * unless the result is subnormal.
+   * Results greater than {@code MAX_VALUE} are {@code POSITIVE_INFINITY},
+   * {@code exp(NEGATIVE_INFINITY)} is 0, and {@code exp(NaN)} is NaN.
+   * @return a new instance containing the value of {@code e^this}
+   */
+  public ImmutableQuadruple exp() {
+    return QuadrupleMath.exp(this);
+  }
+
+  /**
+   * Computes {@code e^x} and returns a new instance containing the result.
+   * @param x the argument
+   * @return a new instance containing the value of {@code e^x}
+   * @see #exp()
+   */
+  public static ImmutableQuadruple exp(ImmutableQuadruple x) {
+    return QuadrupleMath.exp(x);
+  }
+
+  /**
+   * Computes the natural logarithm of the value of this instance and returns a new instance containing the result.<br>
+   * Uses a table of {@code ln(i/128)} to reduce the argument. The error of the result does not exceed
+   * 2.5 units in the last place, that is a relative error of 7.35e-39.
+   * The logarithm of 0 is {@code NEGATIVE_INFINITY}, the logarithm of a negative value or NaN is NaN.
+   * @return a new instance containing the value of {@code ln(this)}
+   */
+  public ImmutableQuadruple log() {
+    return QuadrupleMath.log(this);
+  }
+
+  /**
+   * Computes the natural logarithm of the given value and returns a new instance containing the result.
+   * @param x the argument
+   * @return a new instance containing the value of {@code ln(x)}
+   * @see #log()
+   */
+  public static ImmutableQuadruple log(ImmutableQuadruple x) {
+    return QuadrupleMath.log(x);
+  }
+
+  /**
+   * Computes the base 2 logarithm of the value of this instance and returns a new instance containing the result.<br>
+   * The error of the result does not exceed 3.5 units in the last place, that is a relative error of 1.03e-38.
+   * Powers of two have exact logarithms.
+   * Special values are handled like in {@link #log()}.
+   * @return a new instance containing the value of {@code log2(this)}
+   */
+  public ImmutableQuadruple log2() {
+    return QuadrupleMath.log2(this);
+  }
+
+  /**
+   * Computes the base 2 logarithm of the given value and returns a new instance containing the result.
+   * @param x the argument
+   * @return a new instance containing the value of {@code log2(x)}
+   * @see #log2()
+   */
+  public static ImmutableQuadruple log2(ImmutableQuadruple x) {
+    return QuadrupleMath.log2(x);
+  }
+
+  /**
+   * Computes the base 10 logarithm of the value of this instance and returns a new instance containing the result.<br>
+   * The error of the result does not exceed 3.5 units in the last place, that is a relative error of 1.03e-38.
+   * Special values are handled like in {@link #log()}.
+   * @return a new instance containing the value of {@code log10(this)}
+   */
+  public ImmutableQuadruple log10() {
+    return QuadrupleMath.log10(this);
+  }
+
+  /**
+   * Computes the base 10 logarithm of the given value and returns a new instance containing the result.
+   * @param x the argument
+   * @return a new instance containing the value of {@code log10(x)}
+   * @see #log10()
+   */
+  public static ImmutableQuadruple log10(ImmutableQuadruple x) {
+    return QuadrupleMath.log10(x);
+  }
+
+  /* ***********************************************************************************
+   ****** Trigonometric functions ******************************************************
+   *********************************************************************************** */
+
+  /**
+   * Computes the sine of the value of this instance, in radians, and returns a new instance containing the result.<br>
+   * The argument is reduced modulo {@code pi/2} with the bits of {@code 2/pi}, so that the reduction is accurate
+   * for arguments of any magnitude less than {@code 2^(2^29 - 1023)} (about {@code 10^(1.62e8)}).
+   * The bits needed for arguments less than {@code 2^16384} (about {@code 1.19e4932}) are taken from a stored table,
+   * those needed for greater arguments get computed when such an argument is met for the first time,
+   * which takes seconds for arguments about {@code 2^1000000}, and much longer for greater ones.
+   * The error of the result does not exceed 1.5 units in the last place, that is a relative error of 4.41e-39.
+   * The sine of NaN, of an infinity, or of a value not less than {@code 2^(2^29 - 1023)} in magnitude is NaN.
+   * @return a new instance containing the value of {@code sin(this)}
+   */
+  public ImmutableQuadruple sin() {
+    return QuadrupleTrigonometry.sinCos(this)[0];
+  }
+
+  /**
+   * Computes the sine of the given value, in radians, and returns a new instance containing the result.
+   * @param x the argument
+   * @return a new instance containing the value of {@code sin(x)}
+   * @see #sin()
+   */
+  public static ImmutableQuadruple sin(ImmutableQuadruple x) {
+    return QuadrupleTrigonometry.sinCos(x)[0];
+  }
+
+  /**
+   * Computes the cosine of the value of this instance, in radians, and returns a new instance containing the result.<br>
+   * The error of the result does not exceed 1.5 units in the last place, that is a relative error of 4.41e-39.
+   * Special values and the range of the argument are the same as for {@link #sin()}.
+   * @return a new instance containing the value of {@code cos(this)}
+   */
+  public ImmutableQuadruple cos() {
+    return QuadrupleTrigonometry.sinCos(this)[1];
+  }
+
+  /**
+   * Computes the cosine of the given value, in radians, and returns a new instance containing the result.
+   * @param x the argument
+   * @return a new instance containing the value of {@code cos(x)}
+   * @see #cos()
+   */
+  public static ImmutableQuadruple cos(ImmutableQuadruple x) {
+    return QuadrupleTrigonometry.sinCos(x)[1];
+  }
+
+  /**
+   * Computes both the sine and the cosine of the value of this instance, in radians, with a single argument reduction,
+   * and returns a two-element array containing new instances with the results, the sine first.<br>
+   * Costs about the same as {@link #sin()} or {@link #cos()} alone.
+   * The errors of the results are the same as those of {@link #sin()} and {@link #cos()}.
+   * @return a two-element array containing {@code sin(this)} and {@code cos(this)}, in that order
+   */
+  public ImmutableQuadruple[] sinCos() {
+    return QuadrupleTrigonometry.sinCos(this);
+  }
+
+  /**
+   * Computes both the sine and the cosine of the given value, in radians, and returns a two-element array
+   * containing new instances with the results, the sine first.
+   * @param x the argument
+   * @return a two-element array containing {@code sin(x)} and {@code cos(x)}, in that order
+   * @see #sinCos()
+   */
+  public static ImmutableQuadruple[] sinCos(ImmutableQuadruple x) {
+    return QuadrupleTrigonometry.sinCos(x);
+  }
+
+  /**
+   * Computes the tangent of the value of this instance, in radians, and returns a new instance containing the result.<br>
+   * The error of the result does not exceed 2.5 units in the last place, that is a relative error of 7.35e-39.
+   * Special values and the range of the argument are the same as for {@link #sin()}.
+   * @return a new instance containing the value of {@code tan(this)}
+   */
+  public ImmutableQuadruple tan() {
+    return QuadrupleTrigonometry.tan(this);
+  }
+
+  /**
+   * Computes the tangent of the given value, in radians, and returns a new instance containing the result.
+   * @param x the argument
+   * @return a new instance containing the value of {@code tan(x)}
+   * @see #tan()
+   */
+  public static ImmutableQuadruple tan(ImmutableQuadruple x) {
+    return QuadrupleTrigonometry.tan(x);
+  }
+
+  /**
+   * Computes the arc sine of the value of this instance and returns a new instance containing the result,
+   * in the range {@code -pi/2 .. pi/2}.<br>
+   * The error of the result does not exceed 2.5 units in the last place, that is a relative error of 7.35e-39.
+   * The arc sine of NaN or of a value greater than 1 in magnitude is NaN.
+   * @return a new instance containing the value of {@code asin(this)}
+   */
+  public ImmutableQuadruple asin() {
+    return QuadrupleTrigonometry.asin(this);
+  }
+
+  /**
+   * Computes the arc sine of the given value and returns a new instance containing the result.
+   * @param x the argument
+   * @return a new instance containing the value of {@code asin(x)}
+   * @see #asin()
+   */
+  public static ImmutableQuadruple asin(ImmutableQuadruple x) {
+    return QuadrupleTrigonometry.asin(x);
+  }
+
+  /**
+   * Computes the arc cosine of the value of this instance and returns a new instance containing the result,
+   * in the range {@code 0 .. pi}.<br>
+   * The error of the result does not exceed 2.5 units in the last place, that is a relative error of 7.35e-39.
+   * The arc cosine of NaN or of a value greater than 1 in magnitude is NaN.
+   * @return a new instance containing the value of {@code acos(this)}
+   */
+  public ImmutableQuadruple acos() {
+    return QuadrupleTrigonometry.acos(this);
+  }
+
+  /**
+   * Computes the arc cosine of the given value and returns a new instance containing the result.
+   * @param x the argument
+   * @return a new instance containing the value of {@code acos(x)}
+   * @see #acos()
+   */
+  public static ImmutableQuadruple acos(ImmutableQuadruple x) {
+    return QuadrupleTrigonometry.acos(x);
+  }
+
+  /**
+   * Computes the arc tangent of the value of this instance and returns a new instance containing the result,
+   * in the range {@code -pi/2 .. pi/2}.<br>
+   * The error of the result does not exceed 1.5 units in the last place, that is a relative error of 4.41e-39.
+   * The arc tangent of NaN is NaN.
+   * @return a new instance containing the value of {@code atan(this)}
+   */
+  public ImmutableQuadruple atan() {
+    return QuadrupleTrigonometry.atan(this);
+  }
+
+  /**
+   * Computes the arc tangent of the given value and returns a new instance containing the result.
+   * @param x the argument
+   * @return a new instance containing the value of {@code atan(x)}
+   * @see #atan()
+   */
+  public static ImmutableQuadruple atan(ImmutableQuadruple x) {
+    return QuadrupleTrigonometry.atan(x);
+  }
+
+  /**
+   * Computes the angle {@code theta} from the conversion of rectangular coordinates {@code (x, y)}
+   * to polar coordinates {@code (r, theta)}, and returns a new instance containing the result, in the range {@code -pi .. pi}.<br>
+   * The error of the result does not exceed 2 units in the last place, that is a relative error of 5.88e-39.
+   * Special cases follow the rules of {@link Math#atan2(double, double)}.
+   * @param y the ordinate coordinate
+   * @param x the abscissa coordinate
+   * @return a new instance containing the value of {@code theta}
+   */
+  public static ImmutableQuadruple atan2(ImmutableQuadruple y, ImmutableQuadruple x) {
+    return QuadrupleTrigonometry.atan2(y, x);
+  }
+
+  /* ***********************************************************************************
+   ****** Rounding *********************************************************************
+   *********************************************************************************** */
+
+  /**
+   * Returns the greatest integer value that is not greater than the value of this instance,
+   * like {@link Math#floor(double)}.<br>
+   * The fractional bits of the mantissa are cleared directly, and this instance is returned
+   * if it has no fractional part. The floor of a negative value greater than -1 is -1.
+   * Zeros, infinities and NaN are returned unchanged.
+   * @return an instance containing the value of {@code floor(this)}
+   */
+  public ImmutableQuadruple floor() {
+    return roundToIntegral(RoundingMode.FLOOR);
+  }
+
+  /**
+   * Returns the least integer value that is not less than the value of this instance,
+   * like {@link Math#ceil(double)}.<br>
+   * The fractional bits of the mantissa are cleared directly, and this instance is returned
+   * if it has no fractional part. The ceiling of a negative value greater than -1 is -0.
+   * Zeros, infinities and NaN are returned unchanged.
+   * @return an instance containing the value of {@code ceil(this)}
+   */
+  public ImmutableQuadruple ceil() {
+    return roundToIntegral(RoundingMode.CEILING);
+  }
+
+  /**
+   * Returns the integer value that is closest to the value of this instance, choosing the even one
+   * if the value is exactly halfway between two integers, like {@link Math#rint(double)}.<br>
+   * The fractional bits of the mantissa are cleared directly, and this instance is returned
+   * if it has no fractional part. The result for a value within {@code -0.5 .. 0} is -0.
+   * Zeros, infinities and NaN are returned unchanged.
+   * @return an instance containing the value of {@code rint(this)}
+   */
+  public ImmutableQuadruple rint() {
+    return roundToIntegral(RoundingMode.HALF_EVEN);
+  }
+
+  /**
+   * Returns the integer part of the value of this instance, that is the value rounded towards zero.<br>
+   * The fractional bits of the mantissa are cleared directly, and this instance is returned
+   * if it has no fractional part. The integer part of a negative value greater than -1 is -0.
+   * Zeros, infinities and NaN are returned unchanged.
+   * @return an instance containing the integer part of the value of this instance
+   */
+  public ImmutableQuadruple trunc() {
+    return roundToIntegral(RoundingMode.DOWN);
+  }
+
+  /**
+   * Returns the fractional part of the value of this instance, {@code this - this.trunc()},
+   * which has the same sign as this value.<br>
+   * The fractional bits of the mantissa are shifted into place directly, so that the result is exact.
+   * This instance is returned if its magnitude is less than 1.
+   * The fractional part of an integer value (including -0) is {@code ZERO},
+   * the fractional part of an infinity or NaN is NaN.
+   * @return an instance containing the fractional part of the value of this instance
+   */
+  public ImmutableQuadruple fractionalPart() {
+    if (isNaN() || isInfinite()) {
+      return NaN;
+    }
+    final long exponent = (value.exponent() & 0xFFFF_FFFFL) - Quadruple.EXPONENT_BIAS;
+    if (exponent < 0) {
+      return isZero()? ZERO : this;
+    }
+    if (exponent >= FRACTION_BITS) {
+      return ZERO;
+    }
+    final int fractionalBits = FRACTION_BITS - (int)exponent;
+    long fractionHi = (fractionalBits > 64)? value.mantHi() & (-1L >>> (FRACTION_BITS - fractionalBits)) : 0;
+    long fractionLo = (fractionalBits >= 64)? value.mantLo() : value.mantLo() & ((1L << fractionalBits) - 1);
+    if ((fractionHi | fractionLo) == 0) {
+      return ZERO;
+    }
+    // Shift the fraction left, so that its leading unity becomes the implicit one
+    final int shift = (fractionHi != 0)? Long.numberOfLeadingZeros(fractionHi) + 1 : Long.numberOfLeadingZeros(fractionLo) + 65;
+    if (shift >= 64) {
+      fractionHi = (shift == 64)? fractionLo : (shift == FRACTION_BITS)? 0 : fractionLo << (shift - 64);
+      fractionLo = 0;
+    } else {
+      fractionHi = (fractionHi << shift) | (fractionLo >>> (64 - shift));
+      fractionLo <<= shift;
+    }
+    return construct(isNegative(), value.exponent() - shift, fractionHi, fractionLo);
+  }
+
+  /**
+   * Rounds the value of this instance to the given number of decimal places, using the given rounding mode,
+   * and returns an instance containing the nearest {@code ImmutableQuadruple} value to the rounded decimal value.
+   * The result is the same as that of {@code new ImmutableQuadruple(exactValue.setScale(places, mode))},
+   * where {@code exactValue} is the exact decimal representation of the value of this instance.<br>
+   * For {@code 0 <= places <= 27}, the decision is made from the exact product of the mantissa and {@code 5^places},
+   * found with integer arithmetic, and the result is obtained by a single correctly rounded division by {@code 10^places},
+   * without {@code BigDecimal}. If the result equals this value, which is always the case when the value has not more
+   * than {@code places} decimal places, or when {@code 10^-places} is less than a quarter of its ulp, this instance is returned.
+   * Other numbers of places take a {@code BigDecimal} computation with the exact value.<br>
+   * Negative values that round to zero give -0. With {@code RoundingMode.UNNECESSARY}, the method throws
+   * {@code ArithmeticException} if the result would differ from this value, and returns this instance otherwise.
+   * Zeros, infinities and NaN are returned unchanged.
+   * @param places the number of decimal places to keep, may be negative to round to tens, hundreds etc.
+   * @param mode the rounding mode to use
+   * @return an instance containing the value of this instance rounded to {@code places} decimal places
+   * @throws ArithmeticException if {@code mode} is {@code UNNECESSARY} and the value can't be represented
+   * with {@code places} decimal places more precisely than it is
+   */
+  public ImmutableQuadruple roundToDecimalPlaces(int places, RoundingMode mode) {
+    if (isNaN() || isInfinite() || isZero()) {
+      return this;
+    }
+    if (mode == RoundingMode.UNNECESSARY) {
+      if (!roundToDecimalPlaces(places, RoundingMode.HALF_EVEN).equals(this)) {
+        throw new ArithmeticException("Rounding necessary");
+      }
+      return this;
+    }
+    final long exponent = getExponent();
+    if (places * LOG2_OF_10 > FRACTION_BITS + 4 - exponent) {
+      return this;  // The change is less than 10^-places < ulp / 16, the nearest value to the rounded one is this
+    }
+    if (exponent + 1 + places * LOG2_OF_10 < -2) {
+      // |this| * 10^places < 1/4, the result is 0 or 10^-places
+      if (!roundsAwayFromZero(mode, -1, false)) {
+        return isNegative()? NEGATIVE_ZERO : ZERO;
+      }
+      final ImmutableQuadruple unit = new ImmutableQuadruple(BigDecimal.ONE.scaleByPowerOfTen(-places));
+      return isNegative()? unit.negate() : unit;
+    }
+    if (places >= 0 && places <= MAX_FAST_DECIMAL_PLACES && exponent >= MIN_EXPONENT) {
+      final ImmutableQuadruple result = roundToFewDecimalPlaces(places, mode);
+      if (result != null) {
+        return result;
+      }
+    }
+
+    final BigDecimal exactValue = exactBigDecimalValue();
+    final BigDecimal rounded = exactValue.setScale(places, mode);
+    if (rounded.compareTo(exactValue) == 0) {
+      return this;
+    }
+    if (rounded.signum() == 0) {
+      return isNegative()? NEGATIVE_ZERO : ZERO;
+    }
+    final ImmutableQuadruple result = new ImmutableQuadruple(rounded);
+    return result.equals(this)? this : result;
+  }
+
+  /** Rounds a finite non-zero value to an integer value with the given rounding mode, clearing the fractional bits */
+  private ImmutableQuadruple roundToIntegral(RoundingMode mode) {
+    if (isNaN() || isInfinite() || isZero()) {
+      return this;
+    }
+    final long exponent = (value.exponent() & 0xFFFF_FFFFL) - Quadruple.EXPONENT_BIAS;
+    if (exponent >= FRACTION_BITS) {
+      return this;
+    }
+    if (exponent < 0) { // 0 < |x| < 1, the result is 0 or 1
+      final int halfComparison = (exponent < -1)? -1 : ((value.mantHi() | value.mantLo()) == 0)? 0 : 1;
+      if (roundsAwayFromZero(mode, halfComparison, false)) {
+        return isNegative()? MINUS_ONE : ONE;
+      }
+      return isNegative()? NEGATIVE_ZERO : ZERO;
+    }
+
+    final int fractionalBits = FRACTION_BITS - (int)exponent;
+    final long mantHi = value.mantHi(), mantLo = value.mantLo();
+    final long maskHi = (fractionalBits > 64)? -1L >>> (FRACTION_BITS - fractionalBits) : 0;
+    final long maskLo = (fractionalBits >= 64)? -1L : (1L << fractionalBits) - 1;
+    final long fractionHi = mantHi & maskHi, fractionLo = mantLo & maskLo;
+    if ((fractionHi | fractionLo) == 0) {
+      return this;
+    }
+
+    final long halfHi = (fractionalBits > 64)? 1L << (fractionalBits - 65) : 0;
+    final long halfLo = (fractionalBits > 64)? 0 : 1L << (fractionalBits - 1);
+    final int halfComparison = (fractionHi != halfHi)? Long.compareUnsigned(fractionHi, halfHi) : Long.compareUnsigned(fractionLo, halfLo);
+    final boolean odd = (fractionalBits == FRACTION_BITS) ||
+                        (((fractionalBits >= 64)? mantHi >>> (fractionalBits - 64) : mantLo >>> fractionalBits) & 1) != 0;
+
+    long resultHi = mantHi & ~maskHi, resultLo = mantLo & ~maskLo;
+    int resultExponent = value.exponent();
+    if (roundsAwayFromZero(mode, halfComparison, odd)) { // Add the unit of the integer part
+      if (fractionalBits < 64) {
+        resultLo += 1L << fractionalBits;
+        if (resultLo == 0 && ++resultHi == 0) {
+          resultExponent++;
+        }
+      } else if (fractionalBits < FRACTION_BITS) {
+        resultHi += 1L << (fractionalBits - 64);
+        if (resultHi == 0) {
+          resultExponent++;
+        }
+      } else {
+        resultExponent++;
+      }
+    }
+    return construct(isNegative(), resultExponent, resultHi, resultLo);
+  }
+
+  /**
+   * Rounds a finite normal value to {@code 0 <= places <= MAX_FAST_DECIMAL_PLACES} decimal places.
+   * {@code this * 10^places = m * 5^places * 2^(e - 128 + places)}, where {@code m} is the 129-bit mantissa,
+   * the product {@code m * 5^places} takes not more than 192 bits, so that the integer part
+   * and the fraction of {@code this * 10^places} are found exactly.
+   * Returns {@code null} if the integer part takes more than 128 bits
+   */
+  private ImmutableQuadruple roundToFewDecimalPlaces(int places, RoundingMode mode) {
+    final int shift = FRACTION_BITS - (int)getExponent() - places; // The number of the fractional bits of the product
+    if (shift <= 0) {
+      return this;
+    }
+    long powerOfFive = 1;
+    for (int i = 0; i < places; i++) {
+      powerOfFive *= 5;
+    }
+    final long mantLo = value.mantLo(), mantHi = value.mantHi();
+    final long[] product = new long[3];
+    product[0] = mantLo * powerOfFive;
+    final long middle = mantHi * powerOfFive;
+    product[1] = middle + MantissaArithmetic.unsignedMultiplyHigh(mantLo, powerOfFive);
+    product[2] = powerOfFive + MantissaArithmetic.unsignedMultiplyHigh(mantHi, powerOfFive)
+                 + MantissaArithmetic.carryOf(product[1], middle);   // The implicit unity times 5^places
+    if (bitsAt(product, shift + FRACTION_BITS) != 0) {
+      return null;
+    }
+
+    final boolean halfBit = (bitsAt(product, shift - 1) & 1) != 0;
+    final boolean belowHalf = isAnyBitSet(product, shift - 1);
+    if (!halfBit && !belowHalf) {
+      return this;
+    }
+    final int halfComparison = !halfBit? -1 : belowHalf? 1 : 0;
+    long integerLo = bitsAt(product, shift), integerHi = bitsAt(product, shift + 64);
+    if (roundsAwayFromZero(mode, halfComparison, (integerLo & 1) != 0) && ++integerLo == 0 && ++integerHi == 0) {
+      return construct(isNegative(), Quadruple.EXPONENT_BIAS + FRACTION_BITS, 0, 0)
+          .divide(PowersOfTen.POSITIVE_SMALL[places]);  // 2^128 / 10^places
+    }
+    if ((integerHi | integerLo) == 0) {
+      return isNegative()? NEGATIVE_ZERO : ZERO;
+    }
+
+    // Normalize the integer, so that its leading unity becomes the implicit one, and divide it by 10^places
+    final int leadingZeros = (integerHi != 0)? Long.numberOfLeadingZeros(integerHi) : 64 + Long.numberOfLeadingZeros(integerLo);
+    final int normalizingShift = leadingZeros + 1;
+    final long mantissaHi, mantissaLo;
+    if (normalizingShift >= 64) {
+      mantissaHi = (normalizingShift == FRACTION_BITS)? 0 : integerLo << (normalizingShift - 64);
+      mantissaLo = 0;
+    } else {
+      mantissaHi = (integerHi << normalizingShift) | (integerLo >>> (64 - normalizingShift));
+      mantissaLo = integerLo << normalizingShift;
+    }
+    final Quadruple result = new Quadruple(isNegative(), Quadruple.EXPONENT_BIAS + FRACTION_BITS - 1 - leadingZeros,
+                                           mantissaHi, mantissaLo);
+    result.divide(PowersOfTen.POSITIVE_SMALL[places].value);
+    return result.equals(value)? this : new ImmutableQuadruple(result);
+  }
+
+  /**
+   * Decides if an inexact value, that is being rounded to an integer, gets rounded away from zero
+   * @param mode the rounding mode
+   * @param halfComparison the sign of the difference between the discarded fraction and one half
+   * @param odd tells if the integer part (rounded towards zero) is odd
+   */
+  private boolean roundsAwayFromZero(RoundingMode mode, int halfComparison, boolean odd) {
+    switch (mode) {
+      case UP:        return true;
+      case DOWN:      return false;
+      case CEILING:   return !isNegative();
+      case FLOOR:     return isNegative();
+      case HALF_UP:   return halfComparison >= 0;
+      case HALF_DOWN: return halfComparison > 0;
+      case HALF_EVEN: return halfComparison > 0 || (halfComparison == 0 && odd);
+      default:        throw new ArithmeticException("Rounding necessary");
+    }
+  }
+
+  /** Returns 64 bits of the given little-endian multi-word number, starting from the given bit position */
+  private static long bitsAt(long[] words, int position) {
+    final int index = position >>> 6, offset = position & 63;
+    final long lower = (index < words.length)? words[index] >>> offset : 0;
+    final long upper = (offset != 0 && index + 1 < words.length)? words[index + 1] << (64 - offset) : 0;
+    return lower | upper;
+  }
+
+  /** Checks if any of the given number of the least significant bits of the given little-endian multi-word number is set */
+  private static boolean isAnyBitSet(long[] words, int count) {
+    for (int i = 0; i < words.length && count > 0; i++, count -= 64) {
+      if (((count >= 64)? words[i] : words[i] & ((1L << count) - 1)) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** The exact value of a finite value as a {@code BigDecimal}, built of its mantissa and exponent */
+  private BigDecimal exactBigDecimalValue() {
+    final boolean normal = value.exponent() != 0;
+    BigInteger mantissa = new BigInteger(1, new byte[] {
+        (byte)(normal? 1 : 0),
+        (byte)(value.mantHi() >>> 56), (byte)(value.mantHi() >>> 48), (byte)(value.mantHi() >>> 40), (byte)(value.mantHi() >>> 32),
+        (byte)(value.mantHi() >>> 24), (byte)(value.mantHi() >>> 16), (byte)(value.mantHi() >>> 8), (byte)value.mantHi(),
+        (byte)(value.mantLo() >>> 56), (byte)(value.mantLo() >>> 48), (byte)(value.mantLo() >>> 40), (byte)(value.mantLo() >>> 32),
+        (byte)(value.mantLo() >>> 24), (byte)(value.mantLo() >>> 16), (byte)(value.mantLo() >>> 8), (byte)value.mantLo() });
+    if (isNegative()) {
+      mantissa = mantissa.negate();
+    }
+    final long exponent = (normal? getExponent() : MIN_EXPONENT) - FRACTION_BITS;
+    if (exponent >= 0) {
+      return new BigDecimal(mantissa.shiftLeft((int)exponent));
+    }
+    return new BigDecimal(mantissa.multiply(BigInteger.valueOf(5).pow((int)-exponent)), (int)-exponent);
+  }
+
+  /* ***********************************************************************************
+   ****** Remainders *******************************************************************
+   *********************************************************************************** */
+
+  /**
+   * Returns the remainder of the division of the value of this instance by the given divisor, as defined by IEEE 754,
+   * like {@link Math#IEEEremainder(double, double)}: {@code this - n * divisor}, where {@code n} is the integer
+   * nearest to the exact quotient {@code this / divisor}, the even one if there are two of them.<br>
+   * The result is exact. It is found with a shift-subtract loop over the 129-bit mantissas, without intermediate
+   * instances; if the exponents differ by more than 4096, {@code 2^difference} is reduced modulo the divisor's mantissa
+   * by repeated squaring instead, so that the time grows as the logarithm of the quotient.<br>
+   * The magnitude of the result does not exceed a half of the divisor's magnitude, a zero result has the sign of this value.
+   * If either operand is NaN, or this value is infinite, or the divisor is zero, the result is NaN.
+   * This instance is returned if it is zero or the divisor is infinite.
+   * @param divisor the divisor
+   * @return an instance containing the IEEE remainder of the division of this value by {@code divisor}
+   */
+  public ImmutableQuadruple remainder(ImmutableQuadruple divisor) {
+    if (isNaN() || divisor.isNaN() || isInfinite() || divisor.isZero()) {
+      return NaN;
+    }
+    if (isZero() || divisor.isInfinite()) {
+      return this;
+    }
+    return remainderOf(divisor, RoundingMode.HALF_EVEN);
+  }
+
+  /**
+   * Returns the IEEE remainder of the division of the given dividend by the given divisor.
+   * @param dividend the dividend
+   * @param divisor the divisor
+   * @return an instance containing the IEEE remainder of the division
+   * @see #remainder(ImmutableQuadruple)
+   */
+  public static ImmutableQuadruple remainder(ImmutableQuadruple dividend, ImmutableQuadruple divisor) {
+    return dividend.remainder(divisor);
+  }
+
+  /**
+   * Returns the floor modulus of the value of this instance and the given divisor, {@code this - floor(this / divisor) * divisor},
+   * which has the sign of the divisor, like {@link Math#floorMod(long, long)} does for integers.<br>
+   * The result is found in the same way as by {@link #remainder(ImmutableQuadruple)} and is exact, with one exception:
+   * if this value is less in magnitude than the divisor and has the opposite sign, the result is the correctly rounded
+   * sum {@code this + divisor}, which equals the divisor if this value is less than a half of its ulp.<br>
+   * A zero result has the sign of the divisor. If either operand is NaN, or this value is infinite,
+   * or the divisor is zero, the result is NaN. If the divisor is infinite, the result is this instance
+   * when its sign is the same as that of the divisor, and the divisor otherwise.
+   * @param divisor the divisor
+   * @return an instance containing the floor modulus of this value and {@code divisor}
+   */
+  public ImmutableQuadruple floorMod(ImmutableQuadruple divisor) {
+    if (isNaN() || divisor.isNaN() || isInfinite() || divisor.isZero()) {
+      return NaN;
+    }
+    if (isZero()) {
+      return divisor.isNegative()? NEGATIVE_ZERO : ZERO;
+    }
+    if (divisor.isInfinite()) {
+      return (isNegative() == divisor.isNegative())? this : divisor;
+    }
+    return remainderOf(divisor, RoundingMode.FLOOR);
+  }
+
+  /**
+   * Returns the floor modulus of the given dividend and the given divisor.
+   * @param dividend the dividend
+   * @param divisor the divisor
+   * @return an instance containing the floor modulus, which has the sign of the divisor
+   * @see #floorMod(ImmutableQuadruple)
+   */
+  public static ImmutableQuadruple floorMod(ImmutableQuadruple dividend, ImmutableQuadruple divisor) {
+    return dividend.floorMod(divisor);
+  }
+
+  /**
+   * Returns the integer part of the exact quotient of the value of this instance divided by the given divisor,
+   * that is the quotient rounded towards zero, like {@link BigDecimal#divideToIntegralValue(BigDecimal)}.<br>
+   * The quotient is found by the same shift-subtract loop as the remainder, and is exact if it is less than {@code 2^129}.
+   * Greater integer quotients can't be represented exactly; only their 129 most significant bits are found,
+   * so that they are rounded towards zero as well.<br>
+   * A zero result has the sign of the quotient. If either operand is NaN, or both are zeros or infinities,
+   * the result is NaN; an infinite dividend or a zero divisor give an infinity.
+   * @param divisor the divisor
+   * @return an instance containing the integer part of the quotient {@code this / divisor}
+   */
+  public ImmutableQuadruple divideToIntegralValue(ImmutableQuadruple divisor) {
+    if (isNaN() || divisor.isNaN() || (isZero() && divisor.isZero()) || (isInfinite() && divisor.isInfinite())) {
+      return NaN;
+    }
+    final boolean negative = isNegative() != divisor.isNegative();
+    if (isInfinite() || divisor.isZero()) {
+      return negative? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+    }
+    final long shift = normalizedExponent() - divisor.normalizedExponent();
+    if (isZero() || divisor.isInfinite() || shift < 0) {
+      return negative? NEGATIVE_ZERO : ZERO;
+    }
+    final long[] words = new long[8];
+    if (shift <= FRACTION_BITS) {
+      divideMantissas(divisor, shift, words);
+      return fromWords(negative, words[7], words[6], words[5], 0);
+    }
+    // The integer part is longer than the mantissa, find its 129 most significant bits
+    normalizedMantissa(words, 0);
+    divisor.normalizedMantissa(words, 2);
+    final long topShift = (MantissaArithmetic.compare192(0, words[1], words[0], 0, words[3], words[2]) >= 0)?
+        FRACTION_BITS : FRACTION_BITS + 1;
+    divideMantissas(divisor, topShift, words);
+    return fromWords(negative, words[7], words[6], words[5], shift - topShift);
+  }
+
+  /**
+   * Returns the integer part of the exact quotient of the given dividend divided by the given divisor.
+   * @param dividend the dividend
+   * @param divisor the divisor
+   * @return an instance containing the quotient rounded towards zero
+   * @see #divideToIntegralValue(ImmutableQuadruple)
+   */
+  public static ImmutableQuadruple divideToIntegralValue(ImmutableQuadruple dividend, ImmutableQuadruple divisor) {
+    return dividend.divideToIntegralValue(divisor);
+  }
+
+  /**
+   * Finds {@code this - n * divisor} for finite non-zero operands, where {@code n} is the exact quotient
+   * rounded to an integer with the given mode, {@code HALF_EVEN} or {@code FLOOR}
+   */
+  private ImmutableQuadruple remainderOf(ImmutableQuadruple divisor, RoundingMode mode) {
+    final long divisorExponent = divisor.normalizedExponent();
+    final long shift = normalizedExponent() - divisorExponent;
+    final boolean sameSigns = isNegative() == divisor.isNegative();
+    if (shift < 0) { // |this| < |divisor|, n is 0 or +/-1, and this +/- divisor is exact unless it's the floor modulus
+      if (mode == RoundingMode.FLOOR) {
+        return sameSigns? this : add(divisor);
+      }
+      final long[] words = new long[4];
+      normalizedMantissa(words, 0);
+      divisor.normalizedMantissa(words, 2);
+      if (shift < -1 || MantissaArithmetic.compare192(0, words[1], words[0], 0, words[3], words[2]) <= 0) {
+        return this;  // |this| <= |divisor| / 2
+      }
+      return sameSigns? subtract(divisor) : add(divisor);
+    }
+
+    final long[] words = new long[8];
+    divideMantissas(divisor, shift, words);
+    final long d1 = words[1], d0 = words[0];
+    long r2 = words[4], r1 = words[3], r0 = words[2];
+    boolean negative = isNegative();
+    final boolean quotientIncremented;
+    if (mode == RoundingMode.FLOOR) {
+      quotientIncremented = !sameSigns && (r2 | r1 | r0) != 0;
+    } else {
+      final int halfComparison = MantissaArithmetic.compare192((r2 << 1) | (r1 >>> 63), (r1 << 1) | (r0 >>> 63), r0 << 1, 1, d1, d0);
+      quotientIncremented = halfComparison > 0 || (halfComparison == 0 && (words[5] & 1) != 0);
+    }
+    if (quotientIncremented) { // The remainder is |divisor| - r, with the opposite sign
+      final long borrow0 = Long.compareUnsigned(d0, r0) < 0? 1 : 0;
+      final long borrow1 = (Long.compareUnsigned(d1, r1) < 0 || (d1 == r1 && borrow0 != 0))? 1 : 0;
+      r0 = d0 - r0;
+      r1 = d1 - r1 - borrow0;
+      r2 = 1 - r2 - borrow1;
+      negative = !negative;
+    } else if ((r2 | r1 | r0) == 0 && mode == RoundingMode.FLOOR) {
+      negative = divisor.isNegative();
+    }
+    return fromWords(negative, r2, r1, r0, divisorExponent - FRACTION_BITS);
+  }
+
+  /**
+   * Divides the mantissa of this value, multiplied by {@code 2^shift}, by the mantissa of the divisor, both
+   * normalized to 129-bit integers with the leading unity at bit 128. Puts the fractional bits of the divisor's
+   * mantissa to {@code words[0..1]}, the remainder to {@code words[2..4]}, and the least significant 192 bits
+   * of the quotient to {@code words[5..7]}, the least significant words first.
+   * If {@code shift > MAX_SHIFT_SUBTRACT_STEPS}, only the least significant bit of the quotient is found.
+   */
+  private void divideMantissas(ImmutableQuadruple divisor, long shift, long[] words) {
+    normalizedMantissa(words, 2);
+    divisor.normalizedMantissa(words, 0);
+    final long d1 = words[1], d0 = words[0];
+    if (shift > MAX_SHIFT_SUBTRACT_STEPS) {
+      remainderOfLargeShift(shift, words);
+      return;
+    }
+
+    long r2 = 1, r1 = words[3], r0 = words[2];
+    long q2 = 0, q1 = 0, q0 = 0;
+    for (long step = 0; step <= shift; step++) {
+      if (step > 0) { // r < divisor, shift both r and q left
+        r2 = (r2 << 1) | (r1 >>> 63);
+        r1 = (r1 << 1) | (r0 >>> 63);
+        r0 <<= 1;
+        q2 = (q2 << 1) | (q1 >>> 63);
+        q1 = (q1 << 1) | (q0 >>> 63);
+        q0 <<= 1;
+      }
+      if (MantissaArithmetic.compare192(r2, r1, r0, 1, d1, d0) >= 0) {
+        final long borrow0 = Long.compareUnsigned(r0, d0) < 0? 1 : 0;
+        final long borrow1 = (Long.compareUnsigned(r1, d1) < 0 || (r1 == d1 && borrow0 != 0))? 1 : 0;
+        r0 -= d0;
+        r1 = r1 - d1 - borrow0;
+        r2 = r2 - 1 - borrow1;
+        q0 |= 1;
+      }
+    }
+    words[2] = r0; words[3] = r1; words[4] = r2;
+    words[5] = q0; words[6] = q1; words[7] = q2;
+  }
+
+  /**
+   * Finds the remainder and the parity of the quotient for {@link #divideMantissas(ImmutableQuadruple, long, long[])}
+   * when the shift is too large for the shift-subtract loop. {@code (mantissa * 2^shift) mod (2 * divisor)} is found
+   * by raising 2 to the power of {@code shift} modulo {@code 2 * divisor}; it's not less than the divisor iff the quotient is odd.
+   */
+  private static void remainderOfLargeShift(long shift, long[] words) {
+    final long[] modulus = { words[0] << 1, (words[1] << 1) | (words[0] >>> 63), 2 | (words[1] >>> 63) };
+    final long[] dividend = { words[2], words[3], 1 };
+    final long[] power = { 1, 0, 0 }, temp = new long[3];
+    for (int bit = 63 - Long.numberOfLeadingZeros(shift); bit >= 0; bit--) {
+      multiplyModulo(power, power, modulus, temp);
+      System.arraycopy(temp, 0, power, 0, 3);
+      if ((shift & (1L << bit)) != 0) {
+        doubleModulo(power, modulus);
+      }
+    }
+    multiplyModulo(dividend, power, modulus, temp);
+    final long[] divisor = { words[0], words[1], 1 };
+    final boolean odd = MantissaArithmetic.compare192(temp[2], temp[1], temp[0], 1, words[1], words[0]) >= 0;
+    if (odd) {
+      subtract192(temp, divisor);
+    }
+    words[2] = temp[0]; words[3] = temp[1]; words[4] = temp[2];
+    words[5] = odd? 1 : 0; words[6] = words[7] = 0;
+  }
+
+  /** Computes {@code product = a * b mod modulus}, bit by bit, for {@code a, b < modulus < 2^190} */
+  private static void multiplyModulo(long[] a, long[] b, long[] modulus, long[] product) {
+    product[0] = product[1] = product[2] = 0;
+    for (int bit = 191; bit >= 0; bit--) {
+      doubleModulo(product, modulus);
+      if ((b[bit >>> 6] & (1L << bit)) != 0) {
+        addModulo(product, a, modulus);
+      }
+    }
+  }
+
+  /** Computes {@code a = 2 * a mod modulus}, for {@code a < modulus < 2^191} */
+  private static void doubleModulo(long[] a, long[] modulus) {
+    a[2] = (a[2] << 1) | (a[1] >>> 63);
+    a[1] = (a[1] << 1) | (a[0] >>> 63);
+    a[0] <<= 1;
+    if (MantissaArithmetic.compare192(a[2], a[1], a[0], modulus[2], modulus[1], modulus[0]) >= 0) {
+      subtract192(a, modulus);
+    }
+  }
+
+  /** Computes {@code a = (a + b) mod modulus}, for {@code a, b < modulus < 2^191} */
+  private static void addModulo(long[] a, long[] b, long[] modulus) {
+    final long sum0 = a[0] + b[0];
+    final long carry0 = MantissaArithmetic.carryOf(sum0, b[0]);
+    final long partialSum1 = a[1] + b[1];
+    final long sum1 = partialSum1 + carry0;
+    final long carry1 = MantissaArithmetic.carryOf(partialSum1, b[1]) + MantissaArithmetic.carryOf(sum1, carry0);
+    a[0] = sum0; a[1] = sum1; a[2] = a[2] + b[2] + carry1;
+    if (MantissaArithmetic.compare192(a[2], a[1], a[0], modulus[2], modulus[1], modulus[0]) >= 0) {
+      subtract192(a, modulus);
+    }
+  }
+
+  /** Computes {@code a = a - b}, for 192-bit {@code a >= b} */
+  private static void subtract192(long[] a, long[] b) {
+    final long borrow0 = Long.compareUnsigned(a[0], b[0]) < 0? 1 : 0;
+    final long borrow1 = (Long.compareUnsigned(a[1], b[1]) < 0 || (a[1] == b[1] && borrow0 != 0))? 1 : 0;
+    a[0] -= b[0];
+    a[1] = a[1] - b[1] - borrow0;
+    a[2] = a[2] - b[2] - borrow1;
+  }
+
+  /**
+   * Builds an instance with the value of {@code (-1)^negative * w2:w1:w0 * 2^exponent}, where {@code w2:w1:w0}
+   * is an unsigned 192-bit integer. Integers longer than 129 bits get rounded half-even.
+   */
+  static ImmutableQuadruple fromWords(boolean negative, long w2, long w1, long w0, long exponent) {
+    if ((w2 | w1 | w0) == 0) {
+      return negative? NEGATIVE_ZERO : ZERO;
+    }
+    final int bitLength = (w2 != 0)? 192 - Long.numberOfLeadingZeros(w2)
+                        : (w1 != 0)? 128 - Long.numberOfLeadingZeros(w1)
+                        : 64 - Long.numberOfLeadingZeros(w0);
+    boolean roundUp = false;
+    if (bitLength > FRACTION_BITS + 1) {
+      final int excess = bitLength - FRACTION_BITS - 1;
+      final long discarded = w0 & ((1L << excess) - 1), half = 1L << (excess - 1);
+      w0 = (w0 >>> excess) | (w1 << (64 - excess));
+      w1 = (w1 >>> excess) | (w2 << (64 - excess));
+      exponent += excess;
+      roundUp = (exponent + FRACTION_BITS + Quadruple.EXPONENT_BIAS <= 0)?
+          discarded != 0 : // The result is subnormal, and pack() rounds it once, taking roundUp for the sticky bit
+          discarded > half || (discarded == half && (w0 & 1) != 0);
+    } else {
+      int shift = FRACTION_BITS + 1 - bitLength;
+      exponent -= shift;
+      for (; shift >= 64; shift -= 64) {
+        w1 = w0;
+        w0 = 0;
+      }
+      if (shift > 0) {
+        w1 = (w1 << shift) | (w0 >>> (64 - shift));
+        w0 <<= shift;
+      }
+    }
+    return pack(negative, exponent + FRACTION_BITS + Quadruple.EXPONENT_BIAS, w1, w0, roundUp);
+  }
+
+  /** The unbiased exponent of the leading unity of the mantissa, including the case of subnormal values */
+  private long normalizedExponent() {
+    return (value.exponent() == 0)? (long)MIN_EXPONENT - subnormalShift() : (value.exponent() & 0xFFFF_FFFFL) - Quadruple.EXPONENT_BIAS;
+  }
+
+  /** The shift that makes the leading unity of the mantissa of a subnormal value implicit, or 0 for normal values */
+  private int subnormalShift() {
+    if (value.exponent() != 0) {
+      return 0;
+    }
+    return (value.mantHi() != 0)? Long.numberOfLeadingZeros(value.mantHi()) + 1 : Long.numberOfLeadingZeros(value.mantLo()) + 65;
+  }
+
+  /** Puts the fractional bits of the normalized mantissa to {@code words[index]} (the lower 64 bits) and {@code words[index + 1]} */
+  private void normalizedMantissa(long[] words, int index) {
+    final int shift = subnormalShift();
+    long mantHi = value.mantHi(), mantLo = value.mantLo();
+    if (shift >= 64) {
+      mantHi = (shift == FRACTION_BITS)? 0 : mantLo << (shift - 64);
+      mantLo = 0;
+    } else if (shift > 0) {
+      mantHi = (mantHi << shift) | (mantLo >>> (64 - shift));
+      mantLo <<= shift;
+    }
+    words[index] = mantLo;
+    words[index + 1] = mantHi;
+  }
+
+  /** Checks whether the {@code double} value is an integer within the range of {@code long}, other than -0 */
+  private static boolean isExactLong(double value) {
+    return value >= -0x1p63 && value < 0x1p63 && value == Math.rint(value) && Double.doubleToRawLongBits(value) != Long.MIN_VALUE;
+  }
+
+  /** Returns the sum of the small integers, or {@code null} if it overflows a {@code long}, like {@link Math#addExact(long, long)} */
+  private static ImmutableQuadruple addSmallIntegers(long a, long b) {
+    final long sum = a + b;
+    return (((a ^ sum) & (b ^ sum)) < 0)? null : new ImmutableQuadruple(sum);
+  }
+
+  /** Returns the difference of the small integers, or {@code null} if it overflows a {@code long}, like {@link Math#subtractExact(long, long)} */
+  private static ImmutableQuadruple subtractSmallIntegers(long a, long b) {
+    final long difference = a - b;
+    return (((a ^ b) & (a ^ difference)) < 0)? null : new ImmutableQuadruple(difference);
+  }
+
+  /** Returns the product of the small integers, or {@code null} if it overflows a {@code long}, like {@link Math#multiplyExact(long, long)}.
+   * The product of zero and a negative value is -0, like with the floating-point multiplication */
+  private static ImmutableQuadruple multiplySmallIntegers(long a, long b) {
+    final long product = a * b;
+    if (Math.multiplyHigh(a, b) != (product >> 63)) {
+      return null;
+    }
+    return (product == 0 && (a | b) < 0)? NEGATIVE_ZERO : new ImmutableQuadruple(product);
+  }
+
+  /* ***********************************************************************************
+   ****** Exponent-only operations *****************************************************
+   *********************************************************************************** */
+
+  protected void ________Exponent_only_operations_________ () {} // Just to put a visible mark of the section in the outline view of the IDE
+
+  /**
+   * Returns the unbiased exponent of the value, in a way similar to {@link Math#getExponent(double)}:
+   * for normal values it's the same as {@link #unbiasedExponent()},
+   * for subnormal values and zeros it's {@code MIN_EXPONENT - 1},
+   * and for infinities and NaN it's {@code MAX_EXPONENT + 1}.<br>
+   * The returned value is a {@code long}, since {@code MAX_EXPONENT + 1} does not fit in an {@code int}.
+   * @return the unbiased exponent of the value
+   */
+  public long getExponent() {
+    final long exponent = value.exponent() & 0xFFFF_FFFFL;
+    if (exponent == 0) {
+      return MIN_EXPONENT - 1L;
+    }
+    return exponent - Quadruple.EXPONENT_BIAS;
+  }
+
+  /**
+   * Returns a new instance with the value of this instance multiplied by {@code 2^scaleFactor}.<br>
+   * The result is built directly of the exponent and the mantissa of this instance.
+   * It is exact if it is a normal value, results with magnitudes exceeding {@code MAX_VALUE}
+   * are {@code POSITIVE_INFINITY} or {@code NEGATIVE_INFINITY}, and subnormal results
+   * get rounded to the nearest subnormal value, half-even.
+   * Zeros, infinities, and NaN are returned unchanged.
+   * @param scaleFactor the power of two to multiply the value by
+   * @return a new instance with the value of {@code this * 2^scaleFactor}
+   */
+  public ImmutableQuadruple scalb(int scaleFactor) {
+    if (scaleFactor == 0 || isZero() || value.exponent() == Quadruple.EXPONENT_OF_INFINITY) {
+      return this;
+    }
+
+    long exponent = value.exponent() & 0xFFFF_FFFFL;
+    long mantHi = value.mantHi(), mantLo = value.mantLo();
+    if (exponent == 0) { // Subnormal, normalize it so that the leading 1 becomes the implicit unity
+      final int shift = (mantHi != 0)?
+          Long.numberOfLeadingZeros(mantHi) + 1 :
+          Long.numberOfLeadingZeros(mantLo) + 65;
+      if (shift < 64) {
+        mantHi = (mantHi << shift) | (mantLo >>> (64 - shift));
+        mantLo <<= shift;
+      } else {
+        mantHi = (shift == 128)? 0 : mantLo << (shift - 64);
+        mantLo = 0;
+      }
+      exponent = 1 - shift;
+    }
+
+    return pack(value.isNegative(), exponent + scaleFactor, mantHi, mantLo, false);
+  }
+
+  /**
+   * Returns the size of an ulp of the value, that is the positive distance between this value
+   * and the adjacent value of greater magnitude, like {@link Math#ulp(double)} does.
+   * For zeros and subnormal values returns {@code MIN_VALUE},
+   * for infinities returns {@code POSITIVE_INFINITY}, and for NaN returns NaN.
+   * @return the size of an ulp of the value
+   */
+  public ImmutableQuadruple ulp() {
+    if (isNaN()) {
+      return this;
+    }
+    if (isInfinite()) {
+      return POSITIVE_INFINITY;
+    }
+    final long exponent = value.exponent() & 0xFFFF_FFFFL;
+    if (exponent > FRACTION_BITS) {
+      return construct(false, (int)(exponent - FRACTION_BITS), 0, 0);
+    }
+    if (exponent == 0) {
+      return MIN_VALUE;
+    }
+    final int bit = (int)exponent - 1; // The ulp is subnormal
+    return construct(false, 0, (bit >= 64)? 1L << (bit - 64) : 0, (bit < 64)? 1L << bit : 0);
+  }
+
+  /**
+   * Returns the value adjacent to this value in the direction of positive infinity,
+   * like {@link Math#nextUp(double)} does.
+   * For zeros returns {@code MIN_VALUE}, for {@code NEGATIVE_INFINITY} returns {@code -MAX_VALUE},
+   * and for {@code MAX_VALUE} returns {@code POSITIVE_INFINITY}.
+   * {@code POSITIVE_INFINITY} and NaN are returned unchanged.
+   * @return the adjacent value closer to positive infinity
+   */
+  public ImmutableQuadruple nextUp() {
+    if (isNaN() || (isInfinite() && !isNegative())) {
+      return this;
+    }
+    if (isZero()) {
+      return MIN_VALUE;
+    }
+    return isNegative()? decrementMagnitude() : incrementMagnitude();
+  }
+
+  /**
+   * Returns the value adjacent to this value in the direction of negative infinity,
+   * like {@link Math#nextDown(double)} does.
+   * For zeros returns {@code -MIN_VALUE}, for {@code POSITIVE_INFINITY} returns {@code MAX_VALUE},
+   * and for {@code -MAX_VALUE} returns {@code NEGATIVE_INFINITY}.
+   * {@code NEGATIVE_INFINITY} and NaN are returned unchanged.
+   * @return the adjacent value closer to negative infinity
+   */
+  public ImmutableQuadruple nextDown() {
+    if (isNaN() || (isInfinite() && isNegative())) {
+      return this;
+    }
+    if (isZero()) {
+      return construct(true, 0, 0, 1);
+    }
+    return isNegative()? incrementMagnitude() : decrementMagnitude();
+  }
+
+  /** Returns the value adjacent to this one, with the same sign and a greater magnitude.
+   * The carry from the mantissa goes to the exponent, so that {@code MAX_VALUE} turns into infinity */
+  private ImmutableQuadruple incrementMagnitude() {
+    int exponent = value.exponent();
+    long mantHi = value.mantHi();
+    final long mantLo = value.mantLo() + 1;
+    if (mantLo == 0 && ++mantHi == 0) {
+      exponent++;
+    }
+    return construct(value.isNegative(), exponent, mantHi, mantLo);
+  }
+
+  /** Returns the value adjacent to this one, with the same sign and a lesser magnitude.
+   * The borrow from the mantissa goes to the exponent, so that infinity turns into {@code MAX_VALUE} */
+  private ImmutableQuadruple decrementMagnitude() {
+    int exponent = value.exponent();
+    long mantHi = value.mantHi();
+    final long mantLo = value.mantLo() - 1;
+    if (mantLo == -1 && mantHi-- == 0) {
+      exponent--;
+    }
+    return construct(value.isNegative(), exponent, mantHi, mantLo);
+  }
+
+  /**
+   * Builds an instance of the given sign, with the value of {@code 1.mantHi mantLo * 2^(exponent - EXPONENT_BIAS)},
+   * where {@code exponent} is a biased exponent that may fall out of the range of normal values.
+   * Values greater than {@code MAX_VALUE} turn into infinities, values less than {@code MIN_NORMAL}
+   * get shifted right and rounded to the nearest subnormal value, half-even.
+   * @param negative the sign of the value
+   * @param exponent the biased exponent, may be less than 1 or greater than {@code 0xFFFF_FFFE}
+   * @param mantHi the most significant 64 bits of the fractional part of the mantissa
+   * @param mantLo the least significant 64 bits of the fractional part of the mantissa
+   * @param roundUp {@code true} if the discarded bits of the exact mantissa are greater than or equal to a half
+   * of its least significant bit, so that the normal result should be rounded up.
+   * For subnormal results it is only taken as an indication that some of the discarded bits are not zero,
+   * so that a seeming tie is rounded up
+   * @return a new instance with the given value
+   */
+  static ImmutableQuadruple pack(boolean negative, long exponent, long mantHi, long mantLo, boolean roundUp) {
+    if (exponent > 0) {
+      if (roundUp && ++mantLo == 0 && ++mantHi == 0) {
+        exponent++;
+      }
+      if (exponent > MAX_NORMAL_BIASED_EXPONENT) {
+        return negative? NEGATIVE_INFINITY : POSITIVE_INFINITY;
+      }
+      return construct(negative, (int)exponent, mantHi, mantLo);
+    }
+
+    // Subnormal: shift the mantissa, including the implicit unity, right by 1 - exponent bits,
+    // with the guard bit being the most significant of the shifted-out bits, and the sticky bit the OR of the others
+    final long shift = 1 - exponent;
+    long resultHi, resultLo;
+    final boolean guard;
+    boolean sticky = roundUp;
+    if (shift < 64) {
+      resultLo = (mantLo >>> shift) | (mantHi << (64 - shift));
+      resultHi = (mantHi >>> shift) | (1L << (64 - shift));
+      guard = ((mantLo >>> (shift - 1)) & 1) != 0;
+      sticky |= (mantLo & ((1L << (shift - 1)) - 1)) != 0;
+    } else if (shift == 64) {
+      resultLo = mantHi;
+      resultHi = 1;
+      guard = mantLo < 0;
+      sticky |= (mantLo << 1) != 0;
+    } else if (shift < 128) {
+      resultLo = (mantHi >>> (shift - 64)) | (1L << (128 - shift));
+      resultHi = 0;
+      guard = ((mantHi >>> (shift - 65)) & 1) != 0;
+      sticky |= mantLo != 0 || (mantHi & ((1L << (shift - 65)) - 1)) != 0;
+    } else if (shift == 128) {
+      resultLo = 1;
+      resultHi = 0;
+      guard = mantHi < 0;
+      sticky |= (mantHi << 1) != 0 || mantLo != 0;
+    } else {
+      resultLo = resultHi = 0;
+      guard = (shift == 129); // The implicit unity
+      sticky |= (mantHi | mantLo) != 0;
+    }
+    int resultExponent = 0;
+    if (guard && (sticky || (resultLo & 1) != 0) && ++resultLo == 0 && ++resultHi == 0) {
+      resultExponent = 1; // Rounded up to MIN_NORMAL
+    }
+    return construct(negative, resultExponent, resultHi, resultLo);
+  }
+
+  /* ***********************************************************************************
+   ****** Miscellaneous utility methods ************************************************
+   *********************************************************************************** */
+
+  protected void ________Miscellaneous_utility_methods_________ () {} // Just to put a visible mark of the section in the outline view of the IDE
+
+  /**
+   * Changes the sign of this Quadruple.
+   * @return the reference to this object, which holds a new value that
+   * equals the previous value in magnitude, but with opposite sign
+   */
+  public ImmutableQuadruple negate() {
+    if (isSmallInteger && smallInteger != 0 && smallInteger != Long.MIN_VALUE) { // -0 and 2^63 are not small integers
+      return new ImmutableQuadruple(-smallInteger);
+    }
+    final ImmutableQuadruple result = new ImmutableQuadruple(this);
+    result.value.negate();
+    return result;
+  }
+
+  /**
+   * Returns a new instance of {@code Quadruple} with the value of the absolute value of this instance
+   * @return a new instance of {@code Quadruple} with the value of the absolute value of this instance
+   */
+  public ImmutableQuadruple abs() {
+    if (!value.isNegative()) {
+      return this;
+    }
+    if (isSmallInteger && smallInteger != Long.MIN_VALUE) {
+      return new ImmutableQuadruple(-smallInteger);
+    }
     final ImmutableQuadruple result = new ImmutableQuadruple(this);
     result.value.negate();
     return result;
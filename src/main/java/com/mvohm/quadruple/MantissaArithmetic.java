@@ -0,0 +1,55 @@
+package com.mvohm.quadruple;
+
+/**
+ * Package-private helpers for unsigned multi-word integer arithmetic on the mantissas
+ * of {@code ImmutableQuadruple} values.<br>
+ * Multi-word numbers are passed around as separate {@code long} words (limbs),
+ * the least significant word being the last parameter or the element with index 0 of an array.
+ * All words are treated as unsigned 64-bit values.
+ */
+final class MantissaArithmetic {
+
+  private MantissaArithmetic() {}
+
+  /** The bit of the mantissa that corresponds to the implicit unity of normal values */
+  static final long HIGH_BIT = 0x8000_0000_0000_0000L;
+
+  /**
+   * Returns the most significant 64 bits of the unsigned 128-bit product of two unsigned 64-bit values.
+   * (A replacement for {@code Math.unsignedMultiplyHigh()} that is not available in Java 17)
+   * @param a the first factor, treated as unsigned
+   * @param b the second factor, treated as unsigned
+   * @return the high 64 bits of the unsigned product of the factors
+   */
+  static long unsignedMultiplyHigh(long a, long b) {
+    return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+  }
+
+  /**
+   * Returns the carry (0 or 1) produced by the unsigned addition {@code a + b}, whose result is {@code sum}
+   * @param sum the (truncated) sum of the two summands
+   * @param a one of the summands
+   * @return 1 if the addition has overflowed, 0 otherwise
+   */
+  static long carryOf(long sum, long a) {
+    return Long.compareUnsigned(sum, a) < 0? 1 : 0;
+  }
+
+  /**
+   * Compares two unsigned 192-bit numbers
+   * @param a2 the most significant word of the first number
+   * @param a1 the middle word of the first number
+   * @param a0 the least significant word of the first number
+   * @param b2 the most significant word of the second number
+   * @param b1 the middle word of the second number
+   * @param b0 the least significant word of the second number
+   * @return a negative integer, zero, or a positive integer as the first number is less than,
+   * equal to, or greater than the second one
+   */
+  static int compare192(long a2, long a1, long a0, long b2, long b1, long b0) {
+    if (a2 != b2) return Long.compareUnsigned(a2, b2);
+    if (a1 != b1) return Long.compareUnsigned(a1, b1);
+    return Long.compareUnsigned(a0, b0);
+  }
+
+}
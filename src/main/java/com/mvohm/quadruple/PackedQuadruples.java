@@ -0,0 +1,109 @@
+package com.mvohm.quadruple;
+
+/**
+ * Package-private helpers for arrays of {@code long} words that hold {@code ImmutableQuadruple} values
+ * without creating objects for them.<br>
+ * Each value takes {@value #WORDS} consecutive words: the sign and the biased exponent
+ * (the sign in the most significant bit, the exponent in the lower 32 bits),
+ * the most significant 64 bits of the fractional part of the mantissa, and the least significant 64 bits of it.
+ * The methods address the values by their indices, i.e. the value with index {@code i}
+ * takes the words from {@code WORDS * i} to {@code WORDS * i + 2}.
+ * An array filled with zeros holds zero values.
+ */
+final class PackedQuadruples {
+
+  private PackedQuadruples() {}
+
+  /** The number of {@code long} words taken by a value */
+  static final int WORDS = 3;
+  private static final long SIGN_BIT = 0x8000_0000_0000_0000L;
+  private static final long EXPONENT_MASK = 0xFFFF_FFFFL;
+
+  /**
+   * Returns an array of {@code long} words to hold the given number of values, initially zeros
+   * @param length the number of values
+   * @return an array to hold the values
+   * @throws IllegalArgumentException if the length is negative or the array would be too large
+   */
+  static long[] newArray(long length) {
+    if (length < 0 || length * WORDS > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("Can't allocate an array for " + length + " values");
+    }
+    return new long[(int)(length * WORDS)];
+  }
+
+  static ImmutableQuadruple get(long[] words, int index) {
+    final int offset = index * WORDS;
+    return ImmutableQuadruple.construct(words[offset] < 0, (int)words[offset], words[offset + 1], words[offset + 2]);
+  }
+
+  /** Puts the value with the given index to the buffer, without creating objects
+   * @return the buffer */
+  static Quadruple get(long[] words, int index, Quadruple buffer) {
+    final int offset = index * WORDS;
+    return buffer.assign(words[offset] < 0, (int)words[offset], words[offset + 1], words[offset + 2]);
+  }
+
+  static void set(long[] words, int index, ImmutableQuadruple value) {
+    set(words, index, value.isNegative(), value.exponent(), value.mantHi(), value.mantLo());
+  }
+
+  static void set(long[] words, int index, Quadruple value) {
+    set(words, index, value.isNegative(), value.exponent(), value.mantHi(), value.mantLo());
+  }
+
+  static void set(long[] words, int index, boolean negative, int exponent, long mantHi, long mantLo) {
+    final int offset = index * WORDS;
+    words[offset] = negative? SIGN_BIT | (exponent & EXPONENT_MASK) : exponent & EXPONENT_MASK;
+    words[offset + 1] = mantHi;
+    words[offset + 2] = mantLo;
+  }
+
+  /** Copies the value with index {@code from} of {@code source} to the position with index {@code to} of {@code target} */
+  static void copy(long[] source, int from, long[] target, int to) {
+    System.arraycopy(source, from * WORDS, target, to * WORDS, WORDS);
+  }
+
+  static boolean isNegative(long[] words, int index) {
+    return words[index * WORDS] < 0;
+  }
+
+  /** Returns the biased exponent of the value with the given index */
+  static int exponent(long[] words, int index) {
+    return (int)words[index * WORDS];
+  }
+
+  static boolean isZero(long[] words, int index) {
+    final int offset = index * WORDS;
+    return ((words[offset] & EXPONENT_MASK) | words[offset + 1] | words[offset + 2]) == 0;
+  }
+
+  /**
+   * Compares the magnitudes of the value with index {@code indexA} of {@code a} and the value with index {@code indexB} of {@code b},
+   * the same way as {@link ImmutableQuadruple#compareMagnitudeTo(ImmutableQuadruple)} does
+   * @return a negative integer, zero, or a positive integer as the magnitude of the first value is less than,
+   * equal to, or greater than that of the second one
+   */
+  static int compareMagnitudes(long[] a, int indexA, long[] b, int indexB) {
+    final int offsetA = indexA * WORDS, offsetB = indexB * WORDS;
+    final int result = Integer.compareUnsigned((int)a[offsetA], (int)b[offsetB]);
+    if (result != 0) return result;
+    if (a[offsetA + 1] != b[offsetB + 1]) return Long.compareUnsigned(a[offsetA + 1], b[offsetB + 1]);
+    return Long.compareUnsigned(a[offsetA + 2], b[offsetB + 2]);
+  }
+
+  /** Swaps {@code count} consecutive values starting from index {@code index1} with those starting from index {@code index2} */
+  static void swap(long[] words, int index1, int index2, int count) {
+    for (int i = index1 * WORDS, j = index2 * WORDS, end = i + count * WORDS; i < end; i++, j++) {
+      final long word = words[i];
+      words[i] = words[j];
+      words[j] = word;
+    }
+  }
+
+  /** Changes the sign of the value with the given index */
+  static void negate(long[] words, int index) {
+    words[index * WORDS] ^= SIGN_BIT;
+  }
+
+}
@@ -0,0 +1,219 @@
+package com.mvohm.quadruple;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Tables of powers of ten used by {@link ImmutableQuadruple#scaleByPowerOfTen(int)}.<br>
+ * Holds the values of {@code 10^n} for {@code 0 <= n < 512} rounded to the nearest {@code ImmutableQuadruple},
+ * and 256-bit approximations of {@code 10^n} and {@code 10^-n} for {@code 0 <= n < 512}
+ * and of {@code 10^(2^i)} and {@code 10^-(2^i)} for {@code 9 <= i <= 29},
+ * so that any power of ten within the range of {@code ImmutableQuadruple} is a product of a few approximations.<br>
+ * The relative error of the approximations of {@code 10^n} with {@code n < 512} is less than {@code 2^-255},
+ * that of {@code 10^(2^29)} is less than {@code 2^-230}, and the products of up to 25 approximations
+ * computed by {@link #multiply(ImmutableQuadruple, int)} have relative errors less than {@code 2^-224}.
+ * The powers {@code 10^n} with {@code n <= 55} are exact.<br>
+ * The tables are built when the class gets initialized, that is when {@code scaleByPowerOfTen()} is called for the first time.
+ */
+final class PowersOfTen {
+
+  /** The number of entries in the tables of small powers, {@code 10^0 .. 10^511} and {@code 10^-0 .. 10^-511} */
+  static final int SMALL_POWERS = 512;
+  /** The number of bits of {@code n} covered by the tables of small powers */
+  static final int SMALL_POWER_BITS = 9;
+  /** The number of entries in the tables of large powers, {@code 10^(2^9) .. 10^(2^29)} and their reciprocals */
+  static final int LARGE_POWERS = 21;
+  /** The greatest {@code n} such that {@code 10^n} is represented exactly: {@code 10^55 = 5^55 * 2^55}, and {@code 5^55 < 2^129} */
+  static final int MAX_EXACT_POWER = 55;
+
+  /** The number of bits of the approximations */
+  private static final int WORKING_BITS = 256;
+  /** The number of words of the approximations */
+  private static final int WORKING_WORDS = WORKING_BITS / 64;
+
+  /** {@code POSITIVE_SMALL[n] == 10^n}, rounded half-even */
+  static final ImmutableQuadruple[] POSITIVE_SMALL = new ImmutableQuadruple[SMALL_POWERS];
+
+  /** Approximations of {@code 10^n} for {@code 0 <= n < 512} */
+  private static final Approximations POSITIVE_SMALL_APPROXIMATIONS = new Approximations(SMALL_POWERS);
+  /** Approximations of {@code 10^-n} for {@code 0 <= n < 512} */
+  private static final Approximations NEGATIVE_SMALL_APPROXIMATIONS = new Approximations(SMALL_POWERS);
+  /** Approximations of {@code 10^(512 * 2^i)} for {@code 0 <= i < 21} */
+  private static final Approximations POSITIVE_LARGE_APPROXIMATIONS = new Approximations(LARGE_POWERS);
+  /** Approximations of {@code 10^-(512 * 2^i)} for {@code 0 <= i < 21} */
+  private static final Approximations NEGATIVE_LARGE_APPROXIMATIONS = new Approximations(LARGE_POWERS);
+
+  static {
+    BigInteger power = BigInteger.ONE;
+    for (int n = 0; n < SMALL_POWERS; n++) {
+      POSITIVE_SMALL[n] = round(power, 0);
+      POSITIVE_SMALL_APPROXIMATIONS.set(n, power, 0);
+      setReciprocal(NEGATIVE_SMALL_APPROXIMATIONS, n, power, 0);
+      power = power.multiply(BigInteger.TEN);
+    }
+
+    // Now power == 10^512. Square it repeatedly, keeping WORKING_BITS most significant bits
+    // as the mantissa, so that the value is mantissa * 2^exponent.
+    // Each truncation adds a relative error of less than 2^-255, the squaring doubles the accumulated error,
+    // so the error of 10^(2^29) is less than 2^-230
+    BigInteger mantissa = power;
+    long exponent = 0;
+    for (int i = 0; i < LARGE_POWERS; i++) {
+      final int excess = mantissa.bitLength() - WORKING_BITS;
+      if (excess > 0) {
+        mantissa = mantissa.shiftRight(excess);
+        exponent += excess;
+      }
+      POSITIVE_LARGE_APPROXIMATIONS.set(i, mantissa, exponent);
+      setReciprocal(NEGATIVE_LARGE_APPROXIMATIONS, i, mantissa, exponent);
+      mantissa = mantissa.multiply(mantissa);
+      exponent *= 2;
+    }
+  }
+
+  private PowersOfTen() {}
+
+  /**
+   * Returns the value of {@code value * 10^n}, for a finite non-zero {@code value}.<br>
+   * Composes a 256-bit approximation of {@code 10^n} of the table entries, truncating the products to 256 bits,
+   * multiplies the 129-bit mantissa of the value by it exactly, and rounds the product to the nearest
+   * {@code ImmutableQuadruple} once, half-even. Since the relative error of the approximation is less than {@code 2^-224},
+   * the result is correctly rounded, unless the exact product is closer than that to a midpoint between two adjacent
+   * {@code ImmutableQuadruple} values, so that the error does not exceed {@code 0.5 + 2^-95} units in the last place.
+   * Results with magnitudes exceeding {@code MAX_VALUE} are infinities, and subnormal results are rounded half-even.
+   * Doesn't create objects other than the result and the two arrays of the working words.
+   */
+  static ImmutableQuadruple multiply(ImmutableQuadruple value, int n) {
+    final Approximations small = (n > 0)? POSITIVE_SMALL_APPROXIMATIONS : NEGATIVE_SMALL_APPROXIMATIONS;
+    final Approximations large = (n > 0)? POSITIVE_LARGE_APPROXIMATIONS : NEGATIVE_LARGE_APPROXIMATIONS;
+    final long magnitude = Math.abs((long)n);
+
+    // power * 2^powerExponent approximates 10^n
+    final long[] power = new long[WORKING_WORDS];
+    final long[] product = new long[2 * WORKING_WORDS];
+    final int smallPart = (int)(magnitude & (SMALL_POWERS - 1));
+    System.arraycopy(small.mantissas, smallPart * WORKING_WORDS, power, 0, WORKING_WORDS);
+    long powerExponent = small.exponents[smallPart];
+    long count = magnitude >>> SMALL_POWER_BITS;
+    for (int i = 0; count != 0; i++, count >>>= 1) {
+      if (i == LARGE_POWERS - 1) { // The greatest power in the table, may be needed several times
+        for (; count != 0; count--) {
+          powerExponent = multiplyApproximations(power, powerExponent, large, i, product);
+        }
+        break;
+      }
+      if ((count & 1) != 0) {
+        powerExponent = multiplyApproximations(power, powerExponent, large, i, product);
+      }
+    }
+
+    // The mantissa of the value is a 129-bit integer, the implicit unity being absent for subnormal values
+    final long biasedExponent = value.exponent() & 0xFFFF_FFFFL;
+    final long[] mantissa = { value.mantLo(), value.mantHi(), (biasedExponent == 0)? 0 : 1 };
+    multiply(mantissa, power, 0, product);
+    final long exponent = Math.max(biasedExponent, 1) - Quadruple.EXPONENT_BIAS - 128 + powerExponent;
+
+    // The product is at least 2^255, take its 192 most significant bits, with the lowest one set if any of the rest is set,
+    // that is enough to round it to 129 bits correctly
+    int top = product.length - 1;
+    while (product[top] == 0) {
+      top--;
+    }
+    final int shift = Long.numberOfLeadingZeros(product[top]);
+    final long w2 = shiftedWord(product, top, shift), w1 = shiftedWord(product, top - 1, shift);
+    long w0 = shiftedWord(product, top - 2, shift);
+    boolean sticky = (product[top - 3] << shift) != 0;
+    for (int i = top - 4; i >= 0 && !sticky; i--) {
+      sticky = product[i] != 0;
+    }
+    if (sticky) {
+      w0 |= 1;
+    }
+    return ImmutableQuadruple.fromWords(value.isNegative(), w2, w1, w0, exponent + 64L * (top - 2) - shift);
+  }
+
+  /**
+   * Multiplies the 256-bit approximation {@code power * 2^powerExponent} by the given table entry,
+   * and puts the 256 most significant bits of the product to {@code power}.
+   * @return the exponent of the least significant bit of the new value of {@code power}
+   */
+  private static long multiplyApproximations(long[] power, long powerExponent, Approximations table, int index, long[] product) {
+    multiply(power, table.mantissas, index * WORKING_WORDS, product);
+    // Both factors are within [2^255, 2^256), so the product is within [2^510, 2^512)
+    final int shift = Long.numberOfLeadingZeros(product[2 * WORKING_WORDS - 1]);
+    for (int i = 0; i < WORKING_WORDS; i++) {
+      power[i] = shiftedWord(product, WORKING_WORDS + i, shift);
+    }
+    return powerExponent + table.exponents[index] + WORKING_BITS - shift;
+  }
+
+  /** Computes the exact product of the unsigned integer held in {@code a} and the 256-bit one in {@code b[offset..offset + 3]},
+   * and puts it to {@code product}, whose remaining words get cleared */
+  private static void multiply(long[] a, long[] b, int offset, long[] product) {
+    Arrays.fill(product, 0);
+    for (int i = 0; i < a.length; i++) {
+      long carry = 0;
+      for (int j = 0; j < WORKING_WORDS; j++) {
+        // product[i + j] + a[i] * b[j] + carry < 2^128, so the carry to the next word fits in 64 bits
+        final long low = a[i] * b[offset + j];
+        final long high = MantissaArithmetic.unsignedMultiplyHigh(a[i], b[offset + j]);
+        final long partialSum = product[i + j] + low;
+        final long sum = partialSum + carry;
+        carry = high + MantissaArithmetic.carryOf(partialSum, low) + MantissaArithmetic.carryOf(sum, carry);
+        product[i + j] = sum;
+      }
+      product[i + WORKING_WORDS] = carry;
+    }
+  }
+
+  /** Returns the word {@code words[index]} shifted left by {@code shift} bits, with the bits shifted in from {@code words[index - 1]} */
+  private static long shiftedWord(long[] words, int index, int shift) {
+    return (shift == 0 || index == 0)? words[index] << shift : (words[index] << shift) | (words[index - 1] >>> (64 - shift));
+  }
+
+  /** Sets the given entry of the table to the approximation of {@code 1 / (mantissa * 2^exponent)} */
+  private static void setReciprocal(Approximations table, int index, BigInteger mantissa, long exponent) {
+    final int shift = mantissa.bitLength() + WORKING_BITS;
+    table.set(index, BigInteger.ONE.shiftLeft(shift).divide(mantissa), -shift - exponent);
+  }
+
+  /** Returns the value of {@code mantissa * 2^exponent}, rounded to the nearest {@code ImmutableQuadruple}, half-even */
+  private static ImmutableQuadruple round(BigInteger mantissa, long exponent) {
+    final int excess = mantissa.bitLength() - 192;
+    if (excess > 0) {
+      // Keep 192 bits, with the lowest one set if any of the discarded bits is set, that is enough to round it correctly
+      final boolean sticky = mantissa.getLowestSetBit() < excess;
+      mantissa = mantissa.shiftRight(excess);
+      if (sticky) {
+        mantissa = mantissa.setBit(0);
+      }
+      exponent += excess;
+    }
+    return ImmutableQuadruple.fromWords(false, mantissa.shiftRight(128).longValue(), mantissa.shiftRight(64).longValue(),
+                                        mantissa.longValue(), exponent);
+  }
+
+  /** A table of 256-bit approximations {@code mantissa * 2^exponent}, with the most significant bits of the mantissas set */
+  private static final class Approximations {
+    /** The mantissas, {@code WORKING_WORDS} words per entry, the least significant first */
+    final long[] mantissas;
+    /** The exponents of the least significant bits of the mantissas */
+    final long[] exponents;
+
+    Approximations(int size) {
+      mantissas = new long[size * WORKING_WORDS];
+      exponents = new long[size];
+    }
+
+    /** Sets the entry to {@code mantissa * 2^exponent}, truncating the mantissa to {@code WORKING_BITS} bits */
+    void set(int index, BigInteger mantissa, long exponent) {
+      final int excess = mantissa.bitLength() - WORKING_BITS;
+      mantissa = (excess > 0)? mantissa.shiftRight(excess) : mantissa.shiftLeft(-excess);
+      exponents[index] = exponent + excess;
+      for (int i = 0; i < WORKING_WORDS; i++) {
+        mantissas[index * WORKING_WORDS + i] = mantissa.shiftRight(64 * i).longValue();
+      }
+    }
+  }
+
+}
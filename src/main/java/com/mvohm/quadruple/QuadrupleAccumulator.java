@@ -0,0 +1,336 @@
+package com.mvohm.quadruple;
+
+import java.util.stream.IntStream;
+
+/**
+ * An accumulator of sums of {@code double} values and of their products, that keeps the exact value of the sum
+ * and rounds it to an {@code ImmutableQuadruple} value only when the result is requested.<br>
+ * The sum is held as a fixed-point number covering the whole range of the products of two {@code double} values,
+ * from {@code 2^-2148} to {@code 2^2048}, in an array of {@code long} words, each of which holds 32 bits of the number
+ * and provides room for the carries. Adding a value takes a few shifts and additions to the words
+ * at the position determined by its exponent, without branches depending on the values, and without creating any objects;
+ * the carries are propagated once per {@code 2^30} additions and when the result is requested.
+ * Since the sum is exact, the result does not depend on the order of the additions, and is the correctly rounded
+ * (half-even) value of the exact sum, even in the case of catastrophic cancellation.<br>
+ * Accumulators of separate parts of the data can be combined with {@link #add(QuadrupleAccumulator)},
+ * that allows to compute the sums in parallel, see {@link #parallelSum(double[])}.<br>
+ * If NaN or infinities are added, the result is the same as that of their sum in {@code double} arithmetic.<br>
+ * Instances are mutable and not thread-safe.
+ */
+public final class QuadrupleAccumulator {
+
+  /** The exponent of the least significant bit of the accumulator, a multiple of 32 below {@code 2^-2148},
+   * the least significant bit of the product of two {@code Double.MIN_VALUE} */
+  private static final int MIN_BIT = -2176;
+  /** The number of words, enough to hold the bits up to {@code 2^2048}, the greatest product of two doubles, and more */
+  private static final int WORDS = 136;
+  private static final long WORD_MASK = 0xFFFF_FFFFL;
+  /** The number of additions after which the carries must be propagated, so that the words don't overflow */
+  private static final int CARRY_INTERVAL = 1 << 30;
+  /** The number of elements of an array handled by a single task of the parallel methods */
+  private static final int PARALLEL_CHUNK_SIZE = 1 << 14;
+
+  private static final long DOUBLE_FRACTION_MASK = 0x000F_FFFF_FFFF_FFFFL;
+  private static final int DOUBLE_EXPONENT_BIAS = 1023;
+
+  /** The words of the fixed-point sum, {@code sum(words[i] * 2^(MIN_BIT + 32 * i))}, the least significant first */
+  private final long[] words = new long[WORDS];
+  /** The number of additions since the carries were propagated */
+  private int additions;
+  /** The sum of the NaN and infinite values added, in {@code double} arithmetic, or 0 if there were none */
+  private double specialSum;
+
+  /**
+   * Creates a new accumulator with the value of zero.
+   */
+  public QuadrupleAccumulator() {
+  }
+
+  /**
+   * Adds the given value to the sum.
+   * @param value the value to add
+   * @return this accumulator
+   */
+  public QuadrupleAccumulator add(double value) {
+    final long bits = Double.doubleToRawLongBits(value);
+    final int biasedExponent = (int)(bits >>> 52) & 0x7FF;
+    if (biasedExponent == 0x7FF) {
+      specialSum += value;
+      return this;
+    }
+    final long mantissa = (biasedExponent == 0)? bits & DOUBLE_FRACTION_MASK : (bits & DOUBLE_FRACTION_MASK) | (1L << 52);
+    addBits(mantissa, Math.max(biasedExponent, 1) - DOUBLE_EXPONENT_BIAS - 52, bits >> 63);
+    countAddition();
+    return this;
+  }
+
+  /**
+   * Adds the exact product of the given values to the sum.
+   * @param a the first factor
+   * @param b the second factor
+   * @return this accumulator
+   */
+  public QuadrupleAccumulator addProduct(double a, double b) {
+    final long bitsA = Double.doubleToRawLongBits(a), bitsB = Double.doubleToRawLongBits(b);
+    final int exponentA = (int)(bitsA >>> 52) & 0x7FF, exponentB = (int)(bitsB >>> 52) & 0x7FF;
+    if (exponentA == 0x7FF || exponentB == 0x7FF) {
+      specialSum += a * b;
+      return this;
+    }
+    final long mantA = (exponentA == 0)? bitsA & DOUBLE_FRACTION_MASK : (bitsA & DOUBLE_FRACTION_MASK) | (1L << 52);
+    final long mantB = (exponentB == 0)? bitsB & DOUBLE_FRACTION_MASK : (bitsB & DOUBLE_FRACTION_MASK) | (1L << 52);
+    addBits(Math.multiplyHigh(mantA, mantB), mantA * mantB,
+            Math.max(exponentA, 1) + Math.max(exponentB, 1) - 2 * (DOUBLE_EXPONENT_BIAS + 52), (bitsA ^ bitsB) >> 63);
+    countAddition();
+    return this;
+  }
+
+  /**
+   * Adds all the values of the given array to the sum.
+   * @param values the values to add
+   * @return this accumulator
+   */
+  public QuadrupleAccumulator addAll(double[] values) {
+    return addAll(values, 0, values.length);
+  }
+
+  /**
+   * Adds the values of the given range of the given array to the sum.
+   * @param values the array containing the values to add
+   * @param from the index of the first value to add, inclusive
+   * @param to the index of the last value to add, exclusive
+   * @return this accumulator
+   */
+  public QuadrupleAccumulator addAll(double[] values, int from, int to) {
+    for (int i = from; i < to; i++) {
+      add(values[i]);
+    }
+    return this;
+  }
+
+  /**
+   * Adds the products of the corresponding elements of the given arrays to the sum.
+   * @param a the array of the first factors
+   * @param b the array of the second factors
+   * @param from the index of the first pair of elements to multiply, inclusive
+   * @param to the index of the last pair of elements to multiply, exclusive
+   * @return this accumulator
+   */
+  public QuadrupleAccumulator addProducts(double[] a, double[] b, int from, int to) {
+    for (int i = from; i < to; i++) {
+      addProduct(a[i], b[i]);
+    }
+    return this;
+  }
+
+  /**
+   * Adds the exact sum accumulated by the given accumulator to the sum of this one.
+   * The other accumulator remains unchanged.
+   * @param other the accumulator whose sum to add
+   * @return this accumulator
+   */
+  public QuadrupleAccumulator add(QuadrupleAccumulator other) {
+    other.propagateCarries();
+    propagateCarries();
+    for (int i = 0; i < WORDS; i++) {
+      words[i] += other.words[i];
+    }
+    additions = 1;
+    specialSum += other.specialSum;
+    return this;
+  }
+
+  /**
+   * Returns the exact sum of the values added to this accumulator, rounded to the nearest {@code ImmutableQuadruple} value.
+   * A zero sum is positive. The accumulator remains unchanged and can be used further.
+   * @return an instance containing the accumulated sum
+   */
+  public ImmutableQuadruple sum() {
+    if (specialSum != 0) {
+      return new ImmutableQuadruple(specialSum);
+    }
+    propagateCarries();
+    final boolean negative = words[WORDS - 1] < 0;
+    final long[] magnitude = words.clone();
+    if (negative) {
+      for (int i = 0; i < WORDS; i++) {
+        magnitude[i] = -magnitude[i];
+      }
+      normalize(magnitude);
+    }
+
+    int top = WORDS - 1;
+    while (top >= 0 && magnitude[top] == 0) {
+      top--;
+    }
+    if (top < 0) {
+      return ImmutableQuadruple.ZERO;
+    }
+    // The 192 most significant bits of the sum, the lower bits only matter for the rounding, as a sticky bit
+    final int low = Math.max(top - 5, 0);
+    long w2 = 0, w1 = 0, w0 = 0;
+    for (int i = top; i >= low; i--) {
+      w2 = (w2 << 32) | (w1 >>> 32);
+      w1 = (w1 << 32) | (w0 >>> 32);
+      w0 = (w0 << 32) | magnitude[i];
+    }
+    for (int i = 0; i < low; i++) {
+      if (magnitude[i] != 0) {
+        w0 |= 1;
+        break;
+      }
+    }
+    return ImmutableQuadruple.fromWords(negative, w2, w1, w0, MIN_BIT + 32L * low);
+  }
+
+  /**
+   * Returns the sum of the values of the given array, correctly rounded to the nearest {@code ImmutableQuadruple} value.
+   * @param values the values to add up
+   * @return an instance containing the sum of the values
+   */
+  public static ImmutableQuadruple sum(double[] values) {
+    return new QuadrupleAccumulator().addAll(values).sum();
+  }
+
+  /**
+   * Returns the dot product of the given vectors, the exact sum of the products of their corresponding elements,
+   * correctly rounded to the nearest {@code ImmutableQuadruple} value.
+   * @param a the first vector
+   * @param b the second vector, of the same length
+   * @return an instance containing the dot product of the vectors
+   * @throws IllegalArgumentException if the lengths of the vectors differ
+   */
+  public static ImmutableQuadruple dot(double[] a, double[] b) {
+    checkLengths(a, b);
+    return new QuadrupleAccumulator().addProducts(a, b, 0, a.length).sum();
+  }
+
+  /**
+   * Returns the Euclidean norm of the given vector, the square root of the sum of the squares of its elements.
+   * The sum of the squares is exact before it's rounded, so the error of the result does not exceed 1 ulp,
+   * and no intermediate overflow or underflow is possible.
+   * @param values the elements of the vector
+   * @return an instance containing the Euclidean norm of the vector
+   */
+  public static ImmutableQuadruple norm2(double[] values) {
+    return new QuadrupleAccumulator().addProducts(values, values, 0, values.length).sum().sqrt();
+  }
+
+  /**
+   * Returns the same value as {@link #sum(double[])}, summing up the chunks of the array in parallel
+   * in the common {@code ForkJoinPool} and combining the exact partial sums.
+   * Each chunk is added up with the same scalar loop as {@link #addAll(double[], int, int)}:
+   * every value goes to the words selected by its exponent, so the additions can't be vectorized,
+   * and neither splitting a chunk between several accumulators nor decoding the values in a separate pass made them faster.
+   * @param values the values to add up
+   * @return an instance containing the sum of the values
+   */
+  public static ImmutableQuadruple parallelSum(double[] values) {
+    return chunks(values.length)
+        .collect(QuadrupleAccumulator::new,
+                 (accumulator, chunk) -> accumulator.addAll(values, chunkStart(chunk), chunkEnd(chunk, values.length)),
+                 QuadrupleAccumulator::add)
+        .sum();
+  }
+
+  /**
+   * Returns the same value as {@link #dot(double[], double[])}, computed in parallel like {@link #parallelSum(double[])}.
+   * @param a the first vector
+   * @param b the second vector, of the same length
+   * @return an instance containing the dot product of the vectors
+   * @throws IllegalArgumentException if the lengths of the vectors differ
+   */
+  public static ImmutableQuadruple parallelDot(double[] a, double[] b) {
+    checkLengths(a, b);
+    return chunks(a.length)
+        .collect(QuadrupleAccumulator::new,
+                 (accumulator, chunk) -> accumulator.addProducts(a, b, chunkStart(chunk), chunkEnd(chunk, a.length)),
+                 QuadrupleAccumulator::add)
+        .sum();
+  }
+
+  /**
+   * Returns the same value as {@link #norm2(double[])}, computed in parallel like {@link #parallelSum(double[])}.
+   * @param values the elements of the vector
+   * @return an instance containing the Euclidean norm of the vector
+   */
+  public static ImmutableQuadruple parallelNorm2(double[] values) {
+    return parallelDot(values, values).sqrt();
+  }
+
+  /**
+   * Adds or subtracts the 53-bit unsigned integer {@code mantissa} multiplied by {@code 2^exponent}
+   * @param sign 0 to add, -1 to subtract
+   */
+  private void addBits(long mantissa, int exponent, long sign) {
+    final int position = exponent - MIN_BIT;
+    final int index = position >>> 5, offset = position & 31;
+    // Shift the value left by offset, the result takes not more than 53 + 31 bits
+    final long shiftedLo = mantissa << offset;
+    final long shiftedHi = (offset == 0)? 0 : mantissa >>> (64 - offset);
+    words[index]     += ((shiftedLo & WORD_MASK) ^ sign) - sign;
+    words[index + 1] += ((shiftedLo >>> 32) ^ sign) - sign;
+    words[index + 2] += (shiftedHi ^ sign) - sign;
+  }
+
+  /**
+   * Adds or subtracts the 128-bit unsigned integer {@code hi:lo} multiplied by {@code 2^exponent}
+   * @param sign 0 to add, -1 to subtract
+   */
+  private void addBits(long hi, long lo, int exponent, long sign) {
+    final int position = exponent - MIN_BIT;
+    final int index = position >>> 5, offset = position & 31;
+    // Shift the value left by offset, the result takes not more than 106 + 31 bits
+    final long shiftedLo = lo << offset;
+    final long shiftedHi = (offset == 0)? hi : (hi << offset) | (lo >>> (64 - offset));
+    final long shiftedTop = (offset == 0)? 0 : hi >>> (64 - offset);
+    words[index]     += ((shiftedLo & WORD_MASK) ^ sign) - sign;
+    words[index + 1] += ((shiftedLo >>> 32) ^ sign) - sign;
+    words[index + 2] += ((shiftedHi & WORD_MASK) ^ sign) - sign;
+    words[index + 3] += ((shiftedHi >>> 32) ^ sign) - sign;
+    words[index + 4] += (shiftedTop ^ sign) - sign;
+  }
+
+  private void countAddition() {
+    if (++additions >= CARRY_INTERVAL) {
+      propagateCarries();
+    }
+  }
+
+  private void propagateCarries() {
+    if (additions != 0) {
+      normalize(words);
+      additions = 0;
+    }
+  }
+
+  /**
+   * Propagates the carries, so that all the words but the most significant one are within {@code 0 .. 2^32 - 1},
+   * and the most significant word holds the sign of the number
+   */
+  private static void normalize(long[] words) {
+    for (int i = 0; i < WORDS - 1; i++) {
+      words[i + 1] += words[i] >> 32;
+      words[i] &= WORD_MASK;
+    }
+  }
+
+  private static void checkLengths(double[] a, double[] b) {
+    if (a.length != b.length) {
+      throw new IllegalArgumentException("The lengths of the vectors differ: " + a.length + " and " + b.length);
+    }
+  }
+
+  private static IntStream chunks(int length) {
+    return IntStream.range(0, (length + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE).parallel();
+  }
+
+  private static int chunkStart(int chunk) {
+    return chunk * PARALLEL_CHUNK_SIZE;
+  }
+
+  private static int chunkEnd(int chunk, int length) {
+    return (int)Math.min((long)(chunk + 1) * PARALLEL_CHUNK_SIZE, length);
+  }
+
+}
@@ -0,0 +1,344 @@
+package com.mvohm.quadruple;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-length array of values in the IEEE-754 binary128 (quadruple precision) format, that takes 16 bytes per element,
+ * for storing large amounts of values that don't need the full precision of {@code ImmutableQuadruple}.<br>
+ * Each element takes two consecutive {@code long} words in the layout returned by {@link ImmutableQuadruple#toIeee754Longs()}:
+ * the sign bit, the 15-bit exponent and the 48 most significant bits of the 112-bit fraction in the first word,
+ * and the 64 least significant bits of the fraction in the second one.
+ * {@code ImmutableQuadruple} values are converted the same way as {@code toIeee754Longs()} does, i.e. their 128-bit mantissas
+ * are rounded half-up to 112 bits, the values beyond the range of binary128 become infinities or zeros,
+ * and the elements are converted back exactly. The conversions operate directly on the words of the array,
+ * without creating intermediate arrays or objects other than the resulting {@code ImmutableQuadruple} values.<br>
+ * The elements can be compared in place, the same way as {@link ImmutableQuadruple#compareTo(ImmutableQuadruple)}
+ * compares the respective {@code ImmutableQuadruple} values.<br>
+ * Instances are mutable and not thread-safe.
+ */
+public final class QuadrupleBinary128Array {
+
+  private static final long SIGN_BIT = 0x8000_0000_0000_0000L;
+  private static final long EXPONENT_MASK = 0x7FFF_0000_0000_0000L;
+  private static final long FRACTION_HI_MASK = 0x0000_FFFF_FFFF_FFFFL;
+  private static final long QUIET_NAN = 0x7FFF_8000_0000_0000L;
+  private static final int FRACTION_HI_BITS = 48;
+  private static final long EXPONENT_BIAS = 0x3FFF;
+  private static final long MAX_EXPONENT = 0x3FFF;
+  private static final long MIN_EXPONENT = 1 - EXPONENT_BIAS;
+  /** The exponent of the least significant bit of subnormal binary128 values, that of the minimum positive value */
+  private static final long MIN_SUBNORMAL_EXPONENT = MIN_EXPONENT - 112;
+  /** The number of the least significant bits of the mantissa of {@code ImmutableQuadruple} values, that don't fit in binary128 */
+  private static final int DROPPED_BITS = 16;
+
+  private final int length;
+  private final long[] words;
+
+  /**
+   * Creates a new array of the given length filled with positive zeros.
+   * @param length the number of elements
+   * @throws IllegalArgumentException if the length is negative, or the array is too large
+   */
+  public QuadrupleBinary128Array(int length) {
+    if (length < 0 || length > (Integer.MAX_VALUE - 8) / 2) {
+      throw new IllegalArgumentException("Can't allocate an array for " + length + " values");
+    }
+    this.length = length;
+    words = new long[length * 2];
+  }
+
+  /** Creates an array that holds the given words, without copying them */
+  private QuadrupleBinary128Array(long[] words) {
+    this.length = words.length / 2;
+    this.words = words;
+  }
+
+  /**
+   * Creates a new array with the given elements, rounded to binary128.
+   * @param elements the elements of the array
+   * @return a new array with the given elements
+   */
+  public static QuadrupleBinary128Array of(ImmutableQuadruple... elements) {
+    final QuadrupleBinary128Array result = new QuadrupleBinary128Array(elements.length);
+    for (int i = 0; i < elements.length; i++) {
+      encode(elements[i], result.words, 2 * i);
+    }
+    return result;
+  }
+
+  /**
+   * Creates a new array with the elements given by their binary128 representations.
+   * @param words pairs of words with the representations of the elements, in the layout of {@link ImmutableQuadruple#toIeee754Longs()}
+   * @return a new array with a copy of the given words
+   * @throws IllegalArgumentException if the number of words is odd
+   */
+  public static QuadrupleBinary128Array fromIeee754Longs(long[] words) {
+    if ((words.length & 1) != 0) {
+      throw new IllegalArgumentException("The number of words must be even: " + words.length);
+    }
+    return new QuadrupleBinary128Array(words.clone());
+  }
+
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Returns the element with the given index.
+   * @param index the index of the element
+   * @return the exact value of the element
+   * @throws IndexOutOfBoundsException if the index is out of the bounds of the array
+   */
+  public ImmutableQuadruple get(int index) {
+    return decode(words, 2 * checkIndex(index));
+  }
+
+  /**
+   * Sets the element with the given index to the given value, rounded to binary128.
+   * @param index the index of the element
+   * @param value the new value of the element
+   * @return this array
+   * @throws IndexOutOfBoundsException if the index is out of the bounds of the array
+   */
+  public QuadrupleBinary128Array set(int index, ImmutableQuadruple value) {
+    encode(value, words, 2 * checkIndex(index));
+    return this;
+  }
+
+  /**
+   * Sets a range of elements of this array to the given values, rounded to binary128.
+   * @param index the index of the first element to set
+   * @param values the array with the values
+   * @param offset the index of the first value in {@code values}
+   * @param count the number of elements to set
+   * @return this array
+   * @throws IndexOutOfBoundsException if either range is out of the bounds of the respective array
+   */
+  public QuadrupleBinary128Array set(int index, ImmutableQuadruple[] values, int offset, int count) {
+    checkRange(index, count, length);
+    checkRange(offset, count, values.length);
+    for (int i = 0; i < count; i++) {
+      encode(values[offset + i], words, 2 * (index + i));
+    }
+    return this;
+  }
+
+  /**
+   * Puts the values of a range of elements of this array to the given array.
+   * @param index the index of the first element to get
+   * @param destination the array to put the values to
+   * @param offset the index in {@code destination} to put the first value to
+   * @param count the number of elements to get
+   * @return the destination array
+   * @throws IndexOutOfBoundsException if either range is out of the bounds of the respective array
+   */
+  public ImmutableQuadruple[] get(int index, ImmutableQuadruple[] destination, int offset, int count) {
+    checkRange(index, count, length);
+    checkRange(offset, count, destination.length);
+    for (int i = 0; i < count; i++) {
+      destination[offset + i] = decode(words, 2 * (index + i));
+    }
+    return destination;
+  }
+
+  /**
+   * Returns the elements of this array as an array of {@code ImmutableQuadruple} values.
+   * @return a new array with the exact values of the elements
+   */
+  public ImmutableQuadruple[] toArray() {
+    final ImmutableQuadruple[] result = new ImmutableQuadruple[length];
+    for (int i = 0; i < length; i++) {
+      result[i] = decode(words, 2 * i);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the binary128 representations of the elements.
+   * @return a new array with pairs of words representing the elements, in the layout of {@link ImmutableQuadruple#toIeee754Longs()}
+   */
+  public long[] toIeee754Longs() {
+    return words.clone();
+  }
+
+  /**
+   * Returns a copy of this array.
+   * @return a new array with the same elements
+   */
+  public QuadrupleBinary128Array copy() {
+    return new QuadrupleBinary128Array(words.clone());
+  }
+
+  /**
+   * Compares two elements of this array without converting them.
+   * @param index1 the index of the first element
+   * @param index2 the index of the second element
+   * @return a negative integer, zero, or a positive integer as the first element is less than, equal to,
+   * or greater than the second one, like {@link ImmutableQuadruple#compareTo(ImmutableQuadruple)} of their values
+   * @throws IndexOutOfBoundsException if either index is out of the bounds of the array
+   * @see #compare(int, QuadrupleBinary128Array, int)
+   */
+  public int compare(int index1, int index2) {
+    return compare(words, 2 * checkIndex(index1), words, 2 * checkIndex(index2));
+  }
+
+  /**
+   * Compares an element of this array with an element of the given array without converting them.
+   * Negative zero is less than positive zero, and NaN values are greater than any other values and equal to each other.
+   * @param index the index of the element of this array
+   * @param other the array with the other element
+   * @param otherIndex the index of the element of the other array
+   * @return a negative integer, zero, or a positive integer as the element of this array is less than, equal to,
+   * or greater than the element of the other one, like {@link ImmutableQuadruple#compareTo(ImmutableQuadruple)} of their values
+   * @throws IndexOutOfBoundsException if either index is out of the bounds of the respective array
+   */
+  public int compare(int index, QuadrupleBinary128Array other, int otherIndex) {
+    return compare(words, 2 * checkIndex(index), other.words, 2 * other.checkIndex(otherIndex));
+  }
+
+  /**
+   * Indicates whether the given object is a {@code QuadrupleBinary128Array} with the same binary representations of the elements.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof QuadrupleBinary128Array)) return false;
+    return Arrays.equals(words, ((QuadrupleBinary128Array)obj).words);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(words);
+  }
+
+  @Override
+  public String toString() {
+    return "QuadrupleBinary128Array " + Arrays.toString(toArray());
+  }
+
+  /** Puts the binary128 representation of the value, rounded half-up, to {@code words[offset]} and {@code words[offset + 1]} */
+  private static void encode(ImmutableQuadruple value, long[] words, int offset) {
+    final long sign = value.isNegative()? SIGN_BIT : 0;
+    final long biasedExponent = value.exponent() & 0xFFFF_FFFFL;
+    final long mantHi = value.mantHi(), mantLo = value.mantLo();
+    long hi, lo;
+    if (biasedExponent == 0xFFFF_FFFFL) {
+      hi = ((mantHi | mantLo) != 0)? QUIET_NAN : sign | EXPONENT_MASK;
+      lo = 0;
+    } else if (biasedExponent == 0) { // Zeros and subnormal ImmutableQuadruple values, that are far below the range of binary128
+      hi = sign;
+      lo = 0;
+    } else {
+      long exponent = biasedExponent - Quadruple.EXPONENT_BIAS;
+      if (exponent >= MIN_EXPONENT) {
+        hi = mantHi >>> DROPPED_BITS;
+        lo = (mantHi << (64 - DROPPED_BITS)) | (mantLo >>> DROPPED_BITS);
+        if ((mantLo & (1L << (DROPPED_BITS - 1))) != 0 && ++lo == 0 && ++hi > FRACTION_HI_MASK) {
+          hi = 0;
+          exponent++;
+        }
+        if (exponent > MAX_EXPONENT) {
+          hi = sign | EXPONENT_MASK;
+          lo = 0;
+        } else {
+          hi |= sign | ((exponent + EXPONENT_BIAS) << FRACTION_HI_BITS);
+        }
+      } else if (exponent >= MIN_SUBNORMAL_EXPONENT) {
+        // The 129-bit mantissa with the implicit unity, shifted right so that its unity gets to the position of 2^exponent
+        final int shift = (int)(MIN_EXPONENT - exponent) + DROPPED_BITS;
+        final boolean roundUp;
+        if (shift < 64) {
+          hi = (mantHi >>> shift) | (1L << (64 - shift));
+          lo = (mantLo >>> shift) | (mantHi << (64 - shift));
+          roundUp = (mantLo & (1L << (shift - 1))) != 0;
+        } else {
+          hi = (shift == 64)? 1 : 0;
+          lo = (shift == 64)? mantHi : (shift == 128)? 1 : (mantHi >>> (shift - 64)) | (1L << (128 - shift));
+          roundUp = (shift == 64)? mantLo < 0 : (mantHi & (1L << (shift - 65))) != 0;
+        }
+        if (roundUp && ++lo == 0) {
+          hi++; // May become the minimum normal value, with the exponent field of 1
+        }
+        hi |= sign;
+      } else if (exponent == MIN_SUBNORMAL_EXPONENT - 1) { // At least a half of the minimum value, rounded up to it
+        hi = sign;
+        lo = 1;
+      } else {
+        hi = sign;
+        lo = 0;
+      }
+    }
+    words[offset] = hi;
+    words[offset + 1] = lo;
+  }
+
+  /** Converts the binary128 value held in {@code words[offset]} and {@code words[offset + 1]} to {@code ImmutableQuadruple} */
+  private static ImmutableQuadruple decode(long[] words, int offset) {
+    final long hi = words[offset], lo = words[offset + 1];
+    final boolean negative = hi < 0;
+    final long exponentField = (hi & EXPONENT_MASK) >>> FRACTION_HI_BITS;
+    final long fractionHi = hi & FRACTION_HI_MASK;
+    if (exponentField == (EXPONENT_MASK >>> FRACTION_HI_BITS)) {
+      if ((fractionHi | lo) != 0) return ImmutableQuadruple.NaN;
+      return negative? ImmutableQuadruple.NEGATIVE_INFINITY : ImmutableQuadruple.POSITIVE_INFINITY;
+    }
+    if (exponentField != 0) {
+      return ImmutableQuadruple.construct(negative, (int)(exponentField - EXPONENT_BIAS + Quadruple.EXPONENT_BIAS),
+                                          (fractionHi << DROPPED_BITS) | (lo >>> (64 - DROPPED_BITS)), lo << DROPPED_BITS);
+    }
+    if ((fractionHi | lo) == 0) {
+      return negative? ImmutableQuadruple.ZERO.negate() : ImmutableQuadruple.ZERO;
+    }
+    // Subnormal, the value is fraction * 2^MIN_SUBNORMAL_EXPONENT. The shift moves the leading unity out of the 128 bits
+    final int highestBit = (fractionHi != 0)? 127 - Long.numberOfLeadingZeros(fractionHi) : 63 - Long.numberOfLeadingZeros(lo);
+    final int shift = 128 - highestBit;
+    final long mantHi, mantLo;
+    if (shift == 128) {
+      mantHi = mantLo = 0;
+    } else if (shift >= 64) {
+      mantHi = lo << (shift - 64);
+      mantLo = 0;
+    } else {
+      mantHi = (fractionHi << shift) | (lo >>> (64 - shift));
+      mantLo = lo << shift;
+    }
+    return ImmutableQuadruple.construct(negative, (int)(MIN_SUBNORMAL_EXPONENT + highestBit + Quadruple.EXPONENT_BIAS), mantHi, mantLo);
+  }
+
+  /** Compares the binary128 values held in {@code a[offsetA]}, {@code a[offsetA + 1]} and {@code b[offsetB]}, {@code b[offsetB + 1]} */
+  private static int compare(long[] a, int offsetA, long[] b, int offsetB) {
+    long hiA = a[offsetA], loA = a[offsetA + 1], hiB = b[offsetB], loB = b[offsetB + 1];
+    final boolean isNaNA = isNaN(hiA, loA), isNaNB = isNaN(hiB, loB);
+    if (isNaNA || isNaNB) {
+      return (isNaNA == isNaNB)? 0 : isNaNA? 1 : -1;
+    }
+    // With the magnitudes of negative values inverted, the words compare as a 128-bit signed integer
+    if (hiA < 0) {
+      hiA ^= Long.MAX_VALUE;
+      loA = ~loA;
+    }
+    if (hiB < 0) {
+      hiB ^= Long.MAX_VALUE;
+      loB = ~loB;
+    }
+    return (hiA != hiB)? Long.compare(hiA, hiB) : Long.compareUnsigned(loA, loB);
+  }
+
+  private static boolean isNaN(long hi, long lo) {
+    return (hi & EXPONENT_MASK) == EXPONENT_MASK && ((hi & FRACTION_HI_MASK) | lo) != 0;
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for an array of length " + length);
+    }
+    return index;
+  }
+
+  private static void checkRange(int from, int count, int length) {
+    if (from < 0 || count < 0 || from > length - count) {
+      throw new IndexOutOfBoundsException("Range [" + from + ", " + from + " + " + count + ") is out of bounds for length " + length);
+    }
+  }
+
+}
@@ -0,0 +1,168 @@
+package com.mvohm.quadruple;
+
+import java.util.Arrays;
+
+/**
+ * The Cholesky decomposition of a symmetric positive definite {@link QuadrupleMatrix}, {@code A = L·L^T},
+ * where {@code L} is a lower triangular matrix with positive diagonal elements.
+ * Only the lower triangle of the decomposed matrix is used.<br>
+ * The decomposition is computed by the blocked right-looking algorithm, like {@link QuadrupleLU},
+ * with about half of its operations and without pivoting. Each updated element is accumulated
+ * with the exact products of the elements and rounded once, without creating objects.<br>
+ * Instances are immutable and can be used concurrently.
+ */
+public final class QuadrupleCholesky {
+
+  /** The number of columns of a panel */
+  private static final int BLOCK_SIZE = 32;
+
+  private final int size;
+  /** The elements of {@code L} in the row-major order, the upper triangle filled with zeros */
+  private final long[] factor;
+  /** Divisors for the elements of the diagonal of {@code L} */
+  private final QuadrupleDivisor[] diagonal;
+
+  QuadrupleCholesky(QuadrupleMatrix matrix) {
+    if (matrix.rows() != matrix.columns()) {
+      throw new IllegalArgumentException("Can't decompose a non-square matrix " + matrix.rows() + " x " + matrix.columns());
+    }
+    size = matrix.rows();
+    factor = matrix.words().clone();
+    for (int i = 0; i < size - 1; i++) {
+      final int from = (i * size + i + 1) * PackedQuadruples.WORDS;
+      Arrays.fill(factor, from, from + (size - i - 1) * PackedQuadruples.WORDS, 0);
+    }
+    diagonal = new QuadrupleDivisor[size];
+    factor();
+  }
+
+  /**
+   * Returns the lower triangular factor {@code L}.
+   * @return a new matrix with the elements of {@code L}
+   */
+  public QuadrupleMatrix getL() {
+    return new QuadrupleMatrix(size, size, factor.clone());
+  }
+
+  /**
+   * Computes the determinant of the matrix, as the square of the product of the diagonal elements of {@code L}.
+   * @return the determinant of the matrix
+   */
+  public ImmutableQuadruple determinant() {
+    ImmutableQuadruple result = ImmutableQuadruple.ONE;
+    for (int i = 0; i < size; i++) {
+      final ImmutableQuadruple element = PackedQuadruples.get(factor, i * size + i);
+      result = result.multiply(element).multiply(element);
+    }
+    return result;
+  }
+
+  /**
+   * Solves the system of linear equations {@code A·x = b}, where {@code A} is the decomposed matrix.
+   * @param b the right-hand side
+   * @return the solution
+   * @throws IllegalArgumentException if the length of {@code b} differs from the size of the matrix
+   */
+  public ImmutableQuadruple[] solve(ImmutableQuadruple[] b) {
+    if (b.length != size) {
+      throw new IllegalArgumentException("The length of the right-hand side, " + b.length
+                                         + ", differs from the size of the matrix, " + size);
+    }
+    final QuadrupleMatrix column = new QuadrupleMatrix(size, 1);
+    for (int i = 0; i < size; i++) {
+      PackedQuadruples.set(column.words(), i, b[i]);
+    }
+    final QuadrupleMatrix solution = solve(column);
+    final ImmutableQuadruple[] result = new ImmutableQuadruple[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = PackedQuadruples.get(solution.words(), i);
+    }
+    return result;
+  }
+
+  /**
+   * Solves the system of linear equations {@code A·X = B}, where {@code A} is the decomposed matrix.
+   * The columns of the solution are computed in parallel.
+   * @param b the right-hand side
+   * @return a new matrix, that is the solution
+   * @throws IllegalArgumentException if the number of rows of {@code b} differs from the size of the matrix
+   */
+  public QuadrupleMatrix solve(QuadrupleMatrix b) {
+    if (b.rows() != size) {
+      throw new IllegalArgumentException("The number of rows of the right-hand side, " + b.rows()
+                                         + ", differs from the size of the matrix, " + size);
+    }
+    final int columns = b.columns();
+    final long[] x = b.words().clone();
+    QuadrupleMatrix.indices(0, columns, (long)size * size * columns).forEach(j -> {
+      final FusedMultiplyAccumulator accumulator = new FusedMultiplyAccumulator();
+      for (int i = 0; i < size; i++) {
+        final ImmutableQuadruple sum = accumulator.reset().add(x, i * columns + j)
+          .subtractProducts(factor, i * size, 1, x, j, columns, i)
+          .result();
+        PackedQuadruples.set(x, i * columns + j, diagonal[i].divide(sum));
+      }
+      for (int i = size - 1; i >= 0; i--) {
+        final ImmutableQuadruple sum = accumulator.reset().add(x, i * columns + j)
+          .subtractProducts(factor, (i + 1) * size + i, size, x, (i + 1) * columns + j, columns, size - i - 1)
+          .result();
+        PackedQuadruples.set(x, i * columns + j, diagonal[i].divide(sum));
+      }
+    });
+    return new QuadrupleMatrix(size, columns, x);
+  }
+
+  /**
+   * Computes the inverse of the decomposed matrix.
+   * @return a new matrix, that is the inverse of the decomposed matrix
+   */
+  public QuadrupleMatrix inverse() {
+    return solve(QuadrupleMatrix.identity(size));
+  }
+
+  /** Factors the matrix in place */
+  private void factor() {
+    for (int k0 = 0; k0 < size; k0 += BLOCK_SIZE) {
+      final int k1 = Math.min(k0 + BLOCK_SIZE, size);
+      for (int j = k0; j < k1; j++) {
+        factorPanelColumn(k0, j);
+      }
+      updateTrailingMatrix(k0, k1);
+    }
+  }
+
+  /** Computes the column {@code j} of {@code L}, given its columns from {@code k0} to {@code j - 1}
+   * @throws ArithmeticException if the matrix is not positive definite */
+  private void factorPanelColumn(int k0, int j) {
+    final ImmutableQuadruple square = new FusedMultiplyAccumulator().add(factor, j * size + j)
+      .subtractProducts(factor, j * size + k0, 1, factor, j * size + k0, 1, j - k0)
+      .result();
+    if (square.isNaN() || square.compareTo(ImmutableQuadruple.ZERO) <= 0) {
+      throw new ArithmeticException("The matrix is not positive definite");
+    }
+    final ImmutableQuadruple root = square.sqrt();
+    PackedQuadruples.set(factor, j * size + j, root);
+    final QuadrupleDivisor divisor = diagonal[j] = new QuadrupleDivisor(root);
+
+    QuadrupleMatrix.indices(j + 1, size, (long)(size - j) * (j - k0 + 1)).forEach(i -> {
+      final ImmutableQuadruple sum = new FusedMultiplyAccumulator().add(factor, i * size + j)
+        .subtractProducts(factor, i * size + k0, 1, factor, j * size + k0, 1, j - k0)
+        .result();
+      PackedQuadruples.set(factor, i * size + j, divisor.divide(sum));
+    });
+  }
+
+  /** Subtracts the products of the rows of the panel columns from {@code k0} to {@code k1}
+   * from the lower triangle of the rest of the matrix */
+  private void updateTrailingMatrix(int k0, int k1) {
+    QuadrupleMatrix.indices(k1, size, (long)(size - k1) * (size - k1) * (k1 - k0) / 2).forEach(i -> {
+      final FusedMultiplyAccumulator accumulator = new FusedMultiplyAccumulator();
+      for (int j = k1; j <= i; j++) {
+        accumulator.reset().add(factor, i * size + j)
+          .subtractProducts(factor, i * size + k0, 1, factor, j * size + k0, 1, k1 - k0)
+          .store(factor, i * size + j);
+      }
+    });
+  }
+
+}
@@ -0,0 +1,205 @@
+package com.mvohm.quadruple;
+
+import static com.mvohm.quadruple.MantissaArithmetic.*;
+
+import java.math.BigInteger;
+
+/**
+ * A prepared divisor, that allows to divide many values by the same {@code ImmutableQuadruple}
+ * at the cost of a multiplication instead of a long division.<br>
+ * When created, an instance computes the reciprocal of the divisor's mantissa with 130 significant bits.
+ * Each subsequent division multiplies the dividend's mantissa by the reciprocal, and then corrects the obtained
+ * quotient using the exact remainder, so that the results are bit-for-bit identical to those of
+ * {@link ImmutableQuadruple#divide(ImmutableQuadruple)}.<br>
+ * If the divisor or the dividend is zero, subnormal, infinite or NaN, or the quotient falls out of the range of normal values,
+ * the division is delegated to {@link ImmutableQuadruple#divide(ImmutableQuadruple)}.<br>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class QuadrupleDivisor {
+
+  private static final long EXPONENT_BIAS = Quadruple.EXPONENT_BIAS;
+  private static final long MAX_NORMAL_EXPONENT = 0xFFFF_FFFEL;
+  private static final BigInteger TWO_TO_258 = BigInteger.ONE.shiftLeft(258);
+  private static final BigInteger LONG_MASK = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+  private final ImmutableQuadruple divisor;
+  /** {@code false} for divisors that can't be handled by the fast path */
+  private final boolean prepared;
+
+  private final boolean negative;
+  private final long exponent;
+  private final long mantHi, mantLo;
+
+  /** The reciprocal of the divisor's mantissa, {@code floor(2^258 / (2^128 + mantissa))}, a 130-bit number */
+  private final long recip2, recip1, recip0;
+
+  /**
+   * Creates a new {@code QuadrupleDivisor} for the given divisor value and precomputes its reciprocal.
+   * @param divisor the divisor to be used by subsequent divisions
+   */
+  public QuadrupleDivisor(ImmutableQuadruple divisor) {
+    this.divisor = divisor;
+    negative = divisor.isNegative();
+    exponent = divisor.exponent() & 0xFFFF_FFFFL;
+    mantHi = divisor.mantHi();
+    mantLo = divisor.mantLo();
+    prepared = exponent != 0 && exponent <= MAX_NORMAL_EXPONENT;
+
+    if (prepared) {
+      final BigInteger mantissa = BigInteger.ONE.shiftLeft(128)
+          .or(BigInteger.valueOf(mantHi).and(LONG_MASK).shiftLeft(64))
+          .or(BigInteger.valueOf(mantLo).and(LONG_MASK));
+      final BigInteger reciprocal = TWO_TO_258.divide(mantissa);
+      recip2 = reciprocal.shiftRight(128).longValue();
+      recip1 = reciprocal.shiftRight(64).longValue();
+      recip0 = reciprocal.longValue();
+    } else {
+      recip2 = recip1 = recip0 = 0;
+    }
+  }
+
+  /**
+   * Returns the divisor value this instance was created for
+   * @return the divisor value
+   */
+  public ImmutableQuadruple divisor() {
+    return divisor;
+  }
+
+  /**
+   * Divides the given dividend by the divisor of this instance
+   * and returns a new instance of {@code ImmutableQuadruple} containing the quotient.
+   * The result is the same as that of {@code dividend.divide(divisor())}.
+   * @param dividend the value to be divided by the divisor
+   * @return a new instance of {@code ImmutableQuadruple} containing the quotient
+   */
+  public ImmutableQuadruple divide(ImmutableQuadruple dividend) {
+    final long dividendExponent = dividend.exponent() & 0xFFFF_FFFFL;
+    if (!prepared || dividendExponent == 0 || dividendExponent > MAX_NORMAL_EXPONENT) {
+      return dividend.divide(divisor);
+    }
+
+    final long a1 = dividend.mantHi(), a0 = dividend.mantLo();
+
+    // Quotient estimate: (A * R) >>> 128, where A = 2^128 + mantissa of the dividend.
+    // It may be less than floor(A * 2^130 / D) by 2 at most
+    long h = unsignedMultiplyHigh(a0, recip0);
+    final long t1 = a0 * recip1 + h;
+    long c = carryOf(t1, h);
+    h = unsignedMultiplyHigh(a0, recip1) + c;
+    final long t2 = a0 * recip2 + h;
+    c = carryOf(t2, h);
+    final long t3 = unsignedMultiplyHigh(a0, recip2) + c;
+
+    final long u0 = a1 * recip0;
+    h = unsignedMultiplyHigh(a1, recip0);
+    final long u1 = a1 * recip1 + h;
+    c = carryOf(u1, h);
+    h = unsignedMultiplyHigh(a1, recip1) + c;
+    final long u2 = a1 * recip2 + h;
+    c = carryOf(u2, h);
+    final long u3 = unsignedMultiplyHigh(a1, recip2) + c;
+
+    // P = t + (u << 64) + (R << 128); we need the words 2..4 of P
+    final long p1 = t1 + u0;
+    c = carryOf(p1, t1);
+    long p2 = t2 + u1;
+    long c2 = carryOf(p2, t2);
+    p2 += recip0;
+    c2 += carryOf(p2, recip0);
+    p2 += c;
+    c2 += carryOf(p2, c);
+    long p3 = t3 + u2;
+    long c3 = carryOf(p3, t3);
+    p3 += recip1;
+    c3 += carryOf(p3, recip1);
+    p3 += c2;
+    c3 += carryOf(p3, c2);
+    final long p4 = u3 + recip2 + c3;
+
+    long q2 = p4, q1 = p3, q0 = p2;
+
+    // Remainder r = A * 2^130 - Q * D, computed modulo 2^192, since it's known to be less than 2^131
+    final long v0 = q0 * mantLo;
+    h = unsignedMultiplyHigh(q0, mantLo);
+    final long v1 = q1 * mantLo + h;
+    c = carryOf(v1, h);
+    h = unsignedMultiplyHigh(q1, mantLo) + c;
+    final long v2 = q2 * mantLo + h;
+    final long w0 = q0 * mantHi;
+    final long w1 = q1 * mantHi + unsignedMultiplyHigh(q0, mantHi);
+    final long s1 = v1 + w0;
+    final long s2 = v2 + w1 + q0 + carryOf(s1, v1);
+
+    long r0 = -v0;
+    final long borrow0 = (v0 != 0)? 1 : 0;
+    long r1 = -s1 - borrow0;
+    final long borrow1 = ((s1 | borrow0) != 0)? 1 : 0;
+    long r2 = (a0 << 2) - s2 - borrow1;
+
+    while (compare192(r2, r1, r0, 1, mantHi, mantLo) >= 0) { // r >= D, increment the quotient
+      final long b0 = Long.compareUnsigned(r0, mantLo) < 0? 1 : 0;
+      r0 -= mantLo;
+      final long b1 = (Long.compareUnsigned(r1, mantHi) < 0 || (r1 == mantHi && b0 != 0))? 1 : 0;
+      r1 -= mantHi + b0;
+      r2 -= 1 + b1;
+      if (++q0 == 0 && ++q1 == 0) {
+        q2++;
+      }
+    }
+
+    // Q is within [2^129, 2^131). No quotient of two 129-bit mantissas falls exactly halfway
+    // between two adjacent 129-bit values, so the next bit below the mantissa decides the rounding
+    long resultExponent = dividendExponent - exponent + EXPONENT_BIAS;
+    long resultHi, resultLo;
+    final boolean roundUp;
+    if (q2 >= 4) {
+      resultHi = (q2 << 62) | (q1 >>> 2);
+      resultLo = (q1 << 62) | (q0 >>> 2);
+      roundUp = (q0 & 2) != 0;
+    } else {
+      resultHi = (q2 << 63) | (q1 >>> 1);
+      resultLo = (q1 << 63) | (q0 >>> 1);
+      roundUp = (q0 & 1) != 0;
+      resultExponent--;
+    }
+    if (roundUp && ++resultLo == 0 && ++resultHi == 0) {
+      resultExponent++;
+    }
+
+    if (resultExponent <= 0 || resultExponent > MAX_NORMAL_EXPONENT) {
+      return dividend.divide(divisor);  // Subnormal result or overflow
+    }
+    return ImmutableQuadruple.construct(dividend.isNegative() != negative, (int)resultExponent, resultHi, resultLo);
+  }
+
+  /**
+   * Divides each of the given dividends by the divisor of this instance
+   * and returns a new array containing the quotients.
+   * @param dividends the values to be divided by the divisor
+   * @return a new array whose {@code i}-th element is {@code divide(dividends[i])}
+   */
+  public ImmutableQuadruple[] divide(ImmutableQuadruple[] dividends) {
+    return divide(dividends, new ImmutableQuadruple[dividends.length]);
+  }
+
+  /**
+   * Divides each of the given dividends by the divisor of this instance
+   * and puts the quotients into the corresponding elements of the given {@code quotients} array.
+   * The arrays may be the same array, in which case the dividends get replaced with the quotients.
+   * @param dividends the values to be divided by the divisor
+   * @param quotients the array to put the quotients to
+   * @return the {@code quotients} array
+   * @throws IllegalArgumentException if the {@code quotients} array is shorter than the {@code dividends} array
+   */
+  public ImmutableQuadruple[] divide(ImmutableQuadruple[] dividends, ImmutableQuadruple[] quotients) {
+    if (quotients.length < dividends.length) {
+      throw new IllegalArgumentException("The array for the quotients is shorter than the array of the dividends");
+    }
+    for (int i = 0; i < dividends.length; i++) {
+      quotients[i] = divide(dividends[i]);
+    }
+    return quotients;
+  }
+
+}
@@ -0,0 +1,338 @@
+package com.mvohm.quadruple;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The discrete Fourier transform of complex vectors of {@code ImmutableQuadruple} values,
+ * with the real and imaginary parts held in separate {@link QuadrupleVector}s.<br>
+ * The forward transform is {@code X[k] = sum(x[j] * exp(-2*pi*i*j*k/n))}, and the inverse one is
+ * {@code x[j] = sum(X[k] * exp(2*pi*i*j*k/n)) / n}, both computed in place.<br>
+ * Transforms of sizes that are powers of two are computed by the radix-4 decimation-in-time algorithm,
+ * with a radix-2 stage if the size is an odd power of two. Transforms of other sizes are reduced
+ * to convolutions of power-of-two sizes with Bluestein's algorithm.
+ * The twiddle factors are computed once with the precision of {@code ImmutableQuadruple}, using the symmetries
+ * of the sine and the cosine to keep them exact at multiples of {@code pi/4}, and are cached with the instances
+ * of power-of-two sizes obtained with {@link #of(int)}. There are at most 31 of them, while the instances of other sizes,
+ * that would make the cache grow with every new size, are created anew and can be kept by the callers.<br>
+ * Each part of each product of a twiddle factor and an element is rounded once, and so is each part of each result
+ * of a butterfly, so that the error of the transform grows only with the logarithm of the size.
+ * The butterflies of each stage are processed in parallel on the common fork/join pool for large sizes,
+ * without creating objects per element.<br>
+ * Instances are immutable and can be used concurrently.
+ */
+public final class QuadrupleFFT {
+
+  /** The instances of power-of-two sizes, by size */
+  private static final ConcurrentHashMap<Integer, QuadrupleFFT> CACHE = new ConcurrentHashMap<>();
+
+  /** The number of butterflies processed by a single task */
+  private static final int CHUNK_SIZE = 1 << 10;
+  /** The number of values in the scratch array of a task */
+  private static final int SCRATCH_VALUES = 8;
+
+  private final int size;
+  /** The cosines and sines of {@code 2*pi*j/size}, for a power-of-two size, or {@code null} otherwise */
+  private final long[] cosines, sines;
+
+  /** The transform of the power-of-two size, used for Bluestein's algorithm, or {@code null} for a power-of-two size */
+  private final QuadrupleFFT convolution;
+  /** The parts of the chirp {@code exp(-pi*i*k^2/size)} for Bluestein's algorithm */
+  private final long[] chirpRe, chirpIm;
+  /** The transform of the conjugate chirp, extended symmetrically to the size of the convolution */
+  private final long[] kernelRe, kernelIm;
+
+  private QuadrupleFFT(int size) {
+    this.size = size;
+    if (Integer.bitCount(size) == 1) {
+      final long[][] twiddles = unitRoots(size);
+      cosines = twiddles[0];
+      sines = twiddles[1];
+      convolution = null;
+      chirpRe = chirpIm = kernelRe = kernelIm = null;
+    } else {
+      cosines = sines = null;
+      convolution = of(Integer.highestOneBit(2 * size - 1) << 1);
+      final int m = convolution.size;
+      chirpRe = PackedQuadruples.newArray(size);
+      chirpIm = PackedQuadruples.newArray(size);
+      kernelRe = PackedQuadruples.newArray(m);
+      kernelIm = PackedQuadruples.newArray(m);
+      QuadrupleMatrix.indices(0, size, 64L * size).forEach(k -> {
+        final ImmutableQuadruple[] root = unitRoot((int)((long)k * k % (2L * size)), 2 * size);
+        PackedQuadruples.set(chirpRe, k, root[0]);
+        PackedQuadruples.set(chirpIm, k, root[1].negate());
+        PackedQuadruples.set(kernelRe, k, root[0]);
+        PackedQuadruples.set(kernelIm, k, root[1]);
+        if (k > 0) {
+          PackedQuadruples.set(kernelRe, m - k, root[0]);
+          PackedQuadruples.set(kernelIm, m - k, root[1]);
+        }
+      });
+      convolution.transform(kernelRe, kernelIm);
+    }
+  }
+
+  /**
+   * Returns an instance that computes transforms of the given size.
+   * The instances of power-of-two sizes, with their twiddle factors, are cached and reused.
+   * An instance of another size is created anew, with the chirp of Bluestein's algorithm and its transform,
+   * that takes about as long as a transform, and may be reused by the caller.
+   * @param size the number of elements of the vectors to transform
+   * @return an instance that computes transforms of the given size
+   * @throws IllegalArgumentException if the size is not positive, or too large for Bluestein's algorithm
+   */
+  public static QuadrupleFFT of(int size) {
+    if (size < 1 || (Integer.bitCount(size) != 1 && size > (1 << 29))) {
+      throw new IllegalArgumentException("Can't compute a transform of size " + size);
+    }
+    if (Integer.bitCount(size) != 1) {
+      return new QuadrupleFFT(size);
+    }
+    return CACHE.computeIfAbsent(size, QuadrupleFFT::new);
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Computes the forward transform of the complex vector with the given real and imaginary parts, in place.
+   * @param re the real parts of the elements
+   * @param im the imaginary parts of the elements
+   * @throws IllegalArgumentException if the length of either vector differs from the size of the transform
+   */
+  public void forward(QuadrupleVector re, QuadrupleVector im) {
+    checkLengths(re, im);
+    transform(re.words(), im.words());
+  }
+
+  /**
+   * Computes the inverse transform of the complex vector with the given real and imaginary parts, in place,
+   * including the division by the size.
+   * @param re the real parts of the elements
+   * @param im the imaginary parts of the elements
+   * @throws IllegalArgumentException if the length of either vector differs from the size of the transform
+   */
+  public void inverse(QuadrupleVector re, QuadrupleVector im) {
+    checkLengths(re, im);
+    inverse(re.words(), im.words());
+  }
+
+  /** The inverse transform is the conjugate of the forward transform of the conjugate, divided by the size.
+   * For a power-of-two size, the elements are multiplied by the exact {@code 1/size}, otherwise they are divided by the size,
+   * so that each part of each element is rounded once either way */
+  private void inverse(long[] re, long[] im) {
+    negate(im, size);
+    transform(re, im);
+    if (convolution == null) {
+      final long[] scale = new long[PackedQuadruples.WORDS];
+      PackedQuadruples.set(scale, 0, ImmutableQuadruple.ONE.divide(size));
+      forEachChunk(size, size, (accumulator, scratch, from, to) -> {
+        for (int k = from; k < to; k++) {
+          accumulator.reset().addProduct(scale, 0, re, k).store(re, k);
+          accumulator.reset().subtractProduct(scale, 0, im, k).store(im, k);
+        }
+      });
+    } else {
+      forEachChunk(size, size, (accumulator, scratch, from, to) -> {
+        final Quadruple buffer = new Quadruple();
+        for (int k = from; k < to; k++) {
+          PackedQuadruples.set(re, k, PackedQuadruples.get(re, k, buffer).divide(size));
+          PackedQuadruples.set(im, k, PackedQuadruples.get(im, k, buffer).divide(-size));
+        }
+      });
+    }
+  }
+
+  private void transform(long[] re, long[] im) {
+    if (convolution == null) {
+      transformPowerOfTwo(re, im);
+    } else {
+      transformBluestein(re, im);
+    }
+  }
+
+  private void transformPowerOfTwo(long[] re, long[] im) {
+    reverseBits(re, im);
+    int length = 1;
+    if (Integer.numberOfTrailingZeros(size) % 2 != 0) {
+      radix2Stage(re, im);
+      length = 2;
+    }
+    for (; length < size; length *= 4) {
+      radix4Stage(re, im, length);
+    }
+  }
+
+  /** Puts the elements in the bit-reversed order of their indices */
+  private void reverseBits(long[] re, long[] im) {
+    final int shift = 32 - Integer.numberOfTrailingZeros(size);
+    for (int i = 1; i < size; i++) {
+      final int j = Integer.reverse(i) >>> shift;
+      if (i < j) {
+        PackedQuadruples.swap(re, i, j, 1);
+        PackedQuadruples.swap(im, i, j, 1);
+      }
+    }
+  }
+
+  /** Combines the pairs of elements into transforms of size 2 */
+  private void radix2Stage(long[] re, long[] im) {
+    forEachChunk(size / 2, size, (accumulator, scratch, from, to) -> {
+      for (int b = from; b < to; b++) {
+        final int i = 2 * b, j = i + 1;
+        PackedQuadruples.copy(re, i, scratch, 0);
+        PackedQuadruples.copy(im, i, scratch, 1);
+        accumulator.reset().add(scratch, 0).add(re, j).store(re, i);
+        accumulator.reset().add(scratch, 1).add(im, j).store(im, i);
+        accumulator.reset().add(scratch, 0).subtract(re, j).store(re, j);
+        accumulator.reset().add(scratch, 1).subtract(im, j).store(im, j);
+      }
+    });
+  }
+
+  /** Combines quadruplets of transforms of the given length into transforms of 4 times that length */
+  private void radix4Stage(long[] re, long[] im, int length) {
+    final int step = size / (4 * length);
+    forEachChunk(size / 4, 4L * size, (accumulator, scratch, from, to) -> {
+      for (int b = from; b < to; b++) {
+        final int k = b % length;
+        final int i0 = (b - k) * 4 + k, i1 = i0 + length, i2 = i1 + length, i3 = i2 + length;
+        PackedQuadruples.copy(re, i0, scratch, 0);
+        PackedQuadruples.copy(im, i0, scratch, 1);
+        twiddle(accumulator, re, im, i1, 2 * k * step, scratch, 2);
+        twiddle(accumulator, re, im, i2, k * step, scratch, 4);
+        twiddle(accumulator, re, im, i3, 3 * k * step, scratch, 6);
+        // The elements of the scratch are a0, c1, c2 and c3, each real part followed by the imaginary one
+        accumulator.reset().add(scratch, 0).add(scratch, 2).add(scratch, 4).add(scratch, 6).store(re, i0);
+        accumulator.reset().add(scratch, 1).add(scratch, 3).add(scratch, 5).add(scratch, 7).store(im, i0);
+        accumulator.reset().add(scratch, 0).add(scratch, 2).subtract(scratch, 4).subtract(scratch, 6).store(re, i2);
+        accumulator.reset().add(scratch, 1).add(scratch, 3).subtract(scratch, 5).subtract(scratch, 7).store(im, i2);
+        // y1 = a0 - c1 - i * (c2 - c3), y3 = a0 - c1 + i * (c2 - c3)
+        accumulator.reset().add(scratch, 0).subtract(scratch, 2).add(scratch, 5).subtract(scratch, 7).store(re, i1);
+        accumulator.reset().add(scratch, 1).subtract(scratch, 3).subtract(scratch, 4).add(scratch, 6).store(im, i1);
+        accumulator.reset().add(scratch, 0).subtract(scratch, 2).subtract(scratch, 5).add(scratch, 7).store(re, i3);
+        accumulator.reset().add(scratch, 1).subtract(scratch, 3).add(scratch, 4).subtract(scratch, 6).store(im, i3);
+      }
+    });
+  }
+
+  /** Puts the product of the element with index {@code index} and {@code exp(-2*pi*i*root/size)}
+   * to the values {@code target} and {@code target + 1} of {@code scratch} */
+  private void twiddle(FusedMultiplyAccumulator accumulator, long[] re, long[] im, int index, int root,
+                       long[] scratch, int target) {
+    // (ar + i*ai) * (c - i*s) = (ar*c + ai*s) + i*(ai*c - ar*s)
+    accumulator.reset().addProduct(re, index, cosines, root).addProduct(im, index, sines, root).store(scratch, target);
+    accumulator.reset().addProduct(im, index, cosines, root).subtractProduct(re, index, sines, root).store(scratch, target + 1);
+  }
+
+  /** Computes the transform as a convolution with the chirp, {@code X[k] = w[k] * sum(x[j] * w[j] * conj(w[k - j]))},
+   * where {@code w[k] = exp(-pi*i*k^2/n)} */
+  private void transformBluestein(long[] re, long[] im) {
+    final int m = convolution.size;
+    final long[] aRe = PackedQuadruples.newArray(m), aIm = PackedQuadruples.newArray(m);
+    forEachChunk(size, size, (accumulator, scratch, from, to) -> {
+      for (int k = from; k < to; k++) {
+        multiply(accumulator, re, im, k, chirpRe, chirpIm, k, aRe, aIm, k);
+      }
+    });
+    convolution.transform(aRe, aIm);
+    forEachChunk(m, m, (accumulator, scratch, from, to) -> {
+      for (int k = from; k < to; k++) {
+        PackedQuadruples.copy(aRe, k, scratch, 0);
+        PackedQuadruples.copy(aIm, k, scratch, 1);
+        multiply(accumulator, scratch, scratch, 0, kernelRe, kernelIm, k, aRe, aIm, k);
+      }
+    });
+    convolution.inverse(aRe, aIm);
+    forEachChunk(size, size, (accumulator, scratch, from, to) -> {
+      for (int k = from; k < to; k++) {
+        multiply(accumulator, aRe, aIm, k, chirpRe, chirpIm, k, re, im, k);
+      }
+    });
+  }
+
+  /** Puts the product of the complex values with index {@code indexA} of {@code aRe} and {@code aIm}
+   * (or with indices {@code indexA} and {@code indexA + 1} if {@code aRe == aIm}), and with index {@code indexB}
+   * of {@code bRe} and {@code bIm}, to the position with index {@code target} of {@code re} and {@code im} */
+  private static void multiply(FusedMultiplyAccumulator accumulator, long[] aRe, long[] aIm, int indexA,
+                               long[] bRe, long[] bIm, int indexB, long[] re, long[] im, int target) {
+    final int indexAIm = (aRe == aIm)? indexA + 1 : indexA;
+    accumulator.reset().addProduct(aRe, indexA, bRe, indexB).subtractProduct(aIm, indexAIm, bIm, indexB).store(re, target);
+    accumulator.reset().addProduct(aRe, indexA, bIm, indexB).addProduct(aIm, indexAIm, bRe, indexB).store(im, target);
+  }
+
+  /** An operation on a range of elements or butterflies, with an accumulator and a scratch array of the task */
+  @FunctionalInterface
+  private interface ChunkOperation {
+    void apply(FusedMultiplyAccumulator accumulator, long[] scratch, int from, int to);
+  }
+
+  /** Applies the operation to the chunks of {@code count} elements or butterflies,
+   * in parallel if the amount of work is large enough */
+  private static void forEachChunk(int count, long work, ChunkOperation operation) {
+    QuadrupleMatrix.indices(0, (count + CHUNK_SIZE - 1) / CHUNK_SIZE, work).forEach(chunk ->
+      operation.apply(new FusedMultiplyAccumulator(), PackedQuadruples.newArray(SCRATCH_VALUES),
+                      chunk * CHUNK_SIZE, Math.min((chunk + 1) * CHUNK_SIZE, count))
+    );
+  }
+
+  private static void negate(long[] words, int length) {
+    for (int i = 0; i < length; i++) {
+      PackedQuadruples.negate(words, i);
+    }
+  }
+
+  /** Computes the cosines and the sines of {@code 2*pi*j/n} for a power of two {@code n}
+   * @return an array containing the cosines and the sines, as packed values */
+  private static long[][] unitRoots(int n) {
+    final long[] cosines = PackedQuadruples.newArray(n), sines = PackedQuadruples.newArray(n);
+    QuadrupleMatrix.indices(0, n, 64L * n).forEach(j -> {
+      final ImmutableQuadruple[] root = unitRoot(j, n);
+      PackedQuadruples.set(cosines, j, root[0]);
+      PackedQuadruples.set(sines, j, root[1]);
+    });
+    return new long[][] { cosines, sines };
+  }
+
+  /** Computes the cosine and the sine of {@code 2*pi*j/n}, for {@code 0 <= j < n}.
+   * If {@code n} is a multiple of 4, the angle is reduced to the range from 0 to {@code pi/4}
+   * @return an array containing the cosine and the sine */
+  private static ImmutableQuadruple[] unitRoot(int j, int n) {
+    if (n % 4 != 0) {
+      final boolean lowerHalf = 2L * j > n;
+      final ImmutableQuadruple[] sinCos = angle(lowerHalf? n - j : j, n).sinCos();
+      return new ImmutableQuadruple[] { sinCos[1], lowerHalf? sinCos[0].negate() : sinCos[0] };
+    }
+    final int quarter = n / 4, quadrant = j / quarter, rest = j % quarter;
+    // cos and sin of 2*pi*rest/n, with rest from 0 to n/4
+    final ImmutableQuadruple cos, sin;
+    if (8L * rest <= n) {
+      final ImmutableQuadruple[] sinCos = angle(rest, n).sinCos();
+      cos = sinCos[1];
+      sin = sinCos[0];
+    } else {
+      final ImmutableQuadruple[] sinCos = angle(quarter - rest, n).sinCos();
+      cos = sinCos[0];
+      sin = sinCos[1];
+    }
+    switch (quadrant) {
+      case 0:  return new ImmutableQuadruple[] { cos, sin };
+      case 1:  return new ImmutableQuadruple[] { sin.negate(), cos };
+      case 2:  return new ImmutableQuadruple[] { cos.negate(), sin.negate() };
+      default: return new ImmutableQuadruple[] { sin, cos.negate() };
+    }
+  }
+
+  private static ImmutableQuadruple angle(int j, int n) {
+    return ImmutableQuadruple.PI.multiply(2L * j).divide(n);
+  }
+
+  private void checkLengths(QuadrupleVector re, QuadrupleVector im) {
+    if (re.length() != size || im.length() != size) {
+      throw new IllegalArgumentException("The lengths of the vectors, " + re.length() + " and " + im.length()
+                                         + ", differ from the size of the transform, " + size);
+    }
+  }
+
+}
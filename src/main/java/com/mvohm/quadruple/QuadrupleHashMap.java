@@ -0,0 +1,329 @@
+package com.mvohm.quadruple;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.function.BiConsumer;
+
+/**
+ * A hash map with {@code ImmutableQuadruple} keys, that holds the keys in an array of primitive words
+ * rather than as separate objects, with {@code get}, {@code put}, {@code containsKey} and {@code remove} methods
+ * that take either {@code ImmutableQuadruple} keys or their components, like those returned by
+ * {@link ImmutableQuadruple#isNegative()}, {@link ImmutableQuadruple#exponent()}, {@link ImmutableQuadruple#mantHi()}
+ * and {@link ImmutableQuadruple#mantLo()}, so that the keys read from column data can be looked up without creating objects.<br>
+ * Each key takes three consecutive words: the sign and the exponent, the most significant and the least significant
+ * 64 bits of the mantissa. The keys are placed by the low bits of {@link ImmutableQuadruple#longHash()}
+ * with linear probing, and the entries following a removed one are shifted back, so that no tombstones are left.
+ * The table is doubled when it becomes more than two-thirds full.<br>
+ * The keys are matched like {@link ImmutableQuadruple#equals(Object)} matches the values:
+ * {@code 0} and {@code -0} are different keys, and all NaNs are the same key.
+ * The values may be {@code null}.<br>
+ * Instances are mutable and not thread-safe.
+ * @param <V> the type of the values
+ */
+public final class QuadrupleHashMap<V> {
+
+  private static final int WORDS = 3;
+  private static final int MIN_CAPACITY = 8;
+  private static final int MAX_CAPACITY = 1 << 29;
+  /** The first word of an empty slot, that can't be that of a key, whose sign and exponent take 33 bits */
+  private static final long EMPTY = -1L;
+  private static final long SIGN_BIT = 1L << 32;
+  private static final int EXPONENT_OF_INFINITY = 0xFFFF_FFFF;
+  private static final long NAN_MANT_HI = ImmutableQuadruple.NaN.mantHi();
+  private static final long NAN_MANT_LO = ImmutableQuadruple.NaN.mantLo();
+
+  /** The keys, three words per slot */
+  private long[] keys;
+  private Object[] values;
+  private int mask;
+  private int size;
+
+  /** Creates a new empty map */
+  public QuadrupleHashMap() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * Creates a new empty map, that can hold the given number of entries without resizing.
+   * @param expectedSize the expected number of entries
+   * @throws IllegalArgumentException if the expected size is negative, or too large
+   */
+  public QuadrupleHashMap(int expectedSize) {
+    if (expectedSize < 0 || expectedSize > MAX_CAPACITY / 3 * 2) {
+      throw new IllegalArgumentException("Can't allocate a map for " + expectedSize + " entries");
+    }
+    allocate(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize + expectedSize / 2)) << 1));
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** Removes all the entries from this map */
+  public void clear() {
+    Arrays.fill(keys, EMPTY);
+    Arrays.fill(values, null);
+    size = 0;
+  }
+
+  /**
+   * Returns the value mapped to the given key.
+   * @param key the key
+   * @return the value mapped to the key, or {@code null} if the map contains no mapping for the key
+   */
+  public V get(ImmutableQuadruple key) {
+    return get(key.isNegative(), key.exponent(), key.mantHi(), key.mantLo());
+  }
+
+  /**
+   * Returns the value mapped to the key with the given components.
+   * @param negative the sign of the key
+   * @param exponent the raw (biased) exponent of the key
+   * @param mantHi the 64 most significant bits of the mantissa of the key
+   * @param mantLo the 64 least significant bits of the mantissa of the key
+   * @return the value mapped to the key, or {@code null} if the map contains no mapping for the key
+   */
+  @SuppressWarnings("unchecked")
+  public V get(boolean negative, int exponent, long mantHi, long mantLo) {
+    final int slot = find(negative, exponent, mantHi, mantLo);
+    return (slot < 0)? null : (V)values[slot];
+  }
+
+  /**
+   * Indicates whether this map contains a mapping for the given key.
+   * @param key the key
+   * @return {@code true} if this map contains a mapping for the key
+   */
+  public boolean containsKey(ImmutableQuadruple key) {
+    return containsKey(key.isNegative(), key.exponent(), key.mantHi(), key.mantLo());
+  }
+
+  /**
+   * Indicates whether this map contains a mapping for the key with the given components.
+   * @param negative the sign of the key
+   * @param exponent the raw (biased) exponent of the key
+   * @param mantHi the 64 most significant bits of the mantissa of the key
+   * @param mantLo the 64 least significant bits of the mantissa of the key
+   * @return {@code true} if this map contains a mapping for the key
+   */
+  public boolean containsKey(boolean negative, int exponent, long mantHi, long mantLo) {
+    return find(negative, exponent, mantHi, mantLo) >= 0;
+  }
+
+  /**
+   * Maps the given key to the given value.
+   * @param key the key
+   * @param value the value
+   * @return the value previously mapped to the key, or {@code null} if there was no mapping for the key
+   */
+  public V put(ImmutableQuadruple key, V value) {
+    return put(key.isNegative(), key.exponent(), key.mantHi(), key.mantLo(), value);
+  }
+
+  /**
+   * Maps the key with the given components to the given value.
+   * @param negative the sign of the key
+   * @param exponent the raw (biased) exponent of the key
+   * @param mantHi the 64 most significant bits of the mantissa of the key
+   * @param mantLo the 64 least significant bits of the mantissa of the key
+   * @param value the value
+   * @return the value previously mapped to the key, or {@code null} if there was no mapping for the key
+   * @throws IllegalStateException if the map is full
+   */
+  @SuppressWarnings("unchecked")
+  public V put(boolean negative, int exponent, long mantHi, long mantLo, V value) {
+    if (isNaN(exponent, mantHi, mantLo)) {
+      negative = false;
+      mantHi = NAN_MANT_HI;
+      mantLo = NAN_MANT_LO;
+    }
+    final long signAndExponent = signAndExponent(negative, exponent);
+    int slot = home(negative, exponent, mantHi, mantLo);
+    while (true) {
+      final int offset = slot * WORDS;
+      final long word = keys[offset];
+      if (word == EMPTY) {
+        if (size >= mask) { // At least one slot must remain empty
+          throw new IllegalStateException("The map is full");
+        }
+        keys[offset] = signAndExponent;
+        keys[offset + 1] = mantHi;
+        keys[offset + 2] = mantLo;
+        values[slot] = value;
+        if (++size > (mask + 1) / 3 * 2 && mask + 1 < MAX_CAPACITY) {
+          resize();
+        }
+        return null;
+      }
+      if (word == signAndExponent && keys[offset + 1] == mantHi && keys[offset + 2] == mantLo) {
+        final V previous = (V)values[slot];
+        values[slot] = value;
+        return previous;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  /**
+   * Removes the mapping for the given key.
+   * @param key the key
+   * @return the value that was mapped to the key, or {@code null} if there was no mapping for the key
+   */
+  public V remove(ImmutableQuadruple key) {
+    return remove(key.isNegative(), key.exponent(), key.mantHi(), key.mantLo());
+  }
+
+  /**
+   * Removes the mapping for the key with the given components.
+   * @param negative the sign of the key
+   * @param exponent the raw (biased) exponent of the key
+   * @param mantHi the 64 most significant bits of the mantissa of the key
+   * @param mantLo the 64 least significant bits of the mantissa of the key
+   * @return the value that was mapped to the key, or {@code null} if there was no mapping for the key
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(boolean negative, int exponent, long mantHi, long mantLo) {
+    final int slot = find(negative, exponent, mantHi, mantLo);
+    if (slot < 0) {
+      return null;
+    }
+    final V previous = (V)values[slot];
+    removeSlot(slot);
+    return previous;
+  }
+
+  /**
+   * Performs the given action for each entry of this map, in the order of the slots.
+   * Creates an {@code ImmutableQuadruple} instance for each key.
+   * @param action the action to perform
+   */
+  @SuppressWarnings("unchecked")
+  public void forEach(BiConsumer<ImmutableQuadruple, ? super V> action) {
+    for (int slot = 0; slot <= mask; slot++) {
+      if (keys[slot * WORDS] != EMPTY) {
+        action.accept(keyAt(slot), (V)values[slot]);
+      }
+    }
+  }
+
+  /**
+   * Returns the keys of this map, in the order of the slots.
+   * @return a new array with the keys
+   */
+  public ImmutableQuadruple[] keys() {
+    final ImmutableQuadruple[] result = new ImmutableQuadruple[size];
+    int i = 0;
+    for (int slot = 0; slot <= mask; slot++) {
+      if (keys[slot * WORDS] != EMPTY) {
+        result[i++] = keyAt(slot);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    final StringJoiner joiner = new StringJoiner(", ", "QuadrupleHashMap {", "}");
+    forEach((key, value) -> joiner.add(key + "=" + value));
+    return joiner.toString();
+  }
+
+  /** Returns the slot of the key with the given components, or -1 if the map doesn't contain it */
+  private int find(boolean negative, int exponent, long mantHi, long mantLo) {
+    if (isNaN(exponent, mantHi, mantLo)) {
+      negative = false;
+      mantHi = NAN_MANT_HI;
+      mantLo = NAN_MANT_LO;
+    }
+    final long signAndExponent = signAndExponent(negative, exponent);
+    int slot = home(negative, exponent, mantHi, mantLo);
+    while (true) {
+      final int offset = slot * WORDS;
+      final long word = keys[offset];
+      if (word == EMPTY) {
+        return -1;
+      }
+      if (word == signAndExponent && keys[offset + 1] == mantHi && keys[offset + 2] == mantLo) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  /** Empties the given slot and shifts back the following entries of the same run, that can be moved closer to their home slots */
+  private void removeSlot(int slot) {
+    int next = slot;
+    while (true) {
+      next = (next + 1) & mask;
+      final int offset = next * WORDS;
+      if (keys[offset] == EMPTY) {
+        break;
+      }
+      final int home = homeOfSlot(next);
+      // The entry may be moved to the empty slot if its home is not within the cyclic interval (slot, next]
+      if (((next - home) & mask) >= ((next - slot) & mask)) {
+        System.arraycopy(keys, offset, keys, slot * WORDS, WORDS);
+        values[slot] = values[next];
+        slot = next;
+      }
+    }
+    keys[slot * WORDS] = EMPTY;
+    values[slot] = null;
+    size--;
+  }
+
+  private void resize() {
+    final long[] oldKeys = keys;
+    final Object[] oldValues = values;
+    allocate((mask + 1) * 2);
+    for (int slot = 0; slot < oldValues.length; slot++) {
+      final int offset = slot * WORDS;
+      if (oldKeys[offset] != EMPTY) {
+        int newSlot = home(oldKeys[offset], oldKeys[offset + 1], oldKeys[offset + 2]);
+        while (keys[newSlot * WORDS] != EMPTY) {
+          newSlot = (newSlot + 1) & mask;
+        }
+        System.arraycopy(oldKeys, offset, keys, newSlot * WORDS, WORDS);
+        values[newSlot] = oldValues[slot];
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity * WORDS];
+    Arrays.fill(keys, EMPTY);
+    values = new Object[capacity];
+    mask = capacity - 1;
+  }
+
+  private ImmutableQuadruple keyAt(int slot) {
+    final int offset = slot * WORDS;
+    return ImmutableQuadruple.construct((keys[offset] & SIGN_BIT) != 0, (int)keys[offset], keys[offset + 1], keys[offset + 2]);
+  }
+
+  private int home(boolean negative, int exponent, long mantHi, long mantLo) {
+    return (int)ImmutableQuadruple.longHash(negative, exponent, mantHi, mantLo) & mask;
+  }
+
+  private int home(long signAndExponent, long mantHi, long mantLo) {
+    return home((signAndExponent & SIGN_BIT) != 0, (int)signAndExponent, mantHi, mantLo);
+  }
+
+  private int homeOfSlot(int slot) {
+    final int offset = slot * WORDS;
+    return home(keys[offset], keys[offset + 1], keys[offset + 2]);
+  }
+
+  private static long signAndExponent(boolean negative, int exponent) {
+    return (exponent & 0xFFFF_FFFFL) | (negative? SIGN_BIT : 0);
+  }
+
+  private static boolean isNaN(int exponent, long mantHi, long mantLo) {
+    return exponent == EXPONENT_OF_INFINITY && (mantHi | mantLo) != 0;
+  }
+
+}
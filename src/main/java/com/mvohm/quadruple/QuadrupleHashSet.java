@@ -0,0 +1,149 @@
+package com.mvohm.quadruple;
+
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * A hash set of {@code ImmutableQuadruple} values, that holds the values in an array of primitive words
+ * rather than as separate objects, with {@code add}, {@code contains} and {@code remove} methods
+ * that take either {@code ImmutableQuadruple} values or their components, so that the values read from column data
+ * can be looked up without creating objects.<br>
+ * It is backed by a {@link QuadrupleHashMap}, see there for the layout of the table and the matching of the values.<br>
+ * Instances are mutable and not thread-safe.
+ */
+public final class QuadrupleHashSet {
+
+  /** The value of all the mappings of the backing map */
+  private static final Object PRESENT = new Object();
+
+  private final QuadrupleHashMap<Object> map;
+
+  /** Creates a new empty set */
+  public QuadrupleHashSet() {
+    map = new QuadrupleHashMap<>();
+  }
+
+  /**
+   * Creates a new empty set, that can hold the given number of values without resizing.
+   * @param expectedSize the expected number of values
+   * @throws IllegalArgumentException if the expected size is negative, or too large
+   */
+  public QuadrupleHashSet(int expectedSize) {
+    map = new QuadrupleHashMap<>(expectedSize);
+  }
+
+  /**
+   * Creates a new set with the given values.
+   * @param values the values of the set
+   * @return a new set with the given values
+   */
+  public static QuadrupleHashSet of(ImmutableQuadruple... values) {
+    final QuadrupleHashSet result = new QuadrupleHashSet(values.length);
+    for (final ImmutableQuadruple value : values) {
+      result.add(value);
+    }
+    return result;
+  }
+
+  public int size() {
+    return map.size();
+  }
+
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+
+  /** Removes all the values from this set */
+  public void clear() {
+    map.clear();
+  }
+
+  /**
+   * Adds the given value to this set, if it is not already present.
+   * @param value the value to add
+   * @return {@code true} if this set did not already contain the value
+   */
+  public boolean add(ImmutableQuadruple value) {
+    return map.put(value, PRESENT) == null;
+  }
+
+  /**
+   * Adds the value with the given components to this set, if it is not already present.
+   * @param negative the sign of the value
+   * @param exponent the raw (biased) exponent of the value
+   * @param mantHi the 64 most significant bits of the mantissa of the value
+   * @param mantLo the 64 least significant bits of the mantissa of the value
+   * @return {@code true} if this set did not already contain the value
+   * @throws IllegalStateException if the set is full
+   */
+  public boolean add(boolean negative, int exponent, long mantHi, long mantLo) {
+    return map.put(negative, exponent, mantHi, mantLo, PRESENT) == null;
+  }
+
+  /**
+   * Indicates whether this set contains the given value.
+   * @param value the value
+   * @return {@code true} if this set contains the value
+   */
+  public boolean contains(ImmutableQuadruple value) {
+    return map.containsKey(value);
+  }
+
+  /**
+   * Indicates whether this set contains the value with the given components.
+   * @param negative the sign of the value
+   * @param exponent the raw (biased) exponent of the value
+   * @param mantHi the 64 most significant bits of the mantissa of the value
+   * @param mantLo the 64 least significant bits of the mantissa of the value
+   * @return {@code true} if this set contains the value
+   */
+  public boolean contains(boolean negative, int exponent, long mantHi, long mantLo) {
+    return map.containsKey(negative, exponent, mantHi, mantLo);
+  }
+
+  /**
+   * Removes the given value from this set.
+   * @param value the value to remove
+   * @return {@code true} if this set contained the value
+   */
+  public boolean remove(ImmutableQuadruple value) {
+    return map.remove(value) != null;
+  }
+
+  /**
+   * Removes the value with the given components from this set.
+   * @param negative the sign of the value
+   * @param exponent the raw (biased) exponent of the value
+   * @param mantHi the 64 most significant bits of the mantissa of the value
+   * @param mantLo the 64 least significant bits of the mantissa of the value
+   * @return {@code true} if this set contained the value
+   */
+  public boolean remove(boolean negative, int exponent, long mantHi, long mantLo) {
+    return map.remove(negative, exponent, mantHi, mantLo) != null;
+  }
+
+  /**
+   * Performs the given action for each value of this set, in the order of the slots of the table.
+   * Creates an {@code ImmutableQuadruple} instance for each value.
+   * @param action the action to perform
+   */
+  public void forEach(Consumer<ImmutableQuadruple> action) {
+    map.forEach((value, present) -> action.accept(value));
+  }
+
+  /**
+   * Returns the values of this set, in the order of the slots of the table.
+   * @return a new array with the values
+   */
+  public ImmutableQuadruple[] toArray() {
+    return map.keys();
+  }
+
+  @Override
+  public String toString() {
+    final StringJoiner joiner = new StringJoiner(", ", "QuadrupleHashSet {", "}");
+    forEach(value -> joiner.add(value.toString()));
+    return joiner.toString();
+  }
+
+}
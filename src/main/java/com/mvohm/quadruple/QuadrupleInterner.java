@@ -0,0 +1,229 @@
+package com.mvohm.quadruple;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A pool of canonical {@code ImmutableQuadruple} instances, that replaces equal values with a single instance,
+ * to reduce the memory taken by large amounts of references to a relatively small number of distinct values.<br>
+ * The values are matched with {@link ImmutableQuadruple#equals(Object)} and {@link ImmutableQuadruple#hashCode()},
+ * so that {@code 0} and {@code -0} are different values.
+ * The pool holds its instances through weak references, so that it doesn't prevent them from being garbage-collected
+ * when they are no longer used elsewhere, and the entries of the collected instances are removed on subsequent operations.<br>
+ * The table is divided into {@value #DEFAULT_SEGMENTS} segments by default, selected by the high bits of the mixed hash,
+ * each with its own lock, so that concurrent threads rarely wait for one another.
+ * The statistics of the lookups are kept in {@link LongAdder}s and are approximate while the pool is in use.<br>
+ * Instances are thread-safe.
+ */
+public final class QuadrupleInterner {
+
+  private static final int DEFAULT_SEGMENTS = 16;
+  private static final int INITIAL_CAPACITY = 16;
+  /**
+   * The estimated size of an {@code ImmutableQuadruple} instance with its wrapped {@code Quadruple}
+   * on a 64-bit JVM with compressed references, 32 and 40 bytes
+   */
+  private static final long INSTANCE_BYTES = 72;
+
+  private final Segment[] segments;
+  private final int segmentShift;
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+
+  /** Creates a new empty pool with the default number of segments */
+  public QuadrupleInterner() {
+    this(DEFAULT_SEGMENTS);
+  }
+
+  /**
+   * Creates a new empty pool with the given number of segments, rounded up to a power of two.
+   * @param segments the number of segments, that limits the number of threads that can access the pool simultaneously
+   * @throws IllegalArgumentException if the number of segments is not positive, or exceeds 2^16
+   */
+  public QuadrupleInterner(int segments) {
+    if (segments <= 0 || segments > 1 << 16) {
+      throw new IllegalArgumentException("The number of segments must be between 1 and 65536: " + segments);
+    }
+    final int count = (segments == 1)? 1 : Integer.highestOneBit(segments - 1) << 1;
+    this.segments = new Segment[count];
+    for (int i = 0; i < count; i++) {
+      this.segments[i] = new Segment();
+    }
+    segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+  }
+
+  /**
+   * Returns the canonical instance equal to the given value.
+   * If the pool contains an instance equal to the value, returns it,
+   * otherwise adds the given value to the pool and returns it.
+   * @param value the value to intern
+   * @return the instance from the pool, equal to the given value
+   * @throws NullPointerException if the value is {@code null}
+   */
+  public ImmutableQuadruple intern(ImmutableQuadruple value) {
+    final int hash = mix(value.hashCode());
+    final ImmutableQuadruple result = segmentFor(hash).intern(value, hash, hits);
+    lookups.increment();
+    return result;
+  }
+
+  /**
+   * Returns the number of the instances held by the pool, including those already collected but not yet removed.
+   * @return the number of entries in the pool
+   */
+  public int size() {
+    int size = 0;
+    for (final Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  /** Removes all the instances from the pool and resets the statistics */
+  public void clear() {
+    for (final Segment segment : segments) {
+      segment.clear();
+    }
+    lookups.reset();
+    hits.reset();
+  }
+
+  /**
+   * Returns the number of calls to {@link #intern(ImmutableQuadruple)} since the creation of the pool or the last {@link #clear()}.
+   * @return the number of lookups
+   */
+  public long lookups() {
+    return lookups.sum();
+  }
+
+  /**
+   * Returns the number of lookups that found an equal instance in the pool,
+   * including those that were given the pooled instance itself.
+   * @return the number of hits
+   */
+  public long hits() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the ratio of the number of hits to the number of lookups.
+   * @return the hit rate, from 0 to 1, or 0 if there were no lookups
+   */
+  public double hitRate() {
+    final long lookups = lookups();
+    return (lookups == 0)? 0 : (double)hits() / lookups;
+  }
+
+  /**
+   * Returns an upper estimate of the number of bytes saved by replacing the interned values with the instances from the pool.
+   * It counts the estimated size of an instance for each hit, so it overcounts the hits that were given the pooled instance
+   * itself, as well as the replaced values that remain referenced elsewhere, neither of which frees any memory.
+   * The memory taken by the entries of the pool itself is not subtracted.
+   * @return the number of hits multiplied by the estimated size of an instance
+   */
+  public long bytesSaved() {
+    return hits() * INSTANCE_BYTES;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("QuadrupleInterner [size = %d, lookups = %d, hits = %d, hitRate = %.4f, bytesSaved = %d]",
+                         size(), lookups(), hits(), hitRate(), bytesSaved());
+  }
+
+  private Segment segmentFor(int hash) {
+    return (segmentShift == 32)? segments[0] : segments[hash >>> segmentShift];
+  }
+
+  /** Spreads the bits of the hash code, so that both the high bits selecting the segment and the low ones are well-mixed */
+  private static int mix(int hash) {
+    hash *= 0x9E37_79B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  /** A weak reference to an interned instance, that is a link of the chain of a bucket */
+  private static final class Entry extends WeakReference<ImmutableQuadruple> {
+    final int hash;
+    Entry next;
+
+    Entry(ImmutableQuadruple value, int hash, Entry next, ReferenceQueue<ImmutableQuadruple> queue) {
+      super(value, queue);
+      this.hash = hash;
+      this.next = next;
+    }
+  }
+
+  /** A hash table with separate chaining, guarded by its own monitor */
+  private static final class Segment {
+    private final ReferenceQueue<ImmutableQuadruple> queue = new ReferenceQueue<>();
+    private Entry[] table = new Entry[INITIAL_CAPACITY];
+    private int size;
+
+    /** Returns the instance equal to the given value, adding the value if there is none, and counts the hit if there is one */
+    synchronized ImmutableQuadruple intern(ImmutableQuadruple value, int hash, LongAdder hits) {
+      expungeCollected();
+      final int index = hash & (table.length - 1);
+      for (Entry e = table[index]; e != null; e = e.next) {
+        if (e.hash == hash) {
+          final ImmutableQuadruple interned = e.get();
+          if (interned != null && interned.equals(value)) {
+            hits.increment();
+            return interned;
+          }
+        }
+      }
+      table[index] = new Entry(value, hash, table[index], queue);
+      if (++size > table.length - (table.length >>> 2)) {
+        resize();
+      }
+      return value;
+    }
+
+    synchronized int size() {
+      expungeCollected();
+      return size;
+    }
+
+    synchronized void clear() {
+      table = new Entry[INITIAL_CAPACITY];
+      size = 0;
+      while (queue.poll() != null) { /* The entries are no longer in the table */ }
+    }
+
+    /** Removes the entries whose instances have been collected */
+    private void expungeCollected() {
+      Entry collected;
+      while ((collected = (Entry)queue.poll()) != null) {
+        final int index = collected.hash & (table.length - 1);
+        Entry previous = null;
+        for (Entry e = table[index]; e != null; previous = e, e = e.next) {
+          if (e == collected) {
+            if (previous == null) {
+              table[index] = e.next;
+            } else {
+              previous.next = e.next;
+            }
+            size--;
+            break;
+          }
+        }
+      }
+    }
+
+    private void resize() {
+      final Entry[] newTable = new Entry[table.length * 2];
+      for (Entry e : table) {
+        while (e != null) {
+          final Entry next = e.next;
+          final int index = e.hash & (newTable.length - 1);
+          e.next = newTable[index];
+          newTable[index] = e;
+          e = next;
+        }
+      }
+      table = newTable;
+    }
+  }
+
+}
@@ -0,0 +1,240 @@
+package com.mvohm.quadruple;
+
+/**
+ * An immutable closed interval of real numbers, {@code [lower, upper]}, whose bounds are {@code ImmutableQuadruple} values,
+ * with arithmetic operations that round outward, so that the result of an operation contains the exact results
+ * of the operation on all the members of the operands.<br>
+ * The lower bounds of the results are rounded toward negative infinity and the upper bounds toward positive infinity
+ * by the respective kernels, that round each bound directly, rather than widen the result rounded to the nearest
+ * with {@link ImmutableQuadruple#nextDown()} and {@link ImmutableQuadruple#nextUp()}.
+ * Thus the bounds of the results of operations on point intervals are adjacent values, or equal ones if the result is exact.<br>
+ * The bounds may be infinite, which makes the interval unbounded on the respective side,
+ * but infinities are not members of intervals, so that the lower bound can't be {@code POSITIVE_INFINITY}
+ * and the upper bound can't be {@code NEGATIVE_INFINITY}.
+ */
+public final class QuadrupleInterval {
+
+  /** The interval that contains all real numbers */
+  public static final QuadrupleInterval ENTIRE = new QuadrupleInterval(ImmutableQuadruple.NEGATIVE_INFINITY,
+                                                                       ImmutableQuadruple.POSITIVE_INFINITY);
+
+  private final ImmutableQuadruple lower, upper;
+
+  /**
+   * Creates a new interval with the given bounds.
+   * @param lower the lower bound
+   * @param upper the upper bound
+   * @throws IllegalArgumentException if either bound is NaN, the lower bound is greater than the upper one,
+   * or the lower bound is {@code POSITIVE_INFINITY}, or the upper bound is {@code NEGATIVE_INFINITY}
+   */
+  public QuadrupleInterval(ImmutableQuadruple lower, ImmutableQuadruple upper) {
+    if (lower.isNaN() || upper.isNaN() || lower.compareTo(upper) > 0
+        || lower.isInfinite() && !lower.isNegative() || upper.isInfinite() && upper.isNegative()) {
+      throw new IllegalArgumentException("Invalid bounds of an interval: [" + lower + ", " + upper + "]");
+    }
+    this.lower = lower;
+    this.upper = upper;
+  }
+
+  /**
+   * Creates a new interval that contains the single given value.
+   * @param value the value of both bounds of the interval
+   * @throws IllegalArgumentException if the value is NaN or infinite
+   */
+  public QuadrupleInterval(ImmutableQuadruple value) {
+    this(value, value);
+  }
+
+  /**
+   * Creates a new interval with the given bounds.
+   * @param lower the lower bound
+   * @param upper the upper bound
+   * @throws IllegalArgumentException if the bounds are not valid bounds of an interval
+   * @see #QuadrupleInterval(ImmutableQuadruple, ImmutableQuadruple)
+   */
+  public QuadrupleInterval(double lower, double upper) {
+    this(new ImmutableQuadruple(lower), new ImmutableQuadruple(upper));
+  }
+
+  public ImmutableQuadruple lower() {
+    return lower;
+  }
+
+  public ImmutableQuadruple upper() {
+    return upper;
+  }
+
+  /**
+   * Returns the width of the interval, {@code upper - lower}, rounded toward positive infinity.
+   * @return the width of the interval
+   */
+  public ImmutableQuadruple width() {
+    return DirectedRounding.add(upper, lower, true, true);
+  }
+
+  /**
+   * Checks whether the interval contains the given value.
+   * @param value the value to check
+   * @return {@code true} if the value is finite and {@code lower <= value <= upper}
+   */
+  public boolean contains(ImmutableQuadruple value) {
+    return !value.isNaN() && !value.isInfinite() && lower.compareTo(value) <= 0 && value.compareTo(upper) <= 0;
+  }
+
+  /**
+   * Checks whether the interval contains all the members of the given interval.
+   * @param other the interval to check
+   * @return {@code true} if {@code lower <= other.lower()} and {@code other.upper() <= upper}
+   */
+  public boolean contains(QuadrupleInterval other) {
+    return lower.compareTo(other.lower) <= 0 && other.upper.compareTo(upper) <= 0;
+  }
+
+  /**
+   * Checks whether the interval contains zero.
+   * @return {@code true} if {@code lower <= 0 <= upper}
+   */
+  public boolean containsZero() {
+    return isNonPositive(lower) && isNonNegative(upper);
+  }
+
+  /**
+   * Returns the interval that contains the sums of the members of this interval and of the given one.
+   * @param summand the interval to add
+   * @return a new interval with the bounds {@code lower + summand.lower()} and {@code upper + summand.upper()}, rounded outward
+   */
+  public QuadrupleInterval add(QuadrupleInterval summand) {
+    return new QuadrupleInterval(DirectedRounding.add(lower, summand.lower, false, false),
+                                 DirectedRounding.add(upper, summand.upper, false, true));
+  }
+
+  /**
+   * Returns the interval that contains the differences between the members of this interval and of the given one.
+   * @param subtrahend the interval to subtract
+   * @return a new interval with the bounds {@code lower - subtrahend.upper()} and {@code upper - subtrahend.lower()}, rounded outward
+   */
+  public QuadrupleInterval subtract(QuadrupleInterval subtrahend) {
+    return new QuadrupleInterval(DirectedRounding.add(lower, subtrahend.upper, true, false),
+                                 DirectedRounding.add(upper, subtrahend.lower, true, true));
+  }
+
+  /**
+   * Returns the interval that contains the products of the members of this interval and of the given one.
+   * Depending on the signs of the bounds, the bounds of the product are computed with two directed multiplications,
+   * or with four ones if both intervals contain zero in their interiors.
+   * @param factor the interval to multiply by
+   * @return a new interval that contains the products, with the bounds rounded outward
+   */
+  public QuadrupleInterval multiply(QuadrupleInterval factor) {
+    final ImmutableQuadruple a = lower, b = upper, c = factor.lower, d = factor.upper;
+    if (isNonNegative(a)) {
+      if (isNonNegative(c)) return product(a, c, b, d);
+      if (isNonPositive(d)) return product(b, c, a, d);
+      return product(b, c, b, d);
+    }
+    if (isNonPositive(b)) {
+      if (isNonNegative(c)) return product(a, d, b, c);
+      if (isNonPositive(d)) return product(b, d, a, c);
+      return product(a, d, a, c);
+    }
+    if (isNonNegative(c)) return product(a, d, b, d);
+    if (isNonPositive(d)) return product(b, c, a, c);
+    final ImmutableQuadruple lower1 = multiplyBound(a, d, false), lower2 = multiplyBound(b, c, false);
+    final ImmutableQuadruple upper1 = multiplyBound(a, c, true), upper2 = multiplyBound(b, d, true);
+    return new QuadrupleInterval(ImmutableQuadruple.min(lower1, lower2), ImmutableQuadruple.max(upper1, upper2));
+  }
+
+  /**
+   * Returns the interval that contains the quotients of the members of this interval divided by the members of the given one.
+   * If the divisor contains zero, the result is {@link #ENTIRE}.
+   * @param divisor the interval to divide by
+   * @return a new interval that contains the quotients, with the bounds rounded outward
+   */
+  public QuadrupleInterval divide(QuadrupleInterval divisor) {
+    if (divisor.containsZero()) {
+      return ENTIRE;
+    }
+    final ImmutableQuadruple a = lower, b = upper, c = divisor.lower, d = divisor.upper;
+    if (c.isNegative()) {  // The divisor is negative
+      if (isNonNegative(a)) return quotient(b, d, a, c);
+      if (isNonPositive(b)) return quotient(b, c, a, d);
+      return quotient(b, d, a, d);
+    }
+    if (isNonNegative(a)) return quotient(a, d, b, c);
+    if (isNonPositive(b)) return quotient(a, c, b, d);
+    return quotient(a, c, b, c);
+  }
+
+  /**
+   * Returns the interval that contains the square roots of the non-negative members of this interval.
+   * @return a new interval with the bounds {@code sqrt(max(lower, 0))} and {@code sqrt(upper)}, rounded outward
+   * @throws ArithmeticException if all members of the interval are negative
+   */
+  public QuadrupleInterval sqrt() {
+    if (upper.isNegative() && !upper.isZero()) {
+      throw new ArithmeticException("Can't take the square root of a negative interval " + this);
+    }
+    final ImmutableQuadruple lowerRoot = lower.isNegative()? ImmutableQuadruple.ZERO : DirectedRounding.sqrt(lower, false);
+    // sqrt(-0) is -0, that is less than the positive zero of the lower root
+    final ImmutableQuadruple upperRoot = upper.isZero()? ImmutableQuadruple.ZERO : DirectedRounding.sqrt(upper, true);
+    return new QuadrupleInterval(lowerRoot, upperRoot);
+  }
+
+  /**
+   * Returns the interval that contains the negated members of this interval.
+   * @return a new interval with the bounds {@code -upper} and {@code -lower}
+   */
+  public QuadrupleInterval negate() {
+    return new QuadrupleInterval(upper.negate(), lower.negate());
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof QuadrupleInterval)) return false;
+    final QuadrupleInterval other = (QuadrupleInterval)obj;
+    return lower.equals(other.lower) && upper.equals(other.upper);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * lower.hashCode() + upper.hashCode();
+  }
+
+  /**
+   * Returns a string representation of the interval in the form {@code [lower, upper]},
+   * with the bounds formatted by {@link ImmutableQuadruple#toString()}.
+   * The decimal representations of the bounds are rounded to the nearest, so that they may be not outward.
+   */
+  @Override
+  public String toString() {
+    return "[" + lower + ", " + upper + "]";
+  }
+
+  /** Returns the interval {@code [x1 * y1 rounded downward, x2 * y2 rounded upward]} */
+  private static QuadrupleInterval product(ImmutableQuadruple x1, ImmutableQuadruple y1, ImmutableQuadruple x2, ImmutableQuadruple y2) {
+    return new QuadrupleInterval(multiplyBound(x1, y1, false), multiplyBound(x2, y2, true));
+  }
+
+  /** Multiplies bounds of intervals, with the product of zero and an infinite bound being zero */
+  private static ImmutableQuadruple multiplyBound(ImmutableQuadruple x, ImmutableQuadruple y, boolean upward) {
+    if (x.isZero() || y.isZero()) {
+      return ImmutableQuadruple.ZERO;
+    }
+    return DirectedRounding.multiply(x, y, upward);
+  }
+
+  /** Returns the interval {@code [x1 / y1 rounded downward, x2 / y2 rounded upward]} */
+  private static QuadrupleInterval quotient(ImmutableQuadruple x1, ImmutableQuadruple y1, ImmutableQuadruple x2, ImmutableQuadruple y2) {
+    return new QuadrupleInterval(DirectedRounding.divide(x1, y1, false), DirectedRounding.divide(x2, y2, true));
+  }
+
+  private static boolean isNonNegative(ImmutableQuadruple value) {
+    return !value.isNegative() || value.isZero();
+  }
+
+  private static boolean isNonPositive(ImmutableQuadruple value) {
+    return value.isNegative() || value.isZero();
+  }
+
+}
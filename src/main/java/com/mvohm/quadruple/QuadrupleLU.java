@@ -0,0 +1,266 @@
+package com.mvohm.quadruple;
+
+/**
+ * The LU decomposition of a square {@link QuadrupleMatrix} with partial pivoting, {@code P·A = L·U},
+ * where {@code P} is a permutation matrix, {@code L} is a unit lower triangular matrix,
+ * and {@code U} is an upper triangular matrix.<br>
+ * The decomposition is computed by the blocked right-looking algorithm: the columns are processed by panels
+ * of {@value #BLOCK_SIZE}, and once a panel is factored, the rest of the matrix gets updated with the products
+ * of the panel and the corresponding rows of {@code U}, in parallel over the rows.
+ * Each updated element is accumulated with the exact products of the elements and rounded once,
+ * without creating objects. The pivot in each column is the element of the greatest magnitude.<br>
+ * If the matrix is singular, the decomposition is still computed, but {@link #solve(ImmutableQuadruple[])}
+ * and {@link #inverse()} throw {@code ArithmeticException}.<br>
+ * Instances are immutable and can be used concurrently.
+ */
+public final class QuadrupleLU {
+
+  /** The number of columns of a panel */
+  private static final int BLOCK_SIZE = 32;
+
+  private final int size;
+  /** The elements of {@code L} below the diagonal, and those of {@code U} on and above it, in the row-major order */
+  private final long[] factors;
+  /** The index of the row of the original matrix for each row of the factors */
+  private final int[] permutation;
+  private final boolean oddPermutation;
+  /** Divisors for the elements of the diagonal of {@code U}, or {@code null} if the matrix is singular */
+  private final QuadrupleDivisor[] diagonal;
+
+  QuadrupleLU(QuadrupleMatrix matrix) {
+    if (matrix.rows() != matrix.columns()) {
+      throw new IllegalArgumentException("Can't decompose a non-square matrix " + matrix.rows() + " x " + matrix.columns());
+    }
+    size = matrix.rows();
+    factors = matrix.words().clone();
+    permutation = new int[size];
+    for (int i = 0; i < size; i++) {
+      permutation[i] = i;
+    }
+    oddPermutation = factor();
+
+    QuadrupleDivisor[] divisors = new QuadrupleDivisor[size];
+    for (int i = 0; i < size; i++) {
+      if (PackedQuadruples.isZero(factors, i * size + i)) {
+        divisors = null;
+        break;
+      }
+      divisors[i] = new QuadrupleDivisor(PackedQuadruples.get(factors, i * size + i));
+    }
+    diagonal = divisors;
+  }
+
+  /**
+   * Returns the unit lower triangular factor {@code L}.
+   * @return a new matrix with the elements of {@code L}
+   */
+  public QuadrupleMatrix getL() {
+    final QuadrupleMatrix result = new QuadrupleMatrix(size, size);
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < i; j++) {
+        PackedQuadruples.copy(factors, i * size + j, result.words(), i * size + j);
+      }
+      PackedQuadruples.set(result.words(), i * size + i, ImmutableQuadruple.ONE);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the upper triangular factor {@code U}.
+   * @return a new matrix with the elements of {@code U}
+   */
+  public QuadrupleMatrix getU() {
+    final QuadrupleMatrix result = new QuadrupleMatrix(size, size);
+    for (int i = 0; i < size; i++) {
+      System.arraycopy(factors, (i * size + i) * PackedQuadruples.WORDS, result.words(), (i * size + i) * PackedQuadruples.WORDS,
+                       (size - i) * PackedQuadruples.WORDS);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the permutation of the rows, such that the row {@code i} of {@code L·U}
+   * equals the row {@code permutation[i]} of the original matrix.
+   * @return a new array with the indices of the rows of the original matrix
+   */
+  public int[] getPermutation() {
+    return permutation.clone();
+  }
+
+  /**
+   * Checks if the matrix is singular, i.e. if {@code U} has a zero on its diagonal.
+   * @return {@code true} if the matrix is singular, {@code false} otherwise
+   */
+  public boolean isSingular() {
+    return diagonal == null;
+  }
+
+  /**
+   * Computes the determinant of the matrix, as the product of the diagonal elements of {@code U}.
+   * @return the determinant of the matrix, {@code ZERO} if the matrix is singular
+   */
+  public ImmutableQuadruple determinant() {
+    if (diagonal == null) {
+      return ImmutableQuadruple.ZERO;
+    }
+    ImmutableQuadruple result = oddPermutation? ImmutableQuadruple.ONE.negate() : ImmutableQuadruple.ONE;
+    for (int i = 0; i < size; i++) {
+      result = result.multiply(PackedQuadruples.get(factors, i * size + i));
+    }
+    return result;
+  }
+
+  /**
+   * Solves the system of linear equations {@code A·x = b}, where {@code A} is the decomposed matrix.
+   * @param b the right-hand side
+   * @return the solution
+   * @throws IllegalArgumentException if the length of {@code b} differs from the size of the matrix
+   * @throws ArithmeticException if the matrix is singular
+   */
+  public ImmutableQuadruple[] solve(ImmutableQuadruple[] b) {
+    if (b.length != size) {
+      throw new IllegalArgumentException("The length of the right-hand side, " + b.length
+                                         + ", differs from the size of the matrix, " + size);
+    }
+    final QuadrupleMatrix column = new QuadrupleMatrix(size, 1);
+    for (int i = 0; i < size; i++) {
+      PackedQuadruples.set(column.words(), i, b[i]);
+    }
+    final QuadrupleMatrix solution = solve(column);
+    final ImmutableQuadruple[] result = new ImmutableQuadruple[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = PackedQuadruples.get(solution.words(), i);
+    }
+    return result;
+  }
+
+  /**
+   * Solves the system of linear equations {@code A·X = B}, where {@code A} is the decomposed matrix.
+   * The columns of the solution are computed in parallel.
+   * @param b the right-hand side
+   * @return a new matrix, that is the solution
+   * @throws IllegalArgumentException if the number of rows of {@code b} differs from the size of the matrix
+   * @throws ArithmeticException if the matrix is singular
+   */
+  public QuadrupleMatrix solve(QuadrupleMatrix b) {
+    if (b.rows() != size) {
+      throw new IllegalArgumentException("The number of rows of the right-hand side, " + b.rows()
+                                         + ", differs from the size of the matrix, " + size);
+    }
+    if (diagonal == null) {
+      throw new ArithmeticException("The matrix is singular");
+    }
+    final int columns = b.columns();
+    final long[] x = PackedQuadruples.newArray((long)size * columns);
+    for (int i = 0; i < size; i++) {
+      System.arraycopy(b.words(), permutation[i] * columns * PackedQuadruples.WORDS,
+                       x, i * columns * PackedQuadruples.WORDS, columns * PackedQuadruples.WORDS);
+    }
+    QuadrupleMatrix.indices(0, columns, (long)size * size * columns).forEach(j -> {
+      final FusedMultiplyAccumulator accumulator = new FusedMultiplyAccumulator();
+      for (int i = 1; i < size; i++) {
+        accumulator.reset().add(x, i * columns + j)
+          .subtractProducts(factors, i * size, 1, x, j, columns, i)
+          .store(x, i * columns + j);
+      }
+      for (int i = size - 1; i >= 0; i--) {
+        final ImmutableQuadruple sum = accumulator.reset().add(x, i * columns + j)
+          .subtractProducts(factors, i * size + i + 1, 1, x, (i + 1) * columns + j, columns, size - i - 1)
+          .result();
+        PackedQuadruples.set(x, i * columns + j, diagonal[i].divide(sum));
+      }
+    });
+    return new QuadrupleMatrix(size, columns, x);
+  }
+
+  /**
+   * Computes the inverse of the decomposed matrix.
+   * @return a new matrix, that is the inverse of the decomposed matrix
+   * @throws ArithmeticException if the matrix is singular
+   */
+  public QuadrupleMatrix inverse() {
+    return solve(QuadrupleMatrix.identity(size));
+  }
+
+  /** Factors the matrix in place
+   * @return {@code true} if the permutation of the rows is odd */
+  private boolean factor() {
+    boolean odd = false;
+    for (int k0 = 0; k0 < size; k0 += BLOCK_SIZE) {
+      final int k1 = Math.min(k0 + BLOCK_SIZE, size);
+      for (int k = k0; k < k1; k++) {
+        if (pivot(k)) {
+          odd = !odd;
+        }
+        factorPanelColumn(k, k1);
+      }
+      updateRowsOfU(k0, k1);
+      updateTrailingMatrix(k0, k1);
+    }
+    return odd;
+  }
+
+  /** Finds the element of the greatest magnitude in the column {@code k} on or below the diagonal,
+   * and swaps its row with the row {@code k}
+   * @return {@code true} if the rows were swapped */
+  private boolean pivot(int k) {
+    int pivotRow = k;
+    for (int i = k + 1; i < size; i++) {
+      if (PackedQuadruples.compareMagnitudes(factors, i * size + k, factors, pivotRow * size + k) > 0) {
+        pivotRow = i;
+      }
+    }
+    if (pivotRow == k) {
+      return false;
+    }
+    PackedQuadruples.swap(factors, k * size, pivotRow * size, size);
+    final int row = permutation[k];
+    permutation[k] = permutation[pivotRow];
+    permutation[pivotRow] = row;
+    return true;
+  }
+
+  /** Computes the multipliers in the column {@code k}, and updates the columns of the panel to the right of it */
+  private void factorPanelColumn(int k, int panelEnd) {
+    if (PackedQuadruples.isZero(factors, k * size + k)) {
+      return; // All the elements below are zeros as well, the column needs no elimination
+    }
+    final QuadrupleDivisor pivot = new QuadrupleDivisor(PackedQuadruples.get(factors, k * size + k));
+    QuadrupleMatrix.indices(k + 1, size, (long)(size - k) * (panelEnd - k)).forEach(i -> {
+      final ImmutableQuadruple multiplier = pivot.divide(PackedQuadruples.get(factors, i * size + k));
+      PackedQuadruples.set(factors, i * size + k, multiplier);
+      final FusedMultiplyAccumulator accumulator = new FusedMultiplyAccumulator();
+      for (int j = k + 1; j < panelEnd; j++) {
+        accumulator.reset().add(factors, i * size + j)
+          .subtractProduct(factors, i * size + k, factors, k * size + j)
+          .store(factors, i * size + j);
+      }
+    });
+  }
+
+  /** Computes the rows of {@code U} from {@code k0} to {@code k1}, to the right of the panel */
+  private void updateRowsOfU(int k0, int k1) {
+    QuadrupleMatrix.indices(k1, size, (long)(size - k1) * (k1 - k0) * (k1 - k0) / 2).forEach(j -> {
+      final FusedMultiplyAccumulator accumulator = new FusedMultiplyAccumulator();
+      for (int k = k0 + 1; k < k1; k++) {
+        accumulator.reset().add(factors, k * size + j)
+          .subtractProducts(factors, k * size + k0, 1, factors, k0 * size + j, size, k - k0)
+          .store(factors, k * size + j);
+      }
+    });
+  }
+
+  /** Subtracts the product of the panel columns from {@code k0} to {@code k1} of {@code L}
+   * and the corresponding rows of {@code U} from the rest of the matrix */
+  private void updateTrailingMatrix(int k0, int k1) {
+    QuadrupleMatrix.indices(k1, size, (long)(size - k1) * (size - k1) * (k1 - k0)).forEach(i -> {
+      final FusedMultiplyAccumulator accumulator = new FusedMultiplyAccumulator();
+      for (int j = k1; j < size; j++) {
+        accumulator.reset().add(factors, i * size + j)
+          .subtractProducts(factors, i * size + k0, 1, factors, k0 * size + j, size, k1 - k0)
+          .store(factors, i * size + j);
+      }
+    });
+  }
+
+}
@@ -0,0 +1,247 @@
+package com.mvohm.quadruple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * A solver of dense systems of linear equations {@code A·x = b} with {@code double} coefficients,
+ * that finds the solution with the precision of {@code ImmutableQuadruple} by means of mixed-precision iterative refinement.<br>
+ * The matrix gets factored once, in {@code double} arithmetic, by Gaussian elimination with partial pivoting.
+ * The solution found with the factors is then refined: the residual {@code b - A·x} is computed exactly
+ * with a {@link QuadrupleAccumulator}, the correction is found with the {@code double} factors, and added to the solution,
+ * that is held as an unevaluated sum of {@code double} vectors. Each step gains about {@code 53 - log2(cond(A))} bits,
+ * so that a few steps yield the solution rounded to {@code ImmutableQuadruple}, as long as the condition number
+ * of the matrix is well below {@code 2^53}.<br>
+ * The factorization costs {@code O(n^3)} {@code double} operations, while each refinement step
+ * costs {@code O(n^2)} exact additions of products, so that the solver is much faster than a factorization
+ * in the quadruple precision. The elimination and the computation of the residuals run in parallel over the rows
+ * for matrices with {@value #PARALLEL_MIN_ROWS} or more rows.<br>
+ * Instances are immutable and can be used to solve several systems with the same matrix, also concurrently.
+ */
+public final class QuadrupleLinearSolver {
+
+  /** The least number of rows, for which the elimination and the residuals are computed in parallel */
+  private static final int PARALLEL_MIN_ROWS = 128;
+  /** The greatest number of the refinement steps */
+  private static final int MAX_REFINEMENT_STEPS = 10;
+  /** The refinement stops when the greatest component of a correction is below {@code 2^-CONVERGENCE_BITS}
+   * of the greatest component of the solution, i.e. below the half of the least significant bit of its mantissa */
+  private static final int CONVERGENCE_BITS = 130;
+  /** The refinement also stops when the greatest component of a correction is below this absolute limit,
+   * since the next corrections would be beyond the range of {@code double}, as it happens with tiny solutions */
+  private static final double ABSOLUTE_CONVERGENCE_LIMIT = Double.MIN_NORMAL;
+
+  private final int size;
+  /** The rows of the original matrix */
+  private final double[][] matrix;
+  /** The rows of the LU factors of the matrix with the rows permuted, the unit diagonal of L omitted */
+  private final double[][] factors;
+  /** The index of the row of the original matrix for each row of the factors */
+  private final int[] permutation;
+
+  /**
+   * Creates a solver for the systems with the given matrix, and factors the matrix.
+   * @param matrix the matrix of the coefficients, an array of its rows. It gets copied, so that its later modifications
+   * don't affect the solver.
+   * @throws IllegalArgumentException if the matrix is empty or not square, or if it contains NaN or infinite values
+   * @throws ArithmeticException if the matrix is singular in the {@code double} arithmetic
+   */
+  public QuadrupleLinearSolver(double[][] matrix) {
+    size = matrix.length;
+    if (size == 0) {
+      throw new IllegalArgumentException("The matrix is empty");
+    }
+    this.matrix = new double[size][];
+    for (int i = 0; i < size; i++) {
+      if (matrix[i].length != size) {
+        throw new IllegalArgumentException("The matrix is not square: row " + i + " has " + matrix[i].length
+                                           + " elements, while there are " + size + " rows");
+      }
+      for (final double element : matrix[i]) {
+        if (!Double.isFinite(element)) {
+          throw new IllegalArgumentException("The matrix contains a non-finite value: " + element);
+        }
+      }
+      this.matrix[i] = matrix[i].clone();
+    }
+    factors = new double[size][];
+    permutation = new int[size];
+    factor();
+  }
+
+  /**
+   * Solves the system {@code A·x = b} with the given matrix {@code A} and right-hand side {@code b}.
+   * @param matrix the matrix of the coefficients, an array of its rows
+   * @param b the right-hand side
+   * @return the solution, with each component rounded to {@code ImmutableQuadruple}
+   * @throws IllegalArgumentException if the matrix is empty or not square, if the length of {@code b}
+   * differs from the size of the matrix, or if any of them contains NaN or infinite values
+   * @throws ArithmeticException if the matrix is singular in the {@code double} arithmetic,
+   * or is so ill-conditioned that the refinement doesn't converge
+   * @see #solve(double[])
+   */
+  public static ImmutableQuadruple[] solve(double[][] matrix, double[] b) {
+    return new QuadrupleLinearSolver(matrix).solve(b);
+  }
+
+  /**
+   * Returns the number of rows (and columns) of the matrix.
+   * @return the number of rows of the matrix
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Solves the system {@code A·x = b} with the matrix of this solver and the given right-hand side.<br>
+   * Finds the solution with the {@code double} factors of the matrix, and refines it until the corrections
+   * no longer affect its greatest component rounded to {@code ImmutableQuadruple}, or get below {@code Double.MIN_NORMAL},
+   * so that the absolute error of the solution is about {@code Double.MIN_VALUE} for solutions close to the range
+   * of subnormal {@code double} values.
+   * @param b the right-hand side
+   * @return the solution, with each component rounded to {@code ImmutableQuadruple}
+   * @throws IllegalArgumentException if the length of {@code b} differs from the size of the matrix,
+   * or if it contains NaN or infinite values
+   * @throws ArithmeticException if the matrix is so ill-conditioned that the refinement doesn't converge
+   */
+  public ImmutableQuadruple[] solve(double[] b) {
+    if (b.length != size) {
+      throw new IllegalArgumentException("The length of the right-hand side, " + b.length
+                                         + ", differs from the size of the matrix, " + size);
+    }
+    for (final double element : b) {
+      if (!Double.isFinite(element)) {
+        throw new IllegalArgumentException("The right-hand side contains a non-finite value: " + element);
+      }
+    }
+
+    // The solution is the exact sum of these vectors
+    final List<double[]> parts = new ArrayList<>();
+    parts.add(solveWithFactors(b.clone()));
+    final double solutionNorm = maxNorm(parts.get(0));
+    double previousNorm = Double.POSITIVE_INFINITY;
+    for (int step = 0; step < MAX_REFINEMENT_STEPS; step++) {
+      final double[] correction = solveWithFactors(residual(b, parts));
+      final double correctionNorm = maxNorm(correction);
+      if (correctionNorm == 0) {
+        return sumOf(parts);
+      }
+      if (correctionNorm > previousNorm / 2) {
+        break;
+      }
+      parts.add(correction);
+      if (correctionNorm <= Math.max(Math.scalb(solutionNorm, -CONVERGENCE_BITS), ABSOLUTE_CONVERGENCE_LIMIT)) {
+        return sumOf(parts);
+      }
+      previousNorm = correctionNorm;
+    }
+    throw new ArithmeticException("The iterative refinement doesn't converge, the matrix is too ill-conditioned");
+  }
+
+  /** Factors the matrix by Gaussian elimination with partial pivoting. The factors of a permuted matrix are
+   * stored in the rows of {@code factors}, and the permutation in {@code permutation} */
+  private void factor() {
+    for (int i = 0; i < size; i++) {
+      factors[i] = matrix[i].clone();
+      permutation[i] = i;
+    }
+    for (int k = 0; k < size; k++) {
+      int pivotRow = k;
+      for (int i = k + 1; i < size; i++) {
+        if (Math.abs(factors[i][k]) > Math.abs(factors[pivotRow][k])) {
+          pivotRow = i;
+        }
+      }
+      if (factors[pivotRow][k] == 0) {
+        throw new ArithmeticException("The matrix is singular");
+      }
+      swap(k, pivotRow);
+
+      final int pivotIndex = k;
+      final IntStream rows = IntStream.range(k + 1, size);
+      (size - k >= PARALLEL_MIN_ROWS ? rows.parallel() : rows).forEach(i -> eliminate(i, pivotIndex));
+    }
+  }
+
+  private void swap(int row1, int row2) {
+    final double[] row = factors[row1];
+    factors[row1] = factors[row2];
+    factors[row2] = row;
+    final int index = permutation[row1];
+    permutation[row1] = permutation[row2];
+    permutation[row2] = index;
+  }
+
+  /** Subtracts the pivot row {@code k}, multiplied by the appropriate factor, from the row {@code i} of {@code factors},
+   * and stores the factor in place of the eliminated element */
+  private void eliminate(int i, int k) {
+    final double[] row = factors[i], pivotRow = factors[k];
+    final double factor = row[k] / pivotRow[k];
+    row[k] = factor;
+    if (factor != 0) {
+      for (int j = k + 1; j < size; j++) {
+        row[j] -= factor * pivotRow[j];
+      }
+    }
+  }
+
+  /** Solves {@code A·x = v} in the {@code double} arithmetic, using the factors of {@code A}.
+   * @return the solution */
+  private double[] solveWithFactors(double[] v) {
+    final double[] x = new double[size];
+    for (int i = 0; i < size; i++) {
+      final double[] row = factors[i];
+      double sum = v[permutation[i]];
+      for (int j = 0; j < i; j++) {
+        sum -= row[j] * x[j];
+      }
+      x[i] = sum;
+    }
+    for (int i = size - 1; i >= 0; i--) {
+      final double[] row = factors[i];
+      double sum = x[i];
+      for (int j = i + 1; j < size; j++) {
+        sum -= row[j] * x[j];
+      }
+      x[i] = sum / row[i];
+    }
+    return x;
+  }
+
+  /** Computes the exact residual {@code b - A·x}, where {@code x} is the sum of the given vectors,
+   * and rounds its components to {@code double} */
+  private double[] residual(double[] b, List<double[]> parts) {
+    final double[] result = new double[size];
+    final IntStream rows = IntStream.range(0, size);
+    (size >= PARALLEL_MIN_ROWS ? rows.parallel() : rows).forEach(i -> {
+      final QuadrupleAccumulator accumulator = new QuadrupleAccumulator().add(-b[i]);
+      for (final double[] part : parts) {
+        accumulator.addProducts(matrix[i], part, 0, size);
+      }
+      result[i] = -accumulator.sum().doubleValue();
+    });
+    return result;
+  }
+
+  private static ImmutableQuadruple[] sumOf(List<double[]> parts) {
+    final ImmutableQuadruple[] result = new ImmutableQuadruple[parts.get(0).length];
+    for (int i = 0; i < result.length; i++) {
+      final QuadrupleAccumulator accumulator = new QuadrupleAccumulator();
+      for (final double[] part : parts) {
+        accumulator.add(part[i]);
+      }
+      result[i] = accumulator.sum();
+    }
+    return result;
+  }
+
+  private static double maxNorm(double[] vector) {
+    double result = 0;
+    for (final double element : vector) {
+      result = Math.max(result, Math.abs(element));
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,555 @@
+package com.mvohm.quadruple;
+
+import static com.mvohm.quadruple.ImmutableQuadruple.*;
+
+/**
+ * Implementations of the exponential function, logarithms and the general power function
+ * for {@link ImmutableQuadruple} values.<br>
+ * The functions use table-driven argument reduction, so that the remaining polynomial approximations
+ * converge fast. All the computations are performed with mutable {@link Quadruple} buffers,
+ * each function creates only a few of them per call.<br>
+ * The tables and the constants split into high and low parts are built when first used.<br>
+ * The error bounds of the functions are given in units in the last place of the result (ulp).
+ * Since the mantissa has 129 significant bits, an error of 1 ulp corresponds to a relative error between
+ * {@code 1.47e-39} and {@code 2.94e-39}, while the relative error of the basic arithmetic operations,
+ * that round the result correctly, does not exceed {@code 1.47e-39}.
+ */
+final class QuadrupleMath {
+
+  private static final long EXPONENT_BIAS = Quadruple.EXPONENT_BIAS;
+
+  /** The magnitude of the argument of {@code exp()} beyond which the result is an infinity or a zero.
+   * {@code ln(MAX_VALUE)} is about {@code 1.4885e9} */
+  private static final double EXP_ARGUMENT_LIMIT = 2.0e9;
+  /** {@code 64 / ln(2)}, to find the approximate number of {@code ln(2) / 64} in the argument of {@code exp()} */
+  private static final double SIXTY_FOURTHS_OF_LN2_PER_UNIT = 64 / Math.log(2);
+
+  /** The indices of the least and the greatest entries of the table of logarithms, see {@link LogConstants} */
+  private static final int MIN_LOG_INDEX = 91, MAX_LOG_INDEX = 181;
+
+  private QuadrupleMath() {}
+
+  /**
+   * Constants used by {@code exp()}. Each array contains the sign (bit 63) and the biased exponent (bits 0..31)
+   * of the value in its first element, followed by the most significant and the least significant 64 bits
+   * of the fractional part of the mantissa.
+   */
+  private static final class ExpConstants {
+
+    /** {@code ln(2) / 64}, truncated to 91 significant bits, so that its product by any {@code k < 2^38} is exact */
+    static final Quadruple C_HI = quadrupleOf(new long[] { 0x0000_0000_7FFF_FFF8L, 0x62E4_2FEF_A39E_F357L, 0x93C7_6700_0000_0000L });
+    /** {@code ln(2) / 64 - C_HI} */
+    static final Quadruple C_LO = quadrupleOf(new long[] { 0x0000_0000_7FFF_FF9DL, 0x803F_2F6A_F40F_3432L, 0x6729_8B62_D8A0_D176L });
+
+    /** {@code TWO_TO_J_64[j] = 2^(j/64)} */
+    static final Quadruple[] TWO_TO_J_64 = quadruplesOf(new long[][] {
+    { 0x0000_0000_7FFF_FFFFL, 0x0000_0000_0000_0000L, 0x0000_0000_0000_0000L }, // 2^(0/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x02C9_A3E7_7806_0EE6L, 0xF7CA_CA4F_7A29_BDE9L }, // 2^(1/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x059B_0D31_5857_43AEL, 0x7C54_8EB6_8CA4_17FEL }, // 2^(2/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x0874_5187_59BC_808CL, 0x35F2_5D94_27FA_2B04L }, // 2^(3/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x0B55_86CF_9890_F629L, 0x8B92_B718_42A9_8364L }, // 2^(4/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x0E3E_C32D_3D1A_2020L, 0x742E_4F8A_F6A5_52ACL }, // 2^(5/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x1130_1D01_25B5_0A4EL, 0xBBF1_AED9_318C_EAC6L }, // 2^(6/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x1429_AAEA_92DD_FB34L, 0x1019_43B2_586D_0184L }, // 2^(7/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x172B_83C7_D517_ADCDL, 0xF7C8_C50E_B14A_7920L }, // 2^(8/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x1A35_BEB6_FCB7_53CBL, 0x698F_692D_1C83_5A6CL }, // 2^(9/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x1D48_7316_8B9A_A780L, 0x5B80_2899_0F07_A98BL }, // 2^(10/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x2063_B886_28CD_63B8L, 0xEEB0_2950_929D_0FC5L }, // 2^(11/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x2387_A6E7_5623_866CL, 0x1FAD_B1C1_5CB5_93B0L }, // 2^(12/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x26B4_565E_27CD_D257L, 0xA673_281D_3B24_9DCEL }, // 2^(13/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x29E9_DF51_FDEE_12C2L, 0x5D15_F5A2_4AA3_BCA9L }, // 2^(14/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x2D28_5A6E_4030_B400L, 0x91D5_36D0_7538_458AL }, // 2^(15/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x306F_E0A3_1B71_52DEL, 0x8D5A_4630_5C85_EDEDL }, // 2^(16/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x33C0_8B26_416F_F4C9L, 0xC861_0D96_696B_F95DL }, // 2^(17/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x371A_7373_AA9C_AA71L, 0x4550_2F45_4798_7E3EL }, // 2^(18/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x3A7D_B34E_59FF_6EA1L, 0xBC92_99E0_A1D3_3616L }, // 2^(19/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x3DEA_64C1_2342_235BL, 0x4122_3E13_D773_FBA3L }, // 2^(20/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x4160_A21F_72E2_9F84L, 0x325B_8F3D_B61F_B353L }, // 2^(21/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x44E0_8606_1892_D031L, 0x36F4_09DF_019F_BD4FL }, // 2^(22/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x486A_2B5C_13CD_013CL, 0x1A3B_6906_2F03_C3DDL }, // 2^(23/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x4BFD_AD53_62A2_71D4L, 0x397A_FEC4_2E20_E036L }, // 2^(24/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x4F9B_2769_D2CA_6AD3L, 0x3D8B_69AA_073E_E55EL }, // 2^(25/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x5342_B569_D4F8_1DF0L, 0xA83C_49D8_6A63_F4E6L }, // 2^(26/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x56F4_736B_527D_A66EL, 0xCB00_4764_EB3C_00F3L }, // 2^(27/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x5AB0_7DD4_8542_958CL, 0x9301_5191_EB34_5D89L }, // 2^(28/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x5E76_F15A_D214_86E9L, 0xBE4C_2039_9766_A065L }, // 2^(29/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x6247_EB03_A558_4B1FL, 0x0FA0_6FD2_DA42_BB1DL }, // 2^(30/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x6623_8825_5222_4912L, 0x7D9E_29B8_F314_A338L }, // 2^(31/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x6A09_E667_F3BC_C908L, 0xB2FB_1366_EA95_7D3EL }, // 2^(32/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x6DFB_23C6_51A2_EF22L, 0x0E2C_BE1B_BAA8_34B4L }, // 2^(33/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x71F7_5E8E_C5F7_3DD2L, 0x370F_2EF0_ACD6_CB43L }, // 2^(34/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x75FE_B564_267C_8BF6L, 0xE9AA_33A4_8B27_0718L }, // 2^(35/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x7A11_473E_B018_6D7DL, 0x5102_3F6C_DA1F_5EF4L }, // 2^(36/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x7E2F_336C_F4E6_2105L, 0xD02B_A157_97E1_70A1L }, // 2^(37/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x8258_9994_CCE1_28ACL, 0xF88A_FAB3_4A01_0F6BL }, // 2^(38/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x868D_99B4_492E_C80EL, 0x41D9_0AC2_5170_7485L }, // 2^(39/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x8ACE_5422_AA0D_B5BAL, 0x7C55_A192_C9BB_3E6FL }, // 2^(40/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x8F1A_E991_5773_62B9L, 0x8274_5C72_ED80_4EFDL }, // 2^(41/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x9373_7B0C_DC5E_4F45L, 0x01C3_F254_0A22_D2FCL }, // 2^(42/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x97D8_29FD_E4E4_F8B9L, 0xE920_F91E_8BD7_EDBAL }, // 2^(43/64)
+    { 0x0000_0000_7FFF_FFFFL, 0x9C49_182A_3F09_01C7L, 0xC46B_071F_2BE5_8DDBL }, // 2^(44/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xA0C6_67B5_DE56_4B29L, 0xADA8_B8CA_B349_AA04L }, // 2^(45/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xA550_3B23_E255_C8B4L, 0x2449_1CAF_87BC_8051L }, // 2^(46/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xA9E6_B557_9FDB_F43EL, 0xB243_BDFF_4C4C_58B5L }, // 2^(47/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xAE89_F995_AD3A_D5E8L, 0x734D_1773_205A_7FBCL }, // 2^(48/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xB33A_2B84_F15F_AF6BL, 0xFD0E_7BD9_47C2_5758L }, // 2^(49/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xB7F7_6F2F_B5E4_6EAAL, 0x7B08_1AB5_3C53_54C9L }, // 2^(50/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xBCC1_E904_BC1D_2247L, 0xBA0F_45B3_D08C_D0B2L }, // 2^(51/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xC199_BDD8_5529_C222L, 0x0CB1_2A09_1BA6_6794L }, // 2^(52/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xC67F_12E5_7D14_B4A2L, 0x137F_D20F_2B30_1DDAL }, // 2^(53/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xCB72_0DCE_F906_9150L, 0x3CBD_1E94_9DB7_61D9L }, // 2^(54/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xD072_D4A0_7897_B8D0L, 0xF22F_21A1_58E1_8FBCL }, // 2^(55/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xD581_8DCF_BA48_725DL, 0xA05A_EB66_E0DC_A9F6L }, // 2^(56/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xDA9E_603D_B328_5708L, 0xC01A_5B6D_4C97_F624L }, // 2^(57/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xDFC9_7337_B9B5_EB96L, 0x8CAC_39ED_291B_7226L }, // 2^(58/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xE502_EE78_B3FF_6273L, 0xD130_1539_91E8_F496L }, // 2^(59/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xEA4A_FA2A_490D_9858L, 0xF73A_18F5_DB30_1F87L }, // 2^(60/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xEFA1_BEE6_15A2_7771L, 0xFD21_A92D_AC1F_6DD6L }, // 2^(61/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xF507_65B6_E454_0674L, 0xF84B_7628_62BA_FF99L }, // 2^(62/64)
+    { 0x0000_0000_7FFF_FFFFL, 0xFA7C_1819_E90D_82E9L, 0x0A7E_74B2_63C1_DC06L }, // 2^(63/64)
+    });
+
+    /** {@code TWO_TO_J_64_LO[j] = 2^(j/64) - TWO_TO_J_64[j]}, to reduce the error of the result */
+    static final Quadruple[] TWO_TO_J_64_LO = quadruplesOf(new double[] {
+      0.0, 7.052964269121822e-40, 9.629851568707897e-40, 3.1198091483413963e-40,
+      4.715552731545409e-40, 8.633587379813783e-40, -5.937170068119114e-40, 8.634962139248415e-40,
+      6.120255065021674e-40, 5.561384648630401e-40, 7.590970887406624e-40, -1.3795902193901275e-39,
+      5.799537424586791e-40, 9.019217359504591e-40, -1.277982654467259e-39, -7.140072423424571e-40,
+      -7.78843751358989e-40, 2.476605129823884e-40, 2.1028094524549673e-40, 7.333822196502926e-40,
+      -6.025485057607356e-40, -1.7990177613065143e-40, 6.80535100382456e-40, 1.3523551978883705e-39,
+      6.845905883476334e-40, 2.890451990177479e-41, 1.3160049584439288e-39, -1.185951294596951e-40,
+      -4.6168536653552156e-40, 8.337095565166656e-40, -2.413387688640678e-40, -1.2788631114357708e-40,
+      6.757960578654557e-40, -1.712288968218518e-40, 8.64822140636021e-40, 6.771531224876794e-41,
+      4.9821616259428595e-40, 7.633629093965556e-40, -4.779780590707424e-40, -4.678284955874724e-40,
+      -4.807394003981466e-40, -1.1560654051288158e-39, 8.604872400559966e-40, -4.697468733919336e-40,
+      -3.866795373125128e-40, 3.978725103119148e-40, -1.0558741732255994e-39, 1.306470909037645e-39,
+      6.761415581240686e-40, -1.448036566550679e-39, -1.2829970940915087e-39, 2.901408985887379e-41,
+      7.873409492035913e-40, -2.9051410572155903e-40, 9.826915158657735e-40, -4.1506628863268093e-41,
+      -1.355051104210674e-39, 1.2748799873580292e-39, -9.956197852269519e-40, 1.0317776767152283e-39,
+      -3.830354649578351e-40, -5.261708611644664e-40, 6.271271271560015e-43, 1.4021802221062497e-40,
+    });
+
+    /** {@code 1/2!, 1/3!, ... 1/14!}, the coefficients of {@code (e^r - 1 - r) / r^2} */
+    static final Quadruple[] COEFFICIENTS = new Quadruple[13];
+
+    static {
+      long factorial = 1;
+      for (int n = 2; n <= 14; n++) {
+        factorial *= n;
+        COEFFICIENTS[n - 2] = Quadruple.one().divide(factorial);
+      }
+    }
+  }
+
+  /**
+   * Constants used by the logarithms. The layout of the arrays is the same as in {@link ExpConstants}.
+   */
+  private static final class LogConstants {
+
+    /** {@code ln(2)}, truncated to 96 significant bits, so that its product by any {@code int} value is exact */
+    static final Quadruple LN2_HI = quadrupleOf(new long[] { 0x0000_0000_7FFF_FFFEL, 0x62E4_2FEF_A39E_F357L, 0x93C7_6730_0000_0000L });
+    /** {@code ln(2) - LN2_HI} */
+    static final Quadruple LN2_LO = quadrupleOf(new long[] { 0x0000_0000_7FFF_FF98L, 0xF97B_57A0_79A1_9339L, 0x4C5B_16C5_068B_ADC6L });
+    /** {@code log10(2)}, truncated to 96 significant bits */
+    static final Quadruple LOG10_2_HI = quadrupleOf(new long[] { 0x0000_0000_7FFF_FFFDL, 0x3441_3509_F79F_EF31L, 0x1F12_B358_0000_0000L });
+    /** {@code log10(2) - LOG10_2_HI} */
+    static final Quadruple LOG10_2_LO = quadrupleOf(new long[] { 0x0000_0000_7FFF_FF99L, 0x6F92_2F04_D5A6_18A8L, 0x7A3E_6931_4BCD_E4D7L });
+    /** {@code log2(e) = 1 / ln(2)} */
+    static final Quadruple LOG2_E = quadrupleOf(new long[] { 0x0000_0000_7FFF_FFFFL, 0x7154_7652_B82F_E177L, 0x7D0F_FDA0_D23A_7D12L });
+    /** {@code log2(e) - LOG2_E} */
+    static final Quadruple LOG2_E_LO = new Quadruple(-4.742909542928402e-40);
+    /** {@code log10(e) = 1 / ln(10)} */
+    static final Quadruple LOG10_E = quadrupleOf(new long[] { 0x0000_0000_7FFF_FFFDL, 0xBCB7_B152_6E50_E32AL, 0x6AB7_555F_5A67_B864L });
+    /** {@code log10(e) - LOG10_E} */
+    static final Quadruple LOG10_E_LO = new Quadruple(3.6095819509291582e-40);
+    static final Quadruple ONE = Quadruple.one();
+
+    /** {@code LN_F[i - MIN_LOG_INDEX] = ln(i / 128)} */
+    static final Quadruple[] LN_F = quadruplesOf(new long[][] {
+    { 0x8000_0000_7FFF_FFFDL, 0x5D5B_DDF5_95F2_FA6AL, 0xFBAD_CD11_D762_7605L }, // ln(91/128)
+    { 0x8000_0000_7FFF_FFFDL, 0x522A_E073_8A3D_7CE1L, 0x02C9_8EB2_D0D4_4412L }, // ln(92/128)
+    { 0x8000_0000_7FFF_FFFDL, 0x4718_DC27_1C41_B063L, 0xED30_5315_BBBA_FE65L }, // ln(93/128)
+    { 0x8000_0000_7FFF_FFFDL, 0x3C25_2773_3318_3B54L, 0xB606_BD5C_4E75_0ABEL }, // ln(94/128)
+    { 0x8000_0000_7FFF_FFFDL, 0x314F_1E1D_35CE_3B0AL, 0x59BD_868F_08E0_F073L }, // ln(95/128)
+    { 0x8000_0000_7FFF_FFFDL, 0x2696_2113_4DB9_2783L, 0xBEB7_676C_0AA9_C2A3L }, // ln(96/128)
+    { 0x8000_0000_7FFF_FFFDL, 0x1BF9_9635_A6B9_4DDAL, 0xA28F_7B6D_BB95_EB39L }, // ln(97/128)
+    { 0x8000_0000_7FFF_FFFDL, 0x1178_E822_7E47_BDE3L, 0x38B4_1FC7_2DE8_1E3CL }, // ln(98/128)
+    { 0x8000_0000_7FFF_FFFDL, 0x0713_8604_D586_2736L, 0xC5BB_53A4_4E1F_43E8L }, // ln(99/128)
+    { 0x8000_0000_7FFF_FFFCL, 0xF991_C6CB_3B37_97D9L, 0x9419_BE60_2863_6C1EL }, // ln(100/128)
+    { 0x8000_0000_7FFF_FFFCL, 0xE530_EFFE_7101_2122L, 0x7604_1F43_0419_2924L }, // ln(101/128)
+    { 0x8000_0000_7FFF_FFFCL, 0xD103_7F26_55E7_B581L, 0x8A49_091C_6887_C080L }, // ln(102/128)
+    { 0x8000_0000_7FFF_FFFCL, 0xBD08_7383_BD8A_D0EEL, 0x9AAF_B528_B6BA_1555L }, // ln(103/128)
+    { 0x8000_0000_7FFF_FFFCL, 0xA93E_D3C8_AD9E_36F2L, 0xBEA7_7A5C_80DC_CDCFL }, // ln(104/128)
+    { 0x8000_0000_7FFF_FFFCL, 0x95A5_ADCF_7017_F228L, 0x58A0_FF6F_47A1_7ED4L }, // ln(105/128)
+    { 0x8000_0000_7FFF_FFFCL, 0x823C_1655_1A3C_1BB7L, 0x34C6_3D06_1FA6_1208L }, // ln(106/128)
+    { 0x8000_0000_7FFF_FFFCL, 0x6F01_28B7_56AB_B9C8L, 0x698F_787A_64EA_1FBDL }, // ln(107/128)
+    { 0x8000_0000_7FFF_FFFCL, 0x5BF4_06B5_43DB_1FB8L, 0x292E_CFC8_2062_DA58L }, // ln(108/128)
+    { 0x8000_0000_7FFF_FFFCL, 0x4913_D833_3B56_0DE5L, 0x53F6_D9E1_D968_236FL }, // ln(109/128)
+    { 0x8000_0000_7FFF_FFFCL, 0x365F_CB01_5901_62FAL, 0x8234_B728_9595_0E10L }, // ln(110/128)
+    { 0x8000_0000_7FFF_FFFCL, 0x23D7_12A4_9C20_1A47L, 0x1FA7_BEB8_A5AC_FCF6L }, // ln(111/128)
+    { 0x8000_0000_7FFF_FFFCL, 0x1178_E822_7E47_BDE3L, 0x38B4_1FC7_2DE8_1E3CL }, // ln(112/128)
+    { 0x8000_0000_7FFF_FFFBL, 0xFE89_139D_BD56_594DL, 0x82F7_A81B_1B25_23D8L }, // ln(113/128)
+    { 0x8000_0000_7FFF_FFFBL, 0xDA72_7638_446A_2500L, 0x7E9C_5CCC_062F_AABFL }, // ln(114/128)
+    { 0x8000_0000_7FFF_FFFBL, 0xB6AC_88DA_D5B1_BDFFL, 0x5022_5C6B_4C1C_C6EAL }, // ln(115/128)
+    { 0x8000_0000_7FFF_FFFBL, 0x9335_E5D5_9498_8AE1L, 0xD5EA_3ECC_D250_8973L }, // ln(116/128)
+    { 0x8000_0000_7FFF_FFFBL, 0x700D_30AE_AC0E_0F46L, 0xD4CE_F699_17D8_45C2L }, // ln(117/128)
+    { 0x8000_0000_7FFF_FFFBL, 0x4D31_15D2_07EA_C5DAL, 0x7D0B_1E10_B2F6_74D3L }, // ln(118/128)
+    { 0x8000_0000_7FFF_FFFBL, 0x2AA0_4A44_717A_48BAL, 0x8B1C_B417_0238_B2EAL }, // ln(119/128)
+    { 0x8000_0000_7FFF_FFFBL, 0x0859_8B59_E3A0_688AL, 0x3FD9_BF50_3372_C130L }, // ln(120/128)
+    { 0x8000_0000_7FFF_FFFAL, 0xCCB7_3CDD_DB2C_B86DL, 0xC13E_BFC4_0B1A_C00BL }, // ln(121/128)
+    { 0x8000_0000_7FFF_FFFAL, 0x894A_A149_FB34_3351L, 0x7D2E_CC14_4798_A81AL }, // ln(122/128)
+    { 0x8000_0000_7FFF_FFFAL, 0x466A_ED42_DE3E_98C8L, 0xA420_2D7B_209B_92D0L }, // ln(123/128)
+    { 0x8000_0000_7FFF_FFFAL, 0x0415_D89E_7444_4701L, 0x73C7_5D4D_8889_DE0EL }, // ln(124/128)
+    { 0x8000_0000_7FFF_FFF9L, 0x8492_528C_8CAB_E8B9L, 0xB4BE_7981_664A_3B7BL }, // ln(125/128)
+    { 0x8000_0000_7FFF_FFF9L, 0x0205_6589_3584_749FL, 0x23A1_05B9_C7BB_9A6FL }, // ln(126/128)
+    { 0x8000_0000_7FFF_FFF8L, 0x0101_5758_8DE7_128CL, 0xCC5A_82F9_DA00_F48CL }, // ln(127/128)
+    { 0, 0, 0 }, // ln(128/128)
+    { 0x0000_0000_7FFF_FFF7L, 0xFE02_A6B1_0678_8FC3L, 0x7690_391D_C282_D2B4L }, // ln(129/128)
+    { 0x0000_0000_7FFF_FFF8L, 0xFC0A_8B0F_C03E_3CF9L, 0xEDA7_4D37_ABD5_6DF6L }, // ln(130/128)
+    { 0x0000_0000_7FFF_FFF9L, 0x7B91_B07D_5B11_AA92L, 0x7F54_C716_BC01_DCD5L }, // ln(131/128)
+    { 0x0000_0000_7FFF_FFF9L, 0xF829_B0E7_8330_04CFL, 0x8FC1_3C7B_C8A7_EBACL }, // ln(132/128)
+    { 0x0000_0000_7FFF_FFFAL, 0x39E8_7B9F_EBD5_FA90L, 0x15B2_02AB_914E_46ACL }, // ln(133/128)
+    { 0x0000_0000_7FFF_FFFAL, 0x7745_8F63_2DCF_C463L, 0x4F2A_1EE4_A582_C793L }, // ln(134/128)
+    { 0x0000_0000_7FFF_FFFAL, 0xB42D_D711_971B_EC28L, 0xD14C_7D9F_6CDD_2958L }, // ln(135/128)
+    { 0x0000_0000_7FFF_FFFAL, 0xF0A3_0C01_162A_6617L, 0xCC97_16EE_B32F_131AL }, // ln(136/128)
+    { 0x0000_0000_7FFF_FFFBL, 0x1653_6EEA_37AE_0E86L, 0x25C1_73DD_325E_46DAL }, // ln(137/128)
+    { 0x0000_0000_7FFF_FFFBL, 0x341D_7961_BD1D_0929L, 0x9837_6104_D137_5022L }, // ln(138/128)
+    { 0x0000_0000_7FFF_FFFBL, 0x51B0_73F0_6183_F692L, 0x78E6_86A2_F915_84BDL }, // ln(139/128)
+    { 0x0000_0000_7FFF_FFFBL, 0x6F0D_28AE_56B4_B9BEL, 0x499B_9ED1_9B64_0CE5L }, // ln(140/128)
+    { 0x0000_0000_7FFF_FFFBL, 0x8C34_5D63_19B2_0F5AL, 0xCB42_A65E_DAB4_3570L }, // ln(141/128)
+    { 0x0000_0000_7FFF_FFFBL, 0xA926_D3A4_AD56_3650L, 0xBD22_A9C3_AA4C_79AAL }, // ln(142/128)
+    { 0x0000_0000_7FFF_FFFBL, 0xC5E5_48F5_BC74_315DL, 0x617E_F816_1B17_69D9L }, // ln(143/128)
+    { 0x0000_0000_7FFF_FFFBL, 0xE270_76E2_AF2E_5E9EL, 0xA87F_FE1F_E9E1_55DCL }, // ln(144/128)
+    { 0x0000_0000_7FFF_FFFBL, 0xFEC9_131D_BEAB_AAA2L, 0xE519_9F93_24E3_BFE9L }, // ln(145/128)
+    { 0x0000_0000_7FFF_FFFCL, 0x0D77_E7CD_08E5_9669L, 0x7717_A40C_2AE8_E242L }, // ln(146/128)
+    { 0x0000_0000_7FFF_FFFCL, 0x1B72_AD52_F67A_0290L, 0x6046_8E59_AE73_F3BCL }, // ln(147/128)
+    { 0x0000_0000_7FFF_FFFCL, 0x2955_2F81_FF52_34C0L, 0x5DC7_101F_6FA6_8850L }, // ln(148/128)
+    { 0x0000_0000_7FFF_FFFCL, 0x371F_C201_E8F7_43BCL, 0xD96C_55E3_13F9_7410L }, // ln(149/128)
+    { 0x0000_0000_7FFF_FFFCL, 0x44D2_B6CC_B7D1_E67DL, 0x3D95_0F87_E1E0_C416L }, // ln(150/128)
+    { 0x0000_0000_7FFF_FFFCL, 0x526E_5E3A_1B43_7A2EL, 0x401D_6E3C_B19A_6DBDL }, // ln(151/128)
+    { 0x0000_0000_7FFF_FFFCL, 0x5FF3_070A_793D_3C87L, 0x3E20_A072_123B_AFE7L }, // ln(152/128)
+    { 0x0000_0000_7FFF_FFFCL, 0x6D60_FE71_9D21_C8D5L, 0x4765_C4CB_A1BC_6FB4L }, // ln(153/128)
+    { 0x0000_0000_7FFF_FFFCL, 0x7AB8_9021_0D90_91BEL, 0x36B2_D6A0_6080_6480L }, // ln(154/128)
+    { 0x0000_0000_7FFF_FFFCL, 0x87FA_0652_0C91_0902L, 0x0090_17DC_9977_AD2BL }, // ln(155/128)
+    { 0x0000_0000_7FFF_FFFCL, 0x9525_A9CF_456B_4764L, 0x1307_538B_8967_6265L }, // ln(156/128)
+    { 0x0000_0000_7FFF_FFFCL, 0xA23B_C1FE_2B56_3193L, 0x711B_07A9_98C2_7E3FL }, // ln(157/128)
+    { 0x0000_0000_7FFF_FFFCL, 0xAF3C_94E8_0BFF_2D8CL, 0xE601_937C_CF5C_BB3BL }, // ln(158/128)
+    { 0x0000_0000_7FFF_FFFCL, 0xBC28_6742_D8CD_629FL, 0x9CE8_90E1_EA9E_1E2CL }, // ln(159/128)
+    { 0x0000_0000_7FFF_FFFCL, 0xC8FF_7C79_A9A2_1AC2L, 0x5D81_EF2F_FB9A_24AEL }, // ln(160/128)
+    { 0x0000_0000_7FFF_FFFCL, 0xD5C2_16B4_FBB9_15B9L, 0x10D6_5F93_5007_0F1BL }, // ln(161/128)
+    { 0x0000_0000_7FFF_FFFCL, 0xE270_76E2_AF2E_5E9EL, 0xA87F_FE1F_E9E1_55DCL }, // ln(162/128)
+    { 0x0000_0000_7FFF_FFFCL, 0xEF0A_DCBD_C593_6521L, 0x8DE5_4370_8321_4FADL }, // ln(163/128)
+    { 0x0000_0000_7FFF_FFFCL, 0xFB91_86D5_E3E2_A8D5L, 0x5466_C379_4D2C_A092L }, // ln(164/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x0402_594B_4D04_0DAEL, 0x27BD_0B5F_BA57_9112L }, // ln(165/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x0A32_4E27_390E_35F7L, 0x3F7A_0187_00C3_8A38L }, // ln(166/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x1058_BF9A_E4AD_5189L, 0xFA0A_B4CB_31CF_8534L }, // ln(167/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x1675_CABA_BA60_E039L, 0xCC7D_5710_6E2E_08FCL }, // ln(168/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x1C89_8C16_999F_AFBCL, 0x68E7_5403_8EEF_0CEEL }, // ln(169/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x2294_1FBC_F796_5A24L, 0x2853_DA75_D432_F4BAL }, // ln(170/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x2895_A13D_E86A_35EBL, 0x4930_4FC1_0396_2D6AL }, // ln(171/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x2E8E_2BAE_11D3_09C2L, 0xCC91_A850_81B3_CDEEL }, // ln(172/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x347D_D9A9_87D5_4D64L, 0x5674_FEDC_C10F_7288L }, // ln(173/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x3A64_C556_945E_9C72L, 0xF35C_D740_D08D_F5BDL }, // ln(174/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x4043_0868_6A7E_3BD0L, 0xC127_DF4C_64A6_1590L }, // ln(175/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x4618_BC21_C5EC_27D0L, 0xB7B3_7B33_C734_415EL }, // ln(176/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x4BE5_F957_778A_0DB4L, 0xC994_9F6F_D864_7AE5L }, // ln(177/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x51AA_D872_DF82_D09CL, 0x93D6_0CFA_AF18_8EA8L }, // ln(178/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x5767_7174_55A6_C549L, 0xAB6C_A0D9_82F4_03E3L }, // ln(179/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x5D1B_DBF5_809C_A508L, 0xD8E0_F71F_F845_67CEL }, // ln(180/128)
+    { 0x0000_0000_7FFF_FFFDL, 0x62C8_2F2B_9C79_52F6L, 0xF5F2_2A60_1CA2_E722L }, // ln(181/128)
+    });
+
+    /** {@code LN_F_LO[i - MIN_LOG_INDEX] = ln(i / 128) - LN_F[i - MIN_LOG_INDEX]}, to reduce the error of the result */
+    static final Quadruple[] LN_F_LO = quadruplesOf(new double[] {
+      -2.183851750218782e-40, 3.3208718197919423e-40, 1.3544544844617114e-40, 6.023315973356476e-41,
+      3.1923166672976026e-40, -4.386685142145998e-41, 3.539643136905411e-40, 2.148824427606043e-40,
+      -2.392468659485006e-40, 1.5894398730521394e-40, -1.386187585654642e-40, 1.7743972477265504e-40,
+      6.946148552118521e-42, 4.151558822978448e-41, 1.485004931315357e-40, 1.2162309861226224e-40,
+      5.614423452262009e-41, -1.2069229522420679e-40, 3.3887322997554715e-41, -7.749529897306023e-41,
+      -9.22496480608878e-41, 1.0744122138030215e-40, -4.679058671249455e-41, 1.7675958859797444e-41,
+      4.967132051992292e-41, -6.327982711825342e-41, -3.5309855572962326e-41, 7.051452144902296e-41,
+      -3.8594187057547675e-41, 4.105927175123357e-41, -3.8428096777360783e-41, -1.7295054016575695e-41,
+      -3.990882527339766e-41, -4.3586924483513004e-42, 1.4281370082929475e-41, -1.5301970501440264e-41,
+      1.1346268819421946e-41, 0.0, -1.6513871508917108e-42, -1.1311532834508783e-41,
+      -2.688639801155834e-42, -1.1709022211058188e-41, -1.468696065442285e-41, 4.5514471526789777e-41,
+      -3.5766172051513234e-41, 3.7635583878132604e-41, 4.775724133645062e-41, -6.821339503405746e-41,
+      -7.139324758157828e-41, 8.696352237013278e-42, 2.727456735227794e-41, -6.821138559691106e-42,
+      7.367341744018627e-41, -7.682544380274681e-41, 2.1646296054440127e-41, 1.4586913594096494e-40,
+      1.8192385037931746e-40, -4.838279663942783e-41, -1.474904024542548e-40, 1.2598539492392713e-40,
+      -8.28933669069421e-41, -1.22128182034725e-40, 1.4448113239136822e-40, -4.4071941725278484e-41,
+      -1.0310356159164017e-40, 8.556995848497655e-42, 3.931957442234503e-41, 1.1159829702968426e-40,
+      8.866450623097541e-41, 8.492612317269356e-41, 8.309467776770468e-41, -1.5365088760549362e-40,
+      5.782432087921522e-41, 3.958026148062318e-42, -1.1045389135434706e-40, -3.649345990040332e-40,
+      -3.036845087547228e-40, 7.448262899901532e-41, 9.39394354997421e-41, 3.0623269936680857e-40,
+      1.6838835879449304e-40, -9.553777996641855e-41, 2.374847879172918e-40, 8.743257281644218e-41,
+      2.7729346772568926e-40, -1.5151316310558064e-40, 2.2122692138371856e-40, -2.5368273737765018e-40,
+      -8.9494784960273e-41, 8.100679369946748e-42, 3.109073666206269e-40,
+    });
+
+    /** {@code F[i - MIN_LOG_INDEX] = i / 128} */
+    static final Quadruple[] F = new Quadruple[MAX_LOG_INDEX - MIN_LOG_INDEX + 1];
+    /** {@code 1/3, 1/5, ... 1/17}, the coefficients of {@code (atanh(s) - s) / s^3} as a polynomial of {@code s^2} */
+    static final Quadruple[] COEFFICIENTS = new Quadruple[8];
+
+    static {
+      for (int i = MIN_LOG_INDEX; i <= MAX_LOG_INDEX; i++) {
+        F[i - MIN_LOG_INDEX] = new Quadruple(i).divide(128);
+      }
+      for (int k = 1; k <= COEFFICIENTS.length; k++) {
+        COEFFICIENTS[k - 1] = Quadruple.one().divide(2 * k + 1);
+      }
+    }
+  }
+
+  /**
+   * Computes {@code e^x}.<br>
+   * The argument is reduced to {@code x = (64 * m + j) * ln(2) / 64 + r}, where {@code |r| <= ln(2) / 128},
+   * using {@code ln(2) / 64} split into two parts, so that {@code r} is computed with an error
+   * much less than 1 ulp of the result. Then {@code e^x = 2^m * 2^(j/64) * (1 + p)},
+   * where {@code 2^(j/64)} is taken from a table as a sum of two parts and {@code p = e^r - 1}
+   * is found as a polynomial of degree 14.<br>
+   * The error of the result does not exceed 0.6 ulp (a relative error of 1.77e-39), unless the result is subnormal.
+   * Results greater than {@code MAX_VALUE} are {@code POSITIVE_INFINITY},
+   * {@code exp(NEGATIVE_INFINITY)} is 0, and {@code exp(NaN)} is NaN.
+   * @param x the argument
+   * @return {@code e^x}
+   */
+  static ImmutableQuadruple exp(ImmutableQuadruple x) {
+    if (x.isNaN()) {
+      return x;
+    }
+    if (x.isInfinite()) {
+      return x.isNegative()? ZERO : x;
+    }
+    final double approximation = x.doubleValue();
+    if (approximation > EXP_ARGUMENT_LIMIT) {
+      return POSITIVE_INFINITY;
+    }
+    if (approximation < -EXP_ARGUMENT_LIMIT) {
+      return ZERO;
+    }
+
+    final long k = Math.round(approximation * SIXTY_FOURTHS_OF_LN2_PER_UNIT);
+    final Quadruple r = quadrupleOf(x);
+    if (k != 0) {
+      final Quadruple kHi = new Quadruple(k).multiply(ExpConstants.C_HI);  // Exact
+      final Quadruple kLo = new Quadruple(k).multiply(ExpConstants.C_LO);
+      r.subtract(kHi).subtract(kLo);
+    }
+
+    // p = e^r - 1 = r + r^2 * (1/2! + r/3! + ... + r^12/14!)
+    final Quadruple p = polynomial(r, ExpConstants.COEFFICIENTS).multiply(r).multiply(r).add(r);
+    final int j = (int)(k & 63);
+    final Quadruple t = ExpConstants.TWO_TO_J_64[j];
+    final Quadruple result = p.multiply(t).add(ExpConstants.TWO_TO_J_64_LO[j]).add(t);
+    return pack(false, (result.exponent() & 0xFFFF_FFFFL) + (k >> 6), result.mantHi(), result.mantLo(), false);
+  }
+
+  /**
+   * Computes the natural logarithm of {@code x}.<br>
+   * The argument is represented as {@code x = 2^e * m}, where {@code 0.709 <= m < 1.418},
+   * and {@code F = i / 128}, {@code 91 <= i <= 181}, is the multiple of 1/128 nearest to {@code m}.
+   * Then {@code ln(x) = e * ln(2) + ln(F) + ln(m / F)}, where {@code ln(F)} is taken from a table as a sum of two parts,
+   * and {@code e * ln(2)} is the sum of the exact product of {@code e} by {@code ln(2)} truncated to 96 bits
+   * and the product of {@code e} by the rest of {@code ln(2)}.
+   * {@code ln(m / F) = 2 * atanh(s / 2)}, where {@code s = 2 * (m - F) / (m + F)}, {@code |s| < 1/181},
+   * is found as {@code s + s * w * P(w)}, where {@code w = (s / 2)^2} and {@code P} is the polynomial of degree 7
+   * with the coefficients {@code 1/3, 1/5, ... 1/17}, that makes a polynomial of degree 17 of {@code s}.<br>
+   * The error of the result does not exceed 2.5 ulp (a relative error of 7.35e-39).
+   * {@code log(0)} is {@code NEGATIVE_INFINITY}, the logarithm of a negative value or NaN is NaN.
+   * @param x the argument
+   * @return {@code ln(x)}
+   */
+  static ImmutableQuadruple log(ImmutableQuadruple x) {
+    return logarithm(x, LogConstants.LN2_HI, LogConstants.LN2_LO, null, null);
+  }
+
+  /**
+   * Computes the base 2 logarithm of {@code x}, as {@code e + ln(m) * log2(e)},
+   * with the notation of {@link #log(ImmutableQuadruple)}.<br>
+   * The error of the result does not exceed 3.5 ulp (a relative error of 1.03e-38). Powers of two have exact logarithms.
+   * @param x the argument
+   * @return {@code log2(x)}
+   */
+  static ImmutableQuadruple log2(ImmutableQuadruple x) {
+    return logarithm(x, LogConstants.ONE, null, LogConstants.LOG2_E, LogConstants.LOG2_E_LO);
+  }
+
+  /**
+   * Computes the base 10 logarithm of {@code x}, as {@code e * log10(2) + ln(m) * log10(e)},
+   * with the notation of {@link #log(ImmutableQuadruple)}.<br>
+   * The error of the result does not exceed 3.5 ulp (a relative error of 1.03e-38).
+   * @param x the argument
+   * @return {@code log10(x)}
+   */
+  static ImmutableQuadruple log10(ImmutableQuadruple x) {
+    return logarithm(x, LogConstants.LOG10_2_HI, LogConstants.LOG10_2_LO, LogConstants.LOG10_E, LogConstants.LOG10_E_LO);
+  }
+
+  /**
+   * Computes {@code x^y}.<br>
+   * If {@code y} is an integer within the range of {@code int}, uses {@link ImmutableQuadruple#pow(int)}.
+   * Otherwise computes {@code e^(y * ln|x|)}. The error of {@code y * ln|x|} gets magnified by the exponentiation,
+   * so that the error of the result does not exceed {@code 0.6 + 6 * |y * ln(x)|} ulp.<br>
+   * Special cases follow the rules of {@link Math#pow(double, double)}.
+   * @param x the base
+   * @param y the exponent
+   * @return {@code x^y}
+   */
+  static ImmutableQuadruple pow(ImmutableQuadruple x, ImmutableQuadruple y) {
+    if (y.isZero()) {
+      return ONE;
+    }
+    if (x.isNaN() || y.isNaN()) {
+      return NaN;
+    }
+    if (isInteger(y) && y.compareTo((long)Integer.MIN_VALUE) >= 0 && y.compareTo((long)Integer.MAX_VALUE) <= 0) {
+      return x.pow(y.intValue());
+    }
+
+    if (y.isInfinite()) {
+      final int magnitudeComparison = x.compareMagnitudeTo(ONE);
+      if (magnitudeComparison == 0) {
+        return NaN;
+      }
+      return ((magnitudeComparison > 0) == y.isNegative())? ZERO : POSITIVE_INFINITY;
+    }
+
+    final boolean negative = x.isNegative() && isOddInteger(y);
+    if (x.isZero() || x.isInfinite()) {
+      final ImmutableQuadruple magnitude = (x.isZero() != y.isNegative())? ZERO : POSITIVE_INFINITY;
+      return negative? magnitude.negate() : magnitude;
+    }
+    if (x.isNegative() && !isInteger(y)) {
+      return NaN;
+    }
+
+    final ImmutableQuadruple result = exp(log(x.abs()).multiply(y));
+    return negative? result.negate() : result;
+  }
+
+  /** Returns {@code e * unitHi + (ln(m) * (scaleHi + scaleLo) + e * unitLo)}, with the notation of {@link #log(ImmutableQuadruple)}.
+   * {@code unitLo}, {@code scaleHi} and {@code scaleLo} may be {@code null}, if not needed */
+  private static ImmutableQuadruple logarithm(ImmutableQuadruple x, Quadruple unitHi, Quadruple unitLo,
+                                              Quadruple scaleHi, Quadruple scaleLo) {
+    if (x.isNaN() || (x.isNegative() && !x.isZero())) {
+      return NaN;
+    }
+    if (x.isZero()) {
+      return NEGATIVE_INFINITY;
+    }
+    if (x.isInfinite()) {
+      return x;
+    }
+
+    long e = (x.exponent() & 0xFFFF_FFFFL) - EXPONENT_BIAS;
+    long mantHi = x.mantHi(), mantLo = x.mantLo();
+    if (x.exponent() == 0) { // Subnormal, make it normal
+      final ImmutableQuadruple normalized = x.scalb(129);
+      e = (normalized.exponent() & 0xFFFF_FFFFL) - EXPONENT_BIAS - 129;
+      mantHi = normalized.mantHi();
+      mantLo = normalized.mantLo();
+    }
+
+    int index = 128 + (int)(((mantHi >>> 56) + 1) >>> 1);  // 128 * m, rounded
+    int exponentOfM = (int)EXPONENT_BIAS;
+    if (index > MAX_LOG_INDEX) {  // Make it m / 2
+      index = 64 + (int)(((mantHi >>> 57) + 1) >>> 1);
+      exponentOfM--;
+      e++;
+    }
+
+    final Quadruple f = LogConstants.F[index - MIN_LOG_INDEX];
+    final Quadruple m = new Quadruple(false, exponentOfM, mantHi, mantLo);
+    final Quadruple s = new Quadruple(m).subtract(f).multiply(2).divide(m.add(f)); // 2 * (m - F) / (m + F), m - F is exact
+    final Quadruple w = new Quadruple(s).multiply(s).divide(4);
+    // ln(m / F) = 2 * atanh(s/2) = s + s * w * (1/3 + w/5 + ... + w^7/17), where w = (s/2)^2
+    final Quadruple result = polynomial(w, LogConstants.COEFFICIENTS).multiply(w).multiply(s).add(s);
+    result.add(LogConstants.LN_F_LO[index - MIN_LOG_INDEX]).add(LogConstants.LN_F[index - MIN_LOG_INDEX]);
+
+    if (scaleHi != null) {
+      final Quadruple correction = new Quadruple(result).multiply(scaleLo);
+      result.multiply(scaleHi).add(correction);
+    }
+    if (e != 0) {
+      if (unitLo != null) {
+        result.add(new Quadruple(e).multiply(unitLo));
+      }
+      result.add(new Quadruple(e).multiply(unitHi));   // Exact product
+    }
+    return new ImmutableQuadruple(result);
+  }
+
+  /** Returns {@code c[0] + c[1] * x + ... + c[n - 1] * x^(n - 1)} in a new buffer */
+  static Quadruple polynomial(Quadruple x, Quadruple[] coefficients) {
+    final Quadruple result = new Quadruple(coefficients[coefficients.length - 1]);
+    for (int i = coefficients.length - 2; i >= 0; i--) {
+      result.multiply(x).add(coefficients[i]);
+    }
+    return result;
+  }
+
+  /** Checks if the value is a finite integer */
+  static boolean isInteger(ImmutableQuadruple x) {
+    if (x.isZero()) {
+      return true;
+    }
+    if (x.isInfinite() || x.isNaN()) {
+      return false;
+    }
+    final long exponent = (x.exponent() & 0xFFFF_FFFFL) - EXPONENT_BIAS;
+    if (exponent < 0) {
+      return false;
+    }
+    if (exponent >= 128) {
+      return true;
+    }
+    // The fractional bits are 128 - exponent lowest bits of the mantissa
+    final int fractionalBits = 128 - (int)exponent;
+    if (fractionalBits > 64) {
+      return x.mantLo() == 0 && (x.mantHi() << (exponent)) == 0;
+    }
+    return (x.mantLo() << (64 - fractionalBits)) == 0;
+  }
+
+  /** Checks if the value is an odd integer */
+  private static boolean isOddInteger(ImmutableQuadruple x) {
+    if (x.isZero() || !isInteger(x)) {
+      return false;
+    }
+    final long exponent = (x.exponent() & 0xFFFF_FFFFL) - EXPONENT_BIAS;
+    if (exponent == 0) {
+      return true;  // The implicit unity
+    }
+    if (exponent > 128) {
+      return false;
+    }
+    final int unitBit = 128 - (int)exponent; // The position of the units bit within the fractional part
+    return ((unitBit >= 64? x.mantHi() >>> (unitBit - 64) : x.mantLo() >>> unitBit) & 1) != 0;
+  }
+
+  static Quadruple quadrupleOf(ImmutableQuadruple x) {
+    return new Quadruple(x.isNegative(), x.exponent(), x.mantHi(), x.mantLo());
+  }
+
+  static Quadruple quadrupleOf(long[] words) {
+    return new Quadruple(words[0] < 0, (int)words[0], words[1], words[2]);
+  }
+
+  static Quadruple[] quadruplesOf(double[] values) {
+    final Quadruple[] result = new Quadruple[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = new Quadruple(values[i]);
+    }
+    return result;
+  }
+
+  static Quadruple[] quadruplesOf(long[][] words) {
+    final Quadruple[] result = new Quadruple[words.length];
+    for (int i = 0; i < words.length; i++) {
+      result[i] = quadrupleOf(words[i]);
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,387 @@
+package com.mvohm.quadruple;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * A dense matrix of {@code ImmutableQuadruple} values, held in an array of primitive words
+ * rather than as separate objects.<br>
+ * The product of matrices is computed by blocks of the result, in parallel on a {@link ForkJoinPool},
+ * with each element of the result accumulated from the exact products of the mantissas and rounded only once,
+ * so that the elements of the product are rounded correctly, unless the terms cancel each other out almost entirely,
+ * and no objects are created per element operation.<br>
+ * Instances are mutable with {@link #set(int, int, ImmutableQuadruple)} and not thread-safe,
+ * but the operations that don't modify the matrix can be performed concurrently.
+ */
+public final class QuadrupleMatrix {
+
+  /** The size of the square blocks of the result computed by a single task */
+  private static final int BLOCK_SIZE = 32;
+  /** The number of the terms of the dot products added up at once for a block,
+   * so that the parts of the rows of both factors fit in the cache */
+  private static final int INNER_BLOCK_SIZE = 128;
+  /** The least number of the products of elements, for which the operations run in parallel */
+  private static final long PARALLEL_THRESHOLD = 1 << 16;
+
+  private final int rows, columns;
+  /** The elements in the row-major order, see {@link PackedQuadruples} */
+  private final long[] words;
+
+  /**
+   * Creates a new matrix of the given size filled with zeros.
+   * @param rows the number of rows
+   * @param columns the number of columns
+   * @throws IllegalArgumentException if either dimension is negative, or the matrix is too large
+   */
+  public QuadrupleMatrix(int rows, int columns) {
+    if (rows < 0 || columns < 0) {
+      throw new IllegalArgumentException("The dimensions of a matrix can't be negative: " + rows + " x " + columns);
+    }
+    this.rows = rows;
+    this.columns = columns;
+    words = PackedQuadruples.newArray((long)rows * columns);
+  }
+
+  /** Creates a matrix that holds the given words, without copying them */
+  QuadrupleMatrix(int rows, int columns, long[] words) {
+    this.rows = rows;
+    this.columns = columns;
+    this.words = words;
+  }
+
+  /**
+   * Creates a new matrix with the given elements.
+   * @param elements the rows of the matrix, all of the same length
+   * @return a new matrix with the given elements
+   * @throws IllegalArgumentException if the rows have different lengths
+   */
+  public static QuadrupleMatrix of(ImmutableQuadruple[][] elements) {
+    final QuadrupleMatrix result = new QuadrupleMatrix(elements.length, (elements.length == 0)? 0 : elements[0].length);
+    for (int i = 0; i < result.rows; i++) {
+      result.checkRowLength(i, elements[i].length);
+      for (int j = 0; j < result.columns; j++) {
+        PackedQuadruples.set(result.words, i * result.columns + j, elements[i][j]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Creates a new matrix with the given {@code double} elements.
+   * @param elements the rows of the matrix, all of the same length
+   * @return a new matrix with the given elements
+   * @throws IllegalArgumentException if the rows have different lengths
+   */
+  public static QuadrupleMatrix of(double[][] elements) {
+    final QuadrupleMatrix result = new QuadrupleMatrix(elements.length, (elements.length == 0)? 0 : elements[0].length);
+    for (int i = 0; i < result.rows; i++) {
+      result.checkRowLength(i, elements[i].length);
+      for (int j = 0; j < result.columns; j++) {
+        PackedQuadruples.set(result.words, i * result.columns + j, new ImmutableQuadruple(elements[i][j]));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Creates a new identity matrix of the given size.
+   * @param size the number of rows and columns
+   * @return a new identity matrix
+   */
+  public static QuadrupleMatrix identity(int size) {
+    final QuadrupleMatrix result = new QuadrupleMatrix(size, size);
+    for (int i = 0; i < size; i++) {
+      PackedQuadruples.set(result.words, i * size + i, ImmutableQuadruple.ONE);
+    }
+    return result;
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  public int columns() {
+    return columns;
+  }
+
+  /**
+   * Returns the element with the given indices.
+   * @param row the index of the row
+   * @param column the index of the column
+   * @return the element with the given indices
+   * @throws IndexOutOfBoundsException if either index is out of the bounds of the matrix
+   */
+  public ImmutableQuadruple get(int row, int column) {
+    return PackedQuadruples.get(words, index(row, column));
+  }
+
+  /**
+   * Sets the element with the given indices.
+   * @param row the index of the row
+   * @param column the index of the column
+   * @param value the new value of the element
+   * @return this matrix
+   * @throws IndexOutOfBoundsException if either index is out of the bounds of the matrix
+   */
+  public QuadrupleMatrix set(int row, int column, ImmutableQuadruple value) {
+    PackedQuadruples.set(words, index(row, column), value);
+    return this;
+  }
+
+  /**
+   * Returns the elements of the matrix as an array of its rows.
+   * @return a new array of the rows of the matrix
+   */
+  public ImmutableQuadruple[][] toArray() {
+    final ImmutableQuadruple[][] result = new ImmutableQuadruple[rows][columns];
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < columns; j++) {
+        result[i][j] = PackedQuadruples.get(words, i * columns + j);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the transpose of this matrix.
+   * @return a new matrix, that is the transpose of this one
+   */
+  public QuadrupleMatrix transpose() {
+    final QuadrupleMatrix result = new QuadrupleMatrix(columns, rows);
+    for (int i0 = 0; i0 < rows; i0 += BLOCK_SIZE) {
+      for (int j0 = 0; j0 < columns; j0 += BLOCK_SIZE) {
+        final int iEnd = Math.min(i0 + BLOCK_SIZE, rows), jEnd = Math.min(j0 + BLOCK_SIZE, columns);
+        for (int i = i0; i < iEnd; i++) {
+          for (int j = j0; j < jEnd; j++) {
+            PackedQuadruples.copy(words, i * columns + j, result.words, j * rows + i);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the product of this matrix and the given one, computed in parallel on the common {@link ForkJoinPool}.
+   * @param other the right factor
+   * @return a new matrix, that is the product of this matrix and the given one
+   * @throws IllegalArgumentException if the number of rows of the given matrix differs from the number of columns of this one
+   * @see #multiply(QuadrupleMatrix, ForkJoinPool)
+   */
+  public QuadrupleMatrix multiply(QuadrupleMatrix other) {
+    return multiply(other, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Returns the product of this matrix and the given one, computed in parallel on the given {@link ForkJoinPool}.<br>
+   * Each element of the product is the dot product of a row of this matrix and a column of the other one,
+   * accumulated with the exact products of the elements and rounded once.
+   * @param other the right factor
+   * @param pool the pool to perform the computation
+   * @return a new matrix, that is the product of this matrix and the given one
+   * @throws IllegalArgumentException if the number of rows of the given matrix differs from the number of columns of this one
+   */
+  public QuadrupleMatrix multiply(QuadrupleMatrix other, ForkJoinPool pool) {
+    if (other.rows != columns) {
+      throw new IllegalArgumentException("Can't multiply a matrix " + rows + " x " + columns
+                                         + " by a matrix " + other.rows + " x " + other.columns);
+    }
+    final QuadrupleMatrix result = new QuadrupleMatrix(rows, other.columns);
+    final MultiplyTask task = new MultiplyTask(this, other.transpose(), result, 0, rows, 0, other.columns);
+    if ((long)rows * other.columns * columns < PARALLEL_THRESHOLD) {
+      task.compute();
+    } else {
+      pool.invoke(task);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the product of this matrix and the given column vector.
+   * Each element of the result is accumulated with the exact products of the elements and rounded once.
+   * @param vector the vector to multiply by
+   * @return a new array with the elements of the product
+   * @throws IllegalArgumentException if the length of the vector differs from the number of columns of the matrix
+   */
+  public ImmutableQuadruple[] multiply(ImmutableQuadruple[] vector) {
+    if (vector.length != columns) {
+      throw new IllegalArgumentException("Can't multiply a matrix " + rows + " x " + columns
+                                         + " by a vector of length " + vector.length);
+    }
+    final long[] vectorWords = PackedQuadruples.newArray(columns);
+    for (int j = 0; j < columns; j++) {
+      PackedQuadruples.set(vectorWords, j, vector[j]);
+    }
+    final ImmutableQuadruple[] result = new ImmutableQuadruple[rows];
+    indices(0, rows, (long)rows * columns).forEach(i ->
+      result[i] = new FusedMultiplyAccumulator().addProducts(words, i * columns, 1, vectorWords, 0, 1, columns).result());
+    return result;
+  }
+
+  /**
+   * Computes the LU decomposition of this matrix with partial pivoting.
+   * @return the LU decomposition of this matrix
+   * @throws IllegalArgumentException if the matrix is not square
+   * @see QuadrupleLU
+   */
+  public QuadrupleLU lu() {
+    return new QuadrupleLU(this);
+  }
+
+  /**
+   * Computes the Cholesky decomposition of this matrix, that must be symmetric and positive definite.
+   * Only the lower triangle of the matrix is used.
+   * @return the Cholesky decomposition of this matrix
+   * @throws IllegalArgumentException if the matrix is not square
+   * @throws ArithmeticException if the matrix is not positive definite
+   * @see QuadrupleCholesky
+   */
+  public QuadrupleCholesky cholesky() {
+    return new QuadrupleCholesky(this);
+  }
+
+  /**
+   * Solves the system of linear equations {@code A·x = b}, where {@code A} is this matrix, using its LU decomposition.
+   * @param b the right-hand side
+   * @return the solution
+   * @throws IllegalArgumentException if the matrix is not square or the length of {@code b} differs from its size
+   * @throws ArithmeticException if the matrix is singular
+   * @see QuadrupleLU#solve(ImmutableQuadruple[])
+   */
+  public ImmutableQuadruple[] solve(ImmutableQuadruple[] b) {
+    return lu().solve(b);
+  }
+
+  /**
+   * Computes the determinant of this matrix, using its LU decomposition.
+   * @return the determinant of this matrix
+   * @throws IllegalArgumentException if the matrix is not square
+   * @see QuadrupleLU#determinant()
+   */
+  public ImmutableQuadruple determinant() {
+    return lu().determinant();
+  }
+
+  /**
+   * Computes the inverse of this matrix, using its LU decomposition.
+   * @return a new matrix, that is the inverse of this one
+   * @throws IllegalArgumentException if the matrix is not square
+   * @throws ArithmeticException if the matrix is singular
+   * @see QuadrupleLU#inverse()
+   */
+  public QuadrupleMatrix inverse() {
+    return lu().inverse();
+  }
+
+  /**
+   * Indicates whether the given object is a {@code QuadrupleMatrix} of the same size with equal elements.
+   * The elements are compared as by {@link ImmutableQuadruple#equals(Object)}
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof QuadrupleMatrix)) return false;
+    final QuadrupleMatrix other = (QuadrupleMatrix)obj;
+    return rows == other.rows && columns == other.columns && Arrays.equals(words, other.words);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * rows + columns) + Arrays.hashCode(words);
+  }
+
+  @Override
+  public String toString() {
+    return "QuadrupleMatrix " + rows + " x " + columns + " " + Arrays.deepToString(toArray());
+  }
+
+  /** Returns the words holding the elements, without copying them */
+  long[] words() {
+    return words;
+  }
+
+  /** Returns a stream of the indices in the given range, that is parallel if the amount of work is large enough
+   * @param work the estimated number of the products of elements to compute */
+  static IntStream indices(int from, int to, long work) {
+    final IntStream result = IntStream.range(from, to);
+    return (work >= PARALLEL_THRESHOLD)? result.parallel() : result;
+  }
+
+  private int index(int row, int column) {
+    if (row < 0 || row >= rows || column < 0 || column >= columns) {
+      throw new IndexOutOfBoundsException("Index (" + row + ", " + column + ") is out of bounds for a matrix "
+                                          + rows + " x " + columns);
+    }
+    return row * columns + column;
+  }
+
+  private void checkRowLength(int row, int length) {
+    if (length != columns) {
+      throw new IllegalArgumentException("The rows have different lengths: row " + row + " has " + length
+                                         + " elements, while row 0 has " + columns);
+    }
+  }
+
+  /** Computes a rectangular part of the product of two matrices, splitting it into halves until it fits in a block */
+  private static final class MultiplyTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final QuadrupleMatrix left, transposedRight, result;
+    private final int rowFrom, rowTo, columnFrom, columnTo;
+
+    MultiplyTask(QuadrupleMatrix left, QuadrupleMatrix transposedRight, QuadrupleMatrix result,
+                 int rowFrom, int rowTo, int columnFrom, int columnTo) {
+      this.left = left;
+      this.transposedRight = transposedRight;
+      this.result = result;
+      this.rowFrom = rowFrom;
+      this.rowTo = rowTo;
+      this.columnFrom = columnFrom;
+      this.columnTo = columnTo;
+    }
+
+    @Override
+    protected void compute() {
+      final int height = rowTo - rowFrom, width = columnTo - columnFrom;
+      if (height > BLOCK_SIZE && height >= width) {
+        final int middle = rowFrom + (height / 2 + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+        invokeAll(new MultiplyTask(left, transposedRight, result, rowFrom, middle, columnFrom, columnTo),
+                  new MultiplyTask(left, transposedRight, result, middle, rowTo, columnFrom, columnTo));
+      } else if (width > BLOCK_SIZE) {
+        final int middle = columnFrom + (width / 2 + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+        invokeAll(new MultiplyTask(left, transposedRight, result, rowFrom, rowTo, columnFrom, middle),
+                  new MultiplyTask(left, transposedRight, result, rowFrom, rowTo, middle, columnTo));
+      } else {
+        computeBlock();
+      }
+    }
+
+    /** Computes a block that is not greater than {@code BLOCK_SIZE x BLOCK_SIZE} */
+    private void computeBlock() {
+      final int height = rowTo - rowFrom, width = columnTo - columnFrom, inner = left.columns;
+      final FusedMultiplyAccumulator[] accumulators = new FusedMultiplyAccumulator[height * width];
+      for (int k = 0; k < accumulators.length; k++) {
+        accumulators[k] = new FusedMultiplyAccumulator();
+      }
+      for (int k0 = 0; k0 < inner; k0 += INNER_BLOCK_SIZE) {
+        final int count = Math.min(INNER_BLOCK_SIZE, inner - k0);
+        for (int i = 0; i < height; i++) {
+          final int leftIndex = (rowFrom + i) * inner + k0;
+          for (int j = 0; j < width; j++) {
+            accumulators[i * width + j].addProducts(left.words, leftIndex, 1,
+                                                    transposedRight.words, (columnFrom + j) * inner + k0, 1, count);
+          }
+        }
+      }
+      for (int i = 0; i < height; i++) {
+        for (int j = 0; j < width; j++) {
+          accumulators[i * width + j].store(result.words, (rowFrom + i) * result.columns + columnFrom + j);
+        }
+      }
+    }
+  }
+
+}
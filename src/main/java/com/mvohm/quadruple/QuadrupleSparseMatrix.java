@@ -0,0 +1,324 @@
+package com.mvohm.quadruple;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A sparse matrix of {@code ImmutableQuadruple} values in the compressed sparse row (CSR) format,
+ * with the non-zero elements held in an array of primitive words rather than as separate objects.<br>
+ * The non-zero elements of the row {@code i} are those with indices from {@code rowStarts[i]}
+ * to {@code rowStarts[i + 1] - 1} in the arrays of the column indices and of the values,
+ * the column indices within each row strictly increasing.<br>
+ * The product of the matrix and a vector is computed in parallel for large matrices.
+ * The rows are split into parts with about equal numbers of non-zero elements, so that the threads
+ * get about equal amounts of work even if the numbers of non-zero elements of the rows differ greatly.
+ * Each element of the product is accumulated from the exact products of the mantissas and rounded only once,
+ * and no objects are created per element operation.<br>
+ * Instances are immutable and can be used concurrently.
+ */
+public final class QuadrupleSparseMatrix {
+
+  /** The least number of non-zero elements, for which the product is computed in parallel */
+  private static final long PARALLEL_THRESHOLD = 1 << 16;
+  /** The number of the parts of the rows per thread of the common pool, so that a thread that finishes
+   * its part early can take another one */
+  private static final int PARTS_PER_THREAD = 4;
+
+  private final int rows, columns;
+  private final int[] rowStarts;
+  private final int[] columnIndices;
+  /** The non-zero elements in the row-major order, see {@link PackedQuadruples} */
+  private final long[] values;
+  /** The indices of the first rows of the parts, for which the product is computed in parallel,
+   * followed by the number of rows */
+  private final int[] partStarts;
+
+  /**
+   * Creates a new sparse matrix with the given structure and non-zero elements.
+   * The arrays get copied, so that their later modifications don't affect the matrix.
+   * @param rows the number of rows
+   * @param columns the number of columns
+   * @param rowStarts the indices of the first non-zero elements of the rows in {@code columnIndices} and {@code values},
+   * followed by the number of non-zero elements, {@code rows + 1} indices in all
+   * @param columnIndices the column indices of the non-zero elements, strictly increasing within each row
+   * @param values the non-zero elements
+   * @throws IllegalArgumentException if the arrays don't describe a valid matrix of the given size
+   */
+  public QuadrupleSparseMatrix(int rows, int columns, int[] rowStarts, int[] columnIndices, ImmutableQuadruple[] values) {
+    this(rows, columns, rowStarts, columnIndices, packedValues(values));
+  }
+
+  /**
+   * Creates a new sparse matrix with the given structure and {@code double} non-zero elements.
+   * The arrays get copied, so that their later modifications don't affect the matrix.
+   * @param rows the number of rows
+   * @param columns the number of columns
+   * @param rowStarts the indices of the first non-zero elements of the rows in {@code columnIndices} and {@code values},
+   * followed by the number of non-zero elements, {@code rows + 1} indices in all
+   * @param columnIndices the column indices of the non-zero elements, strictly increasing within each row
+   * @param values the non-zero elements
+   * @throws IllegalArgumentException if the arrays don't describe a valid matrix of the given size
+   */
+  public QuadrupleSparseMatrix(int rows, int columns, int[] rowStarts, int[] columnIndices, double[] values) {
+    this(rows, columns, rowStarts, columnIndices, packedValues(values));
+  }
+
+  private QuadrupleSparseMatrix(int rows, int columns, int[] rowStarts, int[] columnIndices, long[] values) {
+    if (rows < 0 || columns < 0) {
+      throw new IllegalArgumentException("The dimensions of a matrix can't be negative: " + rows + " x " + columns);
+    }
+    if (rowStarts.length != rows + 1) {
+      throw new IllegalArgumentException("The length of rowStarts, " + rowStarts.length
+                                         + ", differs from the number of rows plus one, " + (rows + 1));
+    }
+    final int nonZeros = columnIndices.length;
+    if (values.length != nonZeros * PackedQuadruples.WORDS) {
+      throw new IllegalArgumentException("The number of values, " + values.length / PackedQuadruples.WORDS
+                                         + ", differs from the number of column indices, " + nonZeros);
+    }
+    if (rowStarts[0] != 0 || rowStarts[rows] != nonZeros) {
+      throw new IllegalArgumentException("rowStarts must start with 0 and end with the number of non-zero elements, "
+                                         + nonZeros);
+    }
+    for (int i = 0; i < rows; i++) {
+      if (rowStarts[i + 1] < rowStarts[i]) {
+        throw new IllegalArgumentException("rowStarts is decreasing at index " + i);
+      }
+    }
+    for (int i = 0; i < rows; i++) {
+      for (int k = rowStarts[i]; k < rowStarts[i + 1]; k++) {
+        if (columnIndices[k] < 0 || columnIndices[k] >= columns
+            || (k > rowStarts[i] && columnIndices[k] <= columnIndices[k - 1])) {
+          throw new IllegalArgumentException("The column indices of row " + i
+                                             + " are out of bounds or not strictly increasing");
+        }
+      }
+    }
+    this.rows = rows;
+    this.columns = columns;
+    this.rowStarts = rowStarts.clone();
+    this.columnIndices = columnIndices.clone();
+    this.values = values;
+    partStarts = partition();
+  }
+
+  /**
+   * Creates a new sparse matrix with the non-zero elements of the given dense matrix.
+   * @param matrix the dense matrix
+   * @return a new sparse matrix with the same elements
+   */
+  public static QuadrupleSparseMatrix of(QuadrupleMatrix matrix) {
+    final int rows = matrix.rows(), columns = matrix.columns();
+    final long[] words = matrix.words();
+    final int[] rowStarts = new int[rows + 1];
+    for (int i = 0; i < rows; i++) {
+      rowStarts[i + 1] = rowStarts[i];
+      for (int j = 0; j < columns; j++) {
+        if (!PackedQuadruples.isZero(words, i * columns + j)) {
+          rowStarts[i + 1]++;
+        }
+      }
+    }
+    final int[] columnIndices = new int[rowStarts[rows]];
+    final long[] values = PackedQuadruples.newArray(rowStarts[rows]);
+    for (int i = 0, k = 0; i < rows; i++) {
+      for (int j = 0; j < columns; j++) {
+        if (!PackedQuadruples.isZero(words, i * columns + j)) {
+          columnIndices[k] = j;
+          PackedQuadruples.copy(words, i * columns + j, values, k++);
+        }
+      }
+    }
+    return new QuadrupleSparseMatrix(rows, columns, rowStarts, columnIndices, values);
+  }
+
+  public int rows() {
+    return rows;
+  }
+
+  public int columns() {
+    return columns;
+  }
+
+  /**
+   * Returns the number of the stored elements, i.e. the number of the elements that may be non-zero.
+   * @return the number of the stored elements
+   */
+  public int nonZeros() {
+    return columnIndices.length;
+  }
+
+  /**
+   * Returns the element with the given indices.
+   * @param row the index of the row
+   * @param column the index of the column
+   * @return the element with the given indices, {@code ZERO} if it is not stored
+   * @throws IndexOutOfBoundsException if either index is out of the bounds of the matrix
+   */
+  public ImmutableQuadruple get(int row, int column) {
+    if (row < 0 || row >= rows || column < 0 || column >= columns) {
+      throw new IndexOutOfBoundsException("Index (" + row + ", " + column + ") is out of bounds for a matrix "
+                                          + rows + " x " + columns);
+    }
+    final int k = Arrays.binarySearch(columnIndices, rowStarts[row], rowStarts[row + 1], column);
+    return (k < 0)? ImmutableQuadruple.ZERO : PackedQuadruples.get(values, k);
+  }
+
+  /**
+   * Returns a new dense matrix with the same elements as this one.
+   * @return a new dense matrix with the same elements
+   */
+  public QuadrupleMatrix toDense() {
+    final long[] words = PackedQuadruples.newArray((long)rows * columns);
+    for (int i = 0; i < rows; i++) {
+      for (int k = rowStarts[i]; k < rowStarts[i + 1]; k++) {
+        PackedQuadruples.copy(values, k, words, i * columns + columnIndices[k]);
+      }
+    }
+    return new QuadrupleMatrix(rows, columns, words);
+  }
+
+  /**
+   * Computes the product of this matrix and the given vector, {@code y = A·x}.
+   * The computation runs in parallel on the common {@link ForkJoinPool} for large matrices.
+   * @param vector the vector to multiply this matrix by
+   * @return a new array containing the product
+   * @throws IllegalArgumentException if the length of the vector differs from the number of columns of this matrix
+   */
+  public ImmutableQuadruple[] multiply(ImmutableQuadruple[] vector) {
+    final long[] product = PackedQuadruples.newArray(rows);
+    multiply(packedVector(vector), product, false);
+    final ImmutableQuadruple[] result = new ImmutableQuadruple[rows];
+    for (int i = 0; i < rows; i++) {
+      result[i] = PackedQuadruples.get(product, i);
+    }
+    return result;
+  }
+
+  /**
+   * Adds the product of this matrix and the vector {@code x} to the vector {@code y} in place, {@code y += A·x}.
+   * Each element of {@code y} is replaced with the exact sum of its value and the corresponding dot product,
+   * rounded once. The computation runs in parallel on the common {@link ForkJoinPool} for large matrices.
+   * @param x the vector to multiply this matrix by
+   * @param y the vector to add the product to
+   * @return {@code y}
+   * @throws IllegalArgumentException if the length of {@code x} differs from the number of columns of this matrix,
+   * or the length of {@code y} differs from the number of its rows
+   */
+  public ImmutableQuadruple[] multiplyAdd(ImmutableQuadruple[] x, ImmutableQuadruple[] y) {
+    checkLength(y.length, rows, "rows");
+    final long[] sum = packedValues(y);
+    multiply(packedVector(x), sum, true);
+    for (int i = 0; i < rows; i++) {
+      y[i] = PackedQuadruples.get(sum, i);
+    }
+    return y;
+  }
+
+  /**
+   * Computes the product of this matrix and the given vector, {@code y = A·x}.
+   * The computation runs in parallel on the common {@link ForkJoinPool} for large matrices.
+   * @param vector the vector to multiply this matrix by
+   * @return a new vector containing the product
+   * @throws IllegalArgumentException if the length of the vector differs from the number of columns of this matrix
+   */
+  public QuadrupleVector multiply(QuadrupleVector vector) {
+    checkLength(vector.length(), columns, "columns");
+    final QuadrupleVector result = new QuadrupleVector(rows);
+    multiply(vector.words(), result.words(), false);
+    return result;
+  }
+
+  /**
+   * Adds the product of this matrix and the vector {@code x} to the vector {@code y} in place, {@code y += A·x},
+   * like {@link #multiplyAdd(ImmutableQuadruple[], ImmutableQuadruple[])}, without creating objects for the elements.
+   * @param x the vector to multiply this matrix by
+   * @param y the vector to add the product to, must be distinct from {@code x}
+   * @return {@code y}
+   * @throws IllegalArgumentException if the length of {@code x} differs from the number of columns of this matrix,
+   * or the length of {@code y} differs from the number of its rows, or if {@code x} and {@code y} are the same vector
+   */
+  public QuadrupleVector multiplyAdd(QuadrupleVector x, QuadrupleVector y) {
+    checkLength(x.length(), columns, "columns");
+    checkLength(y.length(), rows, "rows");
+    if (x == y) {
+      throw new IllegalArgumentException("Can't add the product to the vector it is computed from");
+    }
+    multiply(x.words(), y.words(), true);
+    return y;
+  }
+
+  @Override
+  public String toString() {
+    return "QuadrupleSparseMatrix " + rows + " x " + columns + " with " + nonZeros() + " non-zero elements";
+  }
+
+  /** Computes {@code A·x} or {@code y + A·x} over packed vectors and puts the result to {@code y} */
+  void multiply(long[] x, long[] y, boolean add) {
+    QuadrupleMatrix.indices(0, partStarts.length - 1, columnIndices.length).forEach(part -> {
+      final FusedMultiplyAccumulator accumulator = new FusedMultiplyAccumulator();
+      for (int i = partStarts[part]; i < partStarts[part + 1]; i++) {
+        accumulator.reset();
+        if (add) {
+          accumulator.add(y, i);
+        }
+        for (int k = rowStarts[i]; k < rowStarts[i + 1]; k++) {
+          accumulator.addProduct(values, k, x, columnIndices[k]);
+        }
+        accumulator.store(y, i);
+      }
+    });
+  }
+
+  /** Splits the rows into parts with about equal numbers of non-zero elements, for the parallel computation
+   * @return the indices of the first rows of the parts, followed by the number of rows */
+  private int[] partition() {
+    final int nonZeros = columnIndices.length;
+    final int parts = (nonZeros < PARALLEL_THRESHOLD)? 1 :
+      (int)Math.min(rows, (long)ForkJoinPool.getCommonPoolParallelism() * PARTS_PER_THREAD);
+    if (parts <= 1) {
+      return new int[] { 0, rows };
+    }
+    final int[] result = new int[parts + 1];
+    for (int p = 1; p < parts; p++) {
+      // The first row that starts at or after the p-th share of the non-zero elements
+      final int target = (int)((long)nonZeros * p / parts);
+      int row = Arrays.binarySearch(rowStarts, result[p - 1], rows, target);
+      if (row < 0) {
+        row = -row - 1;
+      }
+      result[p] = Math.max(row, result[p - 1]);
+    }
+    result[parts] = rows;
+    return result;
+  }
+
+  private long[] packedVector(ImmutableQuadruple[] vector) {
+    checkLength(vector.length, columns, "columns");
+    return packedValues(vector);
+  }
+
+  private static void checkLength(int length, int expected, String dimension) {
+    if (length != expected) {
+      throw new IllegalArgumentException("The length of the vector, " + length
+                                         + ", differs from the number of " + dimension + " of the matrix, " + expected);
+    }
+  }
+
+  private static long[] packedValues(ImmutableQuadruple[] values) {
+    final long[] result = PackedQuadruples.newArray(values.length);
+    for (int i = 0; i < values.length; i++) {
+      PackedQuadruples.set(result, i, values[i]);
+    }
+    return result;
+  }
+
+  private static long[] packedValues(double[] values) {
+    final long[] result = PackedQuadruples.newArray(values.length);
+    for (int i = 0; i < values.length; i++) {
+      PackedQuadruples.set(result, i, new ImmutableQuadruple(values[i]));
+    }
+    return result;
+  }
+
+}
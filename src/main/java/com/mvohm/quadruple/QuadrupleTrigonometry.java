@@ -0,0 +1,724 @@
+package com.mvohm.quadruple;
+
+import static com.mvohm.quadruple.ImmutableQuadruple.*;
+import static com.mvohm.quadruple.QuadrupleMath.polynomial;
+import static com.mvohm.quadruple.QuadrupleMath.quadrupleOf;
+import static com.mvohm.quadruple.QuadrupleMath.quadruplesOf;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * Implementations of the trigonometric and inverse trigonometric functions for {@link ImmutableQuadruple} values.<br>
+ * The arguments of the trigonometric functions are reduced modulo {@code pi/2} with the Payne-Hanek method:
+ * the mantissa of the argument is multiplied, as an integer, by a 512-bit window of the bits of {@code 2/pi}
+ * taken at the position determined by the exponent of the argument,
+ * so that the reduced argument is found with full precision for arguments of any magnitude.
+ * A stored table holds the bits of {@code 2/pi} needed for arguments less than {@code 2^16384} (about {@code 1.19e4932},
+ * the range of IEEE 754 binary128 values). The bits needed for greater arguments are computed with {@code BigInteger}
+ * arithmetic when such an argument gets reduced for the first time, and kept for later use. It takes time and memory
+ * growing with the exponent of the argument: a fraction of a second for arguments about {@code 2^30000},
+ * seconds for arguments about {@code 2^1000000}, hours and gigabytes for the greatest reducible arguments.
+ * The computation doesn't block the reduction of arguments whose bits are already known.
+ * The arguments not less than {@code 2^(MAX_REDUCIBLE_EXPONENT + 1)} (about {@code 10^(1.62e8)}) can't be reduced,
+ * since the computation would need integers exceeding the range of {@code BigInteger},
+ * the result of a trigonometric function of such an argument is NaN.<br>
+ * The reduced argument and the arguments of the inverse functions are further reduced with tables of the values
+ * of the functions at multiples of {@code 1/32}, like in {@link QuadrupleMath}.<br>
+ * The error bounds of the functions are given in units in the last place of the result (ulp), as in {@link QuadrupleMath}.
+ */
+final class QuadrupleTrigonometry {
+
+  private static final long EXPONENT_BIAS = Quadruple.EXPONENT_BIAS;
+
+  /**
+   * The greatest unbiased exponent of an argument that can be reduced.
+   * Computing the {@code n = MAX_REDUCIBLE_EXPONENT + 512} bits of {@code 2/pi} it needs takes {@code N = n / 47.11} terms
+   * of the Chudnovsky series, whose binary splitting yields integers of about {@code N * (3 * log2(N) + 49)} bits,
+   * that is {@code 2.53 * n}, or {@code 1.36e9} bits. That is well within {@code 2^31} bits, the range of {@code BigInteger},
+   * while twice the exponent would exceed it
+   */
+  static final int MAX_REDUCIBLE_EXPONENT = (1 << 29) - 1024;
+  /** The number of 32-bit words of {@code 2/pi} the mantissa of an argument gets multiplied by */
+  private static final int WINDOW_WORDS = 16;
+  private static final long WORD_MASK = 0xFFFF_FFFFL;
+  /** The number of the extra bits of {@code 2/pi} computed to make sure the errors of the computation don't affect the bits used */
+  private static final int GUARD_BITS = 64;
+  /** The number of bits each term of the Chudnovsky series adds to the precision of the sum, {@code log2(151931373056000)} */
+  private static final double BITS_PER_CHUDNOVSKY_TERM = 47.11;
+  /** {@code 640320^3 / 24}, the factor of the denominators of the terms of the Chudnovsky series */
+  private static final BigInteger CHUDNOVSKY_DENOMINATOR_FACTOR = BigInteger.valueOf(10939058860032000L);
+
+  /**
+   * The bits of the fractional part of {@code 2/pi}, 32 bits per word, the most significant first.
+   * Holds the bits needed for arguments less than {@code 2^16384}, that is 16383 + 512 bits and a little more.
+   */
+  private static final int[] TWO_OVER_PI = {
+    0xA2F9_836E, 0x4E44_1529, 0xFC27_57D1, 0xF534_DDC0, 0xDB62_9599, 0x3C43_9041, 0xFE51_63AB, 0xDEBB_C561,
+    0xB724_6E3A, 0x424D_D2E0, 0x0649_2EEA, 0x09D1_921C, 0xFE1D_EB1C, 0xB129_A73E, 0xE882_35F5, 0x2EBB_4484,
+    0xE99C_7026, 0xB45F_7E41, 0x3991_D639, 0x8353_39F4, 0x9C84_5F8B, 0xBDF9_283B, 0x1FF8_97FF, 0xDE05_980F,
+    0xEF2F_118B, 0x5A0A_6D1F, 0x6D36_7ECF, 0x27CB_09B7, 0x4F46_3F66, 0x9E5F_EA2D, 0x7527_BAC7, 0xEBE5_F17B,
+    0x3D07_39F7, 0x8A52_92EA, 0x6BFB_5FB1, 0x1F8D_5D08, 0x5603_3046, 0xFC7B_6BAB, 0xF0CF_BC20, 0x9AF4_361D,
+    0xA9E3_9161, 0x5EE6_1B08, 0x6599_855F, 0x14A0_6840, 0x8DFF_D880, 0x4D73_2731, 0x0606_1556, 0xCA73_A8C9,
+    0x60E2_7BC0, 0x8C6B_47C4, 0x19C3_67CD, 0xDCE8_092A, 0x8359_C476, 0x8B96_1CA6, 0xDDAF_44D1, 0x5719_053E,
+    0xA5FF_0705, 0x3F7E_33E8, 0x32C2_DE4F, 0x9832_7DBB, 0xC33D_26EF, 0x6B1E_5EF8, 0x9F3A_1F35, 0xCAF2_7F1D,
+    0x87F1_2190, 0x7C7C_246A, 0xFA6E_D577, 0x2D30_433B, 0x15C6_14B5, 0x9D19_C3C2, 0xC4AD_414D, 0x2C5D_000C,
+    0x467D_862D, 0x71E3_9AC6, 0x9B00_6233, 0x7CD2_B497, 0xA7B4_D555, 0x37F6_3ED7, 0x1810_A3FC, 0x764D_2A9D,
+    0x64AB_D770, 0xF87C_6357, 0xB07A_E715, 0x1756_49C0, 0xD9D6_3B38, 0x84A7_CB23, 0x2477_8AD6, 0x2354_5AB9,
+    0x1F00_1B0A, 0xF1DF_CE19, 0xFF31_9F6A, 0x1E66_6157, 0x9947_FBAC, 0xD87F_7EB7, 0x6522_89E8, 0x3260_BFE6,
+    0xCDC4_EF09, 0x366C_D43F, 0x5DD7_DE16, 0xDE3B_5892, 0x9BDE_2822, 0xD2E8_8628, 0x4D58_E232, 0xCAC6_16E3,
+    0x08CB_7DE0, 0x50C0_17A7, 0x1DF3_5BE0, 0x1834_132E, 0x6212_8301, 0x4883_5B8E, 0xF57F_B0AD, 0xF2E9_1E43,
+    0x4A48_D367, 0x10D8_DDAA, 0x425F_AECE, 0x616A_A428, 0x0AB4_99D3, 0xF2A6_067F, 0x775C_83C2, 0xA388_3C61,
+    0x7873_8A5A, 0x8CAF_BDD7, 0x6F63_A62D, 0xCBBF_F4EF, 0x818D_67C1, 0x2645_CA55, 0x36D9_CAD2, 0xA828_8D61,
+    0xC277_C912, 0x1426_049B, 0x4612_C459, 0xC444_C5C8, 0x91B2_4DF3, 0x1700_AD43, 0xD4E5_4929, 0x10D5_FDFC,
+    0xBE00_CC94, 0x1EEE_CE70, 0xF53E_1380, 0xF1EC_C3E7, 0xB328_F8C7, 0x9405_933E, 0x71C1_B309, 0x2EF3_450B,
+    0x9C12_887B, 0x20AB_9FB5, 0x2EC2_9247, 0x2F32_7B6D, 0x550C_90A7, 0x721F_E76B, 0x96CB_314A, 0x1679_E279,
+    0x4189_DFF4, 0x9794_E884, 0xE6E2_9731, 0x996B_ED88, 0x365F_5F0E, 0xFDBB_B49A, 0x486C_A467, 0x4272_7132,
+    0x5D8D_B815, 0x9F09_E5BC, 0x2531_8D39, 0x74F7_1C05, 0x3001_0C0D, 0x6808_4B58, 0xEE2C_90AA, 0x4702_E774,
+    0x24D6_BDA6, 0x7DF7_7248, 0x6EEF_169F, 0xA694_8EF6, 0x91B4_5153, 0xD1F2_0ACF, 0x3398_207E, 0x4BF5_6863,
+    0xB25F_3EDD, 0x035D_407F, 0x8985_2952, 0x55C0_6437, 0x10D8_6D32, 0x4832_754C, 0x5BD4_714E, 0x6E54_45C1,
+    0x090B_69F5, 0x2AD5_6614, 0x9D07_2750, 0x045D_DB3B, 0xB4C5_76EA, 0x17F9_877D, 0x6B49_BA27, 0x1D29_6996,
+    0xACCC_C654, 0x14AD_6AE2, 0x9089_D988, 0x5072_2CBE, 0xA404_9407, 0x7770_30F3, 0x27FC_00A8, 0x71EA_49C2,
+    0x663D_E064, 0x83DD_9797, 0x3FA3_FD94, 0x438C_860D, 0xDE41_319D, 0x3992_8C70, 0xDDE7_B717, 0x3BDF_082B,
+    0x3715_A080, 0x5C93_805A, 0x9211_10D8, 0xE80F_AF80, 0x6C4B_FFDB, 0x0F90_3876, 0x1859_15A5, 0x62BB_CB61,
+    0xB989_C7BD, 0x4010_04F2, 0xD227_7549, 0xF6B6_EBBB, 0x22DB_AA14, 0x0A2F_2689, 0x7683_6433, 0x3B09_1A94,
+    0x0EAA_3A51, 0xC2A3_1DAE, 0xEDAF_1226, 0x5C4D_C26D, 0x9C7A_2D97, 0x56C0_833F, 0x03F6_F009, 0x8C40_2B99,
+    0x316D_07B4, 0x3915_200C, 0x5BC3_D8C4, 0x92F5_4BAD, 0xC6A5_CA4E, 0xCD37_A736, 0xA9E6_9492, 0xAB68_42DD,
+    0xDE63_19EF, 0x8C76_528B, 0x6837_DBFC, 0xABA1_AE31, 0x15DF_A1AE, 0x00DA_FB0C, 0x664D_64B7, 0x05ED_3065,
+    0x29BF_5657, 0x3AFF_47B9, 0xF96A_F3BE, 0x75DF_9328, 0x3080_ABF6, 0x8C66_15CB, 0x0406_22FA, 0x1DE4_D9A4,
+    0xB33D_8F1B, 0x5709_CD36, 0xE942_4EA4, 0xBE13_B523, 0x331A_AAF0, 0xA865_4FA5, 0xC1D2_0F3F, 0x0BCD_785B,
+    0x76F9_2304, 0x8B7B_7217, 0x8953_A6C6, 0xE26E_6F00, 0xEBEF_584A, 0x9BB7_DAC4, 0xBA66_AACF, 0xCF76_1D02,
+    0xD12D_F1B1, 0xC199_8C77, 0xADC3_DA48, 0x86A0_5DF7, 0xF480_C62F, 0xF0AC_9AEC, 0xDDBC_5C3F, 0x6DDE_D01F,
+    0xC790_B6DB, 0x2A3A_25A3, 0x9AAF_0093, 0x53AD_0457, 0xB6B4_2D29, 0x7E80_4BA7, 0x07DA_0EAA, 0x76A1_597B,
+    0x2A12_162D, 0xB7DC_FDE5, 0xFAFE_DB89, 0xFDBE_896C, 0x76E4_FCA9, 0x0670_803E, 0x156E_85FF, 0x87FD_073E,
+    0x2833_6761, 0x8618_2AEA, 0xBD4D_AFE7, 0xB36E_6D8F, 0x3967_955B, 0xBF31_48D7, 0x8416_DF30, 0x432D_C735,
+    0x6125_CE70, 0xC9B8_CB30, 0xFD6C_BFA2, 0x00A4_E46C, 0x05A0_DD5A, 0x476F_21D2, 0x1262_845C, 0xB949_6170,
+    0xE056_6B01, 0x5299_3755, 0x50B7_D51E, 0xC4F1_335F, 0x6E13_E430, 0x5DA9_2E85, 0xC3B2_1D36, 0x32A1_A4B7,
+    0x08D4_B1EA, 0x21F7_16E4, 0x698F_77FF, 0x2780_030C, 0x2D40_8DA0, 0xCD4F_99A5, 0x20D3_A2B3, 0x0A5D_2F42,
+    0xF9B4_CBDA, 0x11D0_BE7D, 0xC1DB_9BBD, 0x17AB_81A2, 0xCA5C_6A08, 0x1755_2E55, 0x0027_F014, 0x7F86_07E1,
+    0x640B_148D, 0x4196_DEBE, 0x872A_FDDA, 0xB625_6B34, 0x897B_FEF3, 0x059E_BFB9, 0x4F6A_68A8, 0x2A4A_5AC4,
+    0x4FBC_F82D, 0x985A_D795, 0xC7F4_8D4D, 0x0DA6_3A20, 0x5F57_A4B1, 0x3F14_9538, 0x8001_20CC, 0x86DD_71B6,
+    0xDEC9_F560, 0xBF11_654D, 0x6B07_01AC, 0xB08C_D0C0, 0xB248_5551, 0x0EFB_1EC3, 0x7295_3B06, 0xA335_40C0,
+    0x7BDC_06CC, 0x45E0_FA29, 0x4EC8_CAD6, 0x41F3_E8DE, 0x647C_D864, 0x9B31_BED9, 0xC397_A4D4, 0x5877_C5E3,
+    0x6913_DAF0, 0x3C3A_BA46, 0x1846_5F75, 0x55F5_BDD2, 0xC692_6E5D, 0x2EAC_ED44, 0x0E42_3E1C, 0x87C4_61E9,
+    0xFD29_F3D6, 0xE7CA_7C22, 0x3591_6FC5, 0xE008_8DD7, 0xFFE2_6A6E, 0xC6FD_B0C1, 0x0893_745D, 0x7CB2_AD6B,
+    0x9D6E_CD7B, 0x723E_6A11, 0xC6A9_CFF7, 0xDF73_29BA, 0xC9B5_5100, 0xB70D_B2E2, 0x24BA_7460, 0x7DE5_8AD8,
+    0x742C_150D, 0x0C18_8194, 0x667E_1629, 0x0176_7A9F, 0xBEFD_FDEF, 0x4556_367E, 0xD913_D9EC, 0xB9BA_8BFC,
+    0x97C4_27A8, 0x31C3_6EF1, 0x36C5_9456, 0xA8D8_B5A8, 0xB40E_CCCF, 0x2D89_1234, 0x576F_8956, 0x2CE3_CE99,
+    0xB920_D6AA, 0x5E6B_9C2A, 0x3ECC_5F11, 0x4A0B_FDFB, 0xF4E1_6D3B, 0x8E2C_86E2, 0x84D4_E9A9, 0xB4FC_D1EE,
+    0xEFC9_352E, 0x6139_2F44, 0x2138_C8D9, 0x1B0A_FC81, 0x6A4A_FBD8, 0x1C2F_84B4, 0x538C_994E, 0xCC22_54DC,
+    0x552A_D6C6, 0xC096_190B, 0xB870_1A64, 0x9569_605A, 0x26EE_523F, 0x0F11_7F11, 0xB5F4_F5CB, 0xFC2D_BC34,
+    0xEEBC_34CC, 0x5DE8_605E, 0xDD9B_8E67, 0xEF33_92B8, 0x17C9_9B58, 0x61BC_57E1, 0xC683_5110, 0x3ED8_4871,
+    0xDDDD_1C2D, 0xA118_AF46, 0x2C21_D7F3, 0x5998_7AD9, 0xC054_9EFA, 0x864F_FC06, 0x56AE_79E5, 0x3622_8922,
+    0xAD38_DC93, 0x67AA_E855, 0x3826_829B, 0xE7CA_A40D, 0x51B1_3399, 0x0ED7_A948, 0x0569_F0B2, 0x65A7_887F,
+    0x974C_8836, 0xD1F9_B392, 0x214A_827B, 0x21CF_98DC, 0x9F40_5547, 0xDC3A_74E1, 0x42EB_67DF, 0x9DFE_5FD4,
+    0x5EA4_677B, 0x7AAC_BAA2, 0xF655_2388, 0x2B55_BA41, 0x086E_5986, 0x2A21_8347, 0x39E6_E389, 0xD49E_E540,
+    0xFB49_E956, 0xFFCA_0F1C, 0x8A59_C52B, 0xFA94_C5C1, 0xD3CF_C50F, 0xAE5A_DB86, 0xC547_6243, 0x853B_8621,
+    0x9479_2C87, 0x6110_7B4C, 0x2A1A_2C80, 0x12BF_4390, 0x2688_893C, 0x78E4_C4A8, 0x7BDB_E5C2, 0x3AC4_EAF4,
+    0x268A_67F7, 0xBF92_0D2B, 0xA365_B193, 0x3D0B_7CBD, 0xDC51_A463, 0xDD27_DDE1, 0x6919_949A, 0x9529_A828,
+    0xCE68_B4ED, 0x0920_9F44, 0xCA98_4E63, 0x8270_237C, 0x7E32_B90F, 0x8EF5_A7E7, 0x5614_08F1, 0x212A_9DB5,
+    0x4D7E_6F51, 0x19A5_ABF9, 0xB5D6_DF82, 0x61DD_9602, 0x3616_9F3A, 0xC4A1_A283, 0x6DED_727A, 0x8D39_A9B8,
+    0x825C_326B, 0x5B27_46ED, 0x3400_7700, 0xD255_F4FC, 0x4D59_0180, 0x71E0_E13F, 0x89B2_95F3, 0x64A8_F1AE,
+    0xA74B_38FC, 0x4CEA_B2BB, 0x4727_0BAB, 0xC3A7_34BA, 0x6052_DD34, 0xF856_3AEB, 0x7E8A_31BB, 0x3658_95B7,
+  };
+
+  /**
+   * The bits of the fractional part of {@code 2/pi} known so far, like in {@link #TWO_OVER_PI}.
+   * Replaced with a longer array when an argument that needs more bits gets reduced, and read without locking
+   */
+  private static volatile int[] twoOverPi = TWO_OVER_PI;
+  /** Guards the replacement of {@link #twoOverPi}, but not the computation of the new bits */
+  private static final Object TWO_OVER_PI_LOCK = new Object();
+
+  /** {@code pi/2} as a 192-bit integer, {@code floor(pi/2 * 2^191)}, 32 bits per word, the least significant first */
+  private static final long[] HALF_PI_BITS = {
+    0x8A67_CC74L, 0x2902_4E08L, 0x80DC_1CD1L, 0xC4C6_628BL, 0x2168_C234L, 0xC90F_DAA2L
+  };
+
+  private QuadrupleTrigonometry() {}
+
+  /**
+   * Constants and tables used by the trigonometric functions.
+   * The layout of the arrays is the same as in the tables of {@link QuadrupleMath}.
+   */
+  private static final class Constants {
+
+    /** {@code pi}, the same value as {@link ImmutableQuadruple#PI} */
+    static final Quadruple PI = quadrupleOf(new long[] { 0x0000_0000_8000_0000L, 0x921F_B544_42D1_8469L, 0x898C_C517_01B8_39A2L });
+    /** {@code pi - PI} */
+    static final Quadruple PI_LO = new Quadruple(1.883041077660785e-39);
+    /** {@code pi/2} */
+    static final Quadruple HALF_PI = quadrupleOf(new long[] { 0x0000_0000_7FFF_FFFFL, 0x921F_B544_42D1_8469L, 0x898C_C517_01B8_39A2L });
+    /** {@code pi/2 - HALF_PI} */
+    static final Quadruple HALF_PI_LO = new Quadruple(9.415205388303925e-40);
+    /** {@code pi/4} */
+    static final Quadruple QUARTER_PI = quadrupleOf(new long[] { 0x0000_0000_7FFF_FFFEL, 0x921F_B544_42D1_8469L, 0x898C_C517_01B8_39A2L });
+    /** {@code 3 * pi/4} */
+    static final Quadruple THREE_QUARTERS_PI = quadrupleOf(new long[] { 0x0000_0000_8000_0000L, 0x2D97_C7F3_321D_234FL, 0x2729_93D1_414A_2B3AL });
+
+    /** {@code SIN_A[i] = sin(i/32)} */
+    static final Quadruple[] SIN_A = quadruplesOf(new long[][] {
+    { 0, 0, 0 }, // sin(0/32)
+    { 0x0000_0000_7FFF_FFF9L, 0xFFEA_AAEE_EE86_E8CAL, 0xFE41_376D_4791_9579L }, // sin(1/32)
+    { 0x0000_0000_7FFF_FFFAL, 0xFFAA_AEEE_D4ED_AB4BL, 0xA4B3_65ED_25A9_595FL }, // sin(2/32)
+    { 0x0000_0000_7FFF_FFFBL, 0x7F70_1032_550E_41AFL, 0xC2D1_8005_01A1_007EL }, // sin(3/32)
+    { 0x0000_0000_7FFF_FFFBL, 0xFEAA_EEE8_6EE3_5CA0L, 0x69A8_6721_F89F_85A6L }, // sin(4/32)
+    { 0x0000_0000_7FFF_FFFCL, 0x3EB3_12C5_D66C_B51FL, 0x599A_D9B2_E43E_ACA2L }, // sin(5/32)
+    { 0x0000_0000_7FFF_FFFCL, 0x7DC1_02FB_AF2B_515AL, 0xB50E_23C9_7C2B_12C4L }, // sin(6/32)
+    { 0x0000_0000_7FFF_FFFCL, 0xBC6F_84ED_C619_9670L, 0x695A_9EC3_2AC1_7229L }, // sin(7/32)
+    { 0x0000_0000_7FFF_FFFCL, 0xFAAE_ED4F_3157_6BA8L, 0x9DEB_DC73_51E8_B1AFL }, // sin(8/32)
+    { 0x0000_0000_7FFF_FFFDL, 0x1C37_D64C_6B87_6518L, 0x1DBF_8373_FD1F_F8C7L }, // sin(9/32)
+    { 0x0000_0000_7FFF_FFFDL, 0x3AD1_2976_9D3D_8008L, 0x1EAA_8243_C1CD_38A2L }, // sin(10/32)
+    { 0x0000_0000_7FFF_FFFDL, 0x591B_C9FA_2F59_72F8L, 0xE975_87FC_195C_8A44L }, // sin(11/32)
+    { 0x0000_0000_7FFF_FFFDL, 0x7710_2557_6421_3D22L, 0xA519_D689_2637_9761L }, // sin(12/32)
+    { 0x0000_0000_7FFF_FFFDL, 0x94A6_BE9F_546C_4A58L, 0xC7B0_65F0_2A10_2847L }, // sin(13/32)
+    { 0x0000_0000_7FFF_FFFDL, 0xB1D8_3053_2161_6947L, 0x6F4D_1982_B9B1_4AB2L }, // sin(14/32)
+    { 0x0000_0000_7FFF_FFFDL, 0xCE9D_2E3D_4A51_EDA0L, 0x6EBD_A4A3_ACFE_C086L }, // sin(15/32)
+    { 0x0000_0000_7FFF_FFFDL, 0xEAEE_8744_B05E_FE87L, 0x64BC_364F_D837_B666L }, // sin(16/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x0362_939C_6995_4B49L, 0xCCA1_F1A1_3FA9_AD55L }, // sin(17/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x110D_0C4B_69C3_B764L, 0x6266_2026_6044_A4E4L }, // sin(18/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x1E73_4323_6574_C245L, 0x47F4_9E83_AB47_FFA8L }, // sin(19/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x2B91_DEA8_8421_D817L, 0x2389_37A5_5413_D0A3L }, // sin(20/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x3865_9745_6282_ADDEL, 0x0A4A_D89F_0AF3_2395L }, // sin(21/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x44EB_381C_F386_AB04L, 0xA4F8_656A_BEA8_0B83L }, // sin(22/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x511F_9FD7_B351_BA8FL, 0xC5E7_8EDD_F3C4_8732L }, // sin(23/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x5CFF_C16B_F8F0_D65BL, 0x2CDC_3AD5_E281_4911L }, // sin(24/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x6888_A4E1_34B2_EA52L, 0x0B22_6ECA_8694_B3A2L }, // sin(25/32)
+    });
+
+    /** {@code SIN_A_LO[i] = sin(i/32) - SIN_A[i]} */
+    static final Quadruple[] SIN_A_LO = quadruplesOf(new double[] {
+      0.0, 1.6907573787481951e-41, 3.4765861650734597e-41, 6.387783248363141e-41,
+      -7.367423332339406e-41, -8.299817748605276e-41, -1.0784610369132123e-40, 7.937855251054991e-41,
+      -3.0561199732127166e-41, -5.529552097528075e-41, 6.905593201190234e-41, -2.0078126910643643e-40,
+      1.973953021696861e-40, 2.7390680274645022e-40, -1.8122139941654667e-40, -1.0780110837208658e-40,
+      2.175871991313707e-40, -1.3629936232740635e-40, 8.66626863069513e-42, 3.817580662877036e-40,
+      -3.71373155324471e-40, -2.487590563747595e-40, 3.185455808208578e-41, 3.784584825462869e-40,
+      -6.496966608548933e-40, 2.0592418031610832e-40,
+    });
+
+    /** {@code COS_A[i] = cos(i/32)} */
+    static final Quadruple[] COS_A = quadruplesOf(new long[][] {
+    { 0x0000_0000_7FFF_FFFFL, 0x0000_0000_0000_0000L, 0x0000_0000_0000_0000L }, // cos(0/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xFFC0_0155_527D_2B12L, 0xAEDB_49D9_2928_DF73L }, // cos(1/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xFF00_1554_9F4D_34CAL, 0x0E1E_E650_9BC4_2B72L }, // cos(2/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xFDC0_6BF7_E6B9_B4C6L, 0x40AD_4D7E_36D6_51C0L }, // cos(3/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xFC01_5527_D5BD_36DAL, 0x3CD4_253B_EDE3_19CBL }, // cos(4/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xF9C3_40A7_CC42_8716L, 0xDAC1_8EDD_188B_7E15L }, // cos(5/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xF706_BDF9_ECE1_BA59L, 0xCDFC_F248_D2FD_D428L }, // cos(6/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xF3CC_7C3B_3D16_DEDEL, 0x5C52_D75C_B6BD_B382L }, // cos(7/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xF015_49F7_DEEA_174FL, 0x07A6_7972_BF29_F148L }, // cos(8/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xEBE2_14F7_6EFA_7BF4L, 0x183B_516A_F084_F065L }, // cos(9/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xE733_EA01_93D3_FA6FL, 0x5D32_AE4C_7B57_10EEL }, // cos(10/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xE20B_F49A_CD6C_0F4CL, 0xFA89_C084_E4A4_0887L }, // cos(11/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xDC6B_7EB9_9591_20A5L, 0x9B23_BB6E_69A7_48FCL }, // cos(12/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xD653_F073_E403_FA27L, 0x726F_2D04_F22D_4F1EL }, // cos(13/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xCFC6_CFA5_2AD9_F62DL, 0x6D54_23CA_8339_A00BL }, // cos(14/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xC8C5_BF8C_E1A8_4356L, 0x7A34_2B20_2451_E28DL }, // cos(15/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xC152_8065_B7D4_F9DBL, 0x7BBB_3B45_F5F5_B30BL }, // cos(16/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xB96E_EEF5_8840_E0A2L, 0xD1E6_3C7D_6F01_9D39L }, // cos(17/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xB11D_0416_2A4C_623BL, 0xAAC3_DF78_1835_34A7L }, // cos(18/32)
+    { 0x0000_0000_7FFF_FFFEL, 0xA85E_D437_3E02_D19BL, 0xE063_85EC_791B_260AL }, // cos(19/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x9F36_8ED9_12F8_4B8BL, 0x7FCE_A1BA_7E61_1D5FL }, // cos(20/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x95A6_7E00_CB1F_CBD0L, 0x4097_781E_74CD_41CDL }, // cos(21/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x8BB1_05A5_DC90_0618L, 0xF80F_A51D_303C_6901L }, // cos(22/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x8158_A319_16D5_CE21L, 0x746F_47DD_7219_62B6L }, // cos(23/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x769F_EC65_5211_EE7DL, 0x82A3_0739_73B3_276AL }, // cos(24/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x6B89_8FA9_EFB5_D22BL, 0x58F0_D99E_9634_931AL }, // cos(25/32)
+    });
+
+    /** {@code COS_A_LO[i] = cos(i/32) - COS_A[i]} */
+    static final Quadruple[] COS_A_LO = quadruplesOf(new double[] {
+      0.0, -7.161947246401807e-40, -9.163810441731729e-41, -6.944503155873325e-40,
+      -3.1444373909122795e-40, 3.4183180687242087e-40, -2.5014711906472573e-40, 3.655473043841715e-40,
+      2.3133123835426854e-40, 9.332102958635799e-42, 1.8564040141400867e-40, -5.365437746610166e-40,
+      4.382917187735087e-40, 2.50050884179363e-40, -7.350657251186002e-42, 3.7112830480043e-40,
+      -4.782611990347424e-40, 2.2522980062204404e-40, -1.1572921802883197e-40, -4.541753346365188e-40,
+      -4.824411153107292e-41, 4.528983455254482e-40, -5.566214462217034e-40, -2.3194083268769143e-40,
+      -3.5874485293147575e-40, 7.169139104196119e-40,
+    });
+
+    /** {@code ATAN_A[i] = atan(i/32)} */
+    static final Quadruple[] ATAN_A = quadruplesOf(new long[][] {
+    { 0, 0, 0 }, // atan(0/32)
+    { 0x0000_0000_7FFF_FFF9L, 0xFFD5_5BBA_9762_4A84L, 0xEF3A_EEDB_B518_C427L }, // atan(1/32)
+    { 0x0000_0000_7FFF_FFFAL, 0xFF55_BB72_CFDE_9C6DL, 0x964F_25B8_1C5C_1AA2L }, // atan(2/32)
+    { 0x0000_0000_7FFF_FFFBL, 0x7EE1_8260_2F10_E8C1L, 0x26AC_FCF0_99F0_6CEDL }, // atan(3/32)
+    { 0x0000_0000_7FFF_FFFBL, 0xFD5B_A9AA_C2F6_DC65L, 0x912F_313E_7D11_1DEFL }, // atan(4/32)
+    { 0x0000_0000_7FFF_FFFCL, 0x3D6E_EE8C_6626_C586L, 0x8EC3_3A4A_06C1_FD0BL }, // atan(5/32)
+    { 0x0000_0000_7FFF_FFFCL, 0x7B97_B4BC_E5B0_2268L, 0xF616_9F10_3938_E90FL }, // atan(6/32)
+    { 0x0000_0000_7FFF_FFFCL, 0xB90D_7529_260A_2045L, 0xEC43_4B83_96AA_5E05L }, // atan(7/32)
+    { 0x0000_0000_7FFF_FFFCL, 0xF5B7_5F92_C80D_D62AL, 0xDB8F_3DEB_EF44_2FCBL }, // atan(8/32)
+    { 0x0000_0000_7FFF_FFFDL, 0x18BF_5A30_BF17_8261L, 0x948E_9163_7F10_531AL }, // atan(9/32)
+    { 0x0000_0000_7FFF_FFFDL, 0x3627_7370_7EBC_BCD3L, 0x8B57_6931_A4F5_E650L }, // atan(10/32)
+    { 0x0000_0000_7FFF_FFFDL, 0x530A_D995_1CD4_9DB5L, 0x336F_EEF7_EFB3_D182L }, // atan(11/32)
+    { 0x0000_0000_7FFF_FFFDL, 0x6F61_941E_4DEF_08E7L, 0x1546_4245_B9FC_8906L }, // atan(12/32)
+    { 0x0000_0000_7FFF_FFFDL, 0x8B24_D394_A1B2_56DBL, 0x42E8_DD23_EA14_51BCL }, // atan(13/32)
+    { 0x0000_0000_7FFF_FFFDL, 0xA64E_EC3C_C23F_CB6CL, 0x84F9_2BD2_003C_E26DL }, // atan(14/32)
+    { 0x0000_0000_7FFF_FFFDL, 0xC0DB_4C94_EC9E_F8CFL, 0x8C63_DB2C_F319_7007L }, // atan(15/32)
+    { 0x0000_0000_7FFF_FFFDL, 0xDAC6_7056_1BB4_F68AL, 0xDFC8_8BD9_7875_1A07L }, // atan(16/32)
+    { 0x0000_0000_7FFF_FFFDL, 0xF40D_D0B5_4141_7CB8L, 0xCDA4_78FA_BB91_D984L }, // atan(17/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x0657_E94D_B30C_FC54L, 0x96D4_1396_C34A_2B82L }, // atan(18/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x1255_D9BF_BD2A_8F6AL, 0x1288_F1F8_8E56_95F7L }, // atan(19/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x1E00_BABD_EFEB_3F36L, 0xB906_BC2C_CB88_6E8FL }, // atan(20/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x2958_E593_08E3_0DECL, 0x3189_E727_EF14_65F2L }, // atan(21/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x345F_01CC_E37B_B440L, 0x844D_F1C4_409F_E77AL }, // atan(22/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x3F13_FB89_E96F_43D9L, 0xF169_24C8_9E0E_03BFL }, // atan(23/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x4978_FA32_69EE_1248L, 0x3350_FE54_8AFB_593EL }, // atan(24/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x538F_57B8_9061_EB91L, 0x22D5_096B_7CF2_67ECL }, // atan(25/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x5D58_9871_69B1_8100L, 0x28E4_BC5E_7CA4_0E14L }, // atan(26/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x66D6_6392_3E08_6D22L, 0xB202_82E8_88C5_F274L }, // atan(27/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x700A_7C57_8463_3CE7L, 0x965B_4AA4_2148_887AL }, // atan(28/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x78F6_BBD5_D315_E501L, 0xA822_600D_D01F_6520L }, // atan(29/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x819D_0B71_58A4_CC81L, 0x13BA_C588_DD25_F44AL }, // atan(30/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x89FF_5FF5_7F1F_7AA9L, 0x1968_7A21_793C_0443L }, // atan(31/32)
+    { 0x0000_0000_7FFF_FFFEL, 0x921F_B544_42D1_8469L, 0x898C_C517_01B8_39A2L }, // atan(32/32)
+    });
+
+    /** {@code ATAN_A_LO[i] = atan(i/32) - ATAN_A[i]} */
+    static final Quadruple[] ATAN_A_LO = quadruplesOf(new double[] {
+      0.0, 1.5275566091728814e-43, 3.5593186918649663e-41, -2.810906745677028e-42,
+      1.6105645433071862e-41, -2.489875405406518e-41, 5.646675961251198e-41, 1.7993484670296611e-41,
+      1.2196520915914558e-40, 9.082398711549164e-41, 4.960732487050256e-41, 1.904022892979196e-40,
+      3.530874045292975e-40, -3.4026242651520767e-40, -1.033092523321043e-40, 3.104099592488584e-40,
+      -1.0286463222861431e-40, 9.211740878950894e-41, -1.7123361968379807e-40, 1.8073310421221104e-40,
+      2.0135675860933785e-40, -1.4300514360207502e-40, -4.2597528597095354e-40, 3.3811599738180245e-40,
+      -3.221181352402382e-40, -7.358107261868249e-41, 3.964751101559065e-41, -3.1667117993508974e-40,
+      7.057577978256027e-40, 2.293519424105087e-40, -4.8720758302877476e-40, -5.7800168567848134e-40,
+      4.707602694151963e-40,
+    });
+
+    /** {@code -1/3!, 1/5!, ... 1/17!}, the coefficients of {@code (sin(d) - d) / d^3} as a polynomial of {@code d^2} */
+    static final Quadruple[] SIN_COEFFICIENTS = new Quadruple[8];
+    /** {@code -1/2!, 1/4!, ... 1/16!}, the coefficients of {@code (cos(d) - 1) / d^2} as a polynomial of {@code d^2} */
+    static final Quadruple[] COS_COEFFICIENTS = new Quadruple[8];
+    /** {@code -1/3, 1/5, ... -1/23}, the coefficients of {@code (atan(u) - u) / u^3} as a polynomial of {@code u^2} */
+    static final Quadruple[] ATAN_COEFFICIENTS = new Quadruple[11];
+
+    static {
+      long factorial = 1;
+      for (int n = 2; n <= 17; n++) {
+        factorial *= n;
+        final Quadruple coefficient = Quadruple.one().divide(factorial);
+        if (n % 4 == 2 || n % 4 == 3) {
+          coefficient.negate();
+        }
+        if (n % 2 == 0) {
+          COS_COEFFICIENTS[n / 2 - 1] = coefficient;
+        } else {
+          SIN_COEFFICIENTS[n / 2 - 1] = coefficient;
+        }
+      }
+      for (int k = 1; k <= ATAN_COEFFICIENTS.length; k++) {
+        ATAN_COEFFICIENTS[k - 1] = Quadruple.one().divide(2 * k + 1);
+        if (k % 2 == 1) {
+          ATAN_COEFFICIENTS[k - 1].negate();
+        }
+      }
+    }
+  }
+
+  /**
+   * Computes the sine and the cosine of {@code x}.<br>
+   * The argument is reduced to {@code x = k * pi/2 + r}, {@code |r| <= pi/4}, see {@link #reduce(ImmutableQuadruple, Quadruple)},
+   * then {@code r} is represented as {@code r = a + d}, where {@code a = i/32} is the nearest multiple of 1/32,
+   * and {@code sin(r) = sin(a) * cos(d) + cos(a) * sin(d)}, {@code cos(r) = cos(a) * cos(d) - sin(a) * sin(d)},
+   * where {@code sin(a)} and {@code cos(a)} are taken from tables as sums of two parts,
+   * and {@code sin(d)} and {@code cos(d)}, {@code |d| <= 1/64}, are found as polynomials of degrees 17 and 16.<br>
+   * The error of each of the results does not exceed 1.5 ulp (a relative error of 4.41e-39).
+   * The results for NaN, infinities, and finite values not less than {@code 2^(MAX_REDUCIBLE_EXPONENT + 1)} in magnitude are NaN.
+   * @param x the argument
+   * @return a two-element array containing {@code sin(x)} and {@code cos(x)}, in that order
+   */
+  static ImmutableQuadruple[] sinCos(ImmutableQuadruple x) {
+    if (x.isNaN() || x.isInfinite() || (x.exponent() & 0xFFFF_FFFFL) - EXPONENT_BIAS > MAX_REDUCIBLE_EXPONENT) {
+      return new ImmutableQuadruple[] { NaN, NaN };
+    }
+
+    final Quadruple r = quadrupleOf(x);
+    final int quadrant;
+    if (r.compareMagnitudeTo(Constants.QUARTER_PI) <= 0) {
+      r.abs();
+      quadrant = 0;
+    } else {
+      quadrant = reduce(x, r);
+    }
+    final boolean negativeR = r.isNegative();
+    r.abs();
+
+    final int i = (int)Math.round(r.doubleValue() * 32);
+    final Quadruple d = new Quadruple(r).subtract(i / 32.0);    // Exact, since r and a are close to each other
+    final Quadruple w = new Quadruple(d).multiply(d);
+    final Quadruple sinD = polynomial(w, Constants.SIN_COEFFICIENTS).multiply(w).multiply(d).add(d);
+    final Quadruple cosDMinusOne = polynomial(w, Constants.COS_COEFFICIENTS).multiply(w);
+
+    final Quadruple sinA = Constants.SIN_A[i], cosA = Constants.COS_A[i];
+    // sin(a + d) = sin(a) + (sin(a) * (cos(d) - 1) + cos(a) * sin(d))
+    final Quadruple sin = new Quadruple(sinA).multiply(cosDMinusOne).add(new Quadruple(cosA).multiply(sinD));
+    sin.add(Constants.SIN_A_LO[i]).add(sinA);
+    // cos(a + d) = cos(a) + (cos(a) * (cos(d) - 1) - sin(a) * sin(d))
+    final Quadruple cos = new Quadruple(cosA).multiply(cosDMinusOne).subtract(sinD.multiply(sinA));
+    cos.add(Constants.COS_A_LO[i]).add(cosA);
+    if (negativeR) {
+      sin.negate();
+    }
+
+    // sin(x) = sin(r), cos(r), -sin(r), -cos(r) for k mod 4 = 0, 1, 2, 3, cos(x) is shifted by a quadrant
+    final ImmutableQuadruple sinR = new ImmutableQuadruple(sin), cosR = new ImmutableQuadruple(cos);
+    final ImmutableQuadruple sinX, cosX;
+    switch (quadrant) {
+      case 0:  sinX = sinR;          cosX = cosR;          break;
+      case 1:  sinX = cosR;          cosX = sinR.negate(); break;
+      case 2:  sinX = sinR.negate(); cosX = cosR.negate(); break;
+      default: sinX = cosR.negate(); cosX = sinR;          break;
+    }
+    return new ImmutableQuadruple[] { x.isNegative()? sinX.negate() : sinX, cosX };
+  }
+
+  /**
+   * Computes the tangent of {@code x} as {@code sin(x) / cos(x)}, see {@link #sinCos(ImmutableQuadruple)}.<br>
+   * The error of the result does not exceed 2.5 ulp (a relative error of 7.35e-39).
+   * @param x the argument
+   * @return {@code tan(x)}
+   */
+  static ImmutableQuadruple tan(ImmutableQuadruple x) {
+    final ImmutableQuadruple[] sinCos = sinCos(x);
+    return sinCos[0].divide(sinCos[1]);
+  }
+
+  /**
+   * Computes the arc tangent of {@code x}.<br>
+   * For {@code |x| > 1}, uses {@code atan(x) = pi/2 - atan(1/x)}. The argument {@code t <= 1} is represented
+   * as {@code t = c + f}, where {@code c = i/32} is the nearest multiple of 1/32, then
+   * {@code atan(t) = atan(c) + atan(u)}, {@code u = (t - c) / (1 + t * c)}, {@code |u| <= 1/64},
+   * where {@code atan(c)} is taken from a table as a sum of two parts, and {@code atan(u)} is found as a polynomial of degree 23.<br>
+   * The error of the result does not exceed 1.5 ulp (a relative error of 4.41e-39).
+   * {@code atan(NaN)} is NaN, {@code atan(+/-infinity)} is {@code +/-pi/2}.
+   * @param x the argument
+   * @return {@code atan(x)}, in the range {@code -pi/2 .. pi/2}
+   */
+  static ImmutableQuadruple atan(ImmutableQuadruple x) {
+    if (x.isNaN()) {
+      return NaN;
+    }
+    final Quadruple result;
+    if (x.isInfinite()) {
+      result = new Quadruple(Constants.HALF_PI);
+    } else if (x.compareMagnitudeTo(ONE) <= 0) {
+      result = atanOfReduced(quadrupleOf(x).abs());
+    } else {  // pi/2 - atan(1/|x|)
+      result = atanOfReduced(Quadruple.one().divide(quadrupleOf(x).abs())).negate();
+      result.add(Constants.HALF_PI_LO).add(Constants.HALF_PI);
+    }
+    if (x.isNegative()) {
+      result.negate();
+    }
+    return new ImmutableQuadruple(result);
+  }
+
+  /**
+   * Computes the angle {@code theta} of the point {@code (x, y)} in polar coordinates,
+   * that is the arc tangent of {@code y/x} in the range {@code -pi .. pi}.<br>
+   * Uses {@code atan(|y/x|)} or {@code pi/2 - atan(|x/y|)}, whichever has the argument not greater than 1,
+   * adding the result to the appropriate multiple of {@code pi/2} as a sum of two parts.
+   * The error of the result does not exceed 2 ulp (a relative error of 5.88e-39).<br>
+   * Special cases follow the rules of {@link Math#atan2(double, double)}.
+   * @param y the ordinate
+   * @param x the abscissa
+   * @return the angle {@code theta} of the point {@code (x, y)}
+   */
+  static ImmutableQuadruple atan2(ImmutableQuadruple y, ImmutableQuadruple x) {
+    if (x.isNaN() || y.isNaN()) {
+      return NaN;
+    }
+    final Quadruple result;
+    if (y.isZero() || (x.isInfinite() && !y.isInfinite())) {      // 0 or pi
+      result = x.isNegative()? new Quadruple(Constants.PI) : new Quadruple();
+    } else if (x.isZero() || (y.isInfinite() && !x.isInfinite())) { // pi/2
+      result = new Quadruple(Constants.HALF_PI);
+    } else if (x.isInfinite()) {                                   // Both are infinite
+      result = new Quadruple(x.isNegative()? Constants.THREE_QUARTERS_PI : Constants.QUARTER_PI);
+    } else {
+      final Quadruple absX = quadrupleOf(x).abs(), absY = quadrupleOf(y).abs();
+      final Quadruple offset, offsetLo;
+      if (absY.compareTo(absX) <= 0) {
+        // atan(|y/x|) or pi - atan(|y/x|)
+        result = atanOfReduced(absY.divide(absX));
+        if (x.isNegative()) {
+          result.negate();
+        }
+        offset = x.isNegative()? Constants.PI : null;
+        offsetLo = Constants.PI_LO;
+      } else {
+        // pi/2 - atan(|x/y|) or pi/2 + atan(|x/y|)
+        result = atanOfReduced(absX.divide(absY));
+        if (!x.isNegative()) {
+          result.negate();
+        }
+        offset = Constants.HALF_PI;
+        offsetLo = Constants.HALF_PI_LO;
+      }
+      if (offset != null) {
+        result.add(offsetLo).add(offset);
+      }
+    }
+    if (y.isNegative()) {
+      result.negate();
+    }
+    return new ImmutableQuadruple(result);
+  }
+
+  /**
+   * Computes the arc sine of {@code x} as {@code atan2(x, sqrt((1 - x) * (1 + x)))}.<br>
+   * The error of the result does not exceed 2.5 ulp (a relative error of 7.35e-39).
+   * The arc sine of NaN or of a value greater than 1 in magnitude is NaN.
+   * @param x the argument
+   * @return {@code asin(x)}, in the range {@code -pi/2 .. pi/2}
+   */
+  static ImmutableQuadruple asin(ImmutableQuadruple x) {
+    if (x.isNaN() || x.compareMagnitudeTo(ONE) > 0) {
+      return NaN;
+    }
+    return atan2(x, cosineOfArcSine(x));
+  }
+
+  /**
+   * Computes the arc cosine of {@code x} as {@code atan2(sqrt((1 - x) * (1 + x)), x)}.<br>
+   * The error of the result does not exceed 2.5 ulp (a relative error of 7.35e-39).
+   * The arc cosine of NaN or of a value greater than 1 in magnitude is NaN.
+   * @param x the argument
+   * @return {@code acos(x)}, in the range {@code 0 .. pi}
+   */
+  static ImmutableQuadruple acos(ImmutableQuadruple x) {
+    if (x.isNaN() || x.compareMagnitudeTo(ONE) > 0) {
+      return NaN;
+    }
+    return atan2(cosineOfArcSine(x), x);
+  }
+
+  /** Returns {@code sqrt(1 - x^2)} as {@code sqrt((1 - x) * (1 + x))}, for {@code |x| <= 1} */
+  private static ImmutableQuadruple cosineOfArcSine(ImmutableQuadruple x) {
+    final Quadruple absX = quadrupleOf(x).abs();
+    final Quadruple result = Quadruple.one().subtract(absX).multiply(absX.add(1)).sqrt();
+    return new ImmutableQuadruple(result);
+  }
+
+  /** Returns {@code atan(t)} for {@code 0 <= t <= 1} in a new buffer, with the notation of {@link #atan(ImmutableQuadruple)} */
+  private static Quadruple atanOfReduced(Quadruple t) {
+    final int i = (int)Math.round(t.doubleValue() * 32);
+    final Quadruple u = new Quadruple(t);
+    if (i != 0) {
+      final double c = i / 32.0;
+      u.subtract(c).divide(new Quadruple(t).multiply(c).add(1));  // t - c is exact
+    }
+    final Quadruple v = new Quadruple(u).multiply(u);
+    // atan(u) = u + u * v * (-1/3 + v/5 - ... - v^10/23), where v = u^2
+    final Quadruple result = polynomial(v, Constants.ATAN_COEFFICIENTS).multiply(v).multiply(u).add(u);
+    return result.add(Constants.ATAN_A_LO[i]).add(Constants.ATAN_A[i]);
+  }
+
+  /**
+   * Reduces the argument, finding {@code k} and {@code r} such that {@code |x| = k * pi/2 + r}, {@code |r| <= pi/4}.<br>
+   * Represents {@code |x|} as {@code M * 2^(e - 128)}, where {@code M} is the 129-bit integer mantissa,
+   * and multiplies {@code M} by a 512-bit window of the bits of {@code 2/pi}, starting from the bit with weight {@code 2^(129 - e)}.
+   * The preceding bits of {@code 2/pi} contribute multiples of 4 to {@code |x| * 2/pi} and do not affect the result,
+   * while the omitted following bits contribute less than {@code 2^-381}.
+   * The 2 upper bits of the lower 512 bits of the product give {@code k mod 4}, the rest are the fraction {@code r * 2/pi}.
+   * The fraction is then multiplied by {@code pi/2} with 192-bit integer arithmetic and rounded to the nearest value.
+   * @param x the argument, {@code pi/4 < |x| < 2^(MAX_REDUCIBLE_EXPONENT + 1)}
+   * @param r a buffer to hold the reduced argument
+   * @return {@code k mod 4}
+   */
+  private static int reduce(ImmutableQuadruple x, Quadruple r) {
+    final int exponent = (int)((x.exponent() & 0xFFFF_FFFFL) - EXPONENT_BIAS);  // |x| > pi/4, so it's normal
+    final long[] mantissa = { x.mantLo() & WORD_MASK, x.mantLo() >>> 32, x.mantHi() & WORD_MASK, x.mantHi() >>> 32, 1 };
+    final int[] twoOverPiWords = twoOverPiFor(exponent);
+    final long[] window = new long[WINDOW_WORDS];
+    for (int i = 0; i < WINDOW_WORDS; i++) {
+      window[WINDOW_WORDS - 1 - i] = twoOverPiBits(twoOverPiWords, exponent - 130 + 32 * i);
+    }
+
+    final long[] product = multiply(mantissa, window, WINDOW_WORDS);
+    int quadrant = (int)(product[WINDOW_WORDS - 1] >>> 30);
+    product[WINDOW_WORDS - 1] &= 0x3FFF_FFFF;
+    boolean negative = false;
+    if ((product[WINDOW_WORDS - 1] & 0x2000_0000) != 0) { // The fraction is 1/2 or more, r = (fraction - 1) * pi/2
+      quadrant++;
+      negative = true;
+      for (int i = 0; i < WINDOW_WORDS; i++) {            // 1 - fraction, with an error of 2^-510
+        product[i] = ~product[i] & WORD_MASK;
+      }
+      product[WINDOW_WORDS - 1] &= 0x3FFF_FFFF;
+    }
+
+    // The fraction is product * 2^-510. Find its most significant bit and take 192 bits starting from it
+    int top = WINDOW_WORDS - 1;
+    while (top >= 0 && product[top] == 0) {
+      top--;
+    }
+    if (top < 0) {
+      r.assign(negative, 0, 0, 0);
+      return quadrant & 3;
+    }
+    final int highestBit = top * 32 + 63 - Long.numberOfLeadingZeros(product[top]);
+    final long[] fraction = new long[HALF_PI_BITS.length];
+    for (int i = 0; i < fraction.length; i++) {
+      fraction[fraction.length - 1 - i] = bitsAt(product, highestBit - 31 - 32 * i);
+    }
+
+    // r = fraction * 2^(highestBit - 191 - 510) * HALF_PI_BITS * 2^-191, the product has 383 or 384 bits
+    final long[] scaled = multiply(fraction, HALF_PI_BITS, 2 * HALF_PI_BITS.length);
+    final int scaledTop = (scaled[scaled.length - 1] >>> 31 != 0)? 383 : 382;
+    long mantHi = (bitsAt(scaled, scaledTop - 32) << 32) | bitsAt(scaled, scaledTop - 64);
+    long mantLo = (bitsAt(scaled, scaledTop - 96) << 32) | bitsAt(scaled, scaledTop - 128);
+    long biasedExponent = scaledTop + highestBit - 892 + EXPONENT_BIAS;
+    if ((bitsAt(scaled, scaledTop - 129) & 1) != 0 && ++mantLo == 0 && ++mantHi == 0) {
+      biasedExponent++;
+    }
+    r.assign(negative, (int)biasedExponent, mantHi, mantLo);
+    return quadrant & 3;
+  }
+
+  /**
+   * Multiplies two numbers represented as arrays of 32-bit words, the least significant first,
+   * and returns the specified number of the least significant words of the product
+   */
+  private static long[] multiply(long[] a, long[] b, int length) {
+    final long[] result = new long[length];
+    for (int i = 0; i < a.length; i++) {
+      long carry = 0;
+      for (int j = 0; j < b.length && i + j < length; j++) {
+        final long sum = a[i] * b[j] + result[i + j] + carry;  // Less than 2^64, as an unsigned value
+        result[i + j] = sum & WORD_MASK;
+        carry = sum >>> 32;
+      }
+      if (i + b.length < length) {
+        result[i + b.length] = carry;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns 32 bits of a number represented as an array of 32-bit words, the least significant first,
+   * starting from the given position (the position of the least significant bit of the result).
+   * The bits beyond the array are zeros.
+   */
+  private static long bitsAt(long[] words, int position) {
+    if (position < 0) {
+      return (position <= -32)? 0 : (words[0] << -position) & WORD_MASK;
+    }
+    final int index = position >>> 5, shift = position & 31;
+    long result = words[index] >>> shift;
+    if (shift != 0 && index + 1 < words.length) {
+      result |= words[index + 1] << (32 - shift);
+    }
+    return result & WORD_MASK;
+  }
+
+  /**
+   * Returns 32 bits of the fractional part of {@code 2/pi}, held in the given words, starting from the given position,
+   * the first bit after the binary point being at the position 0.
+   * The bits at negative positions are zeros, since {@code 2/pi < 1}.
+   */
+  private static long twoOverPiBits(int[] twoOverPiWords, int position) {
+    if (position < 0) {
+      return (position <= -32)? 0 : (twoOverPiWords[0] & WORD_MASK) >>> -position;
+    }
+    final int index = position >>> 5, shift = position & 31;
+    long result = (twoOverPiWords[index] & WORD_MASK) << shift;
+    if (shift != 0) {
+      result |= (twoOverPiWords[index + 1] & WORD_MASK) >>> (32 - shift);
+    }
+    return result & WORD_MASK;
+  }
+
+  /**
+   * Returns the words of the fractional part of {@code 2/pi} that hold the bits needed to reduce an argument
+   * with the given exponent, computing more of them if the words known so far are not enough.
+   * The number of the computed words is at least doubled each time, so that the arguments growing
+   * step by step don't make the words get computed over and over again.<br>
+   * The words are computed without holding a lock, so that a lengthy computation for a huge argument
+   * doesn't hold up the threads that reduce smaller arguments. Threads that need more words at the same time
+   * may compute them concurrently, and the longest of the results gets kept.
+   */
+  private static int[] twoOverPiFor(int exponent) {
+    // twoOverPiBits() reads the words up to the one following that with the bit at the position exponent + 350
+    final int requiredWords = (exponent + 350) / 32 + 2;
+    final int[] knownWords = twoOverPi;
+    if (knownWords.length >= requiredWords) {
+      return knownWords;
+    }
+    final int maxWords = (MAX_REDUCIBLE_EXPONENT + 350) / 32 + 2;
+    final int[] words = computeTwoOverPi(Math.max(requiredWords, Math.min(2 * knownWords.length, maxWords)));
+    synchronized (TWO_OVER_PI_LOCK) {
+      if (twoOverPi.length < words.length) {
+        twoOverPi = words;
+      }
+    }
+    return words;
+  }
+
+  /**
+   * Computes the given number of words of the fractional part of {@code 2/pi}.<br>
+   * Uses the Chudnovsky formula {@code pi = 426880 * sqrt(10005) * Q / T}, where {@code T / Q} is the sum
+   * of the series, found with binary splitting, so that {@code 2/pi = 2 * T * sqrt(10005) / (426880 * 10005 * Q)}.
+   * The result is computed with {@code GUARD_BITS} extra bits, that absorb the errors of the truncations.
+   */
+  private static int[] computeTwoOverPi(int words) {
+    final int bits = 32 * words + GUARD_BITS;
+    final BigInteger[] pqt = chudnovskySeries(0, (long)(bits / BITS_PER_CHUDNOVSKY_TERM) + 2);
+    // Keep bits + GUARD_BITS significant bits of Q and T, that doesn't affect the result and keeps the final products
+    // at about 2 * bits, less than the 2.5 * bits of Q and T themselves
+    final int excess = Math.max(0, pqt[1].bitLength() - bits - GUARD_BITS);
+    final BigInteger q = pqt[1].shiftRight(excess), t = pqt[2].shiftRight(excess);
+    final BigInteger scaled = t.multiply(sqrt10005(bits)).shiftLeft(1)     // 2/pi * 2^bits
+        .divide(q.multiply(BigInteger.valueOf(426880L * 10005)));
+    // 2/pi > 1/2, so the 32 * words bits take 4 * words bytes following the leading zero byte of the sign
+    final byte[] bytes = scaled.shiftRight(GUARD_BITS).toByteArray();
+    final int[] result = new int[words];
+    ByteBuffer.wrap(bytes, 1, 4 * words).asIntBuffer().get(result);
+    return result;
+  }
+
+  /**
+   * Computes the terms {@code a .. b - 1} of the Chudnovsky series with binary splitting.
+   * Returns {@code P(a, b)}, {@code Q(a, b)} and {@code T(a, b)}, such that the sum of the terms is {@code T(a, b) / Q(a, b)}
+   * times the product of the factors of the preceding terms
+   */
+  private static BigInteger[] chudnovskySeries(long a, long b) {
+    if (b - a == 1) {
+      final BigInteger p, q;
+      if (a == 0) {
+        p = q = BigInteger.ONE;
+      } else {
+        p = BigInteger.valueOf(6 * a - 5).multiply(BigInteger.valueOf(2 * a - 1)).multiply(BigInteger.valueOf(6 * a - 1));
+        q = BigInteger.valueOf(a).pow(3).multiply(CHUDNOVSKY_DENOMINATOR_FACTOR);
+      }
+      final BigInteger t = p.multiply(BigInteger.valueOf(13591409 + 545140134 * a));
+      return new BigInteger[] { p, q, ((a & 1) == 0)? t : t.negate() };
+    }
+    final long middle = (a + b) >>> 1;
+    final BigInteger[] left = chudnovskySeries(a, middle), right = chudnovskySeries(middle, b);
+    return new BigInteger[] {
+      left[0].multiply(right[0]),
+      left[1].multiply(right[1]),
+      left[2].multiply(right[1]).add(left[0].multiply(right[2])),
+    };
+  }
+
+  /**
+   * Returns {@code sqrt(10005) * 2^bits}, with an error of a few units, computed with Newton's iterations
+   * that double the precision of the preceding approximation
+   */
+  private static BigInteger sqrt10005(int bits) {
+    final BigInteger square = BigInteger.valueOf(10005).shiftLeft(2 * bits);
+    if (bits <= 40) {
+      return square.sqrt();
+    }
+    final int halfBits = bits / 2 + 8;
+    final BigInteger approximation = sqrt10005(halfBits).shiftLeft(bits - halfBits);
+    return approximation.add(square.divide(approximation)).shiftRight(1);
+  }
+
+}
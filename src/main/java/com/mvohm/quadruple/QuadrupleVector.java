@@ -0,0 +1,451 @@
+package com.mvohm.quadruple;
+
+import java.util.Arrays;
+
+/**
+ * A vector of {@code ImmutableQuadruple} values, held in an array of primitive words rather than as separate objects,
+ * with the level-1 operations of BLAS: {@code scal}, {@code axpy}, {@code dot}, {@code nrm2}, {@code asum} and {@code iamax}.<br>
+ * The instance methods operate on whole vectors; {@code scal} and {@code axpy} return new vectors,
+ * while {@code scalInPlace} and {@code axpyInPlace} modify this one. The static methods take the number of elements,
+ * the offsets of the first elements and the strides, like their BLAS counterparts, and modify their operands in place.<br>
+ * The vectors are processed by chunks of {@value #CHUNK_SIZE} elements, in parallel on the common fork/join pool
+ * for large vectors. Each element of a result and each sum is accumulated from the exact products of the mantissas
+ * and rounded once, and no objects are created per element operation.
+ * The sums are added up by chunks in a fixed order, so that they don't depend on the number of threads.<br>
+ * Instances are mutable and not thread-safe, but the operations that don't modify a vector can be performed concurrently.
+ */
+public final class QuadrupleVector {
+
+  /** The number of elements processed by a single task */
+  private static final int CHUNK_SIZE = 1 << 12;
+
+  private final int length;
+  /** The elements, see {@link PackedQuadruples} */
+  private final long[] words;
+
+  /**
+   * Creates a new vector of the given length filled with zeros.
+   * @param length the number of elements
+   * @throws IllegalArgumentException if the length is negative, or the vector is too large
+   */
+  public QuadrupleVector(int length) {
+    if (length < 0) {
+      throw new IllegalArgumentException("The length of a vector can't be negative: " + length);
+    }
+    this.length = length;
+    words = PackedQuadruples.newArray(length);
+  }
+
+  /** Creates a vector that holds the given words, without copying them */
+  QuadrupleVector(long[] words) {
+    this.length = words.length / PackedQuadruples.WORDS;
+    this.words = words;
+  }
+
+  /**
+   * Creates a new vector with the given elements.
+   * @param elements the elements of the vector
+   * @return a new vector with the given elements
+   */
+  public static QuadrupleVector of(ImmutableQuadruple... elements) {
+    final QuadrupleVector result = new QuadrupleVector(elements.length);
+    for (int i = 0; i < elements.length; i++) {
+      PackedQuadruples.set(result.words, i, elements[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Creates a new vector with the given {@code double} elements.
+   * @param elements the elements of the vector
+   * @return a new vector with the given elements
+   */
+  public static QuadrupleVector of(double... elements) {
+    final QuadrupleVector result = new QuadrupleVector(elements.length);
+    for (int i = 0; i < elements.length; i++) {
+      PackedQuadruples.set(result.words, i, new ImmutableQuadruple(elements[i]));
+    }
+    return result;
+  }
+
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Returns the element with the given index.
+   * @param index the index of the element
+   * @return the element with the given index
+   * @throws IndexOutOfBoundsException if the index is out of the bounds of the vector
+   */
+  public ImmutableQuadruple get(int index) {
+    return PackedQuadruples.get(words, checkIndex(index));
+  }
+
+  /**
+   * Sets the element with the given index.
+   * @param index the index of the element
+   * @param value the new value of the element
+   * @return this vector
+   * @throws IndexOutOfBoundsException if the index is out of the bounds of the vector
+   */
+  public QuadrupleVector set(int index, ImmutableQuadruple value) {
+    PackedQuadruples.set(words, checkIndex(index), value);
+    return this;
+  }
+
+  /**
+   * Returns the elements of this vector as an array.
+   * @return a new array with the elements of this vector
+   */
+  public ImmutableQuadruple[] toArray() {
+    final ImmutableQuadruple[] result = new ImmutableQuadruple[length];
+    for (int i = 0; i < length; i++) {
+      result[i] = PackedQuadruples.get(words, i);
+    }
+    return result;
+  }
+
+  /**
+   * Returns a copy of this vector.
+   * @return a new vector with the same elements
+   */
+  public QuadrupleVector copy() {
+    return new QuadrupleVector(words.clone());
+  }
+
+  /**
+   * Computes the product of this vector and the given factor, {@code a·x}.
+   * @param a the factor
+   * @return a new vector with the product
+   * @see #scalInPlace(ImmutableQuadruple)
+   */
+  public QuadrupleVector scal(ImmutableQuadruple a) {
+    return copy().scalInPlace(a);
+  }
+
+  /**
+   * Multiplies this vector by the given factor in place, {@code x = a·x}.
+   * @param a the factor
+   * @return this vector
+   */
+  public QuadrupleVector scalInPlace(ImmutableQuadruple a) {
+    scal(length, a, this, 0, 1);
+    return this;
+  }
+
+  /**
+   * Computes the sum of this vector and the product of the given factor and vector, {@code y + a·x},
+   * each element rounded once.
+   * @param a the factor
+   * @param x the vector to multiply by the factor
+   * @return a new vector with the sum
+   * @throws IllegalArgumentException if the lengths of the vectors differ
+   * @see #axpyInPlace(ImmutableQuadruple, QuadrupleVector)
+   */
+  public QuadrupleVector axpy(ImmutableQuadruple a, QuadrupleVector x) {
+    return copy().axpyInPlace(a, x);
+  }
+
+  /**
+   * Adds the product of the given factor and vector to this vector in place, {@code y = y + a·x},
+   * each element rounded once.
+   * @param a the factor
+   * @param x the vector to multiply by the factor
+   * @return this vector
+   * @throws IllegalArgumentException if the lengths of the vectors differ
+   */
+  public QuadrupleVector axpyInPlace(ImmutableQuadruple a, QuadrupleVector x) {
+    checkLength(x);
+    axpy(length, a, x, 0, 1, this, 0, 1);
+    return this;
+  }
+
+  /**
+   * Computes the dot product of this vector and the given one, rounded once.
+   * @param other the other vector
+   * @return the dot product of the vectors
+   * @throws IllegalArgumentException if the lengths of the vectors differ
+   */
+  public ImmutableQuadruple dot(QuadrupleVector other) {
+    checkLength(other);
+    return dot(length, this, 0, 1, other, 0, 1);
+  }
+
+  /**
+   * Computes the Euclidean norm of this vector, the square root of the sum of the squares of its elements.
+   * The sum of the squares is rounded once and can't overflow or underflow.
+   * @return the Euclidean norm of this vector
+   */
+  public ImmutableQuadruple nrm2() {
+    return nrm2(length, this, 0, 1);
+  }
+
+  /**
+   * Computes the sum of the magnitudes of the elements of this vector, rounded once.
+   * @return the sum of the magnitudes of the elements
+   */
+  public ImmutableQuadruple asum() {
+    return asum(length, this, 0, 1);
+  }
+
+  /**
+   * Finds the index of the first element of the greatest magnitude, as compared by
+   * {@link ImmutableQuadruple#compareMagnitudeTo(ImmutableQuadruple)}.
+   * @return the index of the first element of the greatest magnitude, or -1 if the vector is empty
+   */
+  public int iamax() {
+    return iamax(length, this, 0, 1);
+  }
+
+  /**
+   * Multiplies {@code n} elements of the vector {@code x} by the given factor in place,
+   * starting from the element with index {@code offsetX}, with the indices differing by {@code incX}.
+   * @param n the number of elements
+   * @param a the factor
+   * @param x the vector
+   * @param offsetX the index of the first element of {@code x}
+   * @param incX the difference between the indices of the consecutive elements of {@code x}
+   * @throws IllegalArgumentException if {@code n} is negative or {@code incX} is not positive
+   * @throws IndexOutOfBoundsException if any of the elements is out of the bounds of the vector
+   */
+  public static void scal(int n, ImmutableQuadruple a, QuadrupleVector x, int offsetX, int incX) {
+    x.checkRange(n, offsetX, incX);
+    final long[] factor = packed(a), wx = x.words;
+    forEachChunk(n, (accumulator, from, to) -> {
+      for (int i = from, ix = offsetX + from * incX; i < to; i++, ix += incX) {
+        accumulator.reset().addProduct(factor, 0, wx, ix).store(wx, ix);
+      }
+    });
+  }
+
+  /**
+   * Adds the products of the given factor and {@code n} elements of the vector {@code x}
+   * to {@code n} elements of the vector {@code y} in place, {@code y = y + a·x}, each element rounded once.
+   * The elements of each vector start from the given offset, with the indices differing by the given increment.
+   * If {@code x} and {@code y} are the same vector and the ranges of their elements overlap, other than element for element,
+   * the elements are processed one by one in the order of the indices, like in a plain loop,
+   * so that an element of {@code x} that has already been updated as an element of {@code y} is taken with its new value.
+   * @param n the number of elements
+   * @param a the factor
+   * @param x the vector to multiply by the factor
+   * @param offsetX the index of the first element of {@code x}
+   * @param incX the difference between the indices of the consecutive elements of {@code x}
+   * @param y the vector to add the products to
+   * @param offsetY the index of the first element of {@code y}
+   * @param incY the difference between the indices of the consecutive elements of {@code y}
+   * @throws IllegalArgumentException if {@code n} is negative or either increment is not positive
+   * @throws IndexOutOfBoundsException if any of the elements is out of the bounds of the vectors
+   */
+  public static void axpy(int n, ImmutableQuadruple a, QuadrupleVector x, int offsetX, int incX,
+                                                      QuadrupleVector y, int offsetY, int incY) {
+    x.checkRange(n, offsetX, incX);
+    y.checkRange(n, offsetY, incY);
+    final long[] factor = packed(a), wx = x.words, wy = y.words;
+    final ChunkOperation operation = (accumulator, from, to) -> {
+      for (int i = from, ix = offsetX + from * incX, iy = offsetY + from * incY; i < to; i++, ix += incX, iy += incY) {
+        accumulator.reset().add(wy, iy).addProduct(factor, 0, wx, ix).store(wy, iy);
+      }
+    };
+    if (x == y && (offsetX != offsetY || incX != incY) && overlap(n, offsetX, incX, offsetY, incY)) {
+      operation.apply(new FusedMultiplyAccumulator(), 0, n); // The chunks would depend on each other
+    } else {
+      forEachChunk(n, operation);
+    }
+  }
+
+  /**
+   * Computes the dot product of {@code n} elements of the vectors {@code x} and {@code y}, rounded once.
+   * The elements of each vector start from the given offset, with the indices differing by the given increment.
+   * @param n the number of elements
+   * @param x the first vector
+   * @param offsetX the index of the first element of {@code x}
+   * @param incX the difference between the indices of the consecutive elements of {@code x}
+   * @param y the second vector
+   * @param offsetY the index of the first element of {@code y}
+   * @param incY the difference between the indices of the consecutive elements of {@code y}
+   * @return the dot product
+   * @throws IllegalArgumentException if {@code n} is negative or either increment is not positive
+   * @throws IndexOutOfBoundsException if any of the elements is out of the bounds of the vectors
+   */
+  public static ImmutableQuadruple dot(int n, QuadrupleVector x, int offsetX, int incX,
+                                              QuadrupleVector y, int offsetY, int incY) {
+    x.checkRange(n, offsetX, incX);
+    y.checkRange(n, offsetY, incY);
+    final long[] wx = x.words, wy = y.words;
+    return forEachChunk(n, (accumulator, from, to) ->
+      accumulator.addProducts(wx, offsetX + from * incX, incX, wy, offsetY + from * incY, incY, to - from)
+    ).result();
+  }
+
+  /**
+   * Computes the Euclidean norm of {@code n} elements of the vector {@code x},
+   * starting from the element with index {@code offsetX}, with the indices differing by {@code incX}.
+   * The sum of the squares is rounded once and can't overflow or underflow.
+   * @param n the number of elements
+   * @param x the vector
+   * @param offsetX the index of the first element of {@code x}
+   * @param incX the difference between the indices of the consecutive elements of {@code x}
+   * @return the Euclidean norm
+   * @throws IllegalArgumentException if {@code n} is negative or {@code incX} is not positive
+   * @throws IndexOutOfBoundsException if any of the elements is out of the bounds of the vector
+   */
+  public static ImmutableQuadruple nrm2(int n, QuadrupleVector x, int offsetX, int incX) {
+    x.checkRange(n, offsetX, incX);
+    final long[] wx = x.words;
+    return forEachChunk(n, (accumulator, from, to) ->
+      accumulator.addProducts(wx, offsetX + from * incX, incX, wx, offsetX + from * incX, incX, to - from)
+    ).squareRoot();
+  }
+
+  /**
+   * Computes the sum of the magnitudes of {@code n} elements of the vector {@code x}, rounded once,
+   * starting from the element with index {@code offsetX}, with the indices differing by {@code incX}.
+   * @param n the number of elements
+   * @param x the vector
+   * @param offsetX the index of the first element of {@code x}
+   * @param incX the difference between the indices of the consecutive elements of {@code x}
+   * @return the sum of the magnitudes
+   * @throws IllegalArgumentException if {@code n} is negative or {@code incX} is not positive
+   * @throws IndexOutOfBoundsException if any of the elements is out of the bounds of the vector
+   */
+  public static ImmutableQuadruple asum(int n, QuadrupleVector x, int offsetX, int incX) {
+    x.checkRange(n, offsetX, incX);
+    final long[] wx = x.words;
+    return forEachChunk(n, (accumulator, from, to) -> {
+      for (int i = from, ix = offsetX + from * incX; i < to; i++, ix += incX) {
+        accumulator.addMagnitude(wx, ix);
+      }
+    }).result();
+  }
+
+  /**
+   * Finds the first of {@code n} elements of the vector {@code x} with the greatest magnitude,
+   * as compared by {@link ImmutableQuadruple#compareMagnitudeTo(ImmutableQuadruple)},
+   * starting from the element with index {@code offsetX}, with the indices differing by {@code incX}.
+   * @param n the number of elements
+   * @param x the vector
+   * @param offsetX the index of the first element of {@code x}
+   * @param incX the difference between the indices of the consecutive elements of {@code x}
+   * @return the number of the found element among the {@code n} elements, from 0 to {@code n - 1},
+   * or -1 if {@code n} is 0
+   * @throws IllegalArgumentException if {@code n} is negative or {@code incX} is not positive
+   * @throws IndexOutOfBoundsException if any of the elements is out of the bounds of the vector
+   */
+  public static int iamax(int n, QuadrupleVector x, int offsetX, int incX) {
+    x.checkRange(n, offsetX, incX);
+    if (n == 0) {
+      return -1;
+    }
+    final long[] wx = x.words;
+    final int[] greatest = new int[chunks(n)];
+    QuadrupleMatrix.indices(0, greatest.length, n).forEach(chunk -> {
+      final int from = chunk * CHUNK_SIZE, to = Math.min(from + CHUNK_SIZE, n);
+      int result = from;
+      for (int i = from + 1; i < to; i++) {
+        if (PackedQuadruples.compareMagnitudes(wx, offsetX + i * incX, wx, offsetX + result * incX) > 0) {
+          result = i;
+        }
+      }
+      greatest[chunk] = result;
+    });
+    int result = greatest[0];
+    for (final int candidate : greatest) {
+      if (PackedQuadruples.compareMagnitudes(wx, offsetX + candidate * incX, wx, offsetX + result * incX) > 0) {
+        result = candidate;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Indicates whether the given object is a {@code QuadrupleVector} of the same length with equal elements.
+   * The elements are compared as by {@link ImmutableQuadruple#equals(Object)}
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) return true;
+    if (!(obj instanceof QuadrupleVector)) return false;
+    return Arrays.equals(words, ((QuadrupleVector)obj).words);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(words);
+  }
+
+  @Override
+  public String toString() {
+    return "QuadrupleVector " + Arrays.toString(toArray());
+  }
+
+  /** Returns the words holding the elements, without copying them */
+  long[] words() {
+    return words;
+  }
+
+  /** An operation on the elements of a vector with indices from {@code from} to {@code to - 1} */
+  @FunctionalInterface
+  private interface ChunkOperation {
+    void apply(FusedMultiplyAccumulator accumulator, int from, int to);
+  }
+
+  /** Applies the operation to the chunks of {@code n} elements, in parallel if {@code n} is large enough,
+   * each chunk with its own accumulator
+   * @return the sum of the accumulators of all the chunks, added in the order of the chunks */
+  private static FusedMultiplyAccumulator forEachChunk(int n, ChunkOperation operation) {
+    final FusedMultiplyAccumulator[] accumulators = new FusedMultiplyAccumulator[chunks(n)];
+    QuadrupleMatrix.indices(0, accumulators.length, n).forEach(chunk -> {
+      final FusedMultiplyAccumulator accumulator = new FusedMultiplyAccumulator();
+      operation.apply(accumulator, chunk * CHUNK_SIZE, Math.min((chunk + 1) * CHUNK_SIZE, n));
+      accumulators[chunk] = accumulator;
+    });
+    final FusedMultiplyAccumulator result = new FusedMultiplyAccumulator();
+    for (final FusedMultiplyAccumulator accumulator : accumulators) {
+      result.add(accumulator);
+    }
+    return result;
+  }
+
+  /** Checks if the ranges spanned by the two sequences of {@code n} indices intersect */
+  private static boolean overlap(int n, int offset1, int increment1, int offset2, int increment2) {
+    return n > 0 && offset1 <= offset2 + (long)(n - 1) * increment2 && offset2 <= offset1 + (long)(n - 1) * increment1;
+  }
+
+  private static int chunks(int n) {
+    return (n + CHUNK_SIZE - 1) / CHUNK_SIZE;
+  }
+
+  private static long[] packed(ImmutableQuadruple value) {
+    final long[] result = PackedQuadruples.newArray(1);
+    PackedQuadruples.set(result, 0, value);
+    return result;
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for a vector of length " + length);
+    }
+    return index;
+  }
+
+  private void checkLength(QuadrupleVector other) {
+    if (other.length != length) {
+      throw new IllegalArgumentException("The lengths of the vectors differ: " + length + " and " + other.length);
+    }
+  }
+
+  private void checkRange(int n, int offset, int increment) {
+    if (n < 0) {
+      throw new IllegalArgumentException("The number of elements can't be negative: " + n);
+    }
+    if (increment <= 0) {
+      throw new IllegalArgumentException("The increment must be positive: " + increment);
+    }
+    if (n > 0 && (offset < 0 || offset + (long)(n - 1) * increment >= length)) {
+      throw new IndexOutOfBoundsException(n + " elements from index " + offset + " with increment " + increment
+                                          + " are out of bounds for a vector of length " + length);
+    }
+  }
+
+}
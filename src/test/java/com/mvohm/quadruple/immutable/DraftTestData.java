@@ -4,6 +4,7 @@ import static com.mvohm.quadruple.immutable.test.AuxMethods.MC_50;
 import static com.mvohm.quadruple.immutable.test.AuxMethods.MC_120;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -11,7 +12,9 @@ import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import com.mvohm.quadruple.ImmutableComplexQuadruple;
 import com.mvohm.quadruple.ImmutableQuadruple;
+import com.mvohm.quadruple.immutable.test.BigDecimalMath;
 
 /** Test data sets and generators to be used by DrafTests */
 public class DraftTestData {
@@ -97,6 +100,34 @@ public class DraftTestData {
 
   static final String SOME_NUMBER = "1.234567890123456789012345678901234567876e-21";
 
+  private static final int EXPONENT_OF_ONE = 0x7FFF_FFFF;
+  private static final long DIVISION_SEED = 20211126;
+  private static final long ELEMENTARY_FUNCTIONS_SEED = 20211206;
+  private static final long ROUNDING_SEED = 20211209;
+  private static final long REMAINDER_SEED = 20211210;
+  private static final long EXACT_OPERATIONS_SEED = 20211211;
+  private static final long ACCUMULATION_SEED = 20211212;
+  private static final long DOUBLE_DOUBLE_SEED = 20211213;
+  private static final long LINEAR_SYSTEMS_SEED = 20211214;
+  private static final int LINEAR_SYSTEMS = 60;
+  private static final long MATRICES_SEED = 20211215;
+  private static final int MATRIX_PAIRS = 20;
+  private static final long SPARSE_MATRICES_SEED = 20211217;
+  private static final int SPARSE_MATRICES = 30;
+  private static final long VECTORS_SEED = 20211218;
+  private static final int VECTOR_PAIRS = 30;
+  private static final long FFT_SEED = 20211219;
+  private static final int[] FFT_SIZES = { 1, 2, 3, 4, 5, 7, 8, 12, 16, 31, 32, 64, 100, 128, 243, 256 };
+  private static final long COMPLEX_SEED = 20211220;
+  private static final int COMPLEX_PAIRS = 200;
+  private static final long INTERVAL_SEED = 20211221;
+  private static final int INTERVAL_OPERANDS = 300;
+  private static final long SMALL_INTEGERS_SEED = 20211222;
+  private static final int SMALL_INTEGER_PAIRS = 300;
+  private static final long BINARY128_SEED = 20211223;
+  private static final int BINARY128_VALUES = 300;
+  private static final int RANDOM_ARGUMENTS = 300;
+
   private static ImmutableQuadruple[] qOperands = new ImmutableQuadruple[] {
     ImmutableQuadruple.MAX_VALUE,
     ImmutableQuadruple.NEGATIVE_INFINITY,
@@ -234,6 +265,29 @@ public class DraftTestData {
     return cases;
   }
 
+  /**
+   * Returns arrays of random dividends, each with a random divisor,
+   * with exponents close enough to each other to make the quotients normal values
+   */
+  public static Object[][] randomPairsToDivide() {
+    final int divisors = 100, dividendsPerDivisor = 1000;
+    final Random rand = new Random(DIVISION_SEED);
+    final Object[][] result = new Object[divisors][];
+    for (int i = 0; i < divisors; i++) {
+      final ImmutableQuadruple[] dividends = new ImmutableQuadruple[dividendsPerDivisor];
+      for (int j = 0; j < dividendsPerDivisor; j++) {
+        dividends[j] = ImmutableQuadruple.construct(rand.nextBoolean(), EXPONENT_OF_ONE + rand.nextInt(2000) - 1000,
+                                                    rand.nextLong(), rand.nextLong());
+      }
+      final ImmutableQuadruple divisor = (i % 10 == 0)?
+          new ImmutableQuadruple(rand.nextInt(1_000_000) + 1) : // Integers have lots of zeros in the mantissa
+          ImmutableQuadruple.construct(rand.nextBoolean(), EXPONENT_OF_ONE + rand.nextInt(2000) - 1000,
+                                       rand.nextLong(), rand.nextLong());
+      result[i] = new Object[] { dividends, divisor };
+    }
+    return result;
+  }
+
   public static Object[][] adjacentPairs() {
     final List<ImmutableQuadruple> list = adjacentValues();
     final Object[][] dataSamples = new Object[list.size() -1][];
@@ -356,9 +410,699 @@ public class DraftTestData {
     return result;
   }
 
+  /**
+   * Returns triplets of qOperand, scale factor, and the expected result of qOperand.scalb(scaleFactor),
+   * found by multiplying the operand by the corresponding power of two, where it is representable,
+   * or as an infinity or a zero otherwise.
+   * The scale factors that would produce subnormal results requiring rounding are not used,
+   * e.g. -1 gives a tie case for MIN_VALUE
+   */
+  public static Object[][] toScalb() {
+    final int[] scaleFactors = { -2_147_000_000, -2_000_000_000, -1000, -64, -7, 0, 1, 7, 64, 1000,
+                                 2_000_000_000, Integer.MAX_VALUE };
+    final Object[][] result = new Object[qOperands.length * scaleFactors.length][];
+    int index = 0;
+    for (final ImmutableQuadruple q : qOperands) {
+      for (final int scaleFactor : scaleFactors) {
+        result[index++] = new Object[] { q, scaleFactor, expectedScalbResult(q, scaleFactor) };
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns triplets of qOperand, exponent, and the exact value of qOperand^exponent as a BigDecimal,
+   * for finite non-zero qOperands whose powers are within the range of ImmutableQuadruple
+   */
+  public static Object[][] toPow() {
+    final int[] exponents = { -17, -3, -2, -1, 1, 2, 3, 17, 100 };
+    final List<Object[]> result = new ArrayList<>();
+    for (final ImmutableQuadruple q : moderateQOperands()) {
+      for (final int exponent : exponents) {
+        final BigDecimal power = (exponent > 0)?
+            q.bigDecimalValue().pow(exponent) :
+            BigDecimal.ONE.divide(q.bigDecimalValue().pow(-exponent), MC_120);
+        result.add(new Object[] { q, exponent, power });
+      }
+    }
+    return result.toArray(new Object[0][]);
+  }
+
+  /**
+   * Returns triplets of qOperand, n, and the exact value of qOperand * 10^n as a BigDecimal,
+   * for finite non-zero qOperands whose products are within the range of ImmutableQuadruple,
+   * with n having various combinations of bits that select the entries of the tables of powers
+   */
+  public static Object[][] toScaleByPowerOfTen() {
+    final int[] powers = { -100_000, -65_537, -12_345, -4_931, -600, -511, -56, -55, -7, -1,
+                           1, 7, 55, 56, 511, 512, 1000, 4_931, 12_345, 65_537, 100_000 };
+    final List<Object[]> result = new ArrayList<>();
+    for (final ImmutableQuadruple q : moderateQOperands()) {
+      for (final int n : powers) {
+        result.add(new Object[] { q, n, q.bigDecimalValue().scaleByPowerOfTen(n) });
+      }
+    }
+    return result.toArray(new Object[0][]);
+  }
+
+  /**
+   * Returns pairs of an argument and the value of e^argument as a BigDecimal,
+   * for qOperands with magnitudes not greater than 10^5, and random values of various magnitudes
+   */
+  public static Object[][] toExp() {
+    final List<ImmutableQuadruple> arguments = new ArrayList<>();
+    for (final ImmutableQuadruple q : moderateQOperands()) {
+      if (q.compareMagnitudeTo(new ImmutableQuadruple(1e5)) <= 0) {
+        arguments.add(q);
+      }
+    }
+    final Random rand = new Random(ELEMENTARY_FUNCTIONS_SEED);
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      final double range = Math.pow(10, rand.nextInt(9) - 5); // 1e-5 .. 1e3
+      arguments.add(ImmutableQuadruple.nextRandom(rand).subtract(0.5).multiply(range * 2));
+    }
+    final Object[][] result = new Object[arguments.size()][];
+    for (int i = 0; i < result.length; i++) {
+      final ImmutableQuadruple x = arguments.get(i);
+      result[i] = new Object[] { x, BigDecimalMath.exp(x.bigDecimalValue(), MC_50) };
+    }
+    return result;
+  }
+
+  /**
+   * Returns pairs of an argument and the value of ln(argument) as a BigDecimal,
+   * for positive qOperands, and random values of various magnitudes, including values close to 1
+   */
+  public static Object[][] toLog() {
+    final List<ImmutableQuadruple> arguments = new ArrayList<>();
+    for (final ImmutableQuadruple q : qOperands) {
+      if (!q.isNaN() && !q.isInfinite() && !q.isZero() && !q.isNegative()) {
+        arguments.add(q);
+      }
+    }
+    final Random rand = new Random(ELEMENTARY_FUNCTIONS_SEED);
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      if (i % 2 == 0) {
+        arguments.add(ImmutableQuadruple.nextRandom(rand).add(0.5).scalb(rand.nextInt(2000) - 1000));
+      } else {
+        final int closeness = rand.nextInt(40); // 1 +/- 2^-closeness
+        arguments.add(ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(-closeness).add(1));
+      }
+    }
+    final Object[][] result = new Object[arguments.size()][];
+    for (int i = 0; i < result.length; i++) {
+      final ImmutableQuadruple x = arguments.get(i);
+      result[i] = new Object[] { x, BigDecimalMath.log(x.bigDecimalValue(), MC_50) };
+    }
+    return result;
+  }
+
+  /**
+   * Returns triplets of a base, a non-integer exponent, and the value of base^exponent as a BigDecimal
+   */
+  public static Object[][] toPowWithQuadrupleExponent() {
+    final Random rand = new Random(ELEMENTARY_FUNCTIONS_SEED);
+    final Object[][] result = new Object[RANDOM_ARGUMENTS][];
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      final ImmutableQuadruple base = ImmutableQuadruple.nextRandom(rand).multiply(100).add(0.01);
+      final ImmutableQuadruple exponent = ImmutableQuadruple.nextRandom(rand).subtract(0.5).multiply(40);
+      result[i] = new Object[] { base, exponent,
+                                 BigDecimalMath.pow(base.bigDecimalValue(), exponent.bigDecimalValue(), MC_50) };
+    }
+    return result;
+  }
+
+  /**
+   * Returns triplets of an argument, and the values of sin(argument) and cos(argument) as BigDecimals,
+   * for qOperands with moderate exponents, random values of various magnitudes up to 2^16000,
+   * values close to multiples of pi/2, and values up to 2^40000, whose reduction needs more bits of 2/pi
+   * than the stored table holds
+   */
+  public static Object[][] toSinCos() {
+    final List<ImmutableQuadruple> arguments = new ArrayList<>(moderateQOperands());
+    final Random rand = new Random(ELEMENTARY_FUNCTIONS_SEED);
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      switch (i % 3) {
+        case 0:
+          final double range = Math.pow(10, rand.nextInt(12) - 5); // 1e-5 .. 1e6
+          arguments.add(ImmutableQuadruple.nextRandom(rand).subtract(0.5).multiply(range * 2));
+          break;
+        case 1:
+          arguments.add(ImmutableQuadruple.PI.multiply(rand.nextInt(1 << 20) + 1).scalb(-1));
+          break;
+        default:
+          arguments.add(ImmutableQuadruple.nextRandom(rand).add(0.5).scalb(rand.nextInt(16000)));
+      }
+    }
+    arguments.add(ImmutableQuadruple.TWO.scalb(16382).multiply(1.5));
+    arguments.add(ImmutableQuadruple.TWO.scalb(16383));
+    for (int i = 0; i < RANDOM_ARGUMENTS / 10; i++) {
+      arguments.add(ImmutableQuadruple.nextRandom(rand).add(0.5).scalb(16384 + rand.nextInt(24000)));
+    }
+    final Object[][] result = new Object[arguments.size()][];
+    for (int i = 0; i < result.length; i++) {
+      final ImmutableQuadruple x = arguments.get(i);
+      final BigDecimal exactX = exactValueOf(x);
+      result[i] = new Object[] { x, BigDecimalMath.sin(exactX, MC_50), BigDecimalMath.cos(exactX, MC_50) };
+    }
+    return result;
+  }
+
+  /**
+   * Returns pairs of an argument and the value of atan(argument) as a BigDecimal,
+   * for qOperands with moderate exponents, and random values of various magnitudes
+   */
+  public static Object[][] toAtan() {
+    final List<ImmutableQuadruple> arguments = new ArrayList<>(moderateQOperands());
+    final Random rand = new Random(ELEMENTARY_FUNCTIONS_SEED);
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      arguments.add(ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(40) - 20));
+    }
+    final Object[][] result = new Object[arguments.size()][];
+    for (int i = 0; i < result.length; i++) {
+      final ImmutableQuadruple x = arguments.get(i);
+      result[i] = new Object[] { x, BigDecimalMath.atan(x.bigDecimalValue(), MC_50) };
+    }
+    return result;
+  }
+
+  /**
+   * Returns triplets of an ordinate y, an abscissa x, and the value of atan2(y, x) as a BigDecimal,
+   * for random points in all four quadrants
+   */
+  public static Object[][] toAtan2() {
+    final Random rand = new Random(ELEMENTARY_FUNCTIONS_SEED);
+    final Object[][] result = new Object[RANDOM_ARGUMENTS][];
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      final ImmutableQuadruple y = ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(20) - 10);
+      final ImmutableQuadruple x = ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(20) - 10);
+      BigDecimal expected = BigDecimalMath.atan(y.bigDecimalValue().divide(x.bigDecimalValue(), MC_120), MC_120);
+      if (x.isNegative()) {
+        final BigDecimal pi = BigDecimalMath.pi(MC_120);
+        expected = y.isNegative()? expected.subtract(pi) : expected.add(pi);
+      }
+      result[i] = new Object[] { y, x, expected.round(MC_50) };
+    }
+    return result;
+  }
+
+  /**
+   * Returns triplets of an argument, and the values of asin(argument) and acos(argument) as BigDecimals,
+   * for random values within -1 .. 1, including values close to 1 and -1
+   */
+  public static Object[][] toAsinAcos() {
+    final Random rand = new Random(ELEMENTARY_FUNCTIONS_SEED);
+    final BigDecimal halfPi = BigDecimalMath.pi(MC_120).divide(BigDecimal.valueOf(2));
+    final Object[][] result = new Object[RANDOM_ARGUMENTS][];
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      ImmutableQuadruple x = (i % 2 == 0)?
+          ImmutableQuadruple.nextRandom(rand).multiply(2).subtract(1) :
+          ImmutableQuadruple.ONE.subtract(ImmutableQuadruple.nextRandom(rand).scalb(-rand.nextInt(60))); // 1 - 2^-n
+      if (i % 4 == 3) {
+        x = x.negate();
+      }
+      final BigDecimal asin = BigDecimalMath.asin(x.bigDecimalValue(), MC_120);
+      result[i] = new Object[] { x, asin.round(MC_50), halfPi.subtract(asin).round(MC_50) };
+    }
+    return result;
+  }
+
+  /**
+   * Returns triplets of an argument, a degree n, and the value of the n-th root of the argument as a BigDecimal,
+   * for qOperands with moderate exponents and random values of various magnitudes, with degrees from 3 to 10_000,
+   * including the degrees at which the way of the computation changes. Negative arguments are used with odd degrees only
+   */
+  public static Object[][] toRoot() {
+    final int[] degrees = { 3, 4, 5, 7, 16, 17, 100, 4096, 4097, 10_000 };
+    final List<ImmutableQuadruple> arguments = new ArrayList<>(moderateQOperands());
+    final Random rand = new Random(ELEMENTARY_FUNCTIONS_SEED);
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      arguments.add(ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(2000) - 1000));
+    }
+    final List<Object[]> result = new ArrayList<>();
+    for (int i = 0; i < arguments.size(); i++) {
+      final ImmutableQuadruple x = arguments.get(i);
+      final int n = degrees[i % degrees.length];
+      if (x.isNegative() && n % 2 == 0) {
+        continue;
+      }
+      final BigDecimal root = BigDecimalMath.root(exactValueOf(x).abs(), n, MC_50);
+      result.add(new Object[] { x, n, x.isNegative()? root.negate() : root });
+    }
+    return result.toArray(new Object[0][]);
+  }
+
+  /**
+   * Returns pairs of an argument and the value of 1 / sqrt(argument) as a BigDecimal,
+   * for positive qOperands with moderate exponents and random values of various magnitudes
+   */
+  public static Object[][] toRsqrt() {
+    final List<ImmutableQuadruple> arguments = new ArrayList<>();
+    for (final ImmutableQuadruple q : moderateQOperands()) {
+      if (!q.isNegative()) {
+        arguments.add(q);
+      }
+    }
+    final Random rand = new Random(ELEMENTARY_FUNCTIONS_SEED);
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      arguments.add(ImmutableQuadruple.nextRandom(rand).add(0.5).scalb(rand.nextInt(2000) - 1000));
+    }
+    final Object[][] result = new Object[arguments.size()][];
+    for (int i = 0; i < result.length; i++) {
+      final ImmutableQuadruple x = arguments.get(i);
+      result[i] = new Object[] { x, BigDecimal.ONE.divide(exactValueOf(x).sqrt(MC_120), MC_50) };
+    }
+    return result;
+  }
+
+  /**
+   * Returns triplets of two arguments and the value of sqrt(a^2 + b^2) as a BigDecimal,
+   * for random values with different and close magnitudes
+   */
+  public static Object[][] toHypot() {
+    final Random rand = new Random(ELEMENTARY_FUNCTIONS_SEED);
+    final Object[][] result = new Object[RANDOM_ARGUMENTS][];
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      final ImmutableQuadruple a = ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(200) - 100);
+      final ImmutableQuadruple b = (i % 3 == 0)?
+          a.multiply(ImmutableQuadruple.nextRandom(rand).add(0.5)) :
+          ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(200) - 100);
+      final BigDecimal exactA = exactValueOf(a), exactB = exactValueOf(b);
+      result[i] = new Object[] { a, b, exactA.multiply(exactA).add(exactB.multiply(exactB)).sqrt(MC_50) };
+    }
+    return result;
+  }
+
+  /**
+   * Returns pairs of an argument and its exact value as a BigDecimal, for qOperands with moderate exponents,
+   * and random values with various numbers of fractional bits,
+   * including halves, values close to integers, and values with the integer part just below 2^128
+   */
+  public static Object[][] toRoundToIntegral() {
+    final List<ImmutableQuadruple> arguments = new ArrayList<>(moderateQOperands());
+    final Random rand = new Random(ROUNDING_SEED);
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      final ImmutableQuadruple integer = new ImmutableQuadruple(rand.nextInt(2000) - 1000);
+      switch (i % 4) {
+        case 0:
+          arguments.add(ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(140) - 5));
+          break;
+        case 1:
+          arguments.add(integer.add(0.5));
+          break;
+        case 2:
+          arguments.add(integer.add(ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(-rand.nextInt(120))));
+          break;
+        default:
+          arguments.add(ImmutableQuadruple.ONE.scalb(128).subtract(ImmutableQuadruple.nextRandom(rand).scalb(rand.nextInt(3))));
+      }
+    }
+    final Object[][] result = new Object[arguments.size()][];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = new Object[] { arguments.get(i), exactValueOf(arguments.get(i)) };
+    }
+    return result;
+  }
+
+  /**
+   * Returns triplets of an argument, a number of decimal places and the exact value of the argument as a BigDecimal,
+   * for values with different magnitudes and numbers of decimal places, values that are the nearest ones
+   * to decimal fractions and to halfway cases, and numbers of places from -5 to 40
+   */
+  public static Object[][] toRoundToDecimalPlaces() {
+    final int[] placesToTest = { -5, 0, 1, 2, 8, 18, 27, 28, 40 };
+    final Random rand = new Random(ROUNDING_SEED);
+    final List<Object[]> result = new ArrayList<>();
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      final int places = placesToTest[i % placesToTest.length];
+      final ImmutableQuadruple x;
+      switch (i % 3) {
+        case 0:
+          x = ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(200) - 100);
+          break;
+        case 1: // Nearest to a decimal fraction with places digits
+          x = new ImmutableQuadruple(BigDecimal.valueOf(rand.nextLong() % 1_000_000_000_000L, Math.max(places, 0)));
+          break;
+        default: // Nearest to a halfway case
+          x = new ImmutableQuadruple(BigDecimal.valueOf(rand.nextLong() % 1_000_000_000_000L * 10 + 5, Math.max(places, 0) + 1));
+      }
+      if (!x.isZero()) {
+        result.add(new Object[] { x, places, exactValueOf(x) });
+      }
+    }
+    return result.toArray(new Object[0][]);
+  }
+
+  /**
+   * Returns pairs of doubles with close and very different magnitudes, including subnormal values,
+   * integers and operands of nearly equal magnitudes, whose sums suffer from cancellation
+   */
+  public static Object[][] toExactDoubleOperations() {
+    final Random rand = new Random(EXACT_OPERATIONS_SEED);
+    final Object[][] result = new Object[RANDOM_ARGUMENTS][];
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      final double a = (rand.nextDouble() - 0.5) * Math.pow(2, rand.nextInt(200) - 100);
+      final double b;
+      switch (i % 5) {
+        case 0:
+          b = -a * (1 + (rand.nextDouble() - 0.5) * Math.pow(2, -rand.nextInt(60)));
+          break;
+        case 1:
+          b = (rand.nextDouble() - 0.5) * Math.pow(2, rand.nextInt(2000) - 1000);
+          break;
+        case 2:
+          b = Double.longBitsToDouble(rand.nextLong() & 0x800F_FFFF_FFFF_FFFFL); // Subnormal
+          break;
+        case 3:
+          b = rand.nextInt(2000) - 1000;
+          break;
+        default:
+          b = (rand.nextDouble() - 0.5) * Math.pow(2, rand.nextInt(200) - 100);
+      }
+      result[i] = new Object[] { a, b };
+    }
+    return result;
+  }
+
+  /**
+   * Returns pairs of arrays of doubles of different lengths, containing values of similar and very different magnitudes,
+   * subnormal values, and values that cancel each other out
+   */
+  public static Object[][] toDoubleArrays() {
+    final Random rand = new Random(ACCUMULATION_SEED);
+    final Object[][] result = new Object[RANDOM_ARGUMENTS][];
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      final int length = rand.nextInt(100);
+      final double[] a = new double[length], b = new double[length];
+      for (int j = 0; j < length; j++) {
+        switch ((i + j) % 4) {
+          case 0:
+            a[j] = (rand.nextDouble() - 0.5) * Math.pow(2, rand.nextInt(2000) - 1000);
+            break;
+          case 1:
+            a[j] = Double.longBitsToDouble(rand.nextLong() & 0x800F_FFFF_FFFF_FFFFL); // Subnormal
+            break;
+          case 2:
+            a[j] = (j > 0 && i % 3 == 0)? -a[j - 1] : rand.nextInt(2000) - 1000;
+            break;
+          default:
+            a[j] = (rand.nextDouble() - 0.5) * Math.pow(2, rand.nextInt(100) - 50);
+        }
+        b[j] = (rand.nextDouble() - 0.5) * Math.pow(2, rand.nextInt(200) - 100);
+      }
+      result[i] = new Object[] { a, b };
+    }
+    return result;
+  }
+
+  /**
+   * Returns the high and the low parts of pairs of {@code DoubleDouble} values of different magnitudes,
+   * including pairs of values that nearly cancel each other out when added
+   */
+  public static Object[][] toDoubleDoublePairs() {
+    final Random rand = new Random(DOUBLE_DOUBLE_SEED);
+    final Object[][] result = new Object[RANDOM_ARGUMENTS][];
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      final double hi1 = (rand.nextDouble() - 0.5) * Math.pow(2, rand.nextInt(200) - 100);
+      final double hi2 = (i % 4 == 0)? -hi1 : (rand.nextDouble() - 0.5) * Math.pow(2, rand.nextInt(200) - 100);
+      final double lo1 = Math.ulp(hi1) * (rand.nextDouble() - 0.5) * 0.999;
+      final double lo2 = (i % 4 == 0)? Math.ulp(hi1) * rand.nextDouble() * 0.499 : Math.ulp(hi2) * (rand.nextDouble() - 0.5) * 0.999;
+      result[i] = new Object[] { hi1, lo1, hi2, lo2 };
+    }
+    return result;
+  }
+
+  /**
+   * Returns pairs of a square matrix and a right-hand side of a system of linear equations.
+   * The matrices include random matrices of different sizes, matrices with rows of very different magnitudes,
+   * and Hilbert matrices with condition numbers up to about {@code 10^10}
+   */
+  public static Object[][] toLinearSystems() {
+    final Random rand = new Random(LINEAR_SYSTEMS_SEED);
+    final Object[][] result = new Object[LINEAR_SYSTEMS][];
+    for (int k = 0; k < LINEAR_SYSTEMS; k++) {
+      final int size = (k % 5 == 4)? 2 + k % 7 : 1 + rand.nextInt(30);
+      final double[][] matrix = new double[size][size];
+      final double[] b = new double[size];
+      for (int i = 0; i < size; i++) {
+        final double rowScale = (k % 5 == 3)? Math.pow(2, rand.nextInt(200) - 100) : 1;
+        for (int j = 0; j < size; j++) {
+          matrix[i][j] = (k % 5 == 4)? 1.0 / (i + j + 1) : (rand.nextDouble() - 0.5) * rowScale;
+        }
+        b[i] = (rand.nextDouble() - 0.5) * rowScale;
+      }
+      result[k] = new Object[] { matrix, b };
+    }
+    return result;
+  }
+
+  /**
+   * Returns pairs of matrices of random sizes with matching inner dimensions, as arrays of their rows,
+   * some of them greater than the blocks used by {@code QuadrupleMatrix.multiply()}
+   */
+  public static Object[][] toMatrixPairs() {
+    final Random rand = new Random(MATRICES_SEED);
+    final Object[][] result = new Object[MATRIX_PAIRS][];
+    for (int k = 0; k < MATRIX_PAIRS; k++) {
+      final int rows = 1 + rand.nextInt(40), inner = 1 + rand.nextInt((k % 4 == 0)? 160 : 20), columns = 1 + rand.nextInt(40);
+      result[k] = new Object[] { randomMatrix(rand, rows, inner), randomMatrix(rand, inner, columns) };
+    }
+    return result;
+  }
+
+  private static ImmutableQuadruple[][] randomMatrix(Random rand, int rows, int columns) {
+    final ImmutableQuadruple[][] result = new ImmutableQuadruple[rows][columns];
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < columns; j++) {
+        result[i][j] = ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(40) - 20);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns sparse matrices in the CSR format, as the numbers of rows and columns, the row starts,
+   * the column indices and the values, along with vectors to multiply them by and to add the products to.
+   * The matrices have random sizes and densities, including empty rows and rows much longer than the others
+   */
+  public static Object[][] toSparseMatrices() {
+    final Random rand = new Random(SPARSE_MATRICES_SEED);
+    final Object[][] result = new Object[SPARSE_MATRICES][];
+    for (int k = 0; k < SPARSE_MATRICES; k++) {
+      final int rows = 1 + rand.nextInt(60), columns = 1 + rand.nextInt(60);
+      final double density = (k % 3 == 0)? 0.05 : rand.nextDouble();
+      final int[] rowStarts = new int[rows + 1];
+      final List<Integer> columnIndices = new ArrayList<>();
+      for (int i = 0; i < rows; i++) {
+        final boolean denseRow = (k % 5 == 0 && i == rows / 2);
+        for (int j = 0; j < columns; j++) {
+          if (denseRow || rand.nextDouble() < density) {
+            columnIndices.add(j);
+          }
+        }
+        rowStarts[i + 1] = columnIndices.size();
+      }
+      final ImmutableQuadruple[] values = randomMatrix(rand, 1, columnIndices.size())[0];
+      result[k] = new Object[] { rows, columns, rowStarts, columnIndices.stream().mapToInt(i -> i).toArray(), values,
+                                 randomMatrix(rand, 1, columns)[0], randomMatrix(rand, 1, rows)[0] };
+    }
+    return result;
+  }
+
+  /**
+   * Returns pairs of vectors of equal random lengths, some of them longer than the chunks processed
+   * by a single task of {@code QuadrupleVector}, along with a factor, an offset and an increment
+   * for the operations on parts of the vectors
+   */
+  public static Object[][] toVectorPairs() {
+    final Random rand = new Random(VECTORS_SEED);
+    final Object[][] result = new Object[VECTOR_PAIRS][];
+    for (int k = 0; k < VECTOR_PAIRS; k++) {
+      final int length = (k % 5 == 0)? 5000 + rand.nextInt(10000) : 1 + rand.nextInt(100);
+      final ImmutableQuadruple[][] vectors = randomMatrix(rand, 2, length);
+      final ImmutableQuadruple factor = ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(40) - 20);
+      final int offset = rand.nextInt(length), increment = 1 + rand.nextInt(4);
+      result[k] = new Object[] { vectors[0], vectors[1], factor, offset, increment };
+    }
+    return result;
+  }
+
+  /**
+   * Returns the real and imaginary parts of complex vectors to transform with {@code QuadrupleFFT},
+   * of sizes that are even and odd powers of two, and other sizes, that require Bluestein's algorithm.
+   * The elements of some of the vectors have very different magnitudes
+   */
+  public static Object[][] toFftSignals() {
+    final Random rand = new Random(FFT_SEED);
+    final Object[][] result = new Object[FFT_SIZES.length][];
+    for (int k = 0; k < FFT_SIZES.length; k++) {
+      final ImmutableQuadruple[][] parts = (k % 3 == 2)? randomMatrix(rand, 2, FFT_SIZES[k]) : new ImmutableQuadruple[2][FFT_SIZES[k]];
+      for (int j = 0; j < FFT_SIZES[k] && k % 3 != 2; j++) {
+        parts[0][j] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+        parts[1][j] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+      }
+      result[k] = new Object[] { parts[0], parts[1] };
+    }
+    return result;
+  }
+
+  /**
+   * Returns pairs of complex numbers, whose parts are random values with exponents within [-100, 100),
+   * including pairs with parts of very different magnitudes, zero parts,
+   * and pairs whose products have real or imaginary parts that almost cancel out
+   */
+  public static Object[][] toComplexPairs() {
+    final Random rand = new Random(COMPLEX_SEED);
+    final Object[][] result = new Object[COMPLEX_PAIRS][];
+    for (int i = 0; i < COMPLEX_PAIRS; i++) {
+      final ImmutableQuadruple[] parts = new ImmutableQuadruple[4];
+      for (int j = 0; j < 4; j++) {
+        parts[j] = ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(i % 4 == 1? 200 : 20) - (i % 4 == 1? 100 : 10));
+      }
+      switch (i % 8) {
+        case 2: // b is close to a multiple of conj(a), so that the imaginary part of a * b almost vanishes
+          parts[2] = parts[0].multiply(3);
+          parts[3] = parts[1].multiply(-3).add(parts[1].scalb(-100));
+          break;
+        case 6:
+          parts[rand.nextInt(4)] = ImmutableQuadruple.ZERO;
+          break;
+        default:
+      }
+      result[i] = new Object[] { new ImmutableComplexQuadruple(parts[0], parts[1]), new ImmutableComplexQuadruple(parts[2], parts[3]) };
+    }
+    return result;
+  }
+
+  /**
+   * Returns pairs of random values with exponents within [-100, 100), for the operations on intervals,
+   * including pairs of small integers, whose sums, differences and products are exact,
+   * pairs of close values, whose differences cancel out, and pairs of values of very different magnitudes
+   */
+  public static Object[][] toIntervalOperands() {
+    final Random rand = new Random(INTERVAL_SEED);
+    final Object[][] result = new Object[INTERVAL_OPERANDS][];
+    for (int i = 0; i < INTERVAL_OPERANDS; i++) {
+      final ImmutableQuadruple x = ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(200) - 100);
+      final ImmutableQuadruple y;
+      switch (i % 4) {
+        case 1:
+          y = x.add(x.scalb(-rand.nextInt(120) - 1)).negate();
+          break;
+        case 2:
+          result[i] = new Object[] { new ImmutableQuadruple(rand.nextInt(2000) - 1000), new ImmutableQuadruple(rand.nextInt(2000) - 1000) };
+          continue;
+        case 3:
+          y = ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(200) - 100 + x.unbiasedExponent());
+          break;
+        default:
+          y = ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(200) - 100);
+      }
+      result[i] = new Object[] { x, y };
+    }
+    return result;
+  }
+
+  /**
+   * Returns pairs of {@code long} values, including zeros, the extreme values,
+   * random values of various magnitudes, whose sums or products may overflow a {@code long},
+   * and pairs of opposite values, whose sums are zeros
+   */
+  public static Object[][] toSmallIntegerPairs() {
+    final long[] special = { 0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1, 1L << 32, -(1L << 31) };
+    final Random rand = new Random(SMALL_INTEGERS_SEED);
+    final Object[][] result = new Object[SMALL_INTEGER_PAIRS][];
+    for (int i = 0; i < SMALL_INTEGER_PAIRS; i++) {
+      final long a = (i % 5 == 0)? special[rand.nextInt(special.length)] : rand.nextLong() >> rand.nextInt(64);
+      final long b = (i % 7 == 6)? -a :
+                     (i % 3 == 0)? special[rand.nextInt(special.length)] : rand.nextLong() >> rand.nextInt(64);
+      result[i] = new Object[] { a, b };
+    }
+    return result;
+  }
+
+  /**
+   * Returns pairs of a random value and a random pair of words with an IEEE-754 binary128 representation.
+   * The values have exponents within the range of normal and subnormal binary128 values, and some of them are halfway
+   * between adjacent binary128 values. The words represent normal values and some subnormal ones
+   */
+  public static Object[][] toBinary128Values() {
+    final Random rand = new Random(BINARY128_SEED);
+    final Object[][] result = new Object[BINARY128_VALUES][];
+    for (int i = 0; i < BINARY128_VALUES; i++) {
+      final int exponent = (i % 5 == 0)? -16382 - rand.nextInt(112) : rand.nextInt(32766) - 16382;
+      final long mantLo = (i % 7 == 0)? (rand.nextLong() & ~0xFFFFL) | 0x8000 : rand.nextLong();
+      final ImmutableQuadruple value = ImmutableQuadruple.construct(rand.nextBoolean(), ImmutableQuadruple.ONE.exponent() + exponent,
+                                                                    rand.nextLong(), mantLo);
+      final long hi = (i % 4 == 0)? rand.nextLong() & 0x8000_FFFF_FFFF_FFFFL : (rand.nextLong() & 0x8000_FFFF_FFFF_FFFFL)
+                                                                               | (long)(rand.nextInt(0x7FFE) + 1) << 48;
+      result[i] = new Object[] { value, new long[] { hi, rand.nextLong() } };
+    }
+    return result;
+  }
+
+  /**
+   * Returns quadruplets of a dividend, a divisor and their exact values as BigDecimals,
+   * for random values with exponent differences up to 300, divisors close to the dividends
+   * or to their integer fractions, and a few dividends exceeding the divisors by more than 2^4096
+   */
+  public static Object[][] toRemainder() {
+    final Random rand = new Random(REMAINDER_SEED);
+    final Object[][] result = new Object[RANDOM_ARGUMENTS][];
+    for (int i = 0; i < RANDOM_ARGUMENTS; i++) {
+      final ImmutableQuadruple x = ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(300) - 150);
+      final ImmutableQuadruple y;
+      switch (i % 4) {
+        case 0:
+          y = x.multiply(ImmutableQuadruple.nextRandom(rand).add(0.5)).negate();
+          break;
+        case 1:
+          y = x.divide(rand.nextInt(1000) + 1);
+          break;
+        case 2:
+          y = ImmutableQuadruple.nextRandom(rand).add(0.1).scalb(-4100 - rand.nextInt(1000));
+          break;
+        default:
+          y = ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(300) - 150);
+      }
+      if (x.isZero() || y.isZero()) {
+        i--;
+        continue;
+      }
+      result[i] = new Object[] { x, y, exactValueOf(x), exactValueOf(y) };
+    }
+    return result;
+  }
+
   //###########################################################
   // Private helper methods
 
+  /** The exact value of a finite normal ImmutableQuadruple, found from its mantissa and exponent */
+  static BigDecimal exactValueOf(ImmutableQuadruple q) {
+    if (q.isZero()) {
+      return BigDecimal.ZERO;
+    }
+    final BigInteger mantissa = BigInteger.ONE.shiftLeft(128)
+        .or(new BigInteger(Long.toUnsignedString(q.mantHi())).shiftLeft(64))
+        .or(new BigInteger(Long.toUnsignedString(q.mantLo())));
+    final long exponent = q.getExponent() - 128;
+    final BigDecimal result = (exponent >= 0)?
+        new BigDecimal(mantissa.shiftLeft((int)exponent)) :
+        new BigDecimal(mantissa).divide(new BigDecimal(BigInteger.ONE.shiftLeft((int)-exponent)));
+    return q.isNegative()? result.negate() : result;
+  }
+
+  /** Finite non-zero qOperands with moderate exponents */
+  private static List<ImmutableQuadruple> moderateQOperands() {
+    final List<ImmutableQuadruple> result = new ArrayList<>();
+    for (final ImmutableQuadruple q : qOperands) {
+      if (!q.isNaN() && !q.isInfinite() && !q.isZero() && Math.abs(q.unbiasedExponent()) < 1000) {
+        result.add(q);
+      }
+    }
+    return result;
+  }
+
   private static Object[][] combineQuadruples() {
     final int size = qOperands.length;
     final Object[][] result = new Object[size * size][];
@@ -1083,4 +1827,12 @@ public class DraftTestData {
     return data.isNegative()? -1 : 1;
   }
 
+  private static ImmutableQuadruple expectedScalbResult(ImmutableQuadruple data, int scaleFactor) {
+    final ImmutableQuadruple powerOfTwo = ImmutableQuadruple.construct(false, EXPONENT_OF_ONE + scaleFactor, 0, 0);
+    if (data.isZero() || data.isInfinite() || data.isNaN()) {
+      return data;
+    }
+    return data.multiply(powerOfTwo);
+  }
+
 }
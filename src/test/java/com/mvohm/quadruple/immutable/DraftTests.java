@@ -8,15 +8,40 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import com.mvohm.quadruple.DoubleDouble;
+import com.mvohm.quadruple.ImmutableComplexQuadruple;
 import com.mvohm.quadruple.ImmutableQuadruple;
+import com.mvohm.quadruple.Quadruple;
+import com.mvohm.quadruple.QuadrupleAccumulator;
+import com.mvohm.quadruple.QuadrupleBinary128Array;
+import com.mvohm.quadruple.QuadrupleCholesky;
+import com.mvohm.quadruple.QuadrupleDivisor;
+import com.mvohm.quadruple.QuadrupleFFT;
+import com.mvohm.quadruple.QuadrupleHashMap;
+import com.mvohm.quadruple.QuadrupleHashSet;
+import com.mvohm.quadruple.QuadrupleInterner;
+import com.mvohm.quadruple.QuadrupleInterval;
+import com.mvohm.quadruple.QuadrupleLU;
+import com.mvohm.quadruple.QuadrupleLinearSolver;
+import com.mvohm.quadruple.QuadrupleMatrix;
+import com.mvohm.quadruple.QuadrupleSparseMatrix;
+import com.mvohm.quadruple.QuadrupleVector;
+import com.mvohm.quadruple.immutable.test.BigDecimalMath;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
 
 import static com.mvohm.quadruple.immutable.test.AuxMethods.*;
 
@@ -45,6 +70,40 @@ public class DraftTests {
   // (sqrt(x))^2 may differ from x by 1 in the least significant bit of the mantissa
   private static final double SQR_ERROR_THRESHOLD = 2.94e-39; // 1.47e-39 * 2;
   private static final MathContext MC_80 = new MathContext(80, RoundingMode.HALF_EVEN);
+  // The relative size of a unit in the last place, 2^-128. Relative rounding errors do not exceed a half of it
+  private static final double ULP_OF_ONE = 2.94e-39;
+  // Error bounds of the elementary functions, in units in the last place
+  private static final double EXP_ERROR_ULPS = 0.6;
+  private static final double LOG_ERROR_ULPS = 2.5;
+  private static final double LOG2_ERROR_ULPS = 3.5;
+  private static final double SIN_COS_ERROR_ULPS = 1.5;
+  private static final double TAN_ERROR_ULPS = 2.5;
+  private static final double ATAN_ERROR_ULPS = 1.5;
+  private static final double ATAN2_ERROR_ULPS = 2.0;
+  private static final double ASIN_ACOS_ERROR_ULPS = 2.5;
+  private static final double ROOT_ERROR_ULPS = 1.0;
+  private static final double HYPOT_ERROR_ULPS = 2.0;
+  private static final double NORM_ERROR_ULPS = 1.0;
+  /** Relative errors of the solutions found with the decompositions of QuadrupleMatrix, including ill-conditioned ones */
+  private static final double LU_SOLUTION_ERROR = 1e-26;
+  private static final double CHOLESKY_RESIDUAL_ERROR = 1e-34;
+  /** The error of the elements of Fourier transforms, relative to the sum of the magnitudes of the transformed elements */
+  private static final double FFT_ERROR = 1e-37;
+  /** Error bounds of the operations of ImmutableComplexQuadruple, in units in the last place. The errors of the parts of quotients
+   * are relative to the magnitude of the quotient, those of the parts of products are relative to the parts themselves */
+  private static final double COMPLEX_ADD_MULTIPLY_ERROR_ULPS = 0.5;
+  private static final double COMPLEX_DIVIDE_ERROR_ULPS = 1.5;
+  private static final double COMPLEX_ABS_ERROR_ULPS = 0.75;
+  /** The error of the fused sums of products, relative to the sum of the magnitudes of the products, 2^-189 */
+  private static final double FUSED_SUM_ERROR = 1.3e-57;
+  /** The relative error of the conversion to IEEE-754 binary128, a half of its unit in the last place, 2^-113 */
+  private static final double BINARY128_ERROR = 9.63e-35;
+  /** Relative error bounds of the operations of DoubleDouble, in units of 2^-106 */
+  private static final double DOUBLE_DOUBLE_ADD_ERROR = 3.0;
+  private static final double DOUBLE_DOUBLE_MULTIPLY_ERROR = 4.0;
+  private static final double DOUBLE_DOUBLE_DIVIDE_ERROR = 15.0;
+  private static final double DOUBLE_DOUBLE_SQRT_ERROR = 4.0;
+  private static final double ULP_OF_DOUBLE_DOUBLE = 0x1p-106;
 
 
 //  @Disabled
@@ -244,6 +303,33 @@ public class DraftTests {
     assertThat(hash1).withFailMessage(msg).isNotEqualTo(hash2);
   }
 
+//  @Disabled
+  @Test
+  @DisplayName("longHash() mixes the low bits well and gives equal hashes to zeros of both signs and to NaNs")
+  void testLongHashIsWellMixedAndNormalizesZerosAndNaNs()  {
+    assertThat(ImmutableQuadruple.ZERO.negate().longHash()).isEqualTo(ImmutableQuadruple.ZERO.longHash());
+    assertThat(ImmutableQuadruple.ZERO.negate().hashCode()).isEqualTo(ImmutableQuadruple.ZERO.hashCode());
+    final ImmutableQuadruple otherNaN = ImmutableQuadruple.construct(true, ImmutableQuadruple.NaN.exponent(), 1, 1);
+    assertThat(otherNaN.isNaN()).isTrue();
+    assertThat(otherNaN.longHash()).isEqualTo(ImmutableQuadruple.NaN.longHash());
+    assertThat(ImmutableQuadruple.NaN.longHash()).isNotEqualTo(ImmutableQuadruple.POSITIVE_INFINITY.longHash());
+
+    // Consecutive integers, that differ only in a few high bits of the mantissa, fill a power-of-two table
+    // like random hashes do, about 1 - 1/e of the buckets. For random hashes the share deviates from it
+    // by about 0.1%, and the inputs are exact, so the result is deterministic
+    final int tableSize = 1 << 16;
+    final Set<Integer> buckets = new HashSet<>(), longBuckets = new HashSet<>();
+    for (int i = 1; i <= tableSize; i++) {
+      final ImmutableQuadruple q = new ImmutableQuadruple(i);
+      assertThat(ImmutableQuadruple.longHash(q.isNegative(), q.exponent(), q.mantHi(), q.mantLo())).isEqualTo(q.longHash());
+      buckets.add(q.hashCode() & (tableSize - 1));
+      longBuckets.add((int)(q.longHash() & (tableSize - 1)));
+    }
+    final int expectedBuckets = (int)(tableSize * (1 - Math.exp(-1))), tolerance = tableSize / 100;
+    assertThat(buckets.size()).isBetween(expectedBuckets - tolerance, expectedBuckets + tolerance);
+    assertThat(longBuckets.size()).isBetween(expectedBuckets - tolerance, expectedBuckets + tolerance);
+  }
+
 //  @Disabled
   @ParameterizedTest
   @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toCompareImmQuadruples")
@@ -818,6 +904,1248 @@ public class DraftTests {
     assertThat(actual).withFailMessage(msg).isEqualTo(expected);
   }
 
+// public ImmutableQuadruple divide(QuadrupleDivisor divisor) {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toDivideImmutableQuadruple")
+  @DisplayName("q1.divide(new QuadrupleDivisor(q2)) returns correct value")
+  void testDivideByQuadrupleDivisorReturnsCorrectResult(ImmutableQuadruple q1, ImmutableQuadruple q2, ImmutableQuadruple expected) {
+    ImmutableQuadruple actual = q1.divide(new QuadrupleDivisor(q2));
+    final String msg = String.format("Dividing %s by %s resulted in %s; expected %s",
+                                    q1, q2, actual, expected);
+
+    if (actual.isNaN() && expected.isNaN()) { // NaN is never equal to anything, not even another NaN
+      actual = ImmutableQuadruple.ONE;
+      expected = ImmutableQuadruple.ONE;
+    }
+
+    if (!actual.equals(expected)) {
+      say(msg);
+    }
+    assertThat(actual).withFailMessage(msg).isEqualTo(expected);
+  }
+
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#randomPairsToDivide")
+  @DisplayName("QuadrupleDivisor.divide(ImmutableQuadruple[]) returns the same values as divide(ImmutableQuadruple)")
+  void testQuadrupleDivisorIsBitIdenticalToDivide(ImmutableQuadruple[] dividends, ImmutableQuadruple divisor) {
+    final ImmutableQuadruple[] actual = new QuadrupleDivisor(divisor).divide(dividends);
+    for (int i = 0; i < dividends.length; i++) {
+      final ImmutableQuadruple expected = dividends[i].divide(divisor);
+      final String msg = String.format("Dividing %s by %s resulted in %s; expected %s",
+                                      dividends[i].toHexString(), divisor.toHexString(),
+                                      actual[i].toHexString(), expected.toHexString());
+      if (!actual[i].equals(expected)) {
+        say(msg);
+      }
+      assertThat(actual[i]).withFailMessage(msg).isEqualTo(expected);
+    }
+  }
+
+//public static ImmutableQuadruple exactProduct(double a, double b) {
+//public static ImmutableQuadruple exactSum(double a, double b) {
+//public static ImmutableQuadruple exactDifference(double a, double b) {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toExactDoubleOperations")
+  @DisplayName("exactProduct(a, b), exactSum(a, b) and exactDifference(a, b) return exact or correctly rounded results")
+  void testExactDoubleOperationsReturnCorrectResults(double a, double b) {
+    final String arguments = a + ", " + b;
+    final BigDecimal exactA = new BigDecimal(a), exactB = new BigDecimal(b);
+    assertExactResult("exactProduct", arguments, ImmutableQuadruple.exactProduct(a, b),
+                      exactA.multiply(exactB), (a < 0) != (b < 0));
+    // The sum takes not more than 129 bits if the exponents differ by less than 76
+    final boolean sumIsExact = Math.abs(Math.getExponent(a) - Math.getExponent(b)) < 76
+                               && Math.abs(a) >= Double.MIN_NORMAL && Math.abs(b) >= Double.MIN_NORMAL;
+    assertSumIsCorrect("exactSum", arguments, ImmutableQuadruple.exactSum(a, b), exactA.add(exactB), sumIsExact);
+    assertSumIsCorrect("exactDifference", arguments, ImmutableQuadruple.exactDifference(a, b), exactA.subtract(exactB), sumIsExact);
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("Exact operations on doubles handle special values properly")
+  void testExactDoubleOperationsHandleSpecialValues() {
+    final ImmutableQuadruple negativeZero = ImmutableQuadruple.ZERO.negate();
+    assertThat(ImmutableQuadruple.exactProduct(0.1, 0.1))
+        .isEqualTo(new ImmutableQuadruple(0.1).multiply(new ImmutableQuadruple(0.1)));
+    assertThat(ImmutableQuadruple.exactSum(1e300, 1e-300)).isEqualTo(new ImmutableQuadruple(1e300));
+    assertThat(ImmutableQuadruple.exactSum(1, 0x1p-100)).isEqualTo(ImmutableQuadruple.ONE.add(ImmutableQuadruple.ONE.scalb(-100)));
+    assertThat(ImmutableQuadruple.exactDifference(0.5, 0.5)).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(ImmutableQuadruple.exactSum(-0.0, -0.0)).isEqualTo(negativeZero);
+    assertThat(ImmutableQuadruple.exactProduct(-0.0, 3)).isEqualTo(negativeZero);
+    assertThat(ImmutableQuadruple.exactProduct(Double.MAX_VALUE, Double.MAX_VALUE).isInfinite()).isFalse();
+    assertThat(ImmutableQuadruple.exactProduct(Double.MIN_VALUE, Double.MIN_VALUE))
+        .isEqualTo(ImmutableQuadruple.ONE.scalb(-2148));
+    assertThat(ImmutableQuadruple.exactProduct(0, Double.POSITIVE_INFINITY).isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.exactSum(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY).isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.exactDifference(1, Double.POSITIVE_INFINITY)).isEqualTo(ImmutableQuadruple.NEGATIVE_INFINITY);
+  }
+
+//public static ImmutableQuadruple sum(double[] values) {
+//public static ImmutableQuadruple dot(double[] a, double[] b) {
+//public static ImmutableQuadruple norm2(double[] values) {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toDoubleArrays")
+  @DisplayName("sum(double[]), dot(double[], double[]) and norm2(double[]) return correctly rounded exact results")
+  void testReductionsOfDoubleArraysReturnCorrectResults(double[] a, double[] b) {
+    final String arguments = "double[" + a.length + "]";
+    BigDecimal sum = BigDecimal.ZERO, dotProduct = BigDecimal.ZERO, sumOfSquares = BigDecimal.ZERO;
+    for (int i = 0; i < a.length; i++) {
+      final BigDecimal exactA = new BigDecimal(a[i]);
+      sum = sum.add(exactA);
+      dotProduct = dotProduct.add(exactA.multiply(new BigDecimal(b[i])));
+      sumOfSquares = sumOfSquares.add(exactA.multiply(exactA));
+    }
+    assertSumIsCorrect("sum", arguments, ImmutableQuadruple.sum(a), sum, false);
+    assertSumIsCorrect("dot", arguments, ImmutableQuadruple.dot(a, b), dotProduct, false);
+    assertRelativeErrorIsWithin("norm2", arguments, ImmutableQuadruple.norm2(a), sumOfSquares.sqrt(MC_80), NORM_ERROR_ULPS);
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleAccumulator handles special values, and its parallel methods return the same results as sequential ones")
+  void testQuadrupleAccumulatorHandlesSpecialValuesAndParallelComputation() {
+    assertThat(ImmutableQuadruple.sum(new double[] { 1e308, 1e308, -1e308, 1e-300 }))
+        .isEqualTo(new ImmutableQuadruple(1e308).add(new ImmutableQuadruple(1e-300)));
+    assertThat(ImmutableQuadruple.sum(new double[] { 0.1, -0.1 })).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(ImmutableQuadruple.sum(new double[0])).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(ImmutableQuadruple.norm2(new double[] { 3e300, 4e300 })).isEqualTo(new ImmutableQuadruple(5e300));
+    assertThat(ImmutableQuadruple.sum(new double[] { 1, Double.NaN }).isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.dot(new double[] { 1, 0 }, new double[] { 1, Double.POSITIVE_INFINITY }).isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.sum(new double[] { 1, Double.NEGATIVE_INFINITY })).isEqualTo(ImmutableQuadruple.NEGATIVE_INFINITY);
+    assertThrows(IllegalArgumentException.class, () -> ImmutableQuadruple.dot(new double[1], new double[2]));
+
+    final Random rand = new Random(20211212);
+    final double[] a = new double[100_000], b = new double[a.length];
+    for (int i = 0; i < a.length; i++) {
+      a[i] = (rand.nextDouble() - 0.5) * Math.pow(2, rand.nextInt(200) - 100);
+      b[i] = (rand.nextDouble() - 0.5) * Math.pow(2, rand.nextInt(200) - 100);
+    }
+    assertThat(QuadrupleAccumulator.parallelSum(a)).isEqualTo(QuadrupleAccumulator.sum(a));
+    assertThat(QuadrupleAccumulator.parallelDot(a, b)).isEqualTo(QuadrupleAccumulator.dot(a, b));
+    assertThat(QuadrupleAccumulator.parallelNorm2(a)).isEqualTo(QuadrupleAccumulator.norm2(a));
+    final QuadrupleAccumulator halves = new QuadrupleAccumulator().addAll(a, 0, 50_000)
+        .add(new QuadrupleAccumulator().addAll(a, 50_000, a.length));
+    assertThat(halves.sum()).isEqualTo(QuadrupleAccumulator.sum(a));
+  }
+
+//public final class DoubleDouble {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toDoubleDoublePairs")
+  @DisplayName("Arithmetic operations of DoubleDouble return results within their error bounds")
+  void testDoubleDoubleOperationsReturnAccurateResults(double hi1, double lo1, double hi2, double lo2) {
+    final DoubleDouble x = DoubleDouble.valueOf(hi1, lo1), y = DoubleDouble.valueOf(hi2, lo2);
+    final String arguments = x + ", " + y;
+    final BigDecimal bdX = exactValueOf(x), bdY = exactValueOf(y);
+    assertDoubleDoubleErrorIsWithin("add", arguments, x.add(y), bdX.add(bdY), DOUBLE_DOUBLE_ADD_ERROR);
+    assertDoubleDoubleErrorIsWithin("subtract", arguments, x.subtract(y), bdX.subtract(bdY), DOUBLE_DOUBLE_ADD_ERROR);
+    assertDoubleDoubleErrorIsWithin("multiply", arguments, x.multiply(y), bdX.multiply(bdY), DOUBLE_DOUBLE_MULTIPLY_ERROR);
+    assertDoubleDoubleErrorIsWithin("divide", arguments, x.divide(y), bdX.divide(bdY, MC_80), DOUBLE_DOUBLE_DIVIDE_ERROR);
+    assertDoubleDoubleErrorIsWithin("sqrt", arguments, x.abs().sqrt(), bdX.abs().sqrt(MC_80), DOUBLE_DOUBLE_SQRT_ERROR);
+    assertDoubleDoubleErrorIsWithin("add(double)", arguments, x.add(hi2), bdX.add(new BigDecimal(hi2)), DOUBLE_DOUBLE_ADD_ERROR);
+    assertDoubleDoubleErrorIsWithin("multiply(double)", arguments,
+                                    x.multiply(hi2), bdX.multiply(new BigDecimal(hi2)), DOUBLE_DOUBLE_MULTIPLY_ERROR);
+    assertDoubleDoubleErrorIsWithin("divide(double)", arguments,
+                                    x.divide(hi2), bdX.divide(new BigDecimal(hi2), MC_80), DOUBLE_DOUBLE_DIVIDE_ERROR);
+
+    final ImmutableQuadruple q = x.toImmutableQuadruple();
+    assertThat(DraftTestData.exactValueOf(q).compareTo(bdX)).withFailMessage("%s.toImmutableQuadruple() gave %s", x, q).isZero();
+    assertThat(DoubleDouble.valueOf(q)).withFailMessage("valueOf(%s) gave %s", q, DoubleDouble.valueOf(q)).isEqualTo(x);
+    final ImmutableQuadruple product = x.toImmutableQuadruple().multiply(y.toImmutableQuadruple());
+    final DoubleDouble rounded = DoubleDouble.valueOf(product);
+    assertThat(rounded.hi()).isEqualTo(product.doubleValue());
+    assertDoubleDoubleErrorIsWithin("valueOf", product, rounded, DraftTestData.exactValueOf(product), 0.5);
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("DoubleDouble handles special values properly")
+  void testDoubleDoubleHandlesSpecialValues() {
+    assertThat(DoubleDouble.valueOf(Double.MAX_VALUE).multiply(2).hi()).isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(DoubleDouble.valueOf(Double.MAX_VALUE).add(DoubleDouble.valueOf(Double.MAX_VALUE)).hi())
+        .isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(DoubleDouble.ONE.divide(DoubleDouble.ZERO).hi()).isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(DoubleDouble.ZERO.divide(DoubleDouble.ZERO).isNaN()).isTrue();
+    assertThat(DoubleDouble.valueOf(-1).sqrt().isNaN()).isTrue();
+    assertThat(DoubleDouble.ZERO.sqrt()).isEqualTo(DoubleDouble.ZERO);
+    assertThat(DoubleDouble.valueOf(1, 0x1p-60).lo()).isEqualTo(0x1p-60); // The exact sum
+    assertThat(DoubleDouble.valueOf(ImmutableQuadruple.MAX_VALUE).hi()).isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(DoubleDouble.valueOf(new ImmutableQuadruple(1e-310))).isEqualTo(DoubleDouble.valueOf(1e-310));
+    assertThat(DoubleDouble.valueOf(ImmutableQuadruple.NaN).isNaN()).isTrue();
+    assertThat(DoubleDouble.valueOf(Double.NEGATIVE_INFINITY).toImmutableQuadruple()).isEqualTo(ImmutableQuadruple.NEGATIVE_INFINITY);
+    // The bits of 1 + 2^-200 don't fit in the mantissa of ImmutableQuadruple
+    assertThat(DoubleDouble.valueOf(1, 0x1p-200).toImmutableQuadruple()).isEqualTo(ImmutableQuadruple.ONE);
+  }
+
+//public final class QuadrupleLinearSolver {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toLinearSystems")
+  @DisplayName("QuadrupleLinearSolver finds solutions with the precision of ImmutableQuadruple")
+  void testLinearSolverFindsAccurateSolutions(double[][] matrix, double[] b) {
+    final int size = b.length;
+    final ImmutableQuadruple[] actual = QuadrupleLinearSolver.solve(matrix, b);
+    final BigDecimal[] expected = solveWithBigDecimals(matrix, b);
+
+    BigDecimal norm = BigDecimal.ZERO, error = BigDecimal.ZERO;
+    for (int i = 0; i < size; i++) {
+      norm = norm.max(expected[i].abs());
+      error = error.max(DraftTestData.exactValueOf(actual[i]).subtract(expected[i]).abs());
+    }
+    final double relativeError = error.divide(norm, MC_80).doubleValue();
+    assertThat(relativeError).withFailMessage("Solution of a system of size %s has relative error %s", size, relativeError)
+        .isLessThanOrEqualTo(ULP_OF_ONE);
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleLinearSolver reports singular, ill-conditioned and malformed systems")
+  void testLinearSolverHandlesInvalidSystems() {
+    assertThrows(ArithmeticException.class, () -> QuadrupleLinearSolver.solve(new double[][] { { 1, 2 }, { 2, 4 } }, new double[2]));
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleLinearSolver(new double[][] { { 1, 2 } }));
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleLinearSolver(new double[0][]));
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleLinearSolver(new double[][] { { Double.NaN } }));
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleLinearSolver(new double[][] { { 1 } }).solve(new double[2]));
+    final double[][] hilbert = new double[16][16];
+    for (int i = 0; i < hilbert.length; i++) {
+      for (int j = 0; j < hilbert.length; j++) {
+        hilbert[i][j] = 1.0 / (i + j + 1);
+      }
+    }
+    final double[] b = new double[hilbert.length];
+    b[0] = 1;
+    assertThrows(ArithmeticException.class, () -> QuadrupleLinearSolver.solve(hilbert, b));
+
+    final QuadrupleLinearSolver solver = new QuadrupleLinearSolver(new double[][] { { 3, 1 }, { 1, 2 } });
+    final ImmutableQuadruple[] zero = solver.solve(new double[] { 0, 0 });
+    assertThat(zero[0]).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(zero[1]).isEqualTo(ImmutableQuadruple.ZERO);
+    final ImmutableQuadruple[] x = solver.solve(new double[] { 1, 0 }); // { 2/5, -1/5 }
+    assertThat(x[0]).isEqualTo(new ImmutableQuadruple(2).divide(new ImmutableQuadruple(5)));
+    assertThat(x[1]).isEqualTo(new ImmutableQuadruple(-1).divide(new ImmutableQuadruple(5)));
+
+    // Solutions close to the subnormal range of double converge to the absolute accuracy of double
+    final ImmutableQuadruple[] tiny = solver.solve(new double[] { 0x1p-1000, 0x1p-1001 }); // { 3/10, 1/10 } * 2^-1000
+    final ImmutableQuadruple tolerance = new ImmutableQuadruple(0x1p-1070);
+    assertThat(tiny[0].subtract(new ImmutableQuadruple(3).divide(10).scalb(-1000)).abs().compareTo(tolerance)).isLessThan(0);
+    assertThat(tiny[1].subtract(new ImmutableQuadruple(1).divide(10).scalb(-1000)).abs().compareTo(tolerance)).isLessThan(0);
+  }
+
+//public final class QuadrupleMatrix {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toMatrixPairs")
+  @DisplayName("QuadrupleMatrix.multiply() returns correctly rounded products of matrices and vectors")
+  void testMatrixMultiplyReturnsCorrectlyRoundedResults(ImmutableQuadruple[][] a, ImmutableQuadruple[][] b) {
+    final QuadrupleMatrix matrixA = QuadrupleMatrix.of(a), matrixB = QuadrupleMatrix.of(b);
+    final QuadrupleMatrix product = matrixA.multiply(matrixB);
+    final ImmutableQuadruple[] column = new ImmutableQuadruple[b.length];
+    for (int k = 0; k < b.length; k++) {
+      column[k] = b[k][0];
+    }
+    final ImmutableQuadruple[] matrixVectorProduct = matrixA.multiply(column);
+    assertThat(product.rows()).isEqualTo(a.length);
+    assertThat(product.columns()).isEqualTo(b[0].length);
+    for (int i = 0; i < a.length; i++) {
+      for (int j = 0; j < b[0].length; j++) {
+        BigDecimal expected = BigDecimal.ZERO;
+        for (int k = 0; k < b.length; k++) {
+          expected = expected.add(DraftTestData.exactValueOf(a[i][k]).multiply(DraftTestData.exactValueOf(b[k][j])));
+        }
+        final String arguments = "(" + i + ", " + j + ") of " + a.length + " x " + b.length + " x " + b[0].length;
+        assertSumIsCorrect("multiply", arguments, product.get(i, j), expected, false);
+        if (j == 0) {
+          assertThat(matrixVectorProduct[i]).isEqualTo(product.get(i, 0));
+        }
+      }
+    }
+    assertThat(matrixB.transpose().multiply(matrixA.transpose())).isEqualTo(product.transpose());
+    assertThat(matrixA.multiply(QuadrupleMatrix.identity(b.length))).isEqualTo(matrixA);
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleMatrix handles special values, invalid arguments and custom pools")
+  void testMatrixHandlesSpecialValuesAndInvalidArguments() {
+    final QuadrupleMatrix a = QuadrupleMatrix.of(new double[][] { { 1, 2 }, { 3, 4 } });
+    assertThat(a.get(1, 0)).isEqualTo(new ImmutableQuadruple(3));
+    assertThat(a.toArray()[0][1]).isEqualTo(ImmutableQuadruple.TWO);
+    assertThat(a.multiply(a)).isEqualTo(QuadrupleMatrix.of(new double[][] { { 7, 10 }, { 15, 22 } }));
+    assertThat(a.multiply(a, new java.util.concurrent.ForkJoinPool(2))).isEqualTo(a.multiply(a));
+
+    final QuadrupleMatrix special = new QuadrupleMatrix(2, 2)
+        .set(0, 0, ImmutableQuadruple.POSITIVE_INFINITY)
+        .set(1, 1, ImmutableQuadruple.MAX_VALUE);
+    final QuadrupleMatrix product = special.multiply(a);
+    assertThat(product.get(0, 0)).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(product.get(1, 1)).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(product.get(1, 0)).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(special.multiply(new QuadrupleMatrix(2, 1)).get(0, 0).isNaN()).isTrue(); // Infinity * 0
+    final QuadrupleMatrix tiny = new QuadrupleMatrix(1, 1).set(0, 0, ImmutableQuadruple.MIN_VALUE);
+    assertThat(tiny.multiply(QuadrupleMatrix.of(new double[][] { { 3 } })).get(0, 0))
+        .isEqualTo(ImmutableQuadruple.MIN_VALUE.multiply(3));
+    assertThat(new QuadrupleMatrix(0, 3).multiply(new QuadrupleMatrix(3, 2)).rows()).isZero();
+
+    assertThrows(IllegalArgumentException.class, () -> a.multiply(new QuadrupleMatrix(3, 2)));
+    assertThrows(IllegalArgumentException.class, () -> a.multiply(new ImmutableQuadruple[3]));
+    assertThrows(IllegalArgumentException.class, () -> QuadrupleMatrix.of(new double[][] { { 1, 2 }, { 3 } }));
+    assertThrows(IndexOutOfBoundsException.class, () -> a.get(2, 0));
+  }
+
+//public final class QuadrupleLU {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toLinearSystems")
+  @DisplayName("QuadrupleLU and QuadrupleCholesky solve systems of linear equations with quadruple precision")
+  void testMatrixDecompositionsSolveSystemsAccurately(double[][] matrix, double[] b) {
+    final int size = b.length;
+    final ImmutableQuadruple[] rightHandSide = new ImmutableQuadruple[size];
+    for (int i = 0; i < size; i++) {
+      rightHandSide[i] = new ImmutableQuadruple(b[i]);
+    }
+    final QuadrupleMatrix a = QuadrupleMatrix.of(matrix);
+    final ImmutableQuadruple[] x = a.lu().solve(rightHandSide);
+    assertSolutionIsAccurate("QuadrupleLU.solve", size, x, solveWithBigDecimals(matrix, b), LU_SOLUTION_ERROR);
+
+    // A * A^T + I is symmetric and positive definite, but may be ill-conditioned, so the residual is checked
+    final QuadrupleMatrix s = a.multiply(a.transpose());
+    for (int i = 0; i < size; i++) {
+      s.set(i, i, s.get(i, i).add(ImmutableQuadruple.ONE));
+    }
+    final ImmutableQuadruple[] y = s.cholesky().solve(rightHandSide);
+    for (int i = 0; i < size; i++) {
+      BigDecimal residual = DraftTestData.exactValueOf(rightHandSide[i]), scale = BigDecimal.ZERO;
+      for (int j = 0; j < size; j++) {
+        final BigDecimal product = DraftTestData.exactValueOf(s.get(i, j)).multiply(DraftTestData.exactValueOf(y[j]));
+        residual = residual.subtract(product);
+        scale = scale.add(product.abs());
+      }
+      final double relativeResidual = residual.abs().divide(scale, MC_80).doubleValue();
+      assertThat(relativeResidual).withFailMessage("QuadrupleCholesky.solve: residual of row %s of a system of size %s is %s",
+                                                   i, size, relativeResidual)
+          .isLessThanOrEqualTo(CHOLESKY_RESIDUAL_ERROR);
+    }
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleLU and QuadrupleCholesky find factors, determinants and inverses, and handle invalid matrices")
+  void testMatrixDecompositionsHandleSpecialCases() {
+    final QuadrupleMatrix a = QuadrupleMatrix.of(new double[][] { { 1, 2, 0 }, { 3, 4, 1 }, { 0, 1, 5 } });
+    final QuadrupleLU lu = a.lu();
+    final int[] permutation = lu.getPermutation();
+    assertThat(permutation[0]).isEqualTo(1);
+    assertThat(permutation[1]).isEqualTo(2);
+    assertThat(lu.getL().get(2, 0)).isEqualTo(new ImmutableQuadruple(1).divide(3));
+    assertThat(lu.getU().get(1, 0)).isEqualTo(ImmutableQuadruple.ZERO);
+    final QuadrupleMatrix product = lu.getL().multiply(lu.getU());
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        assertThat(product.get(i, j).subtract(a.get(permutation[i], j)).abs().compareTo(1e-33)).isLessThanOrEqualTo(0);
+      }
+    }
+    assertThat(a.determinant().subtract(-11).abs().compareTo(1e-32)).isLessThanOrEqualTo(0);
+    assertThat(QuadrupleMatrix.of(new double[][] { { 2, 1 }, { 4, 3 } }).determinant()).isEqualTo(ImmutableQuadruple.TWO);
+    final QuadrupleMatrix shouldBeIdentity = a.inverse().multiply(a);
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        final ImmutableQuadruple expected = (i == j)? ImmutableQuadruple.ONE : ImmutableQuadruple.ZERO;
+        assertThat(shouldBeIdentity.get(i, j).subtract(expected).abs().compareTo(1e-32)).isLessThanOrEqualTo(0);
+      }
+    }
+
+    final QuadrupleMatrix spd = QuadrupleMatrix.of(new double[][] { { 4, 2, 2 }, { 2, 5, 3 }, { 2, 3, 6 } });
+    final QuadrupleCholesky cholesky = spd.cholesky();
+    assertThat(cholesky.getL().get(0, 0)).isEqualTo(ImmutableQuadruple.TWO);
+    assertThat(cholesky.getL().get(1, 1)).isEqualTo(ImmutableQuadruple.TWO);
+    assertThat(cholesky.getL().get(0, 1)).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(cholesky.getL().multiply(cholesky.getL().transpose())).isEqualTo(spd);
+    assertThat(cholesky.determinant()).isEqualTo(new ImmutableQuadruple(64));
+    assertThat(cholesky.inverse().multiply(spd).get(2, 2).subtract(1).abs().compareTo(1e-33)).isLessThanOrEqualTo(0);
+
+    // Greater than a panel of the blocked decompositions
+    final Random rand = new Random(20211216);
+    final QuadrupleMatrix large = new QuadrupleMatrix(75, 75);
+    for (int i = 0; i < 75; i++) {
+      for (int j = 0; j < 75; j++) {
+        large.set(i, j, ImmutableQuadruple.nextRandom(rand).subtract(0.5));
+      }
+    }
+    final QuadrupleLU largeLU = large.lu();
+    final QuadrupleMatrix largeProduct = largeLU.getL().multiply(largeLU.getU());
+    final int[] largePermutation = largeLU.getPermutation();
+    final QuadrupleMatrix largeSpd = large.multiply(large.transpose());
+    final QuadrupleMatrix largeL = largeSpd.cholesky().getL();
+    final QuadrupleMatrix largeSpdProduct = largeL.multiply(largeL.transpose());
+    for (int i = 0; i < 75; i++) {
+      for (int j = 0; j < 75; j++) {
+        assertThat(largeProduct.get(i, j).subtract(large.get(largePermutation[i], j)).abs().compareTo(1e-31))
+            .isLessThanOrEqualTo(0);
+        assertThat(largeSpdProduct.get(i, j).subtract(largeSpd.get(i, j)).abs().compareTo(1e-30)).isLessThanOrEqualTo(0);
+      }
+    }
+
+    final QuadrupleMatrix singular = QuadrupleMatrix.of(new double[][] { { 1, 2, 3 }, { 2, 4, 6 }, { 1, 0, 1 } });
+    assertThat(singular.lu().isSingular()).isTrue();
+    assertThat(singular.determinant()).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThrows(ArithmeticException.class, () -> singular.solve(new ImmutableQuadruple[] {
+        ImmutableQuadruple.ONE, ImmutableQuadruple.ONE, ImmutableQuadruple.ONE }));
+    assertThrows(ArithmeticException.class, () -> singular.inverse());
+    assertThrows(ArithmeticException.class, () -> a.cholesky()); // not positive definite
+    assertThrows(ArithmeticException.class, () -> QuadrupleMatrix.of(new double[][] { { 1, 2 }, { 2, 4 } }).cholesky());
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleMatrix(2, 3).lu());
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleMatrix(2, 3).cholesky());
+    assertThrows(IllegalArgumentException.class, () -> lu.solve(new ImmutableQuadruple[2]));
+    assertThrows(IllegalArgumentException.class, () -> cholesky.solve(new QuadrupleMatrix(2, 1)));
+  }
+
+//public final class QuadrupleSparseMatrix {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toSparseMatrices")
+  @DisplayName("QuadrupleSparseMatrix.multiply() and multiplyAdd() return correctly rounded results")
+  void testSparseMatrixMultiplyReturnsCorrectlyRoundedResults(int rows, int columns, int[] rowStarts, int[] columnIndices,
+                                                              ImmutableQuadruple[] values,
+                                                              ImmutableQuadruple[] x, ImmutableQuadruple[] y) {
+    final QuadrupleSparseMatrix matrix = new QuadrupleSparseMatrix(rows, columns, rowStarts, columnIndices, values);
+    final ImmutableQuadruple[] product = matrix.multiply(x);
+    final ImmutableQuadruple[] sum = matrix.multiplyAdd(x, y.clone());
+    assertThat(matrix.nonZeros()).isEqualTo(values.length);
+    for (int i = 0; i < rows; i++) {
+      BigDecimal expected = BigDecimal.ZERO;
+      for (int k = rowStarts[i]; k < rowStarts[i + 1]; k++) {
+        expected = expected.add(DraftTestData.exactValueOf(values[k]).multiply(DraftTestData.exactValueOf(x[columnIndices[k]])));
+      }
+      final String arguments = "row " + i + " of " + rows + " x " + columns + " with " + values.length + " non-zeros";
+      assertSumIsCorrect("multiply", arguments, product[i], expected, false);
+      assertSumIsCorrect("multiplyAdd", arguments, sum[i], expected.add(DraftTestData.exactValueOf(y[i])), false);
+    }
+    final QuadrupleSparseMatrix copy = QuadrupleSparseMatrix.of(matrix.toDense());
+    for (int i = 0; i < rows; i++) {
+      for (int k = rowStarts[i]; k < rowStarts[i + 1]; k++) {
+        assertThat(copy.get(i, columnIndices[k])).isEqualTo(values[k]);
+      }
+    }
+    assertThat(copy.multiply(x)[rows - 1]).isEqualTo(product[rows - 1]);
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleSparseMatrix handles large matrices, special values and invalid arguments")
+  void testSparseMatrixHandlesLargeMatricesAndInvalidArguments() {
+    // Large enough to be multiplied in parallel, with a few very long rows, and with exact integer products
+    final int size = 30_000;
+    final int[] rowStarts = new int[size + 1];
+    final List<Integer> columnIndices = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      final int step = (i % 1000 == 0)? 1 : 997;
+      for (int j = i % step; j < size; j += step) {
+        columnIndices.add(j);
+      }
+      rowStarts[i + 1] = columnIndices.size();
+    }
+    final ImmutableQuadruple[] values = new ImmutableQuadruple[columnIndices.size()];
+    final ImmutableQuadruple[] x = new ImmutableQuadruple[size], y = new ImmutableQuadruple[size];
+    final int[] indices = columnIndices.stream().mapToInt(i -> i).toArray();
+    for (int k = 0; k < values.length; k++) {
+      values[k] = new ImmutableQuadruple(k % 7 - 3);
+    }
+    for (int j = 0; j < size; j++) {
+      x[j] = new ImmutableQuadruple(j % 11);
+      y[j] = new ImmutableQuadruple(-j);
+    }
+    final QuadrupleSparseMatrix large = new QuadrupleSparseMatrix(size, size, rowStarts, indices, values);
+    final ImmutableQuadruple[] product = large.multiply(x);
+    large.multiplyAdd(x, y);
+    for (int i = 0; i < size; i++) {
+      long expected = 0;
+      for (int k = rowStarts[i]; k < rowStarts[i + 1]; k++) {
+        expected += (k % 7 - 3) * (indices[k] % 11);
+      }
+      assertThat(product[i]).isEqualTo(new ImmutableQuadruple(expected));
+      assertThat(y[i]).isEqualTo(new ImmutableQuadruple(expected - i));
+    }
+
+    final QuadrupleSparseMatrix a = new QuadrupleSparseMatrix(2, 3, new int[] { 0, 2, 2 }, new int[] { 0, 2 },
+                                                              new double[] { 1.5, -2 });
+    assertThat(a.get(0, 2)).isEqualTo(new ImmutableQuadruple(-2));
+    assertThat(a.get(0, 1)).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(a.get(1, 2)).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(a.toDense()).isEqualTo(QuadrupleMatrix.of(new double[][] { { 1.5, 0, -2 }, { 0, 0, 0 } }));
+    final ImmutableQuadruple[] special = a.multiply(new ImmutableQuadruple[] {
+        ImmutableQuadruple.POSITIVE_INFINITY, ImmutableQuadruple.NaN, ImmutableQuadruple.ONE });
+    assertThat(special[0]).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY); // The column with NaN is not stored
+    assertThat(special[1]).isEqualTo(ImmutableQuadruple.ZERO);
+
+    assertThat(a.multiply(QuadrupleVector.of(1, 2, 3))).isEqualTo(QuadrupleVector.of(-4.5, 0));
+    assertThat(a.multiplyAdd(QuadrupleVector.of(1, 2, 3), QuadrupleVector.of(0.5, 1))).isEqualTo(QuadrupleVector.of(-4, 1));
+    final QuadrupleVector vector = QuadrupleVector.of(1, 2, 3);
+    final QuadrupleSparseMatrix square = QuadrupleSparseMatrix.of(QuadrupleMatrix.identity(3));
+    assertThrows(IllegalArgumentException.class, () -> square.multiplyAdd(vector, vector));
+
+    assertThrows(IllegalArgumentException.class, () -> a.multiply(new ImmutableQuadruple[2]));
+    assertThrows(IllegalArgumentException.class, () -> a.multiplyAdd(new ImmutableQuadruple[3], new ImmutableQuadruple[3]));
+    assertThrows(IllegalArgumentException.class,
+                 () -> new QuadrupleSparseMatrix(2, 3, new int[] { 0, 2, 1 }, new int[] { 0, 2 }, new double[2]));
+    assertThrows(IllegalArgumentException.class,
+                 () -> new QuadrupleSparseMatrix(2, 3, new int[] { 0, 2, 2 }, new int[] { 2, 0 }, new double[2]));
+    assertThrows(IllegalArgumentException.class,
+                 () -> new QuadrupleSparseMatrix(2, 3, new int[] { 0, 2, 2 }, new int[] { 0, 3 }, new double[2]));
+    assertThrows(IllegalArgumentException.class,
+                 () -> new QuadrupleSparseMatrix(2, 3, new int[] { 0, 2, 2 }, new int[] { 0, 1 }, new double[1]));
+    assertThrows(IndexOutOfBoundsException.class, () -> a.get(2, 0));
+  }
+
+//public final class QuadrupleVector {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toVectorPairs")
+  @DisplayName("QuadrupleVector level-1 operations return correctly rounded results")
+  void testVectorOperationsReturnCorrectlyRoundedResults(ImmutableQuadruple[] x, ImmutableQuadruple[] y,
+                                                         ImmutableQuadruple a, int offset, int increment) {
+    final QuadrupleVector vectorX = QuadrupleVector.of(x), vectorY = QuadrupleVector.of(y);
+    final int length = x.length, n = (length - 1 - offset) / increment + 1;
+    final String arguments = "vectors of length " + length;
+    final BigDecimal exactA = DraftTestData.exactValueOf(a);
+
+    final QuadrupleVector scaled = vectorX.scal(a), sum = vectorY.axpy(a, vectorX);
+    BigDecimal dot = BigDecimal.ZERO, sumOfSquares = BigDecimal.ZERO, sumOfMagnitudes = BigDecimal.ZERO;
+    int greatest = 0;
+    for (int i = 0; i < length; i++) {
+      final BigDecimal exactX = DraftTestData.exactValueOf(x[i]), exactY = DraftTestData.exactValueOf(y[i]);
+      assertSumIsCorrect("scal", arguments, scaled.get(i), exactA.multiply(exactX), false);
+      assertSumIsCorrect("axpy", arguments, sum.get(i), exactY.add(exactA.multiply(exactX)), false);
+      dot = dot.add(exactX.multiply(exactY));
+      sumOfSquares = sumOfSquares.add(exactX.multiply(exactX));
+      sumOfMagnitudes = sumOfMagnitudes.add(exactX.abs());
+      if (x[i].compareMagnitudeTo(x[greatest]) > 0) {
+        greatest = i;
+      }
+    }
+    assertThat(vectorX).isEqualTo(QuadrupleVector.of(x));
+    assertSumIsCorrect("dot", arguments, vectorX.dot(vectorY), dot, false);
+    assertSumIsCorrect("asum", arguments, vectorX.asum(), sumOfMagnitudes, false);
+    assertRelativeErrorIsWithin("nrm2", arguments, vectorX.nrm2(), sumOfSquares.sqrt(MC_80), NORM_ERROR_ULPS);
+    assertThat(vectorX.iamax()).isEqualTo(greatest);
+    assertThat(vectorY.copy().axpyInPlace(a, vectorX)).isEqualTo(sum);
+    assertThat(vectorX.copy().scalInPlace(a)).isEqualTo(scaled);
+
+    // The strided variants on the same elements of the vectors
+    final QuadrupleVector stridedX = vectorX.copy(), stridedY = vectorY.copy();
+    QuadrupleVector.scal(n, a, stridedX, offset, increment);
+    QuadrupleVector.axpy(n, a, vectorX, offset, increment, stridedY, offset, increment);
+    BigDecimal stridedDot = BigDecimal.ZERO;
+    for (int i = 0; i < length; i++) {
+      final boolean included = i >= offset && (i - offset) % increment == 0;
+      assertThat(stridedX.get(i)).isEqualTo(included? scaled.get(i) : x[i]);
+      assertThat(stridedY.get(i)).isEqualTo(included? sum.get(i) : y[i]);
+      if (included) {
+        stridedDot = stridedDot.add(DraftTestData.exactValueOf(x[i]).multiply(DraftTestData.exactValueOf(y[i])));
+      }
+    }
+    assertSumIsCorrect("dot", arguments + " with stride", QuadrupleVector.dot(n, vectorX, offset, increment, vectorY, offset, increment),
+                       stridedDot, false);
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleVector handles large vectors, extreme and special values, and invalid arguments")
+  void testVectorHandlesSpecialValuesAndInvalidArguments() {
+    // Large enough to be processed in parallel, with exact integer results
+    final int size = 200_000;
+    final QuadrupleVector x = new QuadrupleVector(size), y = new QuadrupleVector(size);
+    long dot = 0, sumOfMagnitudes = 0;
+    for (int i = 0; i < size; i++) {
+      x.set(i, new ImmutableQuadruple(i % 13 - 6));
+      y.set(i, new ImmutableQuadruple(i % 7));
+      dot += (i % 13 - 6) * (i % 7);
+      sumOfMagnitudes += Math.abs(i % 13 - 6);
+    }
+    x.set(150_001, new ImmutableQuadruple(-100));
+    dot += (-100 - (150_001 % 13 - 6)) * (150_001 % 7);
+    sumOfMagnitudes += 100 - Math.abs(150_001 % 13 - 6);
+    assertThat(x.dot(y)).isEqualTo(new ImmutableQuadruple(dot));
+    assertThat(x.asum()).isEqualTo(new ImmutableQuadruple(sumOfMagnitudes));
+    assertThat(x.iamax()).isEqualTo(150_001);
+    assertThat(QuadrupleVector.iamax(100_000, x, 100_000, 1)).isEqualTo(50_001);
+    final QuadrupleVector sum = y.axpy(ImmutableQuadruple.TWO, x);
+    assertThat(sum.get(150_001)).isEqualTo(new ImmutableQuadruple(-200 + 150_001 % 7));
+    assertThat(sum.get(199_999)).isEqualTo(new ImmutableQuadruple(2 * (199_999 % 13 - 6) + 199_999 % 7));
+    // Overlapping elements of the same vector are processed in order, v[i + 1] += v[i] turns ones into their prefix sums
+    final QuadrupleVector prefixSums = new QuadrupleVector(size);
+    for (int i = 0; i < size; i++) {
+      prefixSums.set(i, ImmutableQuadruple.ONE);
+    }
+    QuadrupleVector.axpy(size - 1, ImmutableQuadruple.ONE, prefixSums, 0, 1, prefixSums, 1, 1);
+    for (int i = 0; i < size; i++) {
+      assertThat(prefixSums.get(i)).isEqualTo(new ImmutableQuadruple(i + 1));
+    }
+
+    // The squares of the elements are out of the range of ImmutableQuadruple
+    final ImmutableQuadruple three = new ImmutableQuadruple(3), four = new ImmutableQuadruple(4), five = new ImmutableQuadruple(5);
+    final QuadrupleVector huge = QuadrupleVector.of(three.scalb(2_147_483_640), four.scalb(2_147_483_640));
+    assertThat(huge.nrm2()).isEqualTo(five.scalb(2_147_483_640));
+    final QuadrupleVector tiny = QuadrupleVector.of(ImmutableQuadruple.MIN_NORMAL.multiply(three), ImmutableQuadruple.MIN_NORMAL.multiply(four));
+    assertThat(tiny.nrm2()).isEqualTo(ImmutableQuadruple.MIN_NORMAL.multiply(five));
+    assertThat(QuadrupleVector.of(3, -4).nrm2()).isEqualTo(new ImmutableQuadruple(5));
+    assertThat(new QuadrupleVector(0).nrm2()).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(new QuadrupleVector(0).iamax()).isEqualTo(-1);
+
+    final QuadrupleVector special = QuadrupleVector.of(ImmutableQuadruple.ONE, ImmutableQuadruple.NEGATIVE_INFINITY, ImmutableQuadruple.NaN);
+    assertThat(special.iamax()).isEqualTo(2);
+    assertThat(QuadrupleVector.iamax(2, special, 0, 1)).isEqualTo(1);
+    assertThat(QuadrupleVector.asum(2, special, 0, 1)).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(QuadrupleVector.nrm2(2, special, 0, 1)).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(special.dot(QuadrupleVector.of(1, 0, 0)).isNaN()).isTrue(); // -Infinity * 0
+    assertThat(special.scal(ImmutableQuadruple.TWO).get(1)).isEqualTo(ImmutableQuadruple.NEGATIVE_INFINITY);
+
+    assertThrows(IllegalArgumentException.class, () -> special.dot(new QuadrupleVector(2)));
+    assertThrows(IllegalArgumentException.class, () -> special.axpyInPlace(ImmutableQuadruple.ONE, new QuadrupleVector(4)));
+    assertThrows(IllegalArgumentException.class, () -> QuadrupleVector.asum(2, special, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> QuadrupleVector.asum(-1, special, 0, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> QuadrupleVector.asum(2, special, 0, 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> QuadrupleVector.asum(1, special, -1, 1));
+    assertThrows(IndexOutOfBoundsException.class, () -> special.get(3));
+  }
+
+//public final class QuadrupleFFT {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toFftSignals")
+  @DisplayName("QuadrupleFFT computes accurate forward and inverse transforms")
+  void testFftComputesAccurateTransforms(ImmutableQuadruple[] re, ImmutableQuadruple[] im) {
+    final int n = re.length;
+    final QuadrupleVector vectorRe = QuadrupleVector.of(re), vectorIm = QuadrupleVector.of(im);
+    final QuadrupleFFT fft = QuadrupleFFT.of(n);
+    fft.forward(vectorRe, vectorIm);
+
+    BigDecimal norm = BigDecimal.ZERO;
+    for (int j = 0; j < n; j++) {
+      norm = norm.add(DraftTestData.exactValueOf(re[j]).abs()).add(DraftTestData.exactValueOf(im[j]).abs());
+    }
+    for (int k = 0; k < n; k++) {
+      BigDecimal expectedRe = BigDecimal.ZERO, expectedIm = BigDecimal.ZERO;
+      for (int j = 0; j < n; j++) {
+        final ImmutableQuadruple[] sinCos = ImmutableQuadruple.PI.multiply(2L * ((long)j * k % n)).divide(n).sinCos();
+        final BigDecimal cos = DraftTestData.exactValueOf(sinCos[1]), sin = DraftTestData.exactValueOf(sinCos[0]);
+        final BigDecimal xRe = DraftTestData.exactValueOf(re[j]), xIm = DraftTestData.exactValueOf(im[j]);
+        expectedRe = expectedRe.add(xRe.multiply(cos)).add(xIm.multiply(sin));
+        expectedIm = expectedIm.add(xIm.multiply(cos)).subtract(xRe.multiply(sin));
+      }
+      final BigDecimal error = DraftTestData.exactValueOf(vectorRe.get(k)).subtract(expectedRe).abs()
+          .max(DraftTestData.exactValueOf(vectorIm.get(k)).subtract(expectedIm).abs());
+      final double relativeError = error.divide(norm, MC_80).doubleValue();
+      assertThat(relativeError).withFailMessage("Element %s of the transform of size %s has relative error %s", k, n, relativeError)
+          .isLessThanOrEqualTo(FFT_ERROR);
+    }
+
+    fft.inverse(vectorRe, vectorIm);
+    for (int j = 0; j < n; j++) {
+      final BigDecimal error = DraftTestData.exactValueOf(vectorRe.get(j)).subtract(DraftTestData.exactValueOf(re[j])).abs()
+          .max(DraftTestData.exactValueOf(vectorIm.get(j)).subtract(DraftTestData.exactValueOf(im[j])).abs());
+      final double relativeError = error.divide(norm, MC_80).doubleValue();
+      assertThat(relativeError).withFailMessage("Element %s of the inverse transform of size %s has relative error %s",
+                                                j, n, relativeError)
+          .isLessThanOrEqualTo(FFT_ERROR);
+    }
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleFFT handles large sizes, exact transforms and invalid arguments")
+  void testFftHandlesLargeSizesAndInvalidArguments() {
+    // Large enough to be transformed in parallel
+    final int size = 1 << 15;
+    final Random rand = new Random(20211219);
+    final QuadrupleVector re = new QuadrupleVector(size), im = new QuadrupleVector(size);
+    for (int j = 0; j < size; j++) {
+      re.set(j, ImmutableQuadruple.nextRandom(rand).subtract(0.5));
+      im.set(j, ImmutableQuadruple.nextRandom(rand).subtract(0.5));
+    }
+    final QuadrupleVector copyRe = re.copy(), copyIm = im.copy();
+    final QuadrupleFFT fft = QuadrupleFFT.of(size);
+    fft.forward(re, im);
+    // Parseval's theorem: sum(|X|^2) = n * sum(|x|^2)
+    final ImmutableQuadruple energy = copyRe.dot(copyRe).add(copyIm.dot(copyIm)).multiply(size);
+    final ImmutableQuadruple transformEnergy = re.dot(re).add(im.dot(im));
+    assertThat(transformEnergy.subtract(energy).abs().compareTo(energy.multiply(FFT_ERROR))).isLessThanOrEqualTo(0);
+    fft.inverse(re, im);
+    for (int j = 0; j < size; j++) {
+      assertThat(re.get(j).subtract(copyRe.get(j)).abs().compareTo(FFT_ERROR)).isLessThanOrEqualTo(0);
+      assertThat(im.get(j).subtract(copyIm.get(j)).abs().compareTo(FFT_ERROR)).isLessThanOrEqualTo(0);
+    }
+
+    // The transform of a constant is a multiple of the unit impulse, and vice versa
+    final QuadrupleVector constant = new QuadrupleVector(64), zeros = new QuadrupleVector(64);
+    for (int j = 0; j < 64; j++) {
+      constant.set(j, ImmutableQuadruple.ONE);
+    }
+    QuadrupleFFT.of(64).forward(constant, zeros);
+    assertThat(constant.get(0)).isEqualTo(new ImmutableQuadruple(64));
+    assertThat(constant.asum().subtract(64).compareTo(1e-30)).isLessThanOrEqualTo(0);
+    assertThat(zeros.asum().compareTo(1e-30)).isLessThanOrEqualTo(0);
+    final QuadrupleVector impulse = new QuadrupleVector(6).set(0, ImmutableQuadruple.TWO), impulseIm = new QuadrupleVector(6);
+    QuadrupleFFT.of(6).forward(impulse, impulseIm);
+    for (int k = 0; k < 6; k++) {
+      assertThat(impulse.get(k).subtract(2).abs().compareTo(1e-37)).isLessThanOrEqualTo(0);
+      assertThat(impulseIm.get(k).abs().compareTo(1e-37)).isLessThanOrEqualTo(0);
+    }
+    // The 4-point transform of (0, 1, 0, 0) is (1, -i, -1, i)
+    final QuadrupleVector shifted = QuadrupleVector.of(0, 1, 0, 0), shiftedIm = new QuadrupleVector(4);
+    QuadrupleFFT.of(4).forward(shifted, shiftedIm);
+    assertThat(shifted).isEqualTo(QuadrupleVector.of(1, 0, -1, 0));
+    assertThat(shiftedIm).isEqualTo(QuadrupleVector.of(0, -1, 0, 1));
+
+    assertThat(QuadrupleFFT.of(1024)).isSameAs(QuadrupleFFT.of(1024));
+    assertThat(QuadrupleFFT.of(1000).size()).isEqualTo(1000);
+    assertThat(QuadrupleFFT.of(1000)).isNotSameAs(QuadrupleFFT.of(1000)); // Only power-of-two sizes are cached
+    assertThrows(IllegalArgumentException.class, () -> QuadrupleFFT.of(0));
+    assertThrows(IllegalArgumentException.class, () -> QuadrupleFFT.of(8).forward(new QuadrupleVector(8), new QuadrupleVector(4)));
+    assertThrows(IllegalArgumentException.class, () -> QuadrupleFFT.of(8).inverse(new QuadrupleVector(4), new QuadrupleVector(8)));
+  }
+
+//public final class ImmutableComplexQuadruple {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toComplexPairs")
+  @DisplayName("ImmutableComplexQuadruple computes accurate sums, products, quotients and magnitudes")
+  void testComplexArithmeticIsAccurate(ImmutableComplexQuadruple a, ImmutableComplexQuadruple b) {
+    final BigDecimal ar = DraftTestData.exactValueOf(a.re()), ai = DraftTestData.exactValueOf(a.im());
+    final BigDecimal br = DraftTestData.exactValueOf(b.re()), bi = DraftTestData.exactValueOf(b.im());
+
+    final ImmutableComplexQuadruple sum = a.add(b), difference = a.subtract(b);
+    assertComplexPartIsAccurate("re(add)", a, b, sum.re(), ar, br, COMPLEX_ADD_MULTIPLY_ERROR_ULPS);
+    assertComplexPartIsAccurate("im(add)", a, b, sum.im(), ai, bi, COMPLEX_ADD_MULTIPLY_ERROR_ULPS);
+    assertComplexPartIsAccurate("re(subtract)", a, b, difference.re(), ar, br.negate(), COMPLEX_ADD_MULTIPLY_ERROR_ULPS);
+    assertComplexPartIsAccurate("im(subtract)", a, b, difference.im(), ai, bi.negate(), COMPLEX_ADD_MULTIPLY_ERROR_ULPS);
+
+    final ImmutableComplexQuadruple product = a.multiply(b);
+    assertComplexPartIsAccurate("re(multiply)", a, b, product.re(), ar.multiply(br), bi.multiply(ai).negate(),
+                                COMPLEX_ADD_MULTIPLY_ERROR_ULPS);
+    assertComplexPartIsAccurate("im(multiply)", a, b, product.im(), ar.multiply(bi), ai.multiply(br),
+                                COMPLEX_ADD_MULTIPLY_ERROR_ULPS);
+    assertThat(a.multiply(b.re())).isEqualTo(new ImmutableComplexQuadruple(a.re().multiply(b.re()), a.im().multiply(b.re())));
+
+    final BigDecimal absA = ar.multiply(ar).add(ai.multiply(ai)).sqrt(MC_80);
+    assertRelativeErrorIsWithin("abs", a, a.abs(), absA, COMPLEX_ABS_ERROR_ULPS);
+
+    if (!b.isZero()) {
+      final ImmutableComplexQuadruple quotient = a.divide(b);
+      final BigDecimal denominator = br.multiply(br).add(bi.multiply(bi));
+      final BigDecimal expectedRe = ar.multiply(br).add(ai.multiply(bi)).divide(denominator, MC_80);
+      final BigDecimal expectedIm = ai.multiply(br).subtract(ar.multiply(bi)).divide(denominator, MC_80);
+      final BigDecimal magnitude = expectedRe.multiply(expectedRe).add(expectedIm.multiply(expectedIm)).sqrt(MC_80);
+      final BigDecimal error = DraftTestData.exactValueOf(quotient.re()).subtract(expectedRe).abs()
+          .max(DraftTestData.exactValueOf(quotient.im()).subtract(expectedIm).abs());
+      final double errorUlps = (magnitude.signum() == 0)? error.doubleValue() : error.divide(magnitude, MC_80).doubleValue() / ULP_OF_ONE;
+      assertThat(errorUlps).withFailMessage("%s / %s gave %s, error = %s ulps", a, b, quotient, errorUlps)
+          .isLessThanOrEqualTo(COMPLEX_DIVIDE_ERROR_ULPS);
+    }
+
+    assertThat(a.conjugate().re()).isEqualTo(a.re());
+    assertThat(a.conjugate().im()).isEqualTo(a.im().negate());
+    assertThat(a.negate().negate()).isEqualTo(a);
+    assertThat(a.negate().hashCode()).isEqualTo(a.negate().hashCode());
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("ImmutableComplexQuadruple handles extreme magnitudes, exact results and special values")
+  void testComplexArithmeticHandlesExtremeAndSpecialValues() {
+    final ImmutableComplexQuadruple z = new ImmutableComplexQuadruple(3, 4);
+    assertThat(z.abs()).isEqualTo(new ImmutableQuadruple(5));
+    assertThat(z.multiply(z.conjugate())).isEqualTo(new ImmutableComplexQuadruple(25, 0));
+    assertThat(z.multiply(ImmutableComplexQuadruple.I)).isEqualTo(new ImmutableComplexQuadruple(-4, 3));
+    assertThat(ImmutableComplexQuadruple.I.multiply(ImmutableComplexQuadruple.I)).isEqualTo(new ImmutableComplexQuadruple(-1, 0));
+    assertThat(z.divide(z)).isEqualTo(ImmutableComplexQuadruple.ONE);
+    assertThat(new ImmutableComplexQuadruple(-7, 24).divide(z)).isEqualTo(new ImmutableComplexQuadruple(3, 4));
+    assertThat(ImmutableComplexQuadruple.ONE.divide(ImmutableComplexQuadruple.I)).isEqualTo(new ImmutableComplexQuadruple(0, -1));
+    assertThat(z.toString()).isEqualTo("(" + new ImmutableQuadruple(3) + ", " + new ImmutableQuadruple(4) + ")");
+
+    // Parts whose squares or products are far beyond the range of ImmutableQuadruple
+    for (final int scale : new int[] { ImmutableQuadruple.MAX_EXPONENT - 3, ImmutableQuadruple.MIN_EXPONENT - 120 }) {
+      final ImmutableComplexQuadruple scaled = new ImmutableComplexQuadruple(new ImmutableQuadruple(3).scalb(scale),
+                                                                             new ImmutableQuadruple(4).scalb(scale));
+      assertThat(scaled.abs()).isEqualTo(new ImmutableQuadruple(5).scalb(scale));
+      assertThat(scaled.divide(scaled)).isEqualTo(ImmutableComplexQuadruple.ONE);
+      assertThat(new ImmutableComplexQuadruple(-7, 24).divide(scaled).multiply(new ImmutableQuadruple(1).scalb(scale)))
+          .isEqualTo(new ImmutableComplexQuadruple(3, 4));
+    }
+    final ImmutableComplexQuadruple huge = new ImmutableComplexQuadruple(ImmutableQuadruple.MAX_VALUE, ImmutableQuadruple.MAX_VALUE);
+    assertThat(huge.abs().isInfinite()).isTrue();
+    assertThat(huge.multiply(huge.conjugate()).re().isInfinite()).isTrue();
+    assertThat(huge.divide(huge)).isEqualTo(ImmutableComplexQuadruple.ONE);
+    assertThat(new ImmutableComplexQuadruple(ImmutableQuadruple.MIN_VALUE, ImmutableQuadruple.ZERO).abs())
+        .isEqualTo(ImmutableQuadruple.MIN_VALUE);
+
+    // Special values
+    final ImmutableComplexQuadruple infinite = new ImmutableComplexQuadruple(ImmutableQuadruple.POSITIVE_INFINITY, ImmutableQuadruple.NaN);
+    assertThat(infinite.isInfinite()).isTrue();
+    assertThat(infinite.isNaN()).isTrue();
+    assertThat(infinite.abs()).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(new ImmutableComplexQuadruple(ImmutableQuadruple.ONE, ImmutableQuadruple.NaN).abs().isNaN()).isTrue();
+    assertThat(z.add(infinite).re()).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(z.multiply(infinite).isNaN()).isTrue();
+    assertThat(z.divide(ImmutableComplexQuadruple.ZERO).isNaN()).isTrue();
+    assertThat(z.divide(new ImmutableComplexQuadruple(ImmutableQuadruple.POSITIVE_INFINITY, ImmutableQuadruple.ZERO)).isNaN()).isTrue();
+    assertThat(ImmutableComplexQuadruple.ZERO.abs()).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(ImmutableComplexQuadruple.ZERO.isZero()).isTrue();
+    assertThat(z.subtract(z).isZero()).isTrue();
+
+    // Signs of zero parts
+    final ImmutableQuadruple negativeZero = ImmutableQuadruple.ZERO.negate();
+    final ImmutableComplexQuadruple negativeZeros = new ImmutableComplexQuadruple(negativeZero, negativeZero);
+    assertThat(negativeZeros.add(negativeZeros)).isEqualTo(negativeZeros);
+    assertThat(negativeZeros.multiply(ImmutableQuadruple.ONE)).isEqualTo(negativeZeros);
+    assertThat(negativeZeros.multiply(ImmutableComplexQuadruple.ONE)).isEqualTo(ImmutableComplexQuadruple.ZERO);
+    assertThat(negativeZeros.divide(z)).isEqualTo(ImmutableComplexQuadruple.ZERO);
+  }
+
+//public final class QuadrupleInterval {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toIntervalOperands")
+  @DisplayName("QuadrupleInterval operations on point intervals give the tightest enclosures of the exact results")
+  void testIntervalArithmeticGivesTightEnclosures(ImmutableQuadruple x, ImmutableQuadruple y) {
+    final QuadrupleInterval px = new QuadrupleInterval(x), py = new QuadrupleInterval(y);
+    final BigDecimal ex = DraftTestData.exactValueOf(x), ey = DraftTestData.exactValueOf(y);
+
+    final BigDecimal sum = ex.add(ey), difference = ex.subtract(ey), product = ex.multiply(ey);
+    assertIsTightEnclosure("add", x, y, px.add(py), v -> v.compareTo(sum));
+    assertIsTightEnclosure("subtract", x, y, px.subtract(py), v -> v.compareTo(difference));
+    assertIsTightEnclosure("multiply", x, y, px.multiply(py), v -> v.compareTo(product));
+    // lower <= x / y <= upper is checked as lower * |y| <= x * sign(y) <= upper * |y|, with no rounding
+    if (!y.isZero()) {
+      final BigDecimal signedX = ex.multiply(BigDecimal.valueOf(ey.signum()));
+      assertIsTightEnclosure("divide", x, y, px.divide(py), v -> v.multiply(ey.abs()).compareTo(signedX));
+    }
+    final ImmutableQuadruple absX = x.abs();
+    final BigDecimal exactAbsX = ex.abs();
+    assertIsTightEnclosure("sqrt", absX, null, new QuadrupleInterval(absX).sqrt(), v -> v.multiply(v).compareTo(exactAbsX));
+
+    // Intervals with these bounds enclose the results of the operations on all pairs of their bounds
+    final QuadrupleInterval a = new QuadrupleInterval(ImmutableQuadruple.min(x, y), ImmutableQuadruple.max(x, y));
+    final QuadrupleInterval b = new QuadrupleInterval(x.subtract(x.abs().scalb(-3)), x.add(y.abs()));
+    final QuadrupleInterval abProduct = a.multiply(b), abQuotient = a.divide(b);
+    BigDecimal minProduct = null, maxProduct = null;
+    for (final ImmutableQuadruple p : new ImmutableQuadruple[] { a.lower(), a.upper() }) {
+      for (final ImmutableQuadruple q : new ImmutableQuadruple[] { b.lower(), b.upper() }) {
+        final BigDecimal exact = DraftTestData.exactValueOf(p).multiply(DraftTestData.exactValueOf(q));
+        minProduct = (minProduct == null)? exact : minProduct.min(exact);
+        maxProduct = (maxProduct == null)? exact : maxProduct.max(exact);
+        assertThat(abQuotient.contains(new QuadrupleInterval(p).divide(new QuadrupleInterval(q))))
+            .withFailMessage("%s / %s = %s does not contain %s / %s", a, b, abQuotient, p, q).isTrue();
+      }
+    }
+    assertThat(DraftTestData.exactValueOf(abProduct.lower())).isLessThanOrEqualTo(minProduct);
+    assertThat(DraftTestData.exactValueOf(abProduct.lower().nextUp())).isGreaterThan(minProduct);
+    assertThat(DraftTestData.exactValueOf(abProduct.upper())).isGreaterThanOrEqualTo(maxProduct);
+    assertThat(DraftTestData.exactValueOf(abProduct.upper().nextDown())).isLessThan(maxProduct);
+    assertThat(a.add(b).subtract(b).contains(a)).isTrue();
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleInterval handles unbounded intervals, divisors containing zero, overflow and underflow")
+  void testIntervalArithmeticHandlesSpecialCases() {
+    final QuadrupleInterval one = new QuadrupleInterval(ImmutableQuadruple.ONE), three = new QuadrupleInterval(3, 3);
+    final QuadrupleInterval third = one.divide(three);
+    assertThat(third.upper()).isEqualTo(third.lower().nextUp());
+    assertThat(third.multiply(three).contains(ImmutableQuadruple.ONE)).isTrue();
+    assertThat(new QuadrupleInterval(2, 2).sqrt().width().compareTo(ImmutableQuadruple.ZERO)).isGreaterThan(0);
+    assertThat(new QuadrupleInterval(4, 9).sqrt()).isEqualTo(new QuadrupleInterval(2, 3));
+    assertThat(new QuadrupleInterval(-4, 9).sqrt()).isEqualTo(new QuadrupleInterval(0, 3));
+    final ImmutableQuadruple negativeZero = ImmutableQuadruple.ZERO.negate();
+    assertThat(new QuadrupleInterval(ImmutableQuadruple.ONE.negate(), negativeZero).sqrt()).isEqualTo(new QuadrupleInterval(0, 0));
+    assertThat(new QuadrupleInterval(negativeZero).sqrt()).isEqualTo(new QuadrupleInterval(0, 0));
+    assertThat(new QuadrupleInterval(negativeZero, ImmutableQuadruple.ZERO).sqrt()).isEqualTo(new QuadrupleInterval(0, 0));
+    assertThat(new QuadrupleInterval(-2, 3).multiply(new QuadrupleInterval(-5, 7))).isEqualTo(new QuadrupleInterval(-15, 21));
+    assertThat(new QuadrupleInterval(-2, 3).negate()).isEqualTo(new QuadrupleInterval(-3, 2));
+    assertThat(new QuadrupleInterval(1, 2).subtract(new QuadrupleInterval(1, 2))).isEqualTo(new QuadrupleInterval(-1, 1));
+    assertThat(new QuadrupleInterval(-2, 3).toString())
+        .isEqualTo("[" + new ImmutableQuadruple(-2) + ", " + new ImmutableQuadruple(3) + "]");
+
+    // Unbounded intervals and divisors containing zero
+    final QuadrupleInterval positive = new QuadrupleInterval(ImmutableQuadruple.ONE, ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(positive.add(one)).isEqualTo(new QuadrupleInterval(ImmutableQuadruple.TWO, ImmutableQuadruple.POSITIVE_INFINITY));
+    assertThat(positive.multiply(new QuadrupleInterval(0, 0))).isEqualTo(new QuadrupleInterval(0, 0));
+    assertThat(positive.multiply(new QuadrupleInterval(-1, 1))).isEqualTo(QuadrupleInterval.ENTIRE);
+    assertThat(one.divide(positive)).isEqualTo(new QuadrupleInterval(0, 1));
+    assertThat(positive.sqrt()).isEqualTo(positive);
+    assertThat(positive.width()).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(one.divide(new QuadrupleInterval(-1, 1))).isEqualTo(QuadrupleInterval.ENTIRE);
+    assertThat(one.divide(new QuadrupleInterval(0, 1))).isEqualTo(QuadrupleInterval.ENTIRE);
+    assertThat(QuadrupleInterval.ENTIRE.containsZero()).isTrue();
+    assertThat(QuadrupleInterval.ENTIRE.contains(ImmutableQuadruple.POSITIVE_INFINITY)).isFalse();
+    assertThat(QuadrupleInterval.ENTIRE.contains(ImmutableQuadruple.MAX_VALUE)).isTrue();
+    assertThat(positive.contains(ImmutableQuadruple.NaN)).isFalse();
+
+    // Overflow and underflow
+    final QuadrupleInterval max = new QuadrupleInterval(ImmutableQuadruple.MAX_VALUE);
+    assertThat(max.add(max)).isEqualTo(new QuadrupleInterval(ImmutableQuadruple.MAX_VALUE, ImmutableQuadruple.POSITIVE_INFINITY));
+    assertThat(max.negate().multiply(max))
+        .isEqualTo(new QuadrupleInterval(ImmutableQuadruple.NEGATIVE_INFINITY, ImmutableQuadruple.MAX_VALUE.negate()));
+    final QuadrupleInterval min = new QuadrupleInterval(ImmutableQuadruple.MIN_VALUE);
+    assertThat(min.multiply(min)).isEqualTo(new QuadrupleInterval(ImmutableQuadruple.ZERO, ImmutableQuadruple.MIN_VALUE));
+    assertThat(min.negate().divide(max))
+        .isEqualTo(new QuadrupleInterval(ImmutableQuadruple.MIN_VALUE.negate(), ImmutableQuadruple.ZERO.negate()));
+    assertThat(min.add(min).lower()).isEqualTo(ImmutableQuadruple.MIN_VALUE.scalb(1));
+    assertThat(min.subtract(min).containsZero()).isTrue();
+
+    // Invalid arguments
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleInterval(2, 1));
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleInterval(ImmutableQuadruple.NaN));
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleInterval(ImmutableQuadruple.POSITIVE_INFINITY));
+    assertThrows(IllegalArgumentException.class,
+                 () -> new QuadrupleInterval(ImmutableQuadruple.NEGATIVE_INFINITY, ImmutableQuadruple.NEGATIVE_INFINITY));
+    assertThrows(ArithmeticException.class, () -> new QuadrupleInterval(-2, -1).sqrt());
+  }
+
+//public ImmutableQuadruple(long lValue) {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toSmallIntegerPairs")
+  @DisplayName("Operations on ImmutableQuadruple values created from longs give the same results as on other equal values")
+  void testSmallIntegerOperationsAreObservablyIdentical(long a, long b) {
+    // Values created from BigDecimal don't get the integer fast path
+    final ImmutableQuadruple fastA = new ImmutableQuadruple(a), fastB = new ImmutableQuadruple(b);
+    final ImmutableQuadruple slowA = new ImmutableQuadruple(BigDecimal.valueOf(a)), slowB = new ImmutableQuadruple(BigDecimal.valueOf(b));
+
+    assertAreIdentical(fastA, slowA);
+    assertAreIdentical(new ImmutableQuadruple((double)a), new ImmutableQuadruple(new BigDecimal((double)a)));
+    assertAreIdentical(fastA.add(fastB), slowA.add(slowB));
+    assertAreIdentical(fastA.add(b), slowA.add(slowB));
+    assertAreIdentical(fastA.subtract(fastB), slowA.subtract(slowB));
+    assertAreIdentical(fastA.subtract(b), slowA.subtract(slowB));
+    assertAreIdentical(fastA.multiply(fastB), slowA.multiply(slowB));
+    assertAreIdentical(fastA.multiply(b), slowA.multiply(slowB));
+    assertAreIdentical(fastA.add(slowB), slowA.add(slowB));
+    assertAreIdentical(fastA.multiply(fastB).add(fastA), slowA.multiply(slowB).add(slowA));
+    assertAreIdentical(fastA.negate(), slowA.negate());
+    assertAreIdentical(fastA.abs(), slowA.abs());
+    assertAreIdentical(fastA.divide(fastB), slowA.divide(slowB));
+
+    assertThat(fastA.compareTo(fastB)).isEqualTo(slowA.compareTo(slowB));
+    assertThat(fastA.compareTo(b)).isEqualTo(slowA.compareTo(b));
+    assertThat(fastA.equals(fastB)).isEqualTo(slowA.equals(slowB));
+    assertThat(fastA.longValue()).isEqualTo(slowA.longValue());
+    assertThat(fastA.intValue()).isEqualTo(slowA.intValue());
+    assertThat(fastA.doubleValue()).isEqualTo(slowA.doubleValue());
+
+    // The sums and differences found with the fast path are exact integers, whose representation doesn't depend
+    // on the rounding of Quadruple, and the fallback on overflow uses Quadruple itself, so they are the same bit for bit
+    assertHasSameBits(fastA.add(fastB), new Quadruple(a).add(new Quadruple(b)));
+    assertHasSameBits(fastA.add(b), new Quadruple(a).add(b));
+    assertHasSameBits(fastA.subtract(fastB), new Quadruple(a).subtract(new Quadruple(b)));
+    assertHasSameBits(fastA.subtract(b), new Quadruple(a).subtract(b));
+    assertHasSameBits(fastA.multiply(fastB), new Quadruple(a).multiply(new Quadruple(b)));
+  }
+
+//public final class QuadrupleBinary128Array {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toBinary128Values")
+  @DisplayName("QuadrupleBinary128Array rounds the values to binary128, converts them back exactly and compares them in place")
+  void testBinary128ArrayConvertsAndComparesValues(ImmutableQuadruple value, long[] words) {
+    final QuadrupleBinary128Array array = QuadrupleBinary128Array.of(value).set(0, value);
+    final BigDecimal exact = DraftTestData.exactValueOf(value);
+    final BigDecimal error = DraftTestData.exactValueOf(array.get(0)).subtract(exact).abs();
+    final boolean isSubnormal = value.unbiasedExponent() < -16382;
+    if (isSubnormal) { // The absolute error of subnormal values doesn't exceed a half of the minimum binary128 value, 2^-16495
+      assertThat(error.multiply(new BigDecimal(BigInteger.TWO.pow(16495)))).isLessThanOrEqualTo(BigDecimal.ONE);
+    } else {
+      assertThat(error).isLessThanOrEqualTo(exact.abs().multiply(BigDecimal.valueOf(BINARY128_ERROR)));
+    }
+    // Halfway values get rounded away from zero
+    if ((value.mantLo() & 0xFFFFL) == 0x8000 && !isSubnormal) {
+      assertThat(array.get(0).compareMagnitudeTo(value)).isGreaterThan(0);
+    }
+
+    final QuadrupleBinary128Array decoded = QuadrupleBinary128Array.fromIeee754Longs(words);
+    assertThat(QuadrupleBinary128Array.of(decoded.toArray()).toIeee754Longs()).isEqualTo(words);
+    assertThat(QuadrupleBinary128Array.of(decoded.get(0)).equals(decoded)).isTrue();
+
+    final QuadrupleBinary128Array both = QuadrupleBinary128Array.of(array.get(0), decoded.get(0), decoded.get(0).negate());
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        assertThat(Integer.signum(both.compare(i, j))).isEqualTo(Integer.signum(both.get(i).compareTo(both.get(j))));
+      }
+    }
+    assertThat(both.compare(1, decoded, 0)).isEqualTo(0);
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleBinary128Array handles special values, overflow, underflow and invalid arguments")
+  void testBinary128ArrayHandlesSpecialValues() {
+    final ImmutableQuadruple halfUlp = ImmutableQuadruple.ONE.scalb(-113);
+    final QuadrupleBinary128Array array = QuadrupleBinary128Array.of(ImmutableQuadruple.ONE, ImmutableQuadruple.ONE.add(halfUlp),
+        ImmutableQuadruple.ZERO, ImmutableQuadruple.ZERO.negate(), ImmutableQuadruple.NaN, ImmutableQuadruple.NEGATIVE_INFINITY,
+        ImmutableQuadruple.MAX_VALUE, ImmutableQuadruple.MIN_VALUE.negate(), ImmutableQuadruple.ONE.scalb(-16494));
+    assertThat(array.toIeee754Longs()).isEqualTo(new long[] {
+        0x3FFF_0000_0000_0000L, 0,
+        0x3FFF_0000_0000_0000L, 1,                        // The halfway value is rounded up
+        0, 0,
+        0x8000_0000_0000_0000L, 0,
+        0x7FFF_8000_0000_0000L, 0,
+        0xFFFF_0000_0000_0000L, 0,
+        0x7FFF_0000_0000_0000L, 0,                        // Too large for binary128
+        0x8000_0000_0000_0000L, 0,                        // Too small for binary128
+        0, 1 });                                          // The minimum subnormal binary128 value
+    assertThat(array.get(0)).isEqualTo(ImmutableQuadruple.ONE);
+    assertThat(array.get(1)).isEqualTo(ImmutableQuadruple.ONE.add(halfUlp.scalb(1)));
+    assertThat(array.get(3).isNegative()).isTrue();
+    assertThat(array.get(4).isNaN()).isTrue();
+    assertThat(array.get(6)).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(array.get(8)).isEqualTo(ImmutableQuadruple.ONE.scalb(-16494));
+    assertThat(array.copy()).isEqualTo(array);
+    assertThat(array.length()).isEqualTo(9);
+
+    assertThat(array.compare(3, 2)).isLessThan(0);   // -0 < 0
+    assertThat(array.compare(4, 6)).isGreaterThan(0); // NaN > Infinity
+    assertThat(array.compare(4, 4)).isEqualTo(0);
+    assertThat(array.compare(5, 7)).isLessThan(0);
+    assertThat(array.compare(7, 3)).isEqualTo(0);
+    assertThat(array.compare(0, 1)).isLessThan(0);
+
+    final ImmutableQuadruple[] range = array.get(5, new ImmutableQuadruple[5], 1, 4);
+    assertThat(range[0]).isNull();
+    assertThat(QuadrupleBinary128Array.of(range[1], range[2], range[3], range[4]).toIeee754Longs())
+        .isEqualTo(Arrays.copyOfRange(array.toIeee754Longs(), 10, 18));
+    assertThat(new QuadrupleBinary128Array(9).set(0, array.toArray(), 0, 9)).isEqualTo(array);
+    assertThat(QuadrupleBinary128Array.of(ImmutableQuadruple.ONE.scalb(-16495)).toIeee754Longs())
+        .isEqualTo(new long[] { 0, 1 });                  // A half of the minimum subnormal value is rounded up
+
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleBinary128Array(-1));
+    assertThrows(IllegalArgumentException.class, () -> QuadrupleBinary128Array.fromIeee754Longs(new long[3]));
+    assertThrows(IndexOutOfBoundsException.class, () -> array.get(9));
+    assertThrows(IndexOutOfBoundsException.class, () -> array.compare(0, -1));
+    assertThrows(IndexOutOfBoundsException.class, () -> array.get(6, new ImmutableQuadruple[4], 0, 4));
+    assertThrows(IndexOutOfBoundsException.class, () -> array.set(0, new ImmutableQuadruple[4], 1, 4));
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleBinary128Array rounds subnormal and near-subnormal values the same way as toIeee754Longs()")
+  void testBinary128ArrayMatchesToIeee754LongsForSubnormals() {
+    final Random rand = new Random(20211227);
+    final int minNormalExponent = ImmutableQuadruple.ONE.exponent() - 0x3FFE;
+    final QuadrupleBinary128Array array = new QuadrupleBinary128Array(1);
+    for (int exponent = minNormalExponent - 115; exponent <= minNormalExponent + 1; exponent++) {
+      for (int i = 0; i < 20; i++) {
+        final long mantHi = (i == 0)? 0 : (i == 1)? -1 : rand.nextLong();
+        final long mantLo = (i == 0)? 0 : (i == 1)? -1 : rand.nextLong();
+        final ImmutableQuadruple value = ImmutableQuadruple.construct(rand.nextBoolean(), exponent, mantHi, mantLo);
+        final long[] expected = value.toIeee754Longs();
+        array.set(0, value);
+        assertThat(array.toIeee754Longs()).withFailMessage("Wrong encoding of %s (exponent %d)", value, exponent).isEqualTo(expected);
+        assertThat(array.get(0).toIeee754Longs()).isEqualTo(expected);
+      }
+    }
+  }
+
+//public final class QuadrupleInterner {
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleInterner returns the same instance for equal values and counts the hits")
+  void testInternerDeduplicatesValues() {
+    final QuadrupleInterner interner = new QuadrupleInterner(3);
+    final Random rand = new Random(20211224);
+    final ImmutableQuadruple[] distinct = new ImmutableQuadruple[500];
+    for (int i = 0; i < distinct.length; i++) {
+      distinct[i] = interner.intern(new ImmutableQuadruple(BigDecimal.valueOf(i, 2)));
+    }
+    for (int i = 0; i < 10_000; i++) {
+      final int index = rand.nextInt(distinct.length);
+      final ImmutableQuadruple value = new ImmutableQuadruple(BigDecimal.valueOf(index, 2));
+      assertThat(interner.intern(value)).isSameAs(distinct[index]);
+    }
+    assertThat(interner.lookups()).isEqualTo(10_500);
+    assertThat(interner.hits()).isEqualTo(10_000);
+    assertThat(interner.hitRate()).isEqualTo(10_000.0 / 10_500);
+    assertThat(interner.bytesSaved()).isGreaterThan(0);
+    assertThat(interner.size()).isEqualTo(distinct.length);
+
+    // Interning the pooled instance itself is a hit as well
+    assertThat(interner.intern(distinct[7])).isSameAs(distinct[7]);
+    assertThat(interner.hits()).isEqualTo(10_001);
+    assertThat(interner.lookups()).isEqualTo(10_501);
+
+    // 0 and -0 are different values
+    final ImmutableQuadruple zero = interner.intern(ImmutableQuadruple.ZERO);
+    assertThat(interner.intern(ImmutableQuadruple.ZERO.negate()).isNegative()).isTrue();
+    assertThat(interner.intern(new ImmutableQuadruple(0.0))).isSameAs(zero);
+
+    interner.clear();
+    assertThat(interner.size()).isEqualTo(0);
+    assertThat(interner.lookups()).isEqualTo(0);
+    assertThat(interner.hitRate()).isEqualTo(0);
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleInterner(0));
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleInterner gives a single canonical instance per value to concurrent threads")
+  void testInternerIsThreadSafe() {
+    final QuadrupleInterner interner = new QuadrupleInterner();
+    final int values = 1000;
+    final ImmutableQuadruple[][] results = new ImmutableQuadruple[8][values];
+    IntStream.range(0, results.length).parallel().forEach(t -> {
+      for (int i = 0; i < values; i++) {
+        final int index = (i * 7 + t * 131) % values;
+        results[t][index] = interner.intern(new ImmutableQuadruple(index * 0.125));
+      }
+    });
+    for (int t = 1; t < results.length; t++) {
+      for (int i = 0; i < values; i++) {
+        assertThat(results[t][i]).isSameAs(results[0][i]);
+      }
+    }
+    assertThat(interner.size()).isEqualTo(values);
+    assertThat(interner.hits()).isEqualTo((long)values * (results.length - 1));
+  }
+
+//public String toString() {
+//  @Disabled
+  @Test
+  @DisplayName("Cached hash codes and strings are the same as the computed ones")
+  void testCachedHashCodeAndStringAreConsistent() {
+    final Random rand = new Random(20211225);
+    final ImmutableQuadruple[] values = new ImmutableQuadruple[1000];
+    final String[] strings = new String[values.length], negatedStrings = new String[values.length];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = ImmutableQuadruple.construct(rand.nextBoolean(), ImmutableQuadruple.ONE.exponent() + rand.nextInt(200) - 100,
+                                               rand.nextLong(), rand.nextLong());
+      strings[i] = values[i].toString();
+      negatedStrings[i] = values[i].negate().toString();
+      final int hash = values[i].hashCode();
+      assertThat(values[i].hashCode()).isEqualTo(hash);
+      assertThat(ImmutableQuadruple.construct(values[i].isNegative(), values[i].exponent(), values[i].mantHi(), values[i].mantLo())
+          .hashCode()).isEqualTo(hash);
+    }
+    try {
+      ImmutableQuadruple.setStringCacheCapacity(100);
+      for (int j = 0; j < 3; j++) {
+        for (int i = 0; i < values.length; i++) {
+          assertThat(values[i].toString()).isEqualTo(strings[i]);
+          assertThat(values[i].negate().toString()).isEqualTo(negatedStrings[i]);
+        }
+      }
+      assertThrows(IllegalArgumentException.class, () -> ImmutableQuadruple.setStringCacheCapacity(-1));
+    } finally {
+      ImmutableQuadruple.setStringCacheCapacity(0);
+    }
+    assertThat(values[0].toString()).isEqualTo(strings[0]);
+  }
+
+//public final class QuadrupleHashMap<V> {
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleHashMap and QuadrupleHashSet behave like HashMap and HashSet under random puts and removals")
+  void testQuadrupleHashMapMatchesHashMap() {
+    final Random rand = new Random(20211226);
+    final ImmutableQuadruple[] keys = new ImmutableQuadruple[2000];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = (i % 3 == 0)? new ImmutableQuadruple(i)
+                            : ImmutableQuadruple.construct(rand.nextBoolean(), ImmutableQuadruple.ONE.exponent() + rand.nextInt(64) - 32,
+                                                           rand.nextLong(), rand.nextLong());
+    }
+    final QuadrupleHashMap<Integer> map = new QuadrupleHashMap<>();
+    final QuadrupleHashSet set = new QuadrupleHashSet();
+    final Map<ImmutableQuadruple, Integer> expected = new HashMap<>();
+    for (int i = 0; i < 100_000; i++) {
+      final ImmutableQuadruple key = keys[rand.nextInt(keys.length)];
+      switch (rand.nextInt(4)) {
+        case 0:
+        case 1:
+          final boolean isNew = !expected.containsKey(key);
+          assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+          assertThat(set.add(key.isNegative(), key.exponent(), key.mantHi(), key.mantLo())).isEqualTo(isNew);
+          break;
+        case 2:
+          assertThat(map.remove(key.isNegative(), key.exponent(), key.mantHi(), key.mantLo())).isEqualTo(expected.remove(key));
+          set.remove(key);
+          break;
+        default:
+          assertThat(map.get(key.isNegative(), key.exponent(), key.mantHi(), key.mantLo())).isEqualTo(expected.get(key));
+          assertThat(map.containsKey(key)).isEqualTo(expected.containsKey(key));
+          assertThat(set.contains(key)).isEqualTo(expected.containsKey(key));
+      }
+      assertThat(map.size()).isEqualTo(expected.size());
+      assertThat(set.size()).isEqualTo(expected.size());
+    }
+    final Set<ImmutableQuadruple> visited = new HashSet<>();
+    map.forEach((key, value) -> {
+      assertThat(value).isEqualTo(expected.get(key));
+      visited.add(key);
+    });
+    assertThat(visited).isEqualTo(expected.keySet());
+    assertThat(new HashSet<>(Arrays.asList(set.toArray()))).isEqualTo(expected.keySet());
+    map.clear();
+    assertThat(map.isEmpty()).isTrue();
+    assertThat(map.get(keys[0])).isNull();
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleHashMap tells apart keys that differ in a single word, and holds null values")
+  void testQuadrupleHashMapHandlesSimilarKeysAndNullValues() {
+    final int[] exponents = { 0, 1, ImmutableQuadruple.ONE.exponent(), 0x8000_0000, ImmutableQuadruple.MAX_VALUE.exponent(),
+                              ImmutableQuadruple.POSITIVE_INFINITY.exponent() };
+    final long[] mantissas = { 0, 1, Long.MIN_VALUE, -1 };
+    final QuadrupleHashMap<String> map = new QuadrupleHashMap<>(1000);
+    final List<ImmutableQuadruple> keys = new ArrayList<>();
+    for (final boolean negative : new boolean[] { false, true }) {
+      for (final int exponent : exponents) {
+        for (final long mantHi : mantissas) {
+          for (final long mantLo : mantissas) {
+            final ImmutableQuadruple key = ImmutableQuadruple.construct(negative, exponent, mantHi, mantLo);
+            if (!key.isNaN()) {
+              keys.add(key);
+              assertThat(map.put(negative, exponent, mantHi, mantLo, (keys.size() % 5 == 0)? null : key.toString())).isNull();
+            }
+          }
+        }
+      }
+    }
+    assertThat(map.size()).isEqualTo(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      final ImmutableQuadruple key = keys.get(i);
+      assertThat(map.containsKey(key)).isTrue();
+      assertThat(map.get(key)).isEqualTo(((i + 1) % 5 == 0)? null : key.toString());
+    }
+    for (int i = 0; i < keys.size(); i += 2) {
+      assertThat(map.remove(keys.get(i))).isEqualTo(((i + 1) % 5 == 0)? null : keys.get(i).toString());
+    }
+    for (int i = 0; i < keys.size(); i++) {
+      assertThat(map.containsKey(keys.get(i))).isEqualTo(i % 2 != 0);
+    }
+    assertThat(map.keys()).hasSize(keys.size() / 2);
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleHashMap<>(-1));
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleHashMap<>(Integer.MAX_VALUE));
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("QuadrupleHashSet tells zeros of different signs apart and treats all NaNs as the same value")
+  void testQuadrupleHashSetHandlesZerosAndNaNs() {
+    final QuadrupleHashSet set = QuadrupleHashSet.of(ImmutableQuadruple.ZERO, ImmutableQuadruple.NaN, ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(set.contains(ImmutableQuadruple.ZERO.negate())).isFalse();
+    assertThat(set.add(ImmutableQuadruple.ZERO.negate())).isTrue();
+    assertThat(set.contains(true, ImmutableQuadruple.NaN.exponent(), 1, 1)).isTrue();
+    assertThat(set.add(ImmutableQuadruple.construct(true, ImmutableQuadruple.NaN.exponent(), 1, 1))).isFalse();
+    assertThat(set.contains(ImmutableQuadruple.NEGATIVE_INFINITY)).isFalse();
+    assertThat(set.size()).isEqualTo(4);
+    assertThat(set.remove(ImmutableQuadruple.NaN)).isTrue();
+    assertThat(set.remove(ImmutableQuadruple.NaN)).isFalse();
+    assertThat(set.toArray()).containsExactlyInAnyOrder(ImmutableQuadruple.ZERO, ImmutableQuadruple.ZERO.negate(),
+                                                        ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThrows(IllegalArgumentException.class, () -> new QuadrupleHashSet(-1));
+  }
+
 //public ImmutableQuadruple sqrt() {
 //  @Disabled
   @ParameterizedTest
@@ -936,6 +2264,632 @@ public class DraftTests {
     assertThat(actual).withFailMessage(msg).isEqualTo(expected);
   }
 
+//public ImmutableQuadruple cbrt() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toRoot")
+  @DisplayName("q.cbrt() returns correct value")
+  void testCbrtReturnsCorrectResult(ImmutableQuadruple q1, int n, BigDecimal expected) {
+    if (n == 3) {
+      assertRelativeErrorIsWithin("cbrt", q1, q1.cbrt(), expected, ROOT_ERROR_ULPS);
+    }
+  }
+
+//public ImmutableQuadruple root(int n) {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toRoot")
+  @DisplayName("q.root(n) returns correct value")
+  void testRootReturnsCorrectResult(ImmutableQuadruple q1, int n, BigDecimal expected) {
+    assertRelativeErrorIsWithin("root", q1 + ", " + n, q1.root(n), expected, ROOT_ERROR_ULPS);
+  }
+
+//public ImmutableQuadruple rsqrt() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toRsqrt")
+  @DisplayName("q.rsqrt() returns correct value")
+  void testRsqrtReturnsCorrectResult(ImmutableQuadruple q1, BigDecimal expected) {
+    assertRelativeErrorIsWithin("rsqrt", q1, q1.rsqrt(), expected, ROOT_ERROR_ULPS);
+  }
+
+//public static ImmutableQuadruple hypot(ImmutableQuadruple a, ImmutableQuadruple b) {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toHypot")
+  @DisplayName("ImmutableQuadruple.hypot(a, b) returns correct value")
+  void testHypotReturnsCorrectResult(ImmutableQuadruple q1, ImmutableQuadruple q2, BigDecimal expected) {
+    assertRelativeErrorIsWithin("hypot", q1 + ", " + q2, ImmutableQuadruple.hypot(q1, q2), expected, HYPOT_ERROR_ULPS);
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("Roots and hypot handle special and extreme values properly")
+  void testRootsHandleSpecialValues() {
+    final ImmutableQuadruple negativeZero = ImmutableQuadruple.ZERO.negate();
+    final ImmutableQuadruple minusEight = new ImmutableQuadruple(-8);
+
+    assertThat(minusEight.cbrt()).isEqualTo(ImmutableQuadruple.TWO.negate());
+    assertThat(new ImmutableQuadruple(1024).root(10)).isEqualTo(ImmutableQuadruple.TWO);
+    assertThat(negativeZero.cbrt()).isEqualTo(negativeZero);
+    assertThat(ImmutableQuadruple.NEGATIVE_INFINITY.cbrt()).isEqualTo(ImmutableQuadruple.NEGATIVE_INFINITY);
+    assertThat(minusEight.root(4).isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.NaN.root(5).isNaN()).isTrue();
+    assertThat(minusEight.root(1)).isEqualTo(minusEight);
+    assertThat(ImmutableQuadruple.TWO.root(2)).isEqualTo(ImmutableQuadruple.TWO.sqrt());
+    assertThrows(IllegalArgumentException.class, () -> ImmutableQuadruple.TWO.root(0));
+
+    // Scaling the argument by 2^(n * k) scales the root by 2^k exactly, even for extreme exponents
+    final ImmutableQuadruple x = new ImmutableQuadruple(-3.5);
+    assertThat(x.scalb(3 * 700_000_000).cbrt()).isEqualTo(x.cbrt().scalb(700_000_000));
+    assertThat(x.scalb(-3 * 700_000_000).cbrt()).isEqualTo(x.cbrt().scalb(-700_000_000));
+    assertThat(x.abs().scalb(-2 * 1_000_000_000).rsqrt()).isEqualTo(x.abs().rsqrt().scalb(1_000_000_000));
+    final ImmutableQuadruple subnormal = ImmutableQuadruple.MIN_NORMAL.scalb(-90);
+    assertThat(subnormal.root(5).pow(5)).isEqualTo(subnormal);
+    assertThat(subnormal.rsqrt().pow(-2)).isEqualTo(subnormal);
+
+    assertThat(ImmutableQuadruple.ZERO.rsqrt()).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(negativeZero.rsqrt()).isEqualTo(ImmutableQuadruple.NEGATIVE_INFINITY);
+    assertThat(ImmutableQuadruple.POSITIVE_INFINITY.rsqrt()).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(ImmutableQuadruple.ONE.negate().rsqrt().isNaN()).isTrue();
+    assertThat(new ImmutableQuadruple(0.25).rsqrt()).isEqualTo(ImmutableQuadruple.TWO);
+
+    final ImmutableQuadruple three = new ImmutableQuadruple(3), four = new ImmutableQuadruple(-4);
+    assertThat(ImmutableQuadruple.hypot(three, four)).isEqualTo(new ImmutableQuadruple(5));
+    assertThat(ImmutableQuadruple.hypot(ImmutableQuadruple.MAX_VALUE.scalb(-1), ImmutableQuadruple.MAX_VALUE.scalb(-1)).isInfinite())
+        .isFalse();
+    assertThat(ImmutableQuadruple.hypot(three.scalb(-2_000_000_000), four.scalb(-2_000_000_000)))
+        .isEqualTo(new ImmutableQuadruple(5).scalb(-2_000_000_000));
+    assertThat(ImmutableQuadruple.hypot(ImmutableQuadruple.MIN_VALUE, negativeZero)).isEqualTo(ImmutableQuadruple.MIN_VALUE);
+    assertThat(ImmutableQuadruple.hypot(ImmutableQuadruple.NaN, ImmutableQuadruple.NEGATIVE_INFINITY))
+        .isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(ImmutableQuadruple.hypot(ImmutableQuadruple.NaN, ImmutableQuadruple.ONE).isNaN()).isTrue();
+  }
+
+//public ImmutableQuadruple pow(int exponent) {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toPow")
+  @DisplayName("q.pow(n) returns correct value")
+  void testPowReturnsCorrectResult(ImmutableQuadruple q1, int exponent, BigDecimal expected) {
+    final ImmutableQuadruple actual = q1.pow(exponent);
+    final double error = actual.bigDecimalValue().subtract(expected, MC_120).divide(expected, MC_120).abs().doubleValue();
+    final double threshold = Math.abs(exponent) * ULP_OF_ONE;
+    final String msg = String.format("%s^%s gave %s, expected %s, error = %s",
+                                     q1, exponent, actual, new ImmutableQuadruple(expected), error);
+    if (error > threshold) {
+      say(msg);
+    }
+    assertThat(error).withFailMessage(msg).isLessThanOrEqualTo(threshold);
+  }
+
+//public ImmutableQuadruple scaleByPowerOfTen(int n) {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toScaleByPowerOfTen")
+  @DisplayName("q.scaleByPowerOfTen(n) returns the correctly rounded value")
+  void testScaleByPowerOfTenReturnsCorrectResult(ImmutableQuadruple q1, int n, BigDecimal expected) {
+    final ImmutableQuadruple actual = q1.scaleByPowerOfTen(n);
+    // The error in units of the last place of the result, that may not exceed 0.5 + 2^-95 for large n
+    final double error = actual.bigDecimalValue().subtract(expected).abs()
+        .divide(actual.ulp().bigDecimalValue(), MC_120).doubleValue();
+    final String msg = String.format("%s.scaleByPowerOfTen(%s) gave %s, expected %s, error = %s ulp",
+                                     q1, n, actual, new ImmutableQuadruple(expected), error);
+    if (error > 0.5) {
+      say(msg);
+    }
+    assertThat(error).withFailMessage(msg).isLessThanOrEqualTo(0.5);
+  }
+
+//public ImmutableQuadruple exp() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toExp")
+  @DisplayName("q.exp() returns correct value")
+  void testExpReturnsCorrectResult(ImmutableQuadruple q1, BigDecimal expected) {
+    assertRelativeErrorIsWithin("exp", q1, q1.exp(), expected, EXP_ERROR_ULPS);
+  }
+
+//public ImmutableQuadruple log() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toLog")
+  @DisplayName("q.log() returns correct value")
+  void testLogReturnsCorrectResult(ImmutableQuadruple q1, BigDecimal expected) {
+    assertRelativeErrorIsWithin("log", q1, q1.log(), expected, LOG_ERROR_ULPS);
+  }
+
+//public ImmutableQuadruple log2() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toLog")
+  @DisplayName("q.log2() returns correct value")
+  void testLog2ReturnsCorrectResult(ImmutableQuadruple q1, BigDecimal ln) {
+    final BigDecimal expected = ln.divide(BigDecimalMath.log(BigDecimal.valueOf(2), MC_80), MC_80);
+    assertRelativeErrorIsWithin("log2", q1, q1.log2(), expected, LOG2_ERROR_ULPS);
+  }
+
+//public ImmutableQuadruple log10() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toLog")
+  @DisplayName("q.log10() returns correct value")
+  void testLog10ReturnsCorrectResult(ImmutableQuadruple q1, BigDecimal ln) {
+    final BigDecimal expected = ln.divide(BigDecimalMath.log(BigDecimal.TEN, MC_80), MC_80);
+    assertRelativeErrorIsWithin("log10", q1, q1.log10(), expected, LOG2_ERROR_ULPS);
+  }
+
+//public ImmutableQuadruple pow(ImmutableQuadruple exponent) {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toPowWithQuadrupleExponent")
+  @DisplayName("q1.pow(q2) returns correct value")
+  void testPowWithQuadrupleExponentReturnsCorrectResult(ImmutableQuadruple q1, ImmutableQuadruple q2, BigDecimal expected) {
+    final double errorUlps = EXP_ERROR_ULPS + 6 * Math.abs(q2.doubleValue() * Math.log(q1.doubleValue()));
+    assertRelativeErrorIsWithin("pow", q1 + ", " + q2, q1.pow(q2), expected, errorUlps);
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("exp(), log() and pow(ImmutableQuadruple) handle special values properly")
+  void testExpLogAndPowHandleSpecialValues() {
+    final ImmutableQuadruple minusOne = ImmutableQuadruple.ONE.negate();
+    final ImmutableQuadruple half = new ImmutableQuadruple(0.5);
+    final ImmutableQuadruple three = new ImmutableQuadruple(3);
+
+    assertThat(ImmutableQuadruple.ZERO.exp()).isEqualTo(ImmutableQuadruple.ONE);
+    assertThat(ImmutableQuadruple.NEGATIVE_INFINITY.exp()).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(ImmutableQuadruple.POSITIVE_INFINITY.exp()).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(new ImmutableQuadruple(1.5e9).exp()).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(new ImmutableQuadruple(-1.5e9).exp()).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(ImmutableQuadruple.NaN.exp().isNaN()).isTrue();
+
+    assertThat(ImmutableQuadruple.ONE.log()).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(ImmutableQuadruple.ZERO.log()).isEqualTo(ImmutableQuadruple.NEGATIVE_INFINITY);
+    assertThat(ImmutableQuadruple.POSITIVE_INFINITY.log()).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(minusOne.log().isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.NaN.log().isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.MIN_VALUE.log2()).isEqualTo(new ImmutableQuadruple(ImmutableQuadruple.MIN_EXPONENT - 128L));
+    assertThat(ImmutableQuadruple.TWO.scalb(1000).log2()).isEqualTo(new ImmutableQuadruple(1001));
+
+    assertThat(three.pow(ImmutableQuadruple.TWO)).isEqualTo(new ImmutableQuadruple(9));
+    assertThat(ImmutableQuadruple.NaN.pow(ImmutableQuadruple.ZERO)).isEqualTo(ImmutableQuadruple.ONE);
+    assertThat(three.pow(ImmutableQuadruple.NaN).isNaN()).isTrue();
+    assertThat(minusOne.pow(half).isNaN()).isTrue();
+    assertThat(minusOne.pow(ImmutableQuadruple.POSITIVE_INFINITY).isNaN()).isTrue();
+    assertThat(half.pow(ImmutableQuadruple.POSITIVE_INFINITY)).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(three.pow(ImmutableQuadruple.POSITIVE_INFINITY)).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(half.pow(ImmutableQuadruple.NEGATIVE_INFINITY)).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(ImmutableQuadruple.ZERO.negate().pow(new ImmutableQuadruple(5e9 + 1))).isEqualTo(ImmutableQuadruple.ZERO.negate());
+    assertThat(ImmutableQuadruple.ZERO.negate().pow(new ImmutableQuadruple(-5e9 - 1))).isEqualTo(ImmutableQuadruple.NEGATIVE_INFINITY);
+    assertThat(ImmutableQuadruple.NEGATIVE_INFINITY.pow(half)).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(minusOne.pow(new ImmutableQuadruple(5e9 + 1))).isEqualTo(minusOne);
+    assertThat(minusOne.pow(new ImmutableQuadruple(5e9))).isEqualTo(ImmutableQuadruple.ONE);
+  }
+
+//public ImmutableQuadruple sin() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toSinCos")
+  @DisplayName("q.sin() returns correct value")
+  void testSinReturnsCorrectResult(ImmutableQuadruple q1, BigDecimal expectedSin, BigDecimal expectedCos) {
+    assertRelativeErrorIsWithin("sin", q1, q1.sin(), expectedSin, SIN_COS_ERROR_ULPS);
+  }
+
+//public ImmutableQuadruple cos() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toSinCos")
+  @DisplayName("q.cos() returns correct value")
+  void testCosReturnsCorrectResult(ImmutableQuadruple q1, BigDecimal expectedSin, BigDecimal expectedCos) {
+    assertRelativeErrorIsWithin("cos", q1, q1.cos(), expectedCos, SIN_COS_ERROR_ULPS);
+  }
+
+//public ImmutableQuadruple[] sinCos() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toSinCos")
+  @DisplayName("q.sinCos() returns the same values as q.sin() and q.cos()")
+  void testSinCosReturnsSameValuesAsSinAndCos(ImmutableQuadruple q1, BigDecimal expectedSin, BigDecimal expectedCos) {
+    final ImmutableQuadruple[] sinCos = q1.sinCos();
+    assertThat(sinCos.length).isEqualTo(2);
+    assertThat(sinCos[0]).withFailMessage("sinCos(%s)[0] differs from sin()", q1).isEqualTo(q1.sin());
+    assertThat(sinCos[1]).withFailMessage("sinCos(%s)[1] differs from cos()", q1).isEqualTo(q1.cos());
+  }
+
+//public ImmutableQuadruple tan() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toSinCos")
+  @DisplayName("q.tan() returns correct value")
+  void testTanReturnsCorrectResult(ImmutableQuadruple q1, BigDecimal expectedSin, BigDecimal expectedCos) {
+    assertRelativeErrorIsWithin("tan", q1, q1.tan(), expectedSin.divide(expectedCos, MC_80), TAN_ERROR_ULPS);
+  }
+
+//public ImmutableQuadruple atan() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toAtan")
+  @DisplayName("q.atan() returns correct value")
+  void testAtanReturnsCorrectResult(ImmutableQuadruple q1, BigDecimal expected) {
+    assertRelativeErrorIsWithin("atan", q1, q1.atan(), expected, ATAN_ERROR_ULPS);
+  }
+
+//public static ImmutableQuadruple atan2(ImmutableQuadruple y, ImmutableQuadruple x) {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toAtan2")
+  @DisplayName("ImmutableQuadruple.atan2(y, x) returns correct value")
+  void testAtan2ReturnsCorrectResult(ImmutableQuadruple y, ImmutableQuadruple x, BigDecimal expected) {
+    assertRelativeErrorIsWithin("atan2", y + ", " + x, ImmutableQuadruple.atan2(y, x), expected, ATAN2_ERROR_ULPS);
+  }
+
+//public ImmutableQuadruple asin() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toAsinAcos")
+  @DisplayName("q.asin() returns correct value")
+  void testAsinReturnsCorrectResult(ImmutableQuadruple q1, BigDecimal expectedAsin, BigDecimal expectedAcos) {
+    assertRelativeErrorIsWithin("asin", q1, q1.asin(), expectedAsin, ASIN_ACOS_ERROR_ULPS);
+  }
+
+//public ImmutableQuadruple acos() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toAsinAcos")
+  @DisplayName("q.acos() returns correct value")
+  void testAcosReturnsCorrectResult(ImmutableQuadruple q1, BigDecimal expectedAsin, BigDecimal expectedAcos) {
+    assertRelativeErrorIsWithin("acos", q1, q1.acos(), expectedAcos, ASIN_ACOS_ERROR_ULPS);
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("Trigonometric functions reduce arguments far beyond the range of the stored bits of 2/pi consistently")
+  void testTrigonometricFunctionsReduceHugeArguments() {
+    final Random rand = new Random(20261019);
+    for (int i = 0; i < 3; i++) {
+      final ImmutableQuadruple x = ImmutableQuadruple.nextRandom(rand).add(0.5).scalb(100_000 + rand.nextInt(1000));
+      final BigDecimal exactX = DraftTestData.exactValueOf(x);
+      assertRelativeErrorIsWithin("sin", x, x.sin(), BigDecimalMath.sin(exactX, MC_50), SIN_COS_ERROR_ULPS);
+      assertRelativeErrorIsWithin("cos", x, x.cos(), BigDecimalMath.cos(exactX, MC_50), SIN_COS_ERROR_ULPS);
+    }
+
+    // Too large for the BigDecimal reference, check that the results are consistent:
+    // sin^2 + cos^2 = 1, sin(2x) = 2 * sin(x) * cos(x), cos(2x) = cos^2(x) - sin^2(x)
+    final ImmutableQuadruple tolerance = ImmutableQuadruple.ONE.scalb(-124);
+    for (int i = 0; i < 10; i++) {
+      final ImmutableQuadruple x = ImmutableQuadruple.nextRandom(rand).add(0.5).scalb(1_000_000 + rand.nextInt(1000));
+      final ImmutableQuadruple[] sinCos = x.sinCos();
+      final ImmutableQuadruple[] doubled = x.multiply(2).sinCos(); // Exact
+      final ImmutableQuadruple sinSquared = sinCos[0].multiply(sinCos[0]), cosSquared = sinCos[1].multiply(sinCos[1]);
+      assertThat(sinSquared.add(cosSquared).subtract(1).abs()).withFailMessage("sin^2 + cos^2 of %s", x)
+          .isLessThanOrEqualTo(tolerance);
+      assertThat(sinCos[0].multiply(sinCos[1]).multiply(2).subtract(doubled[0]).abs()).withFailMessage("sin(2x) of %s", x)
+          .isLessThanOrEqualTo(tolerance);
+      assertThat(cosSquared.subtract(sinSquared).subtract(doubled[1]).abs()).withFailMessage("cos(2x) of %s", x)
+          .isLessThanOrEqualTo(tolerance);
+    }
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("Trigonometric functions handle special values properly")
+  void testTrigonometricFunctionsHandleSpecialValues() {
+    final ImmutableQuadruple negativeZero = ImmutableQuadruple.ZERO.negate();
+    final ImmutableQuadruple minusOne = ImmutableQuadruple.ONE.negate();
+    final ImmutableQuadruple halfPi = ImmutableQuadruple.PI.scalb(-1);
+
+    assertThat(ImmutableQuadruple.ZERO.sin()).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(negativeZero.sin()).isEqualTo(negativeZero);
+    assertThat(ImmutableQuadruple.ZERO.cos()).isEqualTo(ImmutableQuadruple.ONE);
+    assertThat(negativeZero.tan()).isEqualTo(negativeZero);
+    assertThat(ImmutableQuadruple.NaN.sin().isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.POSITIVE_INFINITY.cos().isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.NEGATIVE_INFINITY.tan().isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.TWO.scalb(16382).sin().isNaN()).isFalse();
+    assertThat(ImmutableQuadruple.TWO.scalb(16383).sin().isNaN()).isFalse();
+    assertThat(ImmutableQuadruple.ONE.scalb((1 << 29) - 1023).sin().isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.MAX_VALUE.cos().isNaN()).isTrue();
+
+    assertThat(ImmutableQuadruple.POSITIVE_INFINITY.atan()).isEqualTo(halfPi);
+    assertThat(ImmutableQuadruple.NEGATIVE_INFINITY.atan()).isEqualTo(halfPi.negate());
+    assertThat(negativeZero.atan()).isEqualTo(negativeZero);
+    assertThat(ImmutableQuadruple.NaN.atan().isNaN()).isTrue();
+
+    assertThat(ImmutableQuadruple.atan2(ImmutableQuadruple.ZERO, ImmutableQuadruple.ONE)).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(ImmutableQuadruple.atan2(negativeZero, ImmutableQuadruple.ONE)).isEqualTo(negativeZero);
+    assertThat(ImmutableQuadruple.atan2(ImmutableQuadruple.ZERO, negativeZero)).isEqualTo(ImmutableQuadruple.PI);
+    assertThat(ImmutableQuadruple.atan2(negativeZero, minusOne)).isEqualTo(ImmutableQuadruple.PI.negate());
+    assertThat(ImmutableQuadruple.atan2(minusOne, ImmutableQuadruple.ZERO)).isEqualTo(halfPi.negate());
+    assertThat(ImmutableQuadruple.atan2(ImmutableQuadruple.ONE, ImmutableQuadruple.NEGATIVE_INFINITY)).isEqualTo(ImmutableQuadruple.PI);
+    assertThat(ImmutableQuadruple.atan2(ImmutableQuadruple.POSITIVE_INFINITY, ImmutableQuadruple.POSITIVE_INFINITY))
+        .isEqualTo(ImmutableQuadruple.PI.scalb(-2));
+    assertThat(ImmutableQuadruple.atan2(ImmutableQuadruple.NaN, ImmutableQuadruple.ONE).isNaN()).isTrue();
+
+    assertThat(ImmutableQuadruple.ONE.asin()).isEqualTo(halfPi);
+    assertThat(minusOne.asin()).isEqualTo(halfPi.negate());
+    assertThat(ImmutableQuadruple.ONE.acos()).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(minusOne.acos()).isEqualTo(ImmutableQuadruple.PI);
+    assertThat(ImmutableQuadruple.TWO.asin().isNaN()).isTrue();
+    assertThat(minusOne.scalb(1).acos().isNaN()).isTrue();
+  }
+
+//public ImmutableQuadruple floor() {
+//public ImmutableQuadruple ceil() {
+//public ImmutableQuadruple rint() {
+//public ImmutableQuadruple trunc() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toRoundToIntegral")
+  @DisplayName("q.floor(), q.ceil(), q.rint() and q.trunc() return correct values")
+  void testRoundingToIntegralReturnsCorrectResults(ImmutableQuadruple q1, BigDecimal exact) {
+    assertRoundedCorrectly("floor", q1, q1.floor(), exact.setScale(0, RoundingMode.FLOOR));
+    assertRoundedCorrectly("ceil", q1, q1.ceil(), exact.setScale(0, RoundingMode.CEILING));
+    assertRoundedCorrectly("rint", q1, q1.rint(), exact.setScale(0, RoundingMode.HALF_EVEN));
+    assertRoundedCorrectly("trunc", q1, q1.trunc(), exact.setScale(0, RoundingMode.DOWN));
+  }
+
+//public ImmutableQuadruple fractionalPart() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toRoundToIntegral")
+  @DisplayName("q.fractionalPart() returns correct value")
+  void testFractionalPartReturnsCorrectResult(ImmutableQuadruple q1, BigDecimal exact) {
+    final BigDecimal fraction = exact.subtract(exact.setScale(0, RoundingMode.DOWN));
+    final ImmutableQuadruple expected = (fraction.signum() == 0)? ImmutableQuadruple.ZERO : new ImmutableQuadruple(fraction); // Exact
+    final ImmutableQuadruple actual = q1.fractionalPart();
+    final String msg = String.format("fractionalPart(%s) gave %s, expected %s", q1, actual, expected);
+    if (!actual.equals(expected)) {
+      say(msg);
+    }
+    assertThat(actual).withFailMessage(msg).isEqualTo(expected);
+  }
+
+//public ImmutableQuadruple roundToDecimalPlaces(int places, RoundingMode mode) {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toRoundToDecimalPlaces")
+  @DisplayName("q.roundToDecimalPlaces(places, mode) returns the same value as rounding the exact value with BigDecimal")
+  void testRoundToDecimalPlacesReturnsCorrectResult(ImmutableQuadruple q1, int places, BigDecimal exact) {
+    for (final RoundingMode mode : RoundingMode.values()) {
+      if (mode != RoundingMode.UNNECESSARY) {
+        assertRoundedCorrectly("roundToDecimalPlaces(" + places + ", " + mode + ")", q1,
+                               q1.roundToDecimalPlaces(places, mode), exact.setScale(places, mode));
+      }
+    }
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("Rounding methods handle special values properly and return unchanged instances when possible")
+  void testRoundingHandlesSpecialValues() {
+    final ImmutableQuadruple negativeZero = ImmutableQuadruple.ZERO.negate();
+    final ImmutableQuadruple minusQuarter = new ImmutableQuadruple(-0.25);
+    final ImmutableQuadruple large = ImmutableQuadruple.ONE.scalb(200).add(ImmutableQuadruple.ONE.scalb(80));
+
+    assertThat(minusQuarter.ceil()).isEqualTo(negativeZero);
+    assertThat(minusQuarter.trunc()).isEqualTo(negativeZero);
+    assertThat(minusQuarter.rint()).isEqualTo(negativeZero);
+    assertThat(minusQuarter.floor()).isEqualTo(ImmutableQuadruple.ONE.negate());
+    assertThat(new ImmutableQuadruple(2.5).rint()).isEqualTo(ImmutableQuadruple.TWO);
+    assertThat(new ImmutableQuadruple(-3.5).rint()).isEqualTo(new ImmutableQuadruple(-4));
+    assertThat(ImmutableQuadruple.NEGATIVE_INFINITY.floor()).isEqualTo(ImmutableQuadruple.NEGATIVE_INFINITY);
+    assertThat(ImmutableQuadruple.NaN.ceil().isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.POSITIVE_INFINITY.fractionalPart().isNaN()).isTrue();
+    assertThat(new ImmutableQuadruple(-7).fractionalPart()).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(new ImmutableQuadruple(-7.75).fractionalPart()).isEqualTo(new ImmutableQuadruple(-0.75));
+
+    final ImmutableQuadruple integer = new ImmutableQuadruple(12345);
+    assertThat(integer.floor()).isSameAs(integer);
+    assertThat(large.rint()).isSameAs(large);
+    assertThat(minusQuarter.fractionalPart()).isSameAs(minusQuarter);
+    final ImmutableQuadruple price = new ImmutableQuadruple(19.25);
+    assertThat(price.roundToDecimalPlaces(2, RoundingMode.HALF_EVEN)).isSameAs(price);
+    assertThat(price.roundToDecimalPlaces(2, RoundingMode.UNNECESSARY)).isSameAs(price);
+    assertThat(price.roundToDecimalPlaces(1, RoundingMode.HALF_EVEN)).isEqualTo(new ImmutableQuadruple("19.2"));
+    assertThat(price.roundToDecimalPlaces(1, RoundingMode.HALF_UP)).isEqualTo(new ImmutableQuadruple("19.3"));
+    assertThat(price.roundToDecimalPlaces(-1, RoundingMode.HALF_UP)).isEqualTo(new ImmutableQuadruple(20));
+    assertThrows(ArithmeticException.class, () -> price.roundToDecimalPlaces(1, RoundingMode.UNNECESSARY));
+    final ImmutableQuadruple tenth = new ImmutableQuadruple("0.1");
+    assertThat(tenth.roundToDecimalPlaces(1, RoundingMode.UNNECESSARY)).isSameAs(tenth);
+    assertThat(tenth.roundToDecimalPlaces(30, RoundingMode.HALF_EVEN)).isSameAs(tenth);
+    assertThat(new ImmutableQuadruple(-1e-10).roundToDecimalPlaces(2, RoundingMode.HALF_UP)).isEqualTo(negativeZero);
+    assertThat(new ImmutableQuadruple(1e-10).roundToDecimalPlaces(8, RoundingMode.UP)).isEqualTo(new ImmutableQuadruple("1e-8"));
+    assertThat(ImmutableQuadruple.MIN_VALUE.roundToDecimalPlaces(18, RoundingMode.CEILING)).isEqualTo(new ImmutableQuadruple("1e-18"));
+    assertThat(ImmutableQuadruple.MAX_VALUE.roundToDecimalPlaces(2, RoundingMode.UP)).isSameAs(ImmutableQuadruple.MAX_VALUE);
+  }
+
+//public ImmutableQuadruple remainder(ImmutableQuadruple divisor) {
+//public ImmutableQuadruple floorMod(ImmutableQuadruple divisor) {
+//public ImmutableQuadruple divideToIntegralValue(ImmutableQuadruple divisor) {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toRemainder")
+  @DisplayName("q1.remainder(q2), q1.floorMod(q2) and q1.divideToIntegralValue(q2) return exact results")
+  void testRemaindersReturnExactResults(ImmutableQuadruple q1, ImmutableQuadruple q2, BigDecimal exact1, BigDecimal exact2) {
+    final String arguments = q1 + ", " + q2;
+    final BigDecimal nearestQuotient = exact1.divide(exact2, 0, RoundingMode.HALF_EVEN);
+    assertExactResult("remainder", arguments, q1.remainder(q2),
+                      exact1.subtract(nearestQuotient.multiply(exact2)), q1.isNegative());
+    final BigDecimal floorQuotient = exact1.divide(exact2, 0, RoundingMode.FLOOR);
+    final BigDecimal floorModulus = exact1.subtract(floorQuotient.multiply(exact2));
+    if (floorQuotient.signum() < 0 && exact1.abs().compareTo(exact2.abs()) < 0) {
+      assertThat(q1.floorMod(q2)).isEqualTo(q1.add(q2));  // Not exact, rounded
+    } else {
+      assertExactResult("floorMod", arguments, q1.floorMod(q2), floorModulus, q2.isNegative());
+    }
+    final BigDecimal integralQuotient = exact1.divide(exact2, 0, RoundingMode.DOWN);
+    BigInteger magnitude = integralQuotient.toBigInteger().abs();
+    final int excessBits = magnitude.bitLength() - 129;
+    if (excessBits > 0) { // Rounded towards zero to 129 bits
+      magnitude = magnitude.shiftRight(excessBits).shiftLeft(excessBits);
+    }
+    final BigDecimal expectedQuotient = new BigDecimal(magnitude);
+    assertExactResult("divideToIntegralValue", arguments, q1.divideToIntegralValue(q2),
+                      (integralQuotient.signum() < 0)? expectedQuotient.negate() : expectedQuotient,
+                      q1.isNegative() != q2.isNegative());
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("Remainder methods handle special values and huge quotients properly")
+  void testRemaindersHandleSpecialValues() {
+    final ImmutableQuadruple negativeZero = ImmutableQuadruple.ZERO.negate();
+    final ImmutableQuadruple three = new ImmutableQuadruple(3), minusThree = three.negate();
+    final ImmutableQuadruple x = new ImmutableQuadruple(-7.5);
+
+    assertThat(x.remainder(ImmutableQuadruple.TWO)).isEqualTo(new ImmutableQuadruple(0.5));
+    assertThat(x.floorMod(ImmutableQuadruple.TWO)).isEqualTo(new ImmutableQuadruple(0.5));
+    assertThat(x.floorMod(minusThree)).isEqualTo(new ImmutableQuadruple(-1.5));
+    assertThat(x.divideToIntegralValue(ImmutableQuadruple.TWO)).isEqualTo(minusThree);
+    assertThat(new ImmutableQuadruple(-6).remainder(three)).isEqualTo(negativeZero);
+    assertThat(new ImmutableQuadruple(-6).floorMod(three)).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(new ImmutableQuadruple(0.25).divideToIntegralValue(minusThree)).isEqualTo(negativeZero);
+
+    assertThat(x.remainder(ImmutableQuadruple.ZERO).isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.POSITIVE_INFINITY.remainder(three).isNaN()).isTrue();
+    assertThat(ImmutableQuadruple.NaN.floorMod(three).isNaN()).isTrue();
+    assertThat(x.remainder(ImmutableQuadruple.POSITIVE_INFINITY)).isSameAs(x);
+    assertThat(x.floorMod(ImmutableQuadruple.NEGATIVE_INFINITY)).isSameAs(x);
+    assertThat(x.floorMod(ImmutableQuadruple.POSITIVE_INFINITY)).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(negativeZero.floorMod(three)).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(ImmutableQuadruple.ZERO.divideToIntegralValue(ImmutableQuadruple.ZERO).isNaN()).isTrue();
+    assertThat(x.divideToIntegralValue(negativeZero)).isEqualTo(ImmutableQuadruple.POSITIVE_INFINITY);
+    assertThat(x.divideToIntegralValue(ImmutableQuadruple.POSITIVE_INFINITY)).isEqualTo(negativeZero);
+
+    // 2^(2k) = 1 (mod 3), 2^(2k + 1) = 2 (mod 3)
+    final ImmutableQuadruple evenPower = ImmutableQuadruple.ONE.scalb(1_000_000_000);
+    final ImmutableQuadruple oddPower = ImmutableQuadruple.ONE.scalb(1_000_000_001);
+    assertThat(evenPower.remainder(three)).isEqualTo(ImmutableQuadruple.ONE);
+    assertThat(oddPower.remainder(three)).isEqualTo(ImmutableQuadruple.ONE.negate());
+    assertThat(oddPower.floorMod(three)).isEqualTo(ImmutableQuadruple.TWO);
+    assertThat(oddPower.negate().floorMod(three)).isEqualTo(ImmutableQuadruple.ONE);
+    assertThat(ImmutableQuadruple.MAX_VALUE.remainder(ImmutableQuadruple.MIN_VALUE.multiply(3)))
+        .isEqualTo(ImmutableQuadruple.MIN_VALUE.negate());
+    assertThat(evenPower.divideToIntegralValue(three)).isEqualTo(evenPower.divide(three).trunc());
+  }
+
+//public ImmutableQuadruple scalb(int scaleFactor) {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#toScalb")
+  @DisplayName("q.scalb(n) returns the same value as q.multiply(2^n)")
+  void testScalbReturnsCorrectResult(ImmutableQuadruple q1, int scaleFactor, ImmutableQuadruple expected) {
+    ImmutableQuadruple actual = q1.scalb(scaleFactor);
+    final String msg = String.format("scalb(%s, %s) gave %s, expected %s", q1, scaleFactor, actual, expected);
+    if (actual.isNaN() && expected.isNaN()) {
+      actual = ImmutableQuadruple.ONE;
+      expected = ImmutableQuadruple.ONE;
+    }
+    if (!actual.equals(expected)) {
+      say(msg);
+    }
+    assertThat(actual).withFailMessage(msg).isEqualTo(expected);
+  }
+
+//  @Disabled
+  @Test
+  @DisplayName("q.scalb(n) rounds subnormal results half-even")
+  void testScalbRoundsSubnormalTiesToEven() {
+    final ImmutableQuadruple minValue = ImmutableQuadruple.MIN_VALUE;
+    final ImmutableQuadruple twoMinValues = ImmutableQuadruple.construct(false, 0, 0, 2);
+    // Ties go to the even neighbor
+    assertThat(minValue.scalb(-1)).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(minValue.negate().scalb(-1)).isEqualTo(ImmutableQuadruple.ZERO.negate());
+    assertThat(ImmutableQuadruple.construct(false, 0, 0, 3).scalb(-1)).isEqualTo(twoMinValues);
+    assertThat(ImmutableQuadruple.construct(true, 0, 0, 5).scalb(-1)).isEqualTo(twoMinValues.negate());
+    assertThat(ImmutableQuadruple.MIN_NORMAL.scalb(-129)).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(ImmutableQuadruple.construct(false, 1, 1L << 63, 0).scalb(-128)).isEqualTo(twoMinValues);
+    // Values just above a tie are rounded up, values just below it are rounded down
+    assertThat(ImmutableQuadruple.construct(false, 1, 0, 1).scalb(-129)).isEqualTo(minValue);
+    assertThat(ImmutableQuadruple.construct(false, 1, 1L << 63, 1).scalb(-128)).isEqualTo(twoMinValues);
+    assertThat(ImmutableQuadruple.construct(false, 1, -1, -1).scalb(-130)).isEqualTo(ImmutableQuadruple.ZERO);
+    assertThat(ImmutableQuadruple.construct(false, 1, -1, -1).scalb(-129)).isEqualTo(minValue);
+    // The same within the words of the mantissa
+    assertThat(ImmutableQuadruple.construct(false, 1, 0, 3L << 62).scalb(-63)).isEqualTo(ImmutableQuadruple.construct(false, 0, 2, 2));
+    assertThat(ImmutableQuadruple.construct(false, 1, 0, 1L << 62).scalb(-63)).isEqualTo(ImmutableQuadruple.construct(false, 0, 2, 0));
+    assertThat(ImmutableQuadruple.construct(false, 1, 0, 1L << 62 | 1).scalb(-63)).isEqualTo(ImmutableQuadruple.construct(false, 0, 2, 1));
+    assertThat(ImmutableQuadruple.construct(false, 1, 1, 1L << 63).scalb(-64)).isEqualTo(ImmutableQuadruple.construct(false, 0, 1, 2));
+    assertThat(ImmutableQuadruple.construct(false, 1, 0, 1L << 63).scalb(-64)).isEqualTo(ImmutableQuadruple.construct(false, 0, 1, 0));
+    assertThat(ImmutableQuadruple.construct(false, 1, 0, 3L << 62).scalb(-64)).isEqualTo(ImmutableQuadruple.construct(false, 0, 1, 1));
+    assertThat(ImmutableQuadruple.construct(false, 1, 3L << 62, 0).scalb(-127)).isEqualTo(ImmutableQuadruple.construct(false, 0, 0, 4));
+    assertThat(ImmutableQuadruple.construct(false, 1, 1L << 62, 0).scalb(-127)).isEqualTo(ImmutableQuadruple.construct(false, 0, 0, 2));
+    assertThat(ImmutableQuadruple.construct(false, 1, 1L << 62, 1).scalb(-127)).isEqualTo(ImmutableQuadruple.construct(false, 0, 0, 3));
+  }
+
+//public long getExponent() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#qOperands")
+  @DisplayName("q.getExponent() returns E such that 2^E <= |q| < 2^(E + 1)")
+  void testGetExponentReturnsCorrectResult(ImmutableQuadruple q1) {
+    final long actual = q1.getExponent();
+    final String msg = String.format("getExponent(%s) gave %s", q1, actual);
+    if (q1.isNaN() || q1.isInfinite()) {
+      assertThat(actual).withFailMessage(msg).isEqualTo(ImmutableQuadruple.MAX_EXPONENT + 1L);
+    } else if (q1.isZero() || q1.compareMagnitudeTo(ImmutableQuadruple.MIN_NORMAL) < 0) {
+      assertThat(actual).withFailMessage(msg).isEqualTo(ImmutableQuadruple.MIN_EXPONENT - 1L);
+    } else {
+      final ImmutableQuadruple lowerBound = ImmutableQuadruple.construct(false, (int)(actual + 0x7FFF_FFFFL), 0, 0);
+      assertThat(q1.compareMagnitudeTo(lowerBound)).withFailMessage(msg).isGreaterThanOrEqualTo(0);
+      if (actual < ImmutableQuadruple.MAX_EXPONENT) {
+        final ImmutableQuadruple upperBound = ImmutableQuadruple.construct(false, (int)(actual + 0x8000_0000L), 0, 0);
+        assertThat(q1.compareMagnitudeTo(upperBound)).withFailMessage(msg).isLessThan(0);
+      }
+    }
+  }
+
+//public ImmutableQuadruple nextUp() {
+//public ImmutableQuadruple nextDown() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#qOperands")
+  @DisplayName("q.nextUp() is greater than q, and q.nextUp().nextDown() equals q")
+  void testNextUpAndNextDownReturnCorrectResults(ImmutableQuadruple q1) {
+    final ImmutableQuadruple up = q1.nextUp(), down = q1.nextDown();
+    final String msg = String.format("nextUp(%s) gave %s, nextDown gave %s", q1, up, down);
+    if (q1.isNaN()) {
+      assertThat(up.isNaN() && down.isNaN()).withFailMessage(msg).isTrue();
+      return;
+    }
+    if (!q1.equals(ImmutableQuadruple.POSITIVE_INFINITY)) {
+      assertThat(up).withFailMessage(msg).isGreaterThan(q1);
+    }
+    if (!q1.equals(ImmutableQuadruple.NEGATIVE_INFINITY)) {
+      assertThat(down).withFailMessage(msg).isLessThan(q1);
+    }
+    if (!q1.isZero() && !q1.isInfinite()) {
+      assertThat(up.nextDown()).withFailMessage(msg).isEqualTo(q1);
+      assertThat(down.nextUp()).withFailMessage(msg).isEqualTo(q1);
+    }
+  }
+
+//public ImmutableQuadruple ulp() {
+//  @Disabled
+  @ParameterizedTest
+  @MethodSource(value =  "com.mvohm.quadruple.immutable.DraftTestData#qOperands")
+  @DisplayName("q.ulp() equals the distance between |q| and |q|.nextUp()")
+  void testUlpReturnsCorrectResult(ImmutableQuadruple q1) {
+    ImmutableQuadruple actual = q1.ulp();
+    ImmutableQuadruple expected;
+    if (q1.isNaN() || q1.isInfinite()) {
+      expected = q1.abs();
+    } else if (q1.abs().equals(ImmutableQuadruple.MAX_VALUE)) {
+      expected = ImmutableQuadruple.MAX_VALUE.subtract(ImmutableQuadruple.MAX_VALUE.nextDown());
+    } else {
+      expected = q1.abs().nextUp().subtract(q1.abs());
+    }
+    final String msg = String.format("ulp(%s) gave %s, expected %s", q1, actual, expected);
+    if (actual.isNaN() && expected.isNaN()) {
+      actual = ImmutableQuadruple.ONE;
+      expected = ImmutableQuadruple.ONE;
+    }
+    if (!actual.equals(expected)) {
+      say(msg);
+    }
+    assertThat(actual).withFailMessage(msg).isEqualTo(expected);
+  }
+
 //public static ImmutableQuadruple nextRandom() {
 //  @Disabled
   @Test
@@ -1078,4 +3032,181 @@ public class DraftTests {
     return 1.0 / (1.0 + stddev); // Normalize
   }
 
+  private static void assertRoundedCorrectly(String function, ImmutableQuadruple argument,
+                                             ImmutableQuadruple actual, BigDecimal expected) {
+    final ImmutableQuadruple expectedQuadruple = new ImmutableQuadruple(expected);
+    final String msg = String.format("%s(%s) gave %s, expected %s", function, argument, actual, expectedQuadruple);
+    final boolean correct = expectedQuadruple.isZero()?
+        actual.isZero() && actual.isNegative() == argument.isNegative() :  // Zero results keep the sign of the argument
+        actual.equals(expectedQuadruple);
+    if (!correct) {
+      say(msg);
+    }
+    assertThat(correct).withFailMessage(msg).isTrue();
+  }
+
+  private static void assertExactResult(String function, String arguments, ImmutableQuadruple actual,
+                                        BigDecimal expected, boolean zeroIsNegative) {
+    final String msg = String.format("%s(%s) gave %s, expected %s", function, arguments, actual, expected);
+    final boolean correct = (expected.signum() == 0)?
+        actual.isZero() && actual.isNegative() == zeroIsNegative :
+        !actual.isInfinite() && !actual.isNaN() && DraftTestData.exactValueOf(actual).compareTo(expected) == 0;
+    if (!correct) {
+      say(msg);
+    }
+    assertThat(correct).withFailMessage(msg).isTrue();
+  }
+
+  private static void assertSumIsCorrect(String function, String arguments, ImmutableQuadruple actual,
+                                         BigDecimal expected, boolean mustBeExact) {
+    if (mustBeExact || expected.signum() == 0) {
+      assertExactResult(function, arguments, actual, expected, false);
+      return;
+    }
+    final BigDecimal error = DraftTestData.exactValueOf(actual).subtract(expected).abs();
+    final BigDecimal halfUlp = DraftTestData.exactValueOf(actual.ulp()).divide(BigDecimal.valueOf(2));
+    final String msg = String.format("%s(%s) gave %s, expected %s, error = %s", function, arguments, actual, expected, error);
+    if (error.compareTo(halfUlp) > 0) {
+      say(msg);
+    }
+    assertThat(error.compareTo(halfUlp) <= 0).withFailMessage(msg).isTrue();
+  }
+
+  /** Solves the system by Gaussian elimination with partial pivoting, with the precision of 100 decimal digits */
+  private static BigDecimal[] solveWithBigDecimals(double[][] matrix, double[] b) {
+    final MathContext mc = new MathContext(100, RoundingMode.HALF_EVEN);
+    final int size = b.length;
+    final BigDecimal[][] a = new BigDecimal[size][size + 1];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        a[i][j] = new BigDecimal(matrix[i][j]);
+      }
+      a[i][size] = new BigDecimal(b[i]);
+    }
+    for (int k = 0; k < size; k++) {
+      int pivot = k;
+      for (int i = k + 1; i < size; i++) {
+        if (a[i][k].abs().compareTo(a[pivot][k].abs()) > 0) {
+          pivot = i;
+        }
+      }
+      final BigDecimal[] row = a[k];
+      a[k] = a[pivot];
+      a[pivot] = row;
+      for (int i = k + 1; i < size; i++) {
+        final BigDecimal factor = a[i][k].divide(a[k][k], mc);
+        for (int j = k; j <= size; j++) {
+          a[i][j] = a[i][j].subtract(factor.multiply(a[k][j], mc), mc);
+        }
+      }
+    }
+    final BigDecimal[] x = new BigDecimal[size];
+    for (int i = size - 1; i >= 0; i--) {
+      BigDecimal sum = a[i][size];
+      for (int j = i + 1; j < size; j++) {
+        sum = sum.subtract(a[i][j].multiply(x[j], mc), mc);
+      }
+      x[i] = sum.divide(a[i][i], mc);
+    }
+    return x;
+  }
+
+  private static void assertSolutionIsAccurate(String function, int size, ImmutableQuadruple[] actual,
+                                               BigDecimal[] expected, double maxRelativeError) {
+    BigDecimal norm = BigDecimal.ZERO, error = BigDecimal.ZERO;
+    for (int i = 0; i < size; i++) {
+      norm = norm.max(expected[i].abs());
+      error = error.max(DraftTestData.exactValueOf(actual[i]).subtract(expected[i]).abs());
+    }
+    final double relativeError = (norm.signum() == 0)? error.doubleValue() : error.divide(norm, MC_80).doubleValue();
+    assertThat(relativeError).withFailMessage("%s: solution of a system of size %s has relative error %s", function, size, relativeError)
+        .isLessThanOrEqualTo(maxRelativeError);
+  }
+
+  private static BigDecimal[] exactValuesOf(ImmutableQuadruple[] values) {
+    final BigDecimal[] result = new BigDecimal[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = DraftTestData.exactValueOf(values[i]);
+    }
+    return result;
+  }
+
+  private static void assertDoubleDoubleErrorIsWithin(String function, Object arguments,
+                                                      DoubleDouble actual, BigDecimal expected, double errorUlps) {
+    final BigDecimal difference = exactValueOf(actual).subtract(expected);
+    final double error = (expected.signum() == 0)? difference.abs().doubleValue() :
+                                                   difference.divide(expected, MC_80).abs().doubleValue();
+    final String msg = String.format("%s(%s) gave %s, expected %s, error = %s",
+                                     function, arguments, actual, new ImmutableQuadruple(expected), error);
+    assertThat(error).withFailMessage(msg).isLessThanOrEqualTo(errorUlps * ULP_OF_DOUBLE_DOUBLE);
+  }
+
+  private static BigDecimal exactValueOf(DoubleDouble value) {
+    return new BigDecimal(value.hi()).add(new BigDecimal(value.lo()));
+  }
+
+  /** Checks that a part of a complex result, computed as a sum of two products, is within the given number of units
+   * in the last place of the exact sum, allowing additionally for the error of the fused summation of the products */
+  private static void assertComplexPartIsAccurate(String function, ImmutableComplexQuadruple a, ImmutableComplexQuadruple b,
+                                                  ImmutableQuadruple actual, BigDecimal product1, BigDecimal product2,
+                                                  double errorUlps) {
+    final BigDecimal expected = product1.add(product2);
+    final BigDecimal error = DraftTestData.exactValueOf(actual).subtract(expected).abs();
+    final BigDecimal threshold = expected.abs().multiply(BigDecimal.valueOf(errorUlps * ULP_OF_ONE))
+        .add(product1.abs().add(product2.abs()).multiply(BigDecimal.valueOf(FUSED_SUM_ERROR)));
+    assertThat(error.compareTo(threshold)).withFailMessage("%s(%s, %s) gave %s, expected %s", function, a, b, actual, expected)
+        .isLessThanOrEqualTo(0);
+  }
+
+  /** Checks that the bounds of the interval are on the proper sides of the exact result, that is compared with a value
+   * by {@code compareWithExact}, and are either equal to it, or adjacent to each other */
+  private static void assertIsTightEnclosure(String function, ImmutableQuadruple x, ImmutableQuadruple y,
+                                             QuadrupleInterval actual, ToIntFunction<BigDecimal> compareWithExact) {
+    final BigDecimal lower = DraftTestData.exactValueOf(actual.lower()), upper = DraftTestData.exactValueOf(actual.upper());
+    final String msg = String.format("%s(%s, %s) gave %s", function, x, y, actual);
+    assertThat(compareWithExact.applyAsInt(lower)).withFailMessage(msg).isLessThanOrEqualTo(0);
+    assertThat(compareWithExact.applyAsInt(upper)).withFailMessage(msg).isGreaterThanOrEqualTo(0);
+    if (compareWithExact.applyAsInt(lower) == 0) {
+      assertThat(upper.compareTo(lower)).withFailMessage(msg + ", an exact result expected").isEqualTo(0);
+    } else {
+      assertThat(actual.upper()).withFailMessage(msg + ", adjacent bounds expected").isEqualTo(actual.lower().nextUp());
+    }
+  }
+
+  /** Checks that the values are equal in every observable way, including the signs of zeros */
+  private static void assertAreIdentical(ImmutableQuadruple actual, ImmutableQuadruple expected) {
+    assertThat(actual.toHexString()).isEqualTo(expected.toHexString());
+    assertThat(actual).isEqualTo(expected);
+    assertThat(expected).isEqualTo(actual);
+    assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+    assertThat(actual.compareTo(expected)).isEqualTo(0);
+    assertThat(expected.compareTo(actual)).isEqualTo(0);
+    assertThat(actual.toString()).isEqualTo(expected.toString());
+  }
+
+  private static void assertHasSameBits(ImmutableQuadruple actual, Quadruple expected) {
+    assertThat(actual.isNegative()).withFailMessage("The sign of %s differs from that of %s", actual, expected)
+        .isEqualTo(expected.isNegative());
+    assertThat(actual.exponent()).withFailMessage("The exponent of %s differs from that of %s", actual, expected)
+        .isEqualTo(expected.exponent());
+    assertThat(actual.mantHi()).withFailMessage("The mantissa of %s differs from that of %s", actual, expected)
+        .isEqualTo(expected.mantHi());
+    assertThat(actual.mantLo()).withFailMessage("The mantissa of %s differs from that of %s", actual, expected)
+        .isEqualTo(expected.mantLo());
+  }
+
+  private static void assertRelativeErrorIsWithin(String function, Object argument,
+                                                  ImmutableQuadruple actual, BigDecimal expected, double errorUlps) {
+    final BigDecimal difference = actual.bigDecimalValue().subtract(expected, MC_80);
+    final double error = (expected.signum() == 0)? difference.abs().doubleValue() :
+                                                   difference.divide(expected, MC_80).abs().doubleValue();
+    final double threshold = errorUlps * ULP_OF_ONE;
+    final String msg = String.format("%s(%s) gave %s, expected %s, error = %s",
+                                     function, argument, actual, new ImmutableQuadruple(expected), error);
+    if (error > threshold) {
+      say(msg);
+    }
+    assertThat(error).withFailMessage(msg).isLessThanOrEqualTo(threshold);
+  }
+
 }
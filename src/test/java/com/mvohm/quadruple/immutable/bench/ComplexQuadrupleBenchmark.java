@@ -0,0 +1,115 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableComplexQuadruple;
+import com.mvohm.quadruple.ImmutableQuadruple;
+
+/**
+ * Measures the time of the multiplication, division and magnitude of {@code ImmutableComplexQuadruple} values,
+ * and compares it with the naive composition of {@code ImmutableQuadruple} operations on the real and imaginary parts,
+ * that creates an object for each intermediate result.
+ * Run with {@code -prof gc} to compare the allocation rates.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ComplexQuadrupleBenchmark {
+
+  private static final long SEED = 20211220;
+  private static final int VALUES = 1024;
+
+  private ImmutableComplexQuadruple[] complexValues;
+  private ImmutableQuadruple[] re, im;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    complexValues = new ImmutableComplexQuadruple[VALUES];
+    re = new ImmutableQuadruple[VALUES];
+    im = new ImmutableQuadruple[VALUES];
+    for (int i = 0; i < VALUES; i++) {
+      re[i] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+      im[i] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+      complexValues[i] = new ImmutableComplexQuadruple(re[i], im[i]);
+    }
+  }
+
+  @Benchmark
+  public ImmutableComplexQuadruple fusedMultiply() {
+    final int i = nextIndex();
+    return complexValues[i].multiply(complexValues[i + 1]);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[] naiveMultiply() {
+    final int i = nextIndex();
+    return new ImmutableQuadruple[] {
+      re[i].multiply(re[i + 1]).subtract(im[i].multiply(im[i + 1])),
+      re[i].multiply(im[i + 1]).add(im[i].multiply(re[i + 1]))
+    };
+  }
+
+  @Benchmark
+  public ImmutableComplexQuadruple fusedDivide() {
+    final int i = nextIndex();
+    return complexValues[i].divide(complexValues[i + 1]);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[] naiveDivide() {
+    final int i = nextIndex();
+    final ImmutableQuadruple denominator = re[i + 1].multiply(re[i + 1]).add(im[i + 1].multiply(im[i + 1]));
+    return new ImmutableQuadruple[] {
+      re[i].multiply(re[i + 1]).add(im[i].multiply(im[i + 1])).divide(denominator),
+      im[i].multiply(re[i + 1]).subtract(re[i].multiply(im[i + 1])).divide(denominator)
+    };
+  }
+
+  @Benchmark
+  public ImmutableQuadruple fusedAbs() {
+    return complexValues[nextIndex()].abs();
+  }
+
+  @Benchmark
+  public ImmutableQuadruple naiveAbs() {
+    final int i = nextIndex();
+    return re[i].multiply(re[i]).add(im[i].multiply(im[i])).sqrt();
+  }
+
+  @Benchmark
+  public ImmutableComplexQuadruple conjugate() {
+    return complexValues[nextIndex()].conjugate();
+  }
+
+  /** Returns the index of the next pair of values, cycling through the arrays */
+  private int nextIndex() {
+    index = (index + 1) % (VALUES - 1);
+    return index;
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ComplexQuadrupleBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,88 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+
+/**
+ * Measures the time of repeated {@code toString()} calls with different capacities of the string cache
+ * (0 disables the cache), and that of {@code HashMap} lookups with the cached hash codes,
+ * for a set of distinct values that are converted over and over again.<br>
+ * The memory taken by the cache can be estimated by running with {@code -prof gc}.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DerivedViewsBenchmark {
+
+  private static final long SEED = 20211225;
+  private static final int VALUES = 1024;
+
+  @Param({"0", "1024", "4096"})
+  private int stringCacheCapacity;
+
+  private ImmutableQuadruple[] values;
+  private HashMap<ImmutableQuadruple, Integer> map;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    values = new ImmutableQuadruple[VALUES];
+    map = new HashMap<>();
+    for (int i = 0; i < VALUES; i++) {
+      values[i] = new ImmutableQuadruple(rand.nextInt(1_000_000) / 100.0);
+      map.put(values[i], i);
+    }
+    ImmutableQuadruple.setStringCacheCapacity(stringCacheCapacity);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    ImmutableQuadruple.setStringCacheCapacity(0);
+  }
+
+  @Benchmark
+  public String toStringRepeated() {
+    return values[nextIndex()].toString();
+  }
+
+  @Benchmark
+  public Integer hashMapGet() {
+    return map.get(values[nextIndex()]);
+  }
+
+  /** Returns the index of the next value, cycling through the array */
+  private int nextIndex() {
+    index = (index + 1) & (VALUES - 1);
+    return index;
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(DerivedViewsBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
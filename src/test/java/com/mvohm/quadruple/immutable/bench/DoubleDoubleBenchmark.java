@@ -0,0 +1,94 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.DoubleDouble;
+import com.mvohm.quadruple.ImmutableQuadruple;
+
+/**
+ * Compares the arithmetic of {@code DoubleDouble} with that of {@code ImmutableQuadruple},
+ * evaluating a polynomial with Horner's scheme, and shows the number of operations
+ * that pay for the conversions of the arguments to {@code DoubleDouble} and of the result to {@code ImmutableQuadruple}.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DoubleDoubleBenchmark {
+
+  private static final long SEED = 20211213;
+
+  /** The degree of the polynomial, i.e. the number of multiply-add steps */
+  @Param({ "1", "4", "16", "64" })
+  private int degree;
+
+  private ImmutableQuadruple[] quadrupleCoefficients;
+  private DoubleDouble[] doubleDoubleCoefficients;
+  private ImmutableQuadruple quadrupleArgument;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    quadrupleCoefficients = new ImmutableQuadruple[degree + 1];
+    doubleDoubleCoefficients = new DoubleDouble[degree + 1];
+    for (int i = 0; i <= degree; i++) {
+      quadrupleCoefficients[i] = ImmutableQuadruple.exactSum(rand.nextDouble(), rand.nextDouble() * 0x1p-53);
+      doubleDoubleCoefficients[i] = DoubleDouble.valueOf(quadrupleCoefficients[i]);
+    }
+    quadrupleArgument = ImmutableQuadruple.exactSum(rand.nextDouble(), rand.nextDouble() * 0x1p-53);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple immutableQuadrupleHorner() {
+    ImmutableQuadruple result = quadrupleCoefficients[degree];
+    for (int i = degree - 1; i >= 0; i--) {
+      result = result.multiply(quadrupleArgument).add(quadrupleCoefficients[i]);
+    }
+    return result;
+  }
+
+  /** Converts the argument to {@code DoubleDouble}, evaluates the polynomial, and converts the result back */
+  @Benchmark
+  public ImmutableQuadruple doubleDoubleHorner() {
+    final DoubleDouble x = DoubleDouble.valueOf(quadrupleArgument);
+    DoubleDouble result = doubleDoubleCoefficients[degree];
+    for (int i = degree - 1; i >= 0; i--) {
+      result = result.multiply(x).add(doubleDoubleCoefficients[i]);
+    }
+    return result.toImmutableQuadruple();
+  }
+
+  @Benchmark
+  public DoubleDouble conversionToDoubleDouble() {
+    return DoubleDouble.valueOf(quadrupleArgument);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple conversionToImmutableQuadruple() {
+    return doubleDoubleCoefficients[0].toImmutableQuadruple();
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(DoubleDoubleBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
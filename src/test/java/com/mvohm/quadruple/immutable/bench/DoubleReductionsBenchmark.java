@@ -0,0 +1,116 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+import com.mvohm.quadruple.QuadrupleAccumulator;
+
+/**
+ * Compares {@code sum()} and {@code dot()} of {@code QuadrupleAccumulator}, that accumulate the exact values
+ * of the terms in primitive state, with their parallel versions, with accumulating the terms in an {@code ImmutableQuadruple},
+ * and with plain (inexact) {@code double} loops.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DoubleReductionsBenchmark {
+
+  private static final long SEED = 20211212;
+
+  @Param({ "1000", "1000000" })
+  private int size;
+
+  private double[] a, b;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    a = new double[size];
+    b = new double[size];
+    for (int i = 0; i < size; i++) {
+      a[i] = (rand.nextDouble() - 0.5) * Math.pow(2, rand.nextInt(100) - 50);
+      b[i] = (rand.nextDouble() - 0.5) * Math.pow(2, rand.nextInt(100) - 50);
+    }
+  }
+
+  @Benchmark
+  public ImmutableQuadruple accumulatorSum() {
+    return QuadrupleAccumulator.sum(a);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple accumulatorParallelSum() {
+    return QuadrupleAccumulator.parallelSum(a);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple immutableQuadrupleSum() {
+    ImmutableQuadruple sum = ImmutableQuadruple.ZERO;
+    for (final double d : a) {
+      sum = sum.add(new ImmutableQuadruple(d));
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double doubleSum() {
+    double sum = 0;
+    for (final double d : a) {
+      sum += d;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public ImmutableQuadruple accumulatorDot() {
+    return QuadrupleAccumulator.dot(a, b);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple accumulatorParallelDot() {
+    return QuadrupleAccumulator.parallelDot(a, b);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple immutableQuadrupleDot() {
+    ImmutableQuadruple sum = ImmutableQuadruple.ZERO;
+    for (int i = 0; i < a.length; i++) {
+      sum = sum.add(ImmutableQuadruple.exactProduct(a[i], b[i]));
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double doubleDot() {
+    double sum = 0;
+    for (int i = 0; i < a.length; i++) {
+      sum += a[i] * b[i];
+    }
+    return sum;
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(DoubleReductionsBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,107 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+import com.mvohm.quadruple.immutable.test.BigDecimalMath;
+
+/**
+ * Compares the elementary functions of {@code ImmutableQuadruple} with their {@code BigDecimal} counterparts
+ * from {@link BigDecimalMath}, computing 40 significant digits, which is the precision of {@code ImmutableQuadruple}.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ElementaryFunctionsBenchmark {
+
+  private static final int SIZE = 1024; // Must be a power of two
+  private static final long SEED = 20211206;
+  private static final MathContext MC_40 = new MathContext(40, RoundingMode.HALF_EVEN);
+
+  private ImmutableQuadruple[] arguments, exponents;
+  private BigDecimal[] bdArguments, bdExponents;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    arguments = new ImmutableQuadruple[SIZE];
+    exponents = new ImmutableQuadruple[SIZE];
+    bdArguments = new BigDecimal[SIZE];
+    bdExponents = new BigDecimal[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      arguments[i] = ImmutableQuadruple.nextRandom(rand).multiply(100).add(0.5);      // 0.5 .. 100.5
+      exponents[i] = ImmutableQuadruple.nextRandom(rand).subtract(0.5).multiply(40);  // -20 .. 20
+      bdArguments[i] = arguments[i].bigDecimalValue();
+      bdExponents[i] = exponents[i].bigDecimalValue();
+    }
+  }
+
+  private int next() {
+    return index = (index + 1) & (SIZE - 1);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple exp() {
+    return exponents[next()].exp();
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimalExp() {
+    return BigDecimalMath.exp(bdExponents[next()], MC_40);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple log() {
+    return arguments[next()].log();
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimalLog() {
+    return BigDecimalMath.log(bdArguments[next()], MC_40);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple log10() {
+    return arguments[next()].log10();
+  }
+
+  @Benchmark
+  public ImmutableQuadruple pow() {
+    final int i = next();
+    return arguments[i].pow(exponents[i]);
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimalPow() {
+    final int i = next();
+    return BigDecimalMath.pow(bdArguments[i], bdExponents[i], MC_40);
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ElementaryFunctionsBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,85 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+
+/**
+ * Compares {@code exactProduct()} and {@code exactSum()} of {@code ImmutableQuadruple}, that build the results
+ * directly from the bits of {@code double} operands, with converting the operands into {@code ImmutableQuadruple} values
+ * and multiplying or adding them.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExactDoubleOperationsBenchmark {
+
+  private static final int SIZE = 1024; // Must be a power of two
+  private static final long SEED = 20211211;
+
+  private double[] operands1, operands2;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    operands1 = new double[SIZE];
+    operands2 = new double[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      operands1[i] = (rand.nextDouble() - 0.5) * 1e6;
+      operands2[i] = (rand.nextDouble() - 0.5) * 1e-6;
+    }
+  }
+
+  private int next() {
+    return index = (index + 1) & (SIZE - 1);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple exactProduct() {
+    final int i = next();
+    return ImmutableQuadruple.exactProduct(operands1[i], operands2[i]);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple convertAndMultiply() {
+    final int i = next();
+    return new ImmutableQuadruple(operands1[i]).multiply(new ImmutableQuadruple(operands2[i]));
+  }
+
+  @Benchmark
+  public ImmutableQuadruple exactSum() {
+    final int i = next();
+    return ImmutableQuadruple.exactSum(operands1[i], operands2[i]);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple convertAndAdd() {
+    final int i = next();
+    return new ImmutableQuadruple(operands1[i]).add(new ImmutableQuadruple(operands2[i]));
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ExactDoubleOperationsBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,112 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+import com.mvohm.quadruple.QuadrupleFFT;
+import com.mvohm.quadruple.QuadrupleVector;
+
+/**
+ * Measures the time of the forward transform with {@code QuadrupleFFT}, for power-of-two sizes
+ * and a size that requires Bluestein's algorithm, and compares it with the radix-2 algorithm
+ * with {@code ImmutableQuadruple} operations and twiddle factors computed in advance.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FftBenchmark {
+
+  private static final long SEED = 20211219;
+
+  @Param({ "1024", "1000", "65536" })
+  private int size;
+
+  private QuadrupleFFT fft;
+  private QuadrupleVector re, im;
+  private ImmutableQuadruple[] arrayRe, arrayIm, cosines, sines;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    arrayRe = new ImmutableQuadruple[size];
+    arrayIm = new ImmutableQuadruple[size];
+    for (int j = 0; j < size; j++) {
+      arrayRe[j] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+      arrayIm[j] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+    }
+    fft = QuadrupleFFT.of(size);
+    re = QuadrupleVector.of(arrayRe);
+    im = QuadrupleVector.of(arrayIm);
+    cosines = new ImmutableQuadruple[size / 2];
+    sines = new ImmutableQuadruple[size / 2];
+    for (int j = 0; j < size / 2; j++) {
+      final ImmutableQuadruple[] sinCos = ImmutableQuadruple.PI.multiply(2L * j).divide(size).sinCos();
+      sines[j] = sinCos[0];
+      cosines[j] = sinCos[1];
+    }
+  }
+
+  @Benchmark
+  public QuadrupleVector fftForward() {
+    fft.forward(re, im);
+    return re;
+  }
+
+  /** Only for power-of-two sizes */
+  @Benchmark
+  public ImmutableQuadruple[] radix2Forward() {
+    if (Integer.bitCount(size) != 1) {
+      return null;
+    }
+    final ImmutableQuadruple[] xRe = arrayRe.clone(), xIm = arrayIm.clone();
+    final int shift = 32 - Integer.numberOfTrailingZeros(size);
+    for (int i = 1; i < size; i++) {
+      final int j = Integer.reverse(i) >>> shift;
+      if (i < j) {
+        ImmutableQuadruple t = xRe[i]; xRe[i] = xRe[j]; xRe[j] = t;
+        t = xIm[i]; xIm[i] = xIm[j]; xIm[j] = t;
+      }
+    }
+    for (int length = 1; length < size; length *= 2) {
+      final int step = size / (2 * length);
+      for (int start = 0; start < size; start += 2 * length) {
+        for (int k = 0; k < length; k++) {
+          final int i = start + k, j = i + length;
+          final ImmutableQuadruple c = cosines[k * step], s = sines[k * step];
+          final ImmutableQuadruple tRe = xRe[j].multiply(c).add(xIm[j].multiply(s));
+          final ImmutableQuadruple tIm = xIm[j].multiply(c).subtract(xRe[j].multiply(s));
+          xRe[j] = xRe[i].subtract(tRe);
+          xIm[j] = xIm[i].subtract(tIm);
+          xRe[i] = xRe[i].add(tRe);
+          xIm[i] = xIm[i].add(tIm);
+        }
+      }
+    }
+    return xRe;
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(FftBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,105 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+import com.mvohm.quadruple.QuadrupleHashMap;
+
+/**
+ * Measures the time of lookups in {@code QuadrupleHashMap}, by keys and by their components held in primitive arrays,
+ * and compares it with that of lookups in {@code HashMap<ImmutableQuadruple, Integer>}.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class HashMapBenchmark {
+
+  private static final long SEED = 20211226;
+  private static final int LOOKUPS = 1 << 16;
+
+  @Param({"1000", "1000000"})
+  private int size;
+
+  private HashMap<ImmutableQuadruple, Integer> hashMap;
+  private QuadrupleHashMap<Integer> quadrupleHashMap;
+  /** The keys to look up, as instances and as columns of their components */
+  private ImmutableQuadruple[] keys;
+  private boolean[] signs;
+  private int[] exponents;
+  private long[] mantHis, mantLos;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    hashMap = new HashMap<>();
+    quadrupleHashMap = new QuadrupleHashMap<>();
+    final ImmutableQuadruple[] values = new ImmutableQuadruple[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = new ImmutableQuadruple(rand.nextInt(100_000_000) / 100.0);
+      hashMap.put(values[i], i);
+      quadrupleHashMap.put(values[i], i);
+    }
+    keys = new ImmutableQuadruple[LOOKUPS];
+    signs = new boolean[LOOKUPS];
+    exponents = new int[LOOKUPS];
+    mantHis = new long[LOOKUPS];
+    mantLos = new long[LOOKUPS];
+    for (int i = 0; i < LOOKUPS; i++) {
+      // Equal but distinct instances, like those read from a file
+      keys[i] = new ImmutableQuadruple(values[rand.nextInt(size)].doubleValue());
+      signs[i] = keys[i].isNegative();
+      exponents[i] = keys[i].exponent();
+      mantHis[i] = keys[i].mantHi();
+      mantLos[i] = keys[i].mantLo();
+    }
+  }
+
+  @Benchmark
+  public Integer hashMapGet() {
+    return hashMap.get(keys[nextIndex()]);
+  }
+
+  @Benchmark
+  public Integer quadrupleHashMapGet() {
+    return quadrupleHashMap.get(keys[nextIndex()]);
+  }
+
+  @Benchmark
+  public Integer quadrupleHashMapGetByComponents() {
+    final int i = nextIndex();
+    return quadrupleHashMap.get(signs[i], exponents[i], mantHis[i], mantLos[i]);
+  }
+
+  /** Returns the index of the next key, cycling through the arrays */
+  private int nextIndex() {
+    index = (index + 1) & (LOOKUPS - 1);
+    return index;
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(HashMapBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
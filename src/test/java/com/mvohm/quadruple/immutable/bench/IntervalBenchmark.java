@@ -0,0 +1,113 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+import com.mvohm.quadruple.QuadrupleInterval;
+
+/**
+ * Measures the time of the operations of {@code QuadrupleInterval}, whose bounds are rounded directly toward
+ * negative and positive infinity, and compares it with the emulation of the outward rounding, that widens the results
+ * rounded to the nearest with {@code nextDown()} and {@code nextUp()}, and gives intervals twice as wide.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IntervalBenchmark {
+
+  private static final long SEED = 20211221;
+  private static final int VALUES = 1024;
+
+  private QuadrupleInterval[] intervals;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    intervals = new QuadrupleInterval[VALUES];
+    for (int i = 0; i < VALUES; i++) {
+      final ImmutableQuadruple lower = ImmutableQuadruple.nextRandom(rand).add(0.5);
+      intervals[i] = new QuadrupleInterval(lower, lower.add(ImmutableQuadruple.nextRandom(rand).scalb(-40)));
+    }
+  }
+
+  @Benchmark
+  public QuadrupleInterval directedAdd() {
+    final int i = nextIndex();
+    return intervals[i].add(intervals[i + 1]);
+  }
+
+  @Benchmark
+  public QuadrupleInterval widenedAdd() {
+    final int i = nextIndex();
+    return new QuadrupleInterval(intervals[i].lower().add(intervals[i + 1].lower()).nextDown(),
+                                 intervals[i].upper().add(intervals[i + 1].upper()).nextUp());
+  }
+
+  @Benchmark
+  public QuadrupleInterval directedMultiply() {
+    final int i = nextIndex();
+    return intervals[i].multiply(intervals[i + 1]);
+  }
+
+  @Benchmark
+  public QuadrupleInterval widenedMultiply() {
+    final int i = nextIndex();
+    return new QuadrupleInterval(intervals[i].lower().multiply(intervals[i + 1].lower()).nextDown(),
+                                 intervals[i].upper().multiply(intervals[i + 1].upper()).nextUp());
+  }
+
+  @Benchmark
+  public QuadrupleInterval directedDivide() {
+    final int i = nextIndex();
+    return intervals[i].divide(intervals[i + 1]);
+  }
+
+  @Benchmark
+  public QuadrupleInterval widenedDivide() {
+    final int i = nextIndex();
+    return new QuadrupleInterval(intervals[i].lower().divide(intervals[i + 1].upper()).nextDown(),
+                                 intervals[i].upper().divide(intervals[i + 1].lower()).nextUp());
+  }
+
+  @Benchmark
+  public QuadrupleInterval directedSqrt() {
+    return intervals[nextIndex()].sqrt();
+  }
+
+  @Benchmark
+  public QuadrupleInterval widenedSqrt() {
+    final int i = nextIndex();
+    return new QuadrupleInterval(intervals[i].lower().sqrt().nextDown(), intervals[i].upper().sqrt().nextUp());
+  }
+
+  /** Returns the index of the next pair of intervals, cycling through the array */
+  private int nextIndex() {
+    index = (index + 1) % (VALUES - 1);
+    return index;
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(IntervalBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
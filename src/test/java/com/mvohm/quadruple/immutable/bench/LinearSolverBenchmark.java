@@ -0,0 +1,94 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+import com.mvohm.quadruple.QuadrupleLU;
+import com.mvohm.quadruple.QuadrupleLinearSolver;
+import com.mvohm.quadruple.QuadrupleMatrix;
+
+/**
+ * Compares {@code QuadrupleLinearSolver}, that factors the matrix in {@code double} arithmetic and refines the solution
+ * with exact residuals, with the LU decomposition of {@code QuadrupleMatrix}, that factors it in the quadruple precision.
+ * The {@code factorAndSolve} benchmarks include the factorization, the {@code solve} ones use the factors found in the setup.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LinearSolverBenchmark {
+
+  private static final long SEED = 20211214;
+
+  @Param({ "10", "50", "200" })
+  private int size;
+
+  private double[][] matrix;
+  private double[] b;
+  private QuadrupleMatrix quadrupleMatrix;
+  private ImmutableQuadruple[] quadrupleB;
+  private QuadrupleLinearSolver solver;
+  private QuadrupleLU lu;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    matrix = new double[size][size];
+    b = new double[size];
+    quadrupleB = new ImmutableQuadruple[size];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        matrix[i][j] = rand.nextDouble() - 0.5;
+      }
+      b[i] = rand.nextDouble() - 0.5;
+      quadrupleB[i] = new ImmutableQuadruple(b[i]);
+    }
+    quadrupleMatrix = QuadrupleMatrix.of(matrix);
+    solver = new QuadrupleLinearSolver(matrix);
+    lu = quadrupleMatrix.lu();
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[] mixedPrecisionFactorAndSolve() {
+    return QuadrupleLinearSolver.solve(matrix, b);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[] mixedPrecisionSolve() {
+    return solver.solve(b);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[] quadrupleLUFactorAndSolve() {
+    return quadrupleMatrix.lu().solve(quadrupleB);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[] quadrupleLUSolve() {
+    return lu.solve(quadrupleB);
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(LinearSolverBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,114 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+import com.mvohm.quadruple.QuadrupleMatrix;
+
+/**
+ * Measures the time to solve a system of linear equations with {@code QuadrupleMatrix.lu()} and {@code cholesky()},
+ * and compares it with Gaussian elimination by nested loops of {@code ImmutableQuadruple} operations.
+ * The decompositions use the common fork/join pool.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MatrixDecompositionBenchmark {
+
+  private static final long SEED = 20211216;
+
+  @Param({ "16", "64", "256" })
+  private int size;
+
+  private QuadrupleMatrix matrix, symmetricMatrix;
+  private ImmutableQuadruple[][] array;
+  private ImmutableQuadruple[] b;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    array = new ImmutableQuadruple[size][size];
+    b = new ImmutableQuadruple[size];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        array[i][j] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+      }
+      b[i] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+    }
+    matrix = QuadrupleMatrix.of(array);
+    symmetricMatrix = matrix.multiply(matrix.transpose());
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[] luSolve() {
+    return matrix.lu().solve(b);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[] choleskySolve() {
+    return symmetricMatrix.cholesky().solve(b);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[] nestedLoopsSolve() {
+    final ImmutableQuadruple[][] a = new ImmutableQuadruple[size][];
+    final ImmutableQuadruple[] x = b.clone();
+    for (int i = 0; i < size; i++) {
+      a[i] = array[i].clone();
+    }
+    for (int k = 0; k < size; k++) {
+      int pivot = k;
+      for (int i = k + 1; i < size; i++) {
+        if (a[i][k].compareMagnitudeTo(a[pivot][k]) > 0) {
+          pivot = i;
+        }
+      }
+      final ImmutableQuadruple[] row = a[k];
+      a[k] = a[pivot];
+      a[pivot] = row;
+      final ImmutableQuadruple value = x[k];
+      x[k] = x[pivot];
+      x[pivot] = value;
+      for (int i = k + 1; i < size; i++) {
+        final ImmutableQuadruple factor = a[i][k].divide(a[k][k]);
+        for (int j = k + 1; j < size; j++) {
+          a[i][j] = a[i][j].subtract(factor.multiply(a[k][j]));
+        }
+        x[i] = x[i].subtract(factor.multiply(x[k]));
+      }
+    }
+    for (int i = size - 1; i >= 0; i--) {
+      ImmutableQuadruple sum = x[i];
+      for (int j = i + 1; j < size; j++) {
+        sum = sum.subtract(a[i][j].multiply(x[j]));
+      }
+      x[i] = sum.divide(a[i][i]);
+    }
+    return x;
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(MatrixDecompositionBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
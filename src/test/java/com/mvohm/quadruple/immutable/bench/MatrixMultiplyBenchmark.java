@@ -0,0 +1,109 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+import com.mvohm.quadruple.QuadrupleMatrix;
+
+/**
+ * Measures the throughput of {@code QuadrupleMatrix.multiply()} for different sizes of matrices and numbers of threads,
+ * and compares it with the multiplication by nested loops of {@code ImmutableQuadruple.multiply()} and {@code add()}.
+ * The number of threads is a parameter of the {@link Pool} state, that only {@link #matrixMultiply(Pool)} uses,
+ * so that the single-threaded nested loops are measured once for each size.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MatrixMultiplyBenchmark {
+
+  private static final long SEED = 20211215;
+
+  @Param({ "32", "128", "512" })
+  private int size;
+
+  private QuadrupleMatrix a, b;
+  private ImmutableQuadruple[][] arrayA, arrayB;
+
+  /** The pool that performs the multiplication */
+  @State(Scope.Thread)
+  public static class Pool {
+
+    /** The parallelism of the pool */
+    @Param({ "1", "2", "4", "8" })
+    private int threads;
+
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+      pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+      pool.shutdown();
+    }
+  }
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    arrayA = new ImmutableQuadruple[size][size];
+    arrayB = new ImmutableQuadruple[size][size];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        arrayA[i][j] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+        arrayB[i][j] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+      }
+    }
+    a = QuadrupleMatrix.of(arrayA);
+    b = QuadrupleMatrix.of(arrayB);
+  }
+
+  @Benchmark
+  public QuadrupleMatrix matrixMultiply(Pool pool) {
+    return a.multiply(b, pool.pool);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[][] nestedLoopsMultiply() {
+    final ImmutableQuadruple[][] result = new ImmutableQuadruple[size][size];
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        ImmutableQuadruple sum = ImmutableQuadruple.ZERO;
+        for (int k = 0; k < size; k++) {
+          sum = sum.add(arrayA[i][k].multiply(arrayB[k][j]));
+        }
+        result[i][j] = sum;
+      }
+    }
+    return result;
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(MatrixMultiplyBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
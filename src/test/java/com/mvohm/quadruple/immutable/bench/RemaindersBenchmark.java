@@ -0,0 +1,106 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+
+/**
+ * Compares {@code remainder()}, {@code floorMod()} and {@code divideToIntegralValue()} of {@code ImmutableQuadruple}
+ * with the sequence of {@code divide()}, {@code trunc()}, {@code multiply()} and {@code subtract()},
+ * which is inexact for large quotients, and with the exact {@code BigDecimal.remainder()}.<br>
+ * The dividends are about {@code 10^6} times greater than the divisors, the {@code large} ones about {@code 10^300} times.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RemaindersBenchmark {
+
+  private static final int SIZE = 1024; // Must be a power of two
+  private static final long SEED = 20211210;
+
+  private ImmutableQuadruple[] dividends, largeDividends, divisors;
+  private BigDecimal[] bdDividends, bdDivisors;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    dividends = new ImmutableQuadruple[SIZE];
+    largeDividends = new ImmutableQuadruple[SIZE];
+    divisors = new ImmutableQuadruple[SIZE];
+    bdDividends = new BigDecimal[SIZE];
+    bdDivisors = new BigDecimal[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      dividends[i] = ImmutableQuadruple.nextRandom(rand).subtract(0.5).multiply(2e6);     // -1e6 .. 1e6
+      largeDividends[i] = ImmutableQuadruple.nextRandom(rand).add(1).multiply(1e300);     // 1e300 .. 2e300
+      divisors[i] = ImmutableQuadruple.nextRandom(rand).add(0.5);                         // 0.5 .. 1.5
+      bdDividends[i] = dividends[i].bigDecimalValue();
+      bdDivisors[i] = divisors[i].bigDecimalValue();
+    }
+  }
+
+  private int next() {
+    return index = (index + 1) & (SIZE - 1);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple remainder() {
+    final int i = next();
+    return dividends[i].remainder(divisors[i]);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple remainderOfLargeDividend() {
+    final int i = next();
+    return largeDividends[i].remainder(divisors[i]);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple floorMod() {
+    final int i = next();
+    return dividends[i].floorMod(divisors[i]);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple divideToIntegralValue() {
+    final int i = next();
+    return dividends[i].divideToIntegralValue(divisors[i]);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple divideTruncMultiplySubtract() {
+    final int i = next();
+    return dividends[i].subtract(dividends[i].divide(divisors[i]).trunc().multiply(divisors[i]));
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimalRemainder() {
+    final int i = next();
+    return bdDividends[i].remainder(bdDivisors[i]);
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(RemaindersBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
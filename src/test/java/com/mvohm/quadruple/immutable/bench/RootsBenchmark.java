@@ -0,0 +1,103 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+
+/**
+ * Compares the dedicated root functions of {@code ImmutableQuadruple} with their compositions
+ * of {@code sqrt()}, {@code pow()}, {@code multiply()} and {@code divide()}, that take several roundings and intermediate instances.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RootsBenchmark {
+
+  private static final int SIZE = 1024; // Must be a power of two
+  private static final long SEED = 20211208;
+  private static final ImmutableQuadruple ONE_THIRD = ImmutableQuadruple.ONE.divide(3);
+
+  private ImmutableQuadruple[] arguments, others;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    arguments = new ImmutableQuadruple[SIZE];
+    others = new ImmutableQuadruple[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      arguments[i] = ImmutableQuadruple.nextRandom(rand).add(0.5).scalb(rand.nextInt(200) - 100);
+      others[i] = ImmutableQuadruple.nextRandom(rand).subtract(0.5).scalb(rand.nextInt(200) - 100);
+    }
+  }
+
+  private int next() {
+    return index = (index + 1) & (SIZE - 1);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple cbrt() {
+    return arguments[next()].cbrt();
+  }
+
+  @Benchmark
+  public ImmutableQuadruple cbrtAsPow() {
+    return arguments[next()].pow(ONE_THIRD);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple root7() {
+    return arguments[next()].root(7);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple root100() {
+    return arguments[next()].root(100);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple rsqrt() {
+    return arguments[next()].rsqrt();
+  }
+
+  @Benchmark
+  public ImmutableQuadruple rsqrtAsDivideBySqrt() {
+    return ImmutableQuadruple.ONE.divide(arguments[next()].sqrt());
+  }
+
+  @Benchmark
+  public ImmutableQuadruple hypot() {
+    final int i = next();
+    return ImmutableQuadruple.hypot(arguments[i], others[i]);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple hypotAsSqrtOfSumOfSquares() {
+    final int i = next();
+    return arguments[i].multiply(arguments[i]).add(others[i].multiply(others[i])).sqrt();
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(RootsBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
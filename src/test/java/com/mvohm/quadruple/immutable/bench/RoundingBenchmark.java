@@ -0,0 +1,90 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+
+/**
+ * Compares {@link ImmutableQuadruple#roundToDecimalPlaces(int, RoundingMode)} and {@link ImmutableQuadruple#floor()}
+ * with rounding through {@code BigDecimal}, that is {@code new ImmutableQuadruple(q.bigDecimalValue().setScale(places, mode))}.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RoundingBenchmark {
+
+  private static final int SIZE = 1024; // Must be a power of two
+  private static final long SEED = 20211209;
+
+  private ImmutableQuadruple[] amounts;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    amounts = new ImmutableQuadruple[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      amounts[i] = ImmutableQuadruple.nextRandom(rand).multiply(1_000_000).divide(3);   // 0 .. 333_333.33
+    }
+  }
+
+  private int next() {
+    return index = (index + 1) & (SIZE - 1);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple roundTo2Places() {
+    return amounts[next()].roundToDecimalPlaces(2, RoundingMode.HALF_EVEN);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple roundTo2PlacesWithBigDecimal() {
+    return new ImmutableQuadruple(amounts[next()].bigDecimalValue().setScale(2, RoundingMode.HALF_EVEN));
+  }
+
+  @Benchmark
+  public ImmutableQuadruple roundTo18Places() {
+    return amounts[next()].roundToDecimalPlaces(18, RoundingMode.HALF_EVEN);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple roundTo18PlacesWithBigDecimal() {
+    return new ImmutableQuadruple(amounts[next()].bigDecimalValue().setScale(18, RoundingMode.HALF_EVEN));
+  }
+
+  @Benchmark
+  public ImmutableQuadruple floor() {
+    return amounts[next()].floor();
+  }
+
+  @Benchmark
+  public ImmutableQuadruple floorWithBigDecimal() {
+    return new ImmutableQuadruple(amounts[next()].bigDecimalValue().setScale(0, RoundingMode.FLOOR));
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(RoundingBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,101 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+
+/**
+ * Measures the time of the addition, multiplication and comparison of {@code ImmutableQuadruple} values
+ * created from {@code long}s, that use the integer fast path, and compares it with that of equal values created
+ * from {@code BigDecimal}s, that go through the floating-point arithmetic.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SmallIntegerBenchmark {
+
+  private static final long SEED = 20211222;
+  private static final int VALUES = 1024;
+
+  private ImmutableQuadruple[] integers, floats;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    integers = new ImmutableQuadruple[VALUES];
+    floats = new ImmutableQuadruple[VALUES];
+    for (int i = 0; i < VALUES; i++) {
+      final long value = rand.nextInt(2_000_000) - 1_000_000;
+      integers[i] = new ImmutableQuadruple(value);
+      floats[i] = new ImmutableQuadruple(BigDecimal.valueOf(value));
+    }
+  }
+
+  @Benchmark
+  public ImmutableQuadruple integerAdd() {
+    final int i = nextIndex();
+    return integers[i].add(integers[i + 1]);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple floatAdd() {
+    final int i = nextIndex();
+    return floats[i].add(floats[i + 1]);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple integerMultiply() {
+    final int i = nextIndex();
+    return integers[i].multiply(integers[i + 1]);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple floatMultiply() {
+    final int i = nextIndex();
+    return floats[i].multiply(floats[i + 1]);
+  }
+
+  @Benchmark
+  public int integerCompare() {
+    final int i = nextIndex();
+    return integers[i].compareTo(integers[i + 1]);
+  }
+
+  @Benchmark
+  public int floatCompare() {
+    final int i = nextIndex();
+    return floats[i].compareTo(floats[i + 1]);
+  }
+
+  /** Returns the index of the next pair of values, cycling through the arrays */
+  private int nextIndex() {
+    index = (index + 1) % (VALUES - 1);
+    return index;
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(SmallIntegerBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,93 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+import com.mvohm.quadruple.QuadrupleSparseMatrix;
+
+/**
+ * Measures the time of {@code QuadrupleSparseMatrix.multiply()} for matrices with about 10 non-zero elements per row,
+ * some rows having 100 times more, and compares it with the multiplication by a loop over the rows
+ * with {@code ImmutableQuadruple.multiply()} and {@code add()}. The product is computed on the common fork/join pool.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SparseMatrixVectorBenchmark {
+
+  private static final long SEED = 20211217;
+  private static final int NON_ZEROS_PER_ROW = 10;
+
+  @Param({ "10000", "1000000" })
+  private int size;
+
+  private QuadrupleSparseMatrix matrix;
+  private int[] rowStarts, columnIndices;
+  private ImmutableQuadruple[] values, x;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    rowStarts = new int[size + 1];
+    for (int i = 0; i < size; i++) {
+      rowStarts[i + 1] = rowStarts[i] + ((i % 1000 == 0)? NON_ZEROS_PER_ROW * 100 : NON_ZEROS_PER_ROW);
+    }
+    columnIndices = new int[rowStarts[size]];
+    values = new ImmutableQuadruple[rowStarts[size]];
+    for (int i = 0; i < size; i++) {
+      final int length = rowStarts[i + 1] - rowStarts[i], step = size / length;
+      for (int k = 0; k < length; k++) {
+        columnIndices[rowStarts[i] + k] = k * step + rand.nextInt(step);
+        values[rowStarts[i] + k] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+      }
+    }
+    x = new ImmutableQuadruple[size];
+    for (int j = 0; j < size; j++) {
+      x[j] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+    }
+    matrix = new QuadrupleSparseMatrix(size, size, rowStarts, columnIndices, values);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[] sparseMultiply() {
+    return matrix.multiply(x);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[] loopMultiply() {
+    final ImmutableQuadruple[] result = new ImmutableQuadruple[size];
+    for (int i = 0; i < size; i++) {
+      ImmutableQuadruple sum = ImmutableQuadruple.ZERO;
+      for (int k = rowStarts[i]; k < rowStarts[i + 1]; k++) {
+        sum = sum.add(values[k].multiply(x[columnIndices[k]]));
+      }
+      result[i] = sum;
+    }
+    return result;
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(SparseMatrixVectorBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,122 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+import com.mvohm.quadruple.immutable.test.BigDecimalMath;
+
+/**
+ * Compares the trigonometric functions of {@code ImmutableQuadruple} with their {@code BigDecimal} counterparts
+ * from {@link BigDecimalMath}, computing 40 significant digits.<br>
+ * The {@code large} benchmarks use arguments of about {@code 10^100}, whose reduction needs
+ * more than 100 digits of {@code pi} with {@code BigDecimal}, but costs the same as for small arguments with {@code ImmutableQuadruple}.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TrigonometricFunctionsBenchmark {
+
+  private static final int SIZE = 1024; // Must be a power of two
+  private static final long SEED = 20211207;
+  private static final MathContext MC_40 = new MathContext(40, RoundingMode.HALF_EVEN);
+
+  private ImmutableQuadruple[] arguments, largeArguments, ratios;
+  private BigDecimal[] bdArguments, bdLargeArguments, bdRatios;
+  private int index;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    arguments = new ImmutableQuadruple[SIZE];
+    largeArguments = new ImmutableQuadruple[SIZE];
+    ratios = new ImmutableQuadruple[SIZE];
+    bdArguments = new BigDecimal[SIZE];
+    bdLargeArguments = new BigDecimal[SIZE];
+    bdRatios = new BigDecimal[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      arguments[i] = ImmutableQuadruple.nextRandom(rand).subtract(0.5).multiply(200);          // -100 .. 100
+      largeArguments[i] = ImmutableQuadruple.nextRandom(rand).add(1).multiply(1e100);          // 1e100 .. 2e100
+      ratios[i] = ImmutableQuadruple.nextRandom(rand).subtract(0.5).multiply(20);              // -10 .. 10
+      bdArguments[i] = arguments[i].bigDecimalValue();
+      bdLargeArguments[i] = largeArguments[i].bigDecimalValue();
+      bdRatios[i] = ratios[i].bigDecimalValue();
+    }
+  }
+
+  private int next() {
+    return index = (index + 1) & (SIZE - 1);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple sin() {
+    return arguments[next()].sin();
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimalSin() {
+    return BigDecimalMath.sin(bdArguments[next()], MC_40);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[] sinCos() {
+    return arguments[next()].sinCos();
+  }
+
+  @Benchmark
+  public ImmutableQuadruple sinOfLargeArgument() {
+    return largeArguments[next()].sin();
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimalSinOfLargeArgument() {
+    return BigDecimalMath.sin(bdLargeArguments[next()], MC_40);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple tan() {
+    return arguments[next()].tan();
+  }
+
+  @Benchmark
+  public ImmutableQuadruple atan() {
+    return ratios[next()].atan();
+  }
+
+  @Benchmark
+  public BigDecimal bigDecimalAtan() {
+    return BigDecimalMath.atan(bdRatios[next()], MC_40);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple atan2() {
+    final int i = next();
+    return ImmutableQuadruple.atan2(ratios[i], arguments[i]);
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(TrigonometricFunctionsBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,106 @@
+package com.mvohm.quadruple.immutable.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.mvohm.quadruple.ImmutableQuadruple;
+import com.mvohm.quadruple.QuadrupleVector;
+
+/**
+ * Measures the time of the level-1 operations of {@code QuadrupleVector}, {@code axpyInPlace()}, {@code dot()}
+ * and {@code nrm2()}, and compares them with loops over arrays of {@code ImmutableQuadruple}.
+ * Vectors of 10^6 elements are processed in parallel on the common fork/join pool.<br>
+ * Run {@link #main(String...)} with the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VectorOperationsBenchmark {
+
+  private static final long SEED = 20211218;
+
+  @Param({ "1000", "1000000" })
+  private int size;
+
+  private QuadrupleVector x, y;
+  private ImmutableQuadruple[] arrayX, arrayY;
+  private ImmutableQuadruple a;
+
+  @Setup
+  public void setup() {
+    final Random rand = new Random(SEED);
+    arrayX = new ImmutableQuadruple[size];
+    arrayY = new ImmutableQuadruple[size];
+    for (int i = 0; i < size; i++) {
+      arrayX[i] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+      arrayY[i] = ImmutableQuadruple.nextRandom(rand).subtract(0.5);
+    }
+    x = QuadrupleVector.of(arrayX);
+    y = QuadrupleVector.of(arrayY);
+    a = ImmutableQuadruple.nextRandom(rand).scalb(-60);
+  }
+
+  @Benchmark
+  public QuadrupleVector vectorAxpy() {
+    return y.axpyInPlace(a, x);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple[] loopAxpy() {
+    for (int i = 0; i < size; i++) {
+      arrayY[i] = arrayY[i].add(a.multiply(arrayX[i]));
+    }
+    return arrayY;
+  }
+
+  @Benchmark
+  public ImmutableQuadruple vectorDot() {
+    return x.dot(y);
+  }
+
+  @Benchmark
+  public ImmutableQuadruple loopDot() {
+    ImmutableQuadruple sum = ImmutableQuadruple.ZERO;
+    for (int i = 0; i < size; i++) {
+      sum = sum.add(arrayX[i].multiply(arrayY[i]));
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public ImmutableQuadruple vectorNrm2() {
+    return x.nrm2();
+  }
+
+  @Benchmark
+  public ImmutableQuadruple loopNrm2() {
+    ImmutableQuadruple sum = ImmutableQuadruple.ZERO;
+    for (int i = 0; i < size; i++) {
+      sum = sum.add(arrayX[i].multiply(arrayX[i]));
+    }
+    return sum.sqrt();
+  }
+
+  public static void main(String... args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(VectorOperationsBenchmark.class.getSimpleName()).build()).run();
+  }
+
+}
@@ -0,0 +1,286 @@
+/*
+
+ Copyright 2021 M.Vokhmentsev
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+
+*/
+
+package com.mvohm.quadruple.immutable.test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Straightforward implementations of elementary functions with {@code BigDecimal},
+ * used to find expected values in tests and as a baseline in benchmarks.
+ * They are neither fast nor particularly clever, but their precision is limited only by the given {@code MathContext}.
+ */
+public class BigDecimalMath {
+
+  /** Additional digits used in intermediate computations */
+  private static final int GUARD_DIGITS = 20;
+  /** Arguments of the exp() and atan() series are reduced until they are less than this */
+  private static final BigDecimal SERIES_LIMIT = new BigDecimal("0.001");
+  private static final BigDecimal HALF = new BigDecimal("0.5");
+  private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+  private static BigDecimal cachedPi;
+
+  /**
+   * Computes {@code e^x} as {@code (e^(x / 2^k))^(2^k)}, with the Taylor series for {@code e^(x / 2^k)}
+   * @param x the argument
+   * @param mc the precision of the result
+   * @return {@code e^x}
+   */
+  public static BigDecimal exp(BigDecimal x, MathContext mc) {
+    int halvings = 0;
+    BigDecimal reduced = x;
+    while (reduced.abs().compareTo(SERIES_LIMIT) > 0) {
+      reduced = reduced.multiply(HALF);
+      halvings++;
+    }
+    // Each squaring doubles the relative error
+    final MathContext work = new MathContext(mc.getPrecision() + GUARD_DIGITS + halvings * 3 / 10, RoundingMode.HALF_EVEN);
+    final BigDecimal epsilon = BigDecimal.ONE.movePointLeft(work.getPrecision());
+
+    BigDecimal sum = BigDecimal.ONE, term = BigDecimal.ONE;
+    for (int n = 1; term.abs().compareTo(epsilon) > 0; n++) {
+      term = term.multiply(reduced, work).divide(BigDecimal.valueOf(n), work);
+      sum = sum.add(term, work);
+    }
+    for (int i = 0; i < halvings; i++) {
+      sum = sum.multiply(sum, work);
+    }
+    return sum.round(mc);
+  }
+
+  /**
+   * Computes the natural logarithm of a positive {@code x}, representing it as {@code a * 10^p}, {@code 1 <= a < 10},
+   * and finding {@code ln(a)} with Halley's iterations {@code y = y + 2 * (a - e^y) / (a + e^y)}
+   * @param x the argument, must be positive
+   * @param mc the precision of the result
+   * @return {@code ln(x)}
+   */
+  public static BigDecimal log(BigDecimal x, MathContext mc) {
+    if (x.signum() <= 0) {
+      throw new ArithmeticException("Logarithm of a non-positive value");
+    }
+    final MathContext work = new MathContext(mc.getPrecision() + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+    final int p = x.precision() - x.scale() - 1;
+    final BigDecimal a = x.scaleByPowerOfTen(-p);
+    BigDecimal result = logOfReduced(a, work);
+    if (p != 0) {
+      result = result.add(logOfReduced(BigDecimal.TEN, work).multiply(BigDecimal.valueOf(p), work), work);
+    }
+    return result.round(mc);
+  }
+
+  /**
+   * Computes {@code x^y} as {@code e^(y * ln(x))}
+   * @param x the base, must be positive
+   * @param y the exponent
+   * @param mc the precision of the result
+   * @return {@code x^y}
+   */
+  public static BigDecimal pow(BigDecimal x, BigDecimal y, MathContext mc) {
+    final MathContext work = new MathContext(mc.getPrecision() + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+    return exp(y.multiply(log(x, work), work), mc);
+  }
+
+  /**
+   * Computes the root of degree {@code n} of a positive {@code x} with Newton's iterations
+   * {@code y = y + (x / y^(n - 1) - y) / n}, starting from {@code e^(ln(x) / n)}
+   * @param x the argument, must be positive
+   * @param n the degree of the root, must be positive
+   * @param mc the precision of the result
+   * @return {@code x^(1/n)}
+   */
+  public static BigDecimal root(BigDecimal x, int n, MathContext mc) {
+    final MathContext work = new MathContext(mc.getPrecision() + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+    final BigDecimal degree = BigDecimal.valueOf(n);
+    BigDecimal y = exp(log(x, work).divide(degree, work), work);
+    while (true) {
+      final BigDecimal correction = x.divide(y.pow(n - 1, work), work).subtract(y).divide(degree, work);
+      y = y.add(correction, work);
+      if (correction.abs().compareTo(y.movePointLeft(mc.getPrecision() + 2).abs()) <= 0) {
+        return y.round(mc);
+      }
+    }
+  }
+
+  /**
+   * Computes {@code pi} with Machin's formula {@code pi = 16 * atan(1/5) - 4 * atan(1/239)},
+   * with the series summed in fixed-point integer arithmetic, since {@code BigDecimal} divisions with thousands of digits are slow.
+   * The most precise value found so far is cached, since the reduction of large arguments of {@code sin()} and {@code cos()}
+   * needs {@code pi} with thousands of digits
+   * @param mc the precision of the result
+   * @return {@code pi}
+   */
+  public static synchronized BigDecimal pi(MathContext mc) {
+    if (cachedPi == null || cachedPi.precision() < mc.getPrecision()) {
+      final int digits = mc.getPrecision() + GUARD_DIGITS;
+      final BigInteger unity = BigInteger.TEN.pow(digits);
+      cachedPi = new BigDecimal(atanOfReciprocal(5, unity).shiftLeft(4).subtract(atanOfReciprocal(239, unity).shiftLeft(2)), digits);
+    }
+    return cachedPi.round(mc);
+  }
+
+  /**
+   * Computes {@code sin(x)}, reducing the argument to {@code r = x - k * pi/2}, {@code |r| <= pi/4},
+   * with {@code pi} having enough digits to keep the precision of {@code r}, and using the Taylor series for {@code r}
+   * @param x the argument
+   * @param mc the precision of the result
+   * @return {@code sin(x)}
+   */
+  public static BigDecimal sin(BigDecimal x, MathContext mc) {
+    return sinOrCos(x, mc, 0);
+  }
+
+  /**
+   * Computes {@code cos(x)}, like {@link #sin(BigDecimal, MathContext)}
+   * @param x the argument
+   * @param mc the precision of the result
+   * @return {@code cos(x)}
+   */
+  public static BigDecimal cos(BigDecimal x, MathContext mc) {
+    return sinOrCos(x, mc, 1);
+  }
+
+  /**
+   * Computes {@code atan(x)}, using {@code atan(x) = pi/2 - atan(1/x)} for {@code |x| > 1}
+   * and {@code atan(x) = 2 * atan(x / (1 + sqrt(1 + x^2)))} to reduce the argument of the Taylor series
+   * @param x the argument
+   * @param mc the precision of the result
+   * @return {@code atan(x)}
+   */
+  public static BigDecimal atan(BigDecimal x, MathContext mc) {
+    final MathContext work = new MathContext(mc.getPrecision() + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+    if (x.abs().compareTo(BigDecimal.ONE) > 0) {
+      final BigDecimal halfPi = pi(work).multiply(HALF);
+      final BigDecimal result = halfPi.subtract(atan(BigDecimal.ONE.divide(x.abs(), work), work), work);
+      return (x.signum() < 0)? result.negate().round(mc) : result.round(mc);
+    }
+
+    int doublings = 0;
+    BigDecimal reduced = x;
+    while (reduced.abs().compareTo(SERIES_LIMIT) > 0) {
+      reduced = reduced.divide(BigDecimal.ONE.add(BigDecimal.ONE.add(reduced.multiply(reduced)).sqrt(work)), work);
+      doublings++;
+    }
+    final BigDecimal square = reduced.multiply(reduced, work);
+    BigDecimal sum = reduced, power = reduced;
+    for (int n = 3; power.abs().compareTo(sum.abs().movePointLeft(work.getPrecision())) > 0; n += 2) {
+      power = power.multiply(square, work).negate();
+      sum = sum.add(power.divide(BigDecimal.valueOf(n), work), work);
+    }
+    return sum.multiply(BigDecimal.valueOf(2).pow(doublings)).round(mc);
+  }
+
+  /**
+   * Computes {@code asin(x)} as {@code atan(x / sqrt(1 - x^2))}
+   * @param x the argument, {@code |x| <= 1}
+   * @param mc the precision of the result
+   * @return {@code asin(x)}
+   */
+  public static BigDecimal asin(BigDecimal x, MathContext mc) {
+    final MathContext work = new MathContext(mc.getPrecision() + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+    final BigDecimal cosine = BigDecimal.ONE.subtract(x.multiply(x)).sqrt(work);
+    if (cosine.signum() == 0) {
+      final BigDecimal halfPi = pi(work).multiply(HALF);
+      return (x.signum() < 0)? halfPi.negate().round(mc) : halfPi.round(mc);
+    }
+    return atan(x.divide(cosine, work), mc);
+  }
+
+  /**
+   * sin(x) for quadrantShift = 0, cos(x) = sin(x + pi/2) for quadrantShift = 1.
+   * If x is close to a multiple of pi/2, the reduction gets repeated with more digits of pi,
+   * to compensate for the digits lost to the cancellation.
+   * The series are summed with the precision of the result and the guard digits,
+   * the integer digits of x are only needed for the reduction
+   */
+  private static BigDecimal sinOrCos(BigDecimal x, MathContext mc, int quadrantShift) {
+    final int integerDigits = Math.max(0, x.precision() - x.scale());
+    int cancelledDigits = 0;
+    MathContext work;
+    BigInteger k;
+    BigDecimal r;
+    while (true) {
+      work = new MathContext(mc.getPrecision() + GUARD_DIGITS + integerDigits + cancelledDigits, RoundingMode.HALF_EVEN);
+      final BigDecimal halfPi = pi(work).multiply(HALF);
+      k = x.divide(halfPi, work).setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+      r = x.subtract(halfPi.multiply(new BigDecimal(k))).round(work);
+      final int leadingZeros = r.scale() - r.precision();  // |r| < 10^-leadingZeros
+      if (r.signum() == 0 || leadingZeros <= cancelledDigits) {
+        break;
+      }
+      cancelledDigits = leadingZeros;
+    }
+    final int quadrant = k.add(BigInteger.valueOf(quadrantShift)).mod(BigInteger.valueOf(4)).intValue();
+    final MathContext seriesWork = new MathContext(mc.getPrecision() + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+    r = r.round(seriesWork);
+    final BigDecimal result = (quadrant % 2 == 0)? sinSeries(r, seriesWork) : cosSeries(r, seriesWork);
+    return (quadrant >= 2)? result.negate().round(mc) : result.round(mc);
+  }
+
+  private static BigDecimal sinSeries(BigDecimal r, MathContext work) {
+    final BigDecimal square = r.multiply(r, work);
+    BigDecimal sum = r, term = r;
+    for (int n = 2; term.abs().compareTo(sum.abs().movePointLeft(work.getPrecision())) > 0; n += 2) {
+      term = term.multiply(square, work).divide(BigDecimal.valueOf((long)n * (n + 1)), work).negate();
+      sum = sum.add(term, work);
+    }
+    return sum;
+  }
+
+  private static BigDecimal cosSeries(BigDecimal r, MathContext work) {
+    final BigDecimal square = r.multiply(r, work);
+    BigDecimal sum = BigDecimal.ONE, term = BigDecimal.ONE;
+    for (int n = 1; term.abs().compareTo(sum.abs().movePointLeft(work.getPrecision())) > 0; n += 2) {
+      term = term.multiply(square, work).divide(BigDecimal.valueOf((long)n * (n + 1)), work).negate();
+      sum = sum.add(term, work);
+    }
+    return sum;
+  }
+
+  /** atan(1/n) * unity with the Taylor series, each term truncated to an integer, so the error is less than a unit per term */
+  private static BigInteger atanOfReciprocal(int n, BigInteger unity) {
+    final BigInteger square = BigInteger.valueOf((long)n * n);
+    BigInteger power = unity.divide(BigInteger.valueOf(n));
+    BigInteger sum = power;
+    for (int k = 1; power.signum() != 0; k++) {
+      power = power.divide(square);
+      final BigInteger term = power.divide(BigInteger.valueOf(2 * k + 1));
+      sum = (k % 2 == 0)? sum.add(term) : sum.subtract(term);
+    }
+    return sum;
+  }
+
+  /** ln(a) for 1 <= a <= 10 */
+  private static BigDecimal logOfReduced(BigDecimal a, MathContext work) {
+    final BigDecimal epsilon = BigDecimal.ONE.movePointLeft(work.getPrecision() - 2);
+    BigDecimal y = new BigDecimal(Math.log(a.doubleValue()));
+    while (true) {
+      final BigDecimal expY = exp(y, work);
+      final BigDecimal correction = TWO.multiply(a.subtract(expY, work)).divide(a.add(expY, work), work);
+      y = y.add(correction, work);
+      if (correction.abs().compareTo(epsilon) <= 0) {
+        return y;
+      }
+    }
+  }
+
+}